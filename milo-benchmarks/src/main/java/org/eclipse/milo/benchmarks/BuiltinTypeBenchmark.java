@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.stack.core.BuiltinDataType;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes a {@link Variant} holding a scalar or an array of each builtin type with
+ * {@link OpcUaBinaryStreamEncoder} and {@link OpcUaBinaryStreamDecoder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuiltinTypeBenchmark {
+
+    /**
+     * Every {@link BuiltinDataType} when no values are given.
+     */
+    @Param
+    public BuiltinDataType dataType;
+
+    /**
+     * The length of the array in the Variant, or 0 to encode a scalar.
+     */
+    @Param({"0", "64"})
+    public int arrayLength;
+
+    private Variant variant;
+
+    private ByteBuf encodeBuffer;
+    private OpcUaBinaryStreamEncoder encoder;
+
+    private ByteBuf decodeBuffer;
+    private OpcUaBinaryStreamDecoder decoder;
+
+    @Setup
+    public void setup() {
+        SerializationContext context = new BenchmarkSerializationContext();
+
+        Object value = arrayLength == 0 ?
+            SampleValues.builtinValue(dataType, context) :
+            SampleValues.builtinArray(dataType, context, arrayLength);
+
+        variant = new Variant(value);
+
+        encodeBuffer = Unpooled.buffer();
+        encoder = new OpcUaBinaryStreamEncoder(context).setBuffer(encodeBuffer);
+
+        decodeBuffer = Unpooled.buffer();
+        new OpcUaBinaryStreamEncoder(context).setBuffer(decodeBuffer).writeVariant(variant);
+        decoder = new OpcUaBinaryStreamDecoder(context).setBuffer(decodeBuffer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        encodeBuffer.clear();
+        encoder.writeVariant(variant);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public Variant decode() {
+        decodeBuffer.readerIndex(0);
+        return decoder.readVariant();
+    }
+
+}
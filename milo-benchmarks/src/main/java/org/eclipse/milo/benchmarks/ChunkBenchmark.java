@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.benchmarks;
+
+import java.security.KeyPair;
+import java.security.Security;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.ReferenceCountUtil;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.eclipse.milo.opcua.stack.client.transport.uasc.ClientSecureChannel;
+import org.eclipse.milo.opcua.stack.core.channel.ChannelParameters;
+import org.eclipse.milo.opcua.stack.core.channel.ChannelSecurity;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
+import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.channel.ServerSecureChannel;
+import org.eclipse.milo.opcua.stack.core.channel.messages.MessageType;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.MessageSecurityMode;
+import org.eclipse.milo.opcua.stack.core.types.structured.ChannelSecurityToken;
+import org.eclipse.milo.opcua.stack.core.util.NonceUtil;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateBuilder;
+import org.eclipse.milo.opcua.stack.core.util.SelfSignedCertificateGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.eclipse.milo.opcua.stack.core.channel.EncodingLimits.DEFAULT_MAX_CHUNK_SIZE;
+import static org.eclipse.milo.opcua.stack.core.channel.EncodingLimits.DEFAULT_MAX_MESSAGE_SIZE;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * Encodes a message into symmetric chunks with {@link ChunkEncoder} and decodes them with {@link ChunkDecoder} for
+ * each {@link SecurityPolicy} and {@link MessageSecurityMode}.
+ * <p>
+ * Decoding decrypts chunks in place, so each decode invocation gets a fresh copy of the encoded chunks, made outside
+ * the measured region.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkBenchmark {
+
+    static {
+        // Required for SecurityPolicy.Aes256_Sha256_RsaPss
+        Security.addProvider(new BouncyCastleProvider());
+    }
+
+    /**
+     * A {@link SecurityPolicy} and {@link MessageSecurityMode}, separated by a colon.
+     */
+    @Param({
+        "None:None",
+        "Basic128Rsa15:Sign",
+        "Basic128Rsa15:SignAndEncrypt",
+        "Basic256:Sign",
+        "Basic256:SignAndEncrypt",
+        "Basic256Sha256:Sign",
+        "Basic256Sha256:SignAndEncrypt",
+        "Aes128_Sha256_RsaOaep:Sign",
+        "Aes128_Sha256_RsaOaep:SignAndEncrypt",
+        "Aes256_Sha256_RsaPss:Sign",
+        "Aes256_Sha256_RsaPss:SignAndEncrypt"
+    })
+    public String security;
+
+    /**
+     * The size of the message body, in bytes.
+     */
+    @Param({"1024", "65536", "1048576"})
+    public int messageSize;
+
+    private final ChannelParameters parameters = new ChannelParameters(
+        DEFAULT_MAX_MESSAGE_SIZE,
+        DEFAULT_MAX_CHUNK_SIZE,
+        DEFAULT_MAX_CHUNK_SIZE,
+        0,
+        DEFAULT_MAX_MESSAGE_SIZE,
+        DEFAULT_MAX_CHUNK_SIZE,
+        DEFAULT_MAX_CHUNK_SIZE,
+        0
+    );
+
+    private ClientSecureChannel clientChannel;
+    private ServerSecureChannel serverChannel;
+
+    private ChunkEncoder encoder;
+    private ByteBuf messageBuffer;
+
+    private List<ByteBuf> encodedChunks;
+    private List<ByteBuf> decodeChunks;
+
+    @Setup
+    public void setup() throws Exception {
+        String[] ss = security.split(":");
+        SecurityPolicy securityPolicy = SecurityPolicy.valueOf(ss[0]);
+        MessageSecurityMode messageSecurityMode = MessageSecurityMode.valueOf(ss[1]);
+
+        createChannels(securityPolicy, messageSecurityMode);
+
+        byte[] messageBytes = new byte[messageSize];
+        new Random(messageSize).nextBytes(messageBytes);
+        messageBuffer = Unpooled.wrappedBuffer(messageBytes);
+
+        encoder = new ChunkEncoder(parameters);
+
+        encodedChunks = new ChunkEncoder(parameters)
+            .encodeSymmetric(serverChannel, 1L, messageBuffer.duplicate(), MessageType.SecureMessage)
+            .getMessageChunks();
+    }
+
+    @Setup(Level.Invocation)
+    public void copyChunks() {
+        decodeChunks = new ArrayList<>(encodedChunks.size());
+
+        for (ByteBuf chunk : encodedChunks) {
+            decodeChunks.add(chunk.copy());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodedChunks.forEach(ReferenceCountUtil::safeRelease);
+        messageBuffer.release();
+    }
+
+    @Benchmark
+    public List<ByteBuf> encode() throws Exception {
+        List<ByteBuf> chunks = encoder
+            .encodeSymmetric(serverChannel, 1L, messageBuffer.duplicate(), MessageType.SecureMessage)
+            .getMessageChunks();
+
+        chunks.forEach(ReferenceCountUtil::safeRelease);
+
+        return chunks;
+    }
+
+    @Benchmark
+    public int decode() throws Exception {
+        // a new decoder for each message, because decoders check that sequence numbers increase
+        ChunkDecoder decoder = new ChunkDecoder(parameters, EncodingLimits.DEFAULT);
+
+        ByteBuf message = decoder.decodeSymmetric(clientChannel, decodeChunks).getMessage();
+
+        try {
+            return message.readableBytes();
+        } finally {
+            message.release();
+        }
+    }
+
+    private void createChannels(
+        SecurityPolicy securityPolicy,
+        MessageSecurityMode messageSecurityMode
+    ) throws Exception {
+
+        boolean secure = securityPolicy != SecurityPolicy.None;
+
+        KeyPair clientKeyPair = secure ? SelfSignedCertificateGenerator.generateRsaKeyPair(2048) : null;
+        KeyPair serverKeyPair = secure ? SelfSignedCertificateGenerator.generateRsaKeyPair(2048) : null;
+
+        X509Certificate clientCertificate = secure ? certificate(clientKeyPair, "client") : null;
+        X509Certificate serverCertificate = secure ? certificate(serverKeyPair, "server") : null;
+
+        ByteString clientNonce = NonceUtil.generateNonce(securityPolicy);
+        ByteString serverNonce = NonceUtil.generateNonce(securityPolicy);
+
+        clientChannel = new ClientSecureChannel(
+            clientKeyPair,
+            clientCertificate,
+            secure ? Collections.singletonList(clientCertificate) : null,
+            serverCertificate,
+            secure ? Collections.singletonList(serverCertificate) : null,
+            securityPolicy,
+            messageSecurityMode
+        );
+        clientChannel.setLocalNonce(clientNonce);
+        clientChannel.setRemoteNonce(serverNonce);
+
+        serverChannel = new ServerSecureChannel();
+        serverChannel.setSecurityPolicy(securityPolicy);
+        serverChannel.setMessageSecurityMode(messageSecurityMode);
+        serverChannel.setLocalNonce(serverNonce);
+        serverChannel.setRemoteNonce(clientNonce);
+
+        if (secure) {
+            serverChannel.setKeyPair(serverKeyPair);
+            serverChannel.setLocalCertificate(serverCertificate);
+            serverChannel.setLocalCertificateChain(new X509Certificate[]{serverCertificate});
+            serverChannel.setRemoteCertificate(clientCertificate.getEncoded());
+        }
+
+        ChannelSecurityToken token = new ChannelSecurityToken(
+            uint(0), uint(1), DateTime.now(), uint(60000)
+        );
+
+        if (messageSecurityMode == MessageSecurityMode.None) {
+            clientChannel.setChannelSecurity(new ChannelSecurity(null, token));
+            serverChannel.setChannelSecurity(new ChannelSecurity(null, token));
+        } else {
+            ChannelSecurity.SecurityKeys clientKeys = ChannelSecurity.generateKeyPair(
+                clientChannel,
+                clientChannel.getLocalNonce(),
+                clientChannel.getRemoteNonce()
+            );
+
+            ChannelSecurity.SecurityKeys serverKeys = ChannelSecurity.generateKeyPair(
+                serverChannel,
+                serverChannel.getRemoteNonce(),
+                serverChannel.getLocalNonce()
+            );
+
+            clientChannel.setChannelSecurity(new ChannelSecurity(clientKeys, token));
+            serverChannel.setChannelSecurity(new ChannelSecurity(serverKeys, token));
+        }
+    }
+
+    private static X509Certificate certificate(KeyPair keyPair, String name) throws Exception {
+        return new SelfSignedCertificateBuilder(keyPair)
+            .setCommonName("Eclipse Milo Benchmarks " + name)
+            .setApplicationUri("urn:eclipse:milo:benchmarks:" + name)
+            .build();
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaJsonStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.UaMessage;
+import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of the JSON encoding, in both its reversible and non-reversible forms, with the binary
+ * encoding of the same service response messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonEncodingBenchmark {
+
+    @Param({"ReadResponse", "PublishResponse", "BrowseResponse"})
+    public String response;
+
+    /**
+     * The number of results, monitored item notifications, or references in the response.
+     */
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private UaResponseMessage message;
+
+    private ByteBuf encodeBuffer;
+    private OpcUaBinaryStreamEncoder binaryEncoder;
+    private OpcUaJsonStreamEncoder jsonEncoder;
+    private OpcUaJsonStreamEncoder nonReversibleJsonEncoder;
+
+    private ByteBuf binaryDecodeBuffer;
+    private OpcUaBinaryStreamDecoder binaryDecoder;
+
+    private ByteBuf jsonDecodeBuffer;
+    private OpcUaJsonStreamDecoder jsonDecoder;
+
+    @Setup
+    public void setup() {
+        SerializationContext context = new BenchmarkSerializationContext();
+
+        message = SampleValues.response(response, size, context);
+
+        encodeBuffer = Unpooled.buffer();
+        binaryEncoder = new OpcUaBinaryStreamEncoder(context).setBuffer(encodeBuffer);
+        jsonEncoder = new OpcUaJsonStreamEncoder(context, true).setBuffer(encodeBuffer);
+        nonReversibleJsonEncoder = new OpcUaJsonStreamEncoder(context, false).setBuffer(encodeBuffer);
+
+        binaryDecodeBuffer = Unpooled.buffer();
+        new OpcUaBinaryStreamEncoder(context).setBuffer(binaryDecodeBuffer).writeMessage(null, message);
+        binaryDecoder = new OpcUaBinaryStreamDecoder(context).setBuffer(binaryDecodeBuffer);
+
+        jsonDecodeBuffer = Unpooled.buffer();
+        new OpcUaJsonStreamEncoder(context).setBuffer(jsonDecodeBuffer).writeMessage(null, message);
+        jsonDecoder = new OpcUaJsonStreamDecoder(context).setBuffer(jsonDecodeBuffer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        binaryDecodeBuffer.release();
+        jsonDecodeBuffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encodeBinary() {
+        encodeBuffer.clear();
+        binaryEncoder.writeMessage(null, message);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public ByteBuf encodeJson() {
+        encodeBuffer.clear();
+        jsonEncoder.setBuffer(encodeBuffer).writeMessage(null, message);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public ByteBuf encodeJsonNonReversible() {
+        encodeBuffer.clear();
+        nonReversibleJsonEncoder.setBuffer(encodeBuffer).writeMessage(null, message);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public UaMessage decodeBinary() {
+        binaryDecodeBuffer.readerIndex(0);
+        return binaryDecoder.readMessage(null);
+    }
+
+    @Benchmark
+    public UaMessage decodeJson() {
+        jsonDecodeBuffer.readerIndex(0);
+        return jsonDecoder.setBuffer(jsonDecodeBuffer).readMessage(null);
+    }
+
+}
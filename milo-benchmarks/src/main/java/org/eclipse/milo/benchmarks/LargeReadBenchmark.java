@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.benchmarks;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.api.ManagedNamespaceWithLifecycle;
+import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.identity.AnonymousIdentityValidator;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.security.DefaultCertificateManager;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.server.AdaptiveChunkSizePolicy;
+import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig.USER_TOKEN_POLICY_ANONYMOUS;
+
+/**
+ * Measures the throughput of Reads with large responses over a loopback connection, with the max chunk size fixed at
+ * the {@link EncodingLimits} default and chosen by an {@link AdaptiveChunkSizePolicy}.
+ * <p>
+ * Each Read returns {@code nodeCount} Values, each a {@code double[1024]}, so a response is roughly
+ * {@code nodeCount * 8} KiB. UA TCP negotiates chunk sizes once per connection, so in {@code adaptive} mode the
+ * client first connects and reads once so the policy has observed its round-trip time and response sizes, then
+ * reconnects to get the larger chunk size for the measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LargeReadBenchmark {
+
+    static final int ARRAY_LENGTH = 1024;
+
+    static final int MAX_MESSAGE_SIZE = 64 * 1024 * 1024;
+
+    @Param({"fixed", "adaptive"})
+    public String chunkSizePolicy;
+
+    @Param({"16", "256"})
+    public int nodeCount;
+
+    private OpcUaServer server;
+    private ArrayNamespace namespace;
+    private OpcUaClient client;
+
+    private List<ReadValueId> readValueIds;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        int port = getFreePort();
+
+        EndpointConfiguration.Builder endpointBuilder = EndpointConfiguration.newBuilder()
+            .setBindAddress("localhost")
+            .setBindPort(port)
+            .setHostname("localhost")
+            .setPath("/milo")
+            .setSecurityPolicy(SecurityPolicy.None)
+            .addTokenPolicies(USER_TOKEN_POLICY_ANONYMOUS);
+
+        if ("adaptive".equals(chunkSizePolicy)) {
+            endpointBuilder.setChunkSizePolicy(new AdaptiveChunkSizePolicy());
+        }
+
+        OpcUaServerConfig serverConfig = OpcUaServerConfig.builder()
+            .setApplicationUri("urn:eclipse:milo:benchmarks:server")
+            .setApplicationName(LocalizedText.english("Eclipse Milo Large Read Benchmark"))
+            .setProductUri("urn:eclipse:milo:benchmarks:server")
+            .setEndpoints(Collections.singleton(endpointBuilder.build()))
+            .setCertificateManager(new DefaultCertificateManager())
+            .setIdentityValidator(AnonymousIdentityValidator.INSTANCE)
+            .setEncodingLimits(newEncodingLimits(EncodingLimits.DEFAULT_MAX_CHUNK_SIZE))
+            .build();
+
+        server = new OpcUaServer(serverConfig);
+
+        namespace = new ArrayNamespace(server, nodeCount);
+        namespace.startup();
+
+        server.startup().get();
+
+        readValueIds = new ArrayList<>();
+        for (NodeId nodeId : namespace.getNodeIds()) {
+            readValueIds.add(new ReadValueId(nodeId, AttributeId.Value.uid(), null, null));
+        }
+
+        String endpointUrl = String.format("opc.tcp://localhost:%d/milo", port);
+
+        if ("adaptive".equals(chunkSizePolicy)) {
+            OpcUaClient probe = newClient(endpointUrl);
+            probe.connect().get();
+            probe.read(0.0, TimestampsToReturn.Neither, readValueIds).get();
+            probe.disconnect().get();
+        }
+
+        client = newClient(endpointUrl);
+        client.connect().get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.disconnect().get();
+        namespace.shutdown();
+        server.shutdown().get();
+    }
+
+    @Benchmark
+    public ReadResponse read() throws Exception {
+        return client.read(0.0, TimestampsToReturn.Neither, readValueIds).get();
+    }
+
+    private static OpcUaClient newClient(String endpointUrl) throws Exception {
+        return OpcUaClient.create(
+            endpointUrl,
+            endpoints -> endpoints.stream()
+                .filter(e -> SecurityPolicy.None.getUri().equals(e.getSecurityPolicyUri()))
+                .findFirst(),
+            configBuilder -> configBuilder
+                .setEncodingLimits(newEncodingLimits(AdaptiveChunkSizePolicy.DEFAULT_MAX_CHUNK_SIZE))
+                .build()
+        );
+    }
+
+    /**
+     * The server keeps the default max chunk size, which is what it offers unless a {@link AdaptiveChunkSizePolicy}
+     * chooses otherwise. The client accepts chunks as large as the policy may offer.
+     *
+     * @param maxChunkSize the max chunk size.
+     * @return {@link EncodingLimits} with {@code maxChunkSize} that allow messages up to {@link #MAX_MESSAGE_SIZE}.
+     */
+    private static EncodingLimits newEncodingLimits(int maxChunkSize) {
+        return new EncodingLimits(
+            maxChunkSize,
+            (MAX_MESSAGE_SIZE / EncodingLimits.DEFAULT_MAX_CHUNK_SIZE) * 2,
+            MAX_MESSAGE_SIZE,
+            EncodingLimits.DEFAULT_MAX_RECURSION_DEPTH
+        );
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static class ArrayNamespace extends ManagedNamespaceWithLifecycle {
+
+        static final String NAMESPACE_URI = "urn:eclipse:milo:benchmarks:large-read";
+
+        private final List<NodeId> nodeIds = new ArrayList<>();
+
+        ArrayNamespace(OpcUaServer server, int nodeCount) {
+            super(server, NAMESPACE_URI);
+
+            for (int i = 0; i < nodeCount; i++) {
+                nodeIds.add(newNodeId("Waveform" + i));
+            }
+
+            getLifecycleManager().addStartupTask(() -> {
+                for (NodeId nodeId : nodeIds) {
+                    String name = nodeId.getIdentifier().toString();
+
+                    UaVariableNode node = new UaVariableNode.UaVariableNodeBuilder(getNodeContext())
+                        .setNodeId(nodeId)
+                        .setAccessLevel(AccessLevel.READ_ONLY)
+                        .setUserAccessLevel(AccessLevel.READ_ONLY)
+                        .setBrowseName(newQualifiedName(name))
+                        .setDisplayName(LocalizedText.english(name))
+                        .setDataType(Identifiers.Double)
+                        .setTypeDefinition(Identifiers.BaseDataVariableType)
+                        .build();
+
+                    double[] waveform = new double[ARRAY_LENGTH];
+                    for (int i = 0; i < waveform.length; i++) {
+                        waveform[i] = Math.sin(i * 2 * Math.PI / waveform.length);
+                    }
+
+                    node.setValue(new DataValue(new Variant(waveform)));
+
+                    getNodeManager().addNode(node);
+                }
+            });
+        }
+
+        List<NodeId> getNodeIds() {
+            return nodeIds;
+        }
+
+        @Override
+        public void onDataItemsCreated(List<DataItem> dataItems) {}
+
+        @Override
+        public void onDataItemsModified(List<DataItem> dataItems) {}
+
+        @Override
+        public void onDataItemsDeleted(List<DataItem> dataItems) {}
+
+        @Override
+        public void onMonitoringModeChanged(List<MonitoredItem> monitoredItems) {}
+
+    }
+
+}
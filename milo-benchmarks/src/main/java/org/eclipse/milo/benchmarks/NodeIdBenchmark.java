@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.IdType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses and hashes {@link NodeId}s and {@link ExpandedNodeId}s of each {@link IdType}.
+ * <p>
+ * The hashing and lookup benchmarks use instances that are equal to, but not the same as, the map keys, as is the
+ * case for ids decoded from incoming requests. The decode benchmarks decode an id and look it up, with and without
+ * NodeId interning.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeIdBenchmark {
+
+    private static final String NAMESPACE_URI = "urn:eclipse:milo:benchmarks";
+
+    /**
+     * Every {@link IdType} when no values are given.
+     */
+    @Param
+    public IdType idType;
+
+    private String nodeIdString;
+    private String expandedNodeIdString;
+
+    private NodeId nodeId;
+    private ExpandedNodeId expandedNodeId;
+
+    private final Map<NodeId, Object> nodeIdMap = new HashMap<>();
+    private final Map<ExpandedNodeId, Object> expandedNodeIdMap = new HashMap<>();
+
+    private ByteBuf nodeIdBuffer;
+    private OpcUaBinaryStreamDecoder decoder;
+    private OpcUaBinaryStreamDecoder interningDecoder;
+
+    @Setup
+    public void setup() {
+        String identifier;
+
+        switch (idType) {
+            case Numeric:
+                identifier = "i=2258";
+                break;
+            case String:
+                identifier = "s=Demo.Static.Scalar.Double";
+                break;
+            case Guid:
+                identifier = "g=09087e75-8e5e-499b-954f-f2a9603db28a";
+                break;
+            case Opaque:
+                identifier = "b=M/RbKBsRVkePCePcx24oRA==";
+                break;
+            default:
+                throw new IllegalArgumentException("idType: " + idType);
+        }
+
+        nodeIdString = "ns=2;" + identifier;
+        expandedNodeIdString = "nsu=" + NAMESPACE_URI + ";" + identifier;
+
+        for (int i = 0; i < 1000; i++) {
+            nodeIdMap.put(new NodeId(2, i), i);
+            expandedNodeIdMap.put(ExpandedNodeId.parse("nsu=" + NAMESPACE_URI + ";i=" + i), i);
+        }
+
+        nodeIdMap.put(NodeId.parse(nodeIdString), idType);
+        expandedNodeIdMap.put(ExpandedNodeId.parse(expandedNodeIdString), idType);
+
+        nodeId = NodeId.parse(nodeIdString);
+        expandedNodeId = ExpandedNodeId.parse(expandedNodeIdString);
+
+        SerializationContext context = new BenchmarkSerializationContext();
+
+        nodeIdBuffer = Unpooled.buffer();
+        new OpcUaBinaryStreamEncoder(context).setBuffer(nodeIdBuffer).writeNodeId(nodeId);
+
+        decoder = new OpcUaBinaryStreamDecoder(context)
+            .setBuffer(nodeIdBuffer)
+            .setNodeIdInterningEnabled(false);
+
+        interningDecoder = new OpcUaBinaryStreamDecoder(context)
+            .setBuffer(nodeIdBuffer)
+            .setNodeIdInterningEnabled(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        nodeIdBuffer.release();
+    }
+
+    @Benchmark
+    public NodeId parseNodeId() {
+        return NodeId.parse(nodeIdString);
+    }
+
+    @Benchmark
+    public ExpandedNodeId parseExpandedNodeId() {
+        return ExpandedNodeId.parse(expandedNodeIdString);
+    }
+
+    @Benchmark
+    public int hashNodeId() {
+        return nodeId.hashCode();
+    }
+
+    @Benchmark
+    public int hashExpandedNodeId() {
+        return expandedNodeId.hashCode();
+    }
+
+    @Benchmark
+    public Object lookupNodeId() {
+        return nodeIdMap.get(nodeId);
+    }
+
+    @Benchmark
+    public Object lookupExpandedNodeId() {
+        return expandedNodeIdMap.get(expandedNodeId);
+    }
+
+    @Benchmark
+    public Object decodeAndLookupNodeId() {
+        nodeIdBuffer.readerIndex(0);
+        return nodeIdMap.get(decoder.readNodeId());
+    }
+
+    @Benchmark
+    public Object decodeAndLookupNodeIdInterned() {
+        nodeIdBuffer.readerIndex(0);
+        return nodeIdMap.get(interningDecoder.readNodeId());
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.benchmarks;
+
+import java.lang.reflect.Array;
+import java.util.Random;
+import java.util.UUID;
+
+import org.eclipse.milo.opcua.stack.core.BuiltinDataType;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.DataChangeNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.MonitoredItemNotification;
+import org.eclipse.milo.opcua.stack.core.types.structured.NotificationMessage;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ServiceCounterDataType;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Deterministic sample values used as benchmark inputs.
+ */
+final class SampleValues {
+
+    private static final long SEED = 0x4D696C6FL;
+
+    private SampleValues() {}
+
+    /**
+     * Get a representative scalar value of the builtin type {@code dataType}.
+     *
+     * @param dataType the {@link BuiltinDataType} of the value.
+     * @param context  the {@link SerializationContext} used to encode {@link ExtensionObject} values.
+     * @return a representative scalar value of the builtin type {@code dataType}.
+     */
+    static Object builtinValue(BuiltinDataType dataType, SerializationContext context) {
+        Random random = new Random(SEED);
+
+        switch (dataType) {
+            case Boolean:
+                return true;
+            case SByte:
+                return (byte) -42;
+            case Byte:
+                return ubyte(42);
+            case Int16:
+                return (short) -4242;
+            case UInt16:
+                return ushort(4242);
+            case Int32:
+                return -424242;
+            case UInt32:
+                return uint(424242);
+            case Int64:
+                return -42424242424242L;
+            case UInt64:
+                return ulong(42424242424242L);
+            case Float:
+                return 42.42f;
+            case Double:
+                return 42.42;
+            case String:
+                return "Demo.Static.Scalar.String";
+            case DateTime:
+                return new DateTime(132_000_000_000_000_000L);
+            case Guid:
+                return new UUID(random.nextLong(), random.nextLong());
+            case ByteString: {
+                byte[] bs = new byte[64];
+                random.nextBytes(bs);
+                return ByteString.of(bs);
+            }
+            case XmlElement:
+                return new XmlElement("<Value xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">42</Value>");
+            case NodeId:
+                return new NodeId(2, "Demo.Static.Scalar.Double");
+            case ExpandedNodeId:
+                return new ExpandedNodeId(
+                    ushort(0),
+                    "urn:eclipse:milo:benchmarks",
+                    "Demo.Static.Scalar.Double"
+                );
+            case StatusCode:
+                return new StatusCode(0x80AB0000L);
+            case QualifiedName:
+                return new QualifiedName(2, "Double");
+            case LocalizedText:
+                return LocalizedText.english("Double");
+            case ExtensionObject:
+                return ExtensionObject.encode(context, new ServiceCounterDataType(uint(42), uint(1)));
+            case DataValue:
+                return dataValue(42.42);
+            case Variant:
+                return new Variant(42);
+            case DiagnosticInfo:
+                return new DiagnosticInfo(
+                    1, 2, 3, 4,
+                    "additional info",
+                    new StatusCode(0x80AB0000L),
+                    null
+                );
+            default:
+                throw new IllegalArgumentException("dataType: " + dataType);
+        }
+    }
+
+    /**
+     * Get an array of {@code length} representative values of the builtin type {@code dataType}.
+     *
+     * @param dataType the {@link BuiltinDataType} of the elements.
+     * @param context  the {@link SerializationContext} used to encode {@link ExtensionObject} values.
+     * @param length   the length of the array.
+     * @return an array of {@code length} representative values of the builtin type {@code dataType}.
+     */
+    static Object builtinArray(BuiltinDataType dataType, SerializationContext context, int length) {
+        Object array = Array.newInstance(dataType.getBackingClass(), length);
+
+        for (int i = 0; i < length; i++) {
+            Array.set(array, i, builtinValue(dataType, context));
+        }
+
+        return array;
+    }
+
+    /**
+     * Get a representative response message for the service named {@code response}.
+     *
+     * @param response one of "ReadResponse", "PublishResponse", or "BrowseResponse".
+     * @param size     the number of results, notifications, or references in the response.
+     * @param context  the {@link SerializationContext} used to encode notification data.
+     * @return a representative response message.
+     */
+    static UaResponseMessage response(String response, int size, SerializationContext context) {
+        switch (response) {
+            case "ReadResponse":
+                return readResponse(size);
+            case "PublishResponse":
+                return publishResponse(size, context);
+            case "BrowseResponse":
+                return browseResponse(size);
+            default:
+                throw new IllegalArgumentException("response: " + response);
+        }
+    }
+
+    private static ReadResponse readResponse(int size) {
+        DataValue[] results = new DataValue[size];
+        for (int i = 0; i < size; i++) {
+            results[i] = dataValue((double) i);
+        }
+
+        return new ReadResponse(responseHeader(), results, new DiagnosticInfo[0]);
+    }
+
+    private static PublishResponse publishResponse(int size, SerializationContext context) {
+        MonitoredItemNotification[] monitoredItems = new MonitoredItemNotification[size];
+        for (int i = 0; i < size; i++) {
+            monitoredItems[i] = new MonitoredItemNotification(uint(i), dataValue((double) i));
+        }
+
+        DataChangeNotification dataChange = new DataChangeNotification(
+            monitoredItems,
+            new DiagnosticInfo[0]
+        );
+
+        NotificationMessage notificationMessage = new NotificationMessage(
+            uint(1),
+            DateTime.now(),
+            new ExtensionObject[]{ExtensionObject.encode(context, dataChange)}
+        );
+
+        return new PublishResponse(
+            responseHeader(),
+            uint(1),
+            new UInteger[]{uint(1)},
+            false,
+            notificationMessage,
+            new StatusCode[0],
+            new DiagnosticInfo[0]
+        );
+    }
+
+    private static BrowseResponse browseResponse(int size) {
+        ReferenceDescription[] references = new ReferenceDescription[size];
+        for (int i = 0; i < size; i++) {
+            String name = "Variable" + i;
+
+            references[i] = new ReferenceDescription(
+                Identifiers.HasComponent,
+                true,
+                new NodeId(2, "Demo.Static." + name).expanded(),
+                new QualifiedName(2, name),
+                LocalizedText.english(name),
+                NodeClass.Variable,
+                Identifiers.BaseDataVariableType.expanded()
+            );
+        }
+
+        BrowseResult result = new BrowseResult(StatusCode.GOOD, ByteString.NULL_VALUE, references);
+
+        return new BrowseResponse(responseHeader(), new BrowseResult[]{result}, new DiagnosticInfo[0]);
+    }
+
+    private static ResponseHeader responseHeader() {
+        return new ResponseHeader(
+            DateTime.now(),
+            uint(42),
+            StatusCode.GOOD,
+            null,
+            new String[0],
+            null
+        );
+    }
+
+    private static DataValue dataValue(double value) {
+        DateTime now = DateTime.now();
+
+        return new DataValue(new Variant(value), StatusCode.GOOD, now, now);
+    }
+
+}
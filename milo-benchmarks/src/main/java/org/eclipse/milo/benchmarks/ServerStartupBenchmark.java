@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.benchmarks;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.identity.AnonymousIdentityValidator;
+import org.eclipse.milo.opcua.stack.core.security.DefaultCertificateManager;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig.USER_TOKEN_POLICY_ANONYMOUS;
+
+/**
+ * Measures cold server startup: the time from constructing an {@link OpcUaServer} in a fresh JVM, which loads
+ * namespace 0, until a client has connected to it and activated a session.
+ * <p>
+ * Each fork measures a single startup with no warmup, so the result includes class loading and interpretation the
+ * same way a real server start does. Compare the JSON results of two builds to see the effect of a change.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class ServerStartupBenchmark {
+
+    private OpcUaServer server;
+    private OpcUaClient client;
+
+    @Benchmark
+    public OpcUaClient timeToFirstSession() throws Exception {
+        int port = getFreePort();
+
+        EndpointConfiguration endpoint = EndpointConfiguration.newBuilder()
+            .setBindAddress("localhost")
+            .setBindPort(port)
+            .setHostname("localhost")
+            .setPath("/milo")
+            .setSecurityPolicy(SecurityPolicy.None)
+            .addTokenPolicies(USER_TOKEN_POLICY_ANONYMOUS)
+            .build();
+
+        OpcUaServerConfig serverConfig = OpcUaServerConfig.builder()
+            .setApplicationUri("urn:eclipse:milo:benchmarks:server")
+            .setApplicationName(LocalizedText.english("Eclipse Milo Startup Benchmark"))
+            .setProductUri("urn:eclipse:milo:benchmarks:server")
+            .setEndpoints(Collections.singleton(endpoint))
+            .setCertificateManager(new DefaultCertificateManager())
+            .setIdentityValidator(AnonymousIdentityValidator.INSTANCE)
+            .build();
+
+        server = new OpcUaServer(serverConfig);
+        server.startup().get();
+
+        client = OpcUaClient.create(String.format("opc.tcp://localhost:%d/milo", port));
+        client.connect().get();
+
+        return client;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.disconnect().get();
+        }
+        if (server != null) {
+            server.shutdown().get();
+        }
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.benchmarks;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.milo.opcua.sdk.client.OpcUaClient;
+import org.eclipse.milo.opcua.sdk.core.AccessLevel;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.api.DataItem;
+import org.eclipse.milo.opcua.sdk.server.api.ManagedNamespaceWithLifecycle;
+import org.eclipse.milo.opcua.sdk.server.api.MonitoredItem;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigBuilder;
+import org.eclipse.milo.opcua.sdk.server.api.methods.AbstractMethodInvocationHandler;
+import org.eclipse.milo.opcua.sdk.server.identity.AnonymousIdentityValidator;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilters;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.security.DefaultCertificateManager;
+import org.eclipse.milo.opcua.stack.core.security.SecurityPolicy;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.Argument;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
+import org.eclipse.milo.opcua.stack.server.ServiceLane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig.USER_TOKEN_POLICY_ANONYMOUS;
+
+/**
+ * Measures Read and Call throughput against a server whose Value attribute reads and method invocations block, as
+ * they do when backed by a slow device or database.
+ * <p>
+ * {@code executor} selects how service requests are executed:
+ * <ul>
+ *     <li>{@code shared}: the default {@code Stack.sharedExecutor()}.</li>
+ *     <li>{@code lanes}: the bounded per-lane executors from {@link ServiceLane#createDefaultExecutors()}.</li>
+ *     <li>{@code virtual}: virtual threads; requires JDK 21+, otherwise the server falls back to {@code shared}.</li>
+ * </ul>
+ * Each Call request invokes {@link #METHODS_PER_CALL} methods, which only run concurrently on virtual threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(64)
+@Fork(1)
+public class SlowBackendBenchmark {
+
+    static final int METHODS_PER_CALL = 8;
+
+    @Param({"shared", "lanes", "virtual"})
+    public String executor;
+
+    @Param({"10"})
+    public long backendLatencyMillis;
+
+    private Map<ServiceLane, ExecutorService> laneExecutors = Collections.emptyMap();
+
+    private OpcUaServer server;
+    private SlowNamespace namespace;
+    private OpcUaClient client;
+
+    private List<ReadValueId> readValueIds;
+    private List<CallMethodRequest> callMethodRequests;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        int port = getFreePort();
+
+        EndpointConfiguration endpoint = EndpointConfiguration.newBuilder()
+            .setBindAddress("localhost")
+            .setBindPort(port)
+            .setHostname("localhost")
+            .setPath("/milo")
+            .setSecurityPolicy(SecurityPolicy.None)
+            .addTokenPolicies(USER_TOKEN_POLICY_ANONYMOUS)
+            .build();
+
+        OpcUaServerConfigBuilder configBuilder = OpcUaServerConfig.builder()
+            .setApplicationUri("urn:eclipse:milo:benchmarks:server")
+            .setApplicationName(LocalizedText.english("Eclipse Milo Slow Backend Benchmark"))
+            .setProductUri("urn:eclipse:milo:benchmarks:server")
+            .setEndpoints(Collections.singleton(endpoint))
+            .setCertificateManager(new DefaultCertificateManager())
+            .setIdentityValidator(AnonymousIdentityValidator.INSTANCE);
+
+        switch (executor) {
+            case "lanes":
+                laneExecutors = ServiceLane.createDefaultExecutors();
+                configBuilder.setServiceLaneExecutors(laneExecutors);
+                break;
+            case "virtual":
+                configBuilder.setVirtualThreadsEnabled(true);
+                break;
+            default:
+                break;
+        }
+
+        server = new OpcUaServer(configBuilder.build());
+
+        namespace = new SlowNamespace(server, backendLatencyMillis);
+        namespace.startup();
+
+        server.startup().get();
+
+        client = OpcUaClient.create(String.format("opc.tcp://localhost:%d/milo", port));
+        client.connect().get();
+
+        readValueIds = Collections.singletonList(
+            new ReadValueId(namespace.getVariableNodeId(), AttributeId.Value.uid(), null, null)
+        );
+
+        callMethodRequests = new ArrayList<>();
+        for (int i = 0; i < METHODS_PER_CALL; i++) {
+            callMethodRequests.add(
+                new CallMethodRequest(namespace.getObjectNodeId(), namespace.getMethodNodeId(), new Variant[0])
+            );
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.disconnect().get();
+        namespace.shutdown();
+        server.shutdown().get();
+
+        laneExecutors.values().forEach(ExecutorService::shutdown);
+    }
+
+    @Benchmark
+    public ReadResponse read() throws Exception {
+        return client.read(0.0, TimestampsToReturn.Neither, readValueIds).get();
+    }
+
+    @Benchmark
+    public CallResponse call() throws Exception {
+        return client.call(callMethodRequests).get();
+    }
+
+    private static int getFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static void simulateBackend(long latencyMillis) {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class SlowNamespace extends ManagedNamespaceWithLifecycle {
+
+        static final String NAMESPACE_URI = "urn:eclipse:milo:benchmarks:slow-backend";
+
+        private final NodeId variableNodeId = newNodeId("SlowVariable");
+        private final NodeId objectNodeId = newNodeId("SlowDevice");
+        private final NodeId methodNodeId = newNodeId("SlowMethod");
+
+        SlowNamespace(OpcUaServer server, long latencyMillis) {
+            super(server, NAMESPACE_URI);
+
+            getLifecycleManager().addStartupTask(() -> {
+                UaVariableNode variableNode = new UaVariableNode.UaVariableNodeBuilder(getNodeContext())
+                    .setNodeId(variableNodeId)
+                    .setAccessLevel(AccessLevel.READ_ONLY)
+                    .setUserAccessLevel(AccessLevel.READ_ONLY)
+                    .setBrowseName(newQualifiedName("SlowVariable"))
+                    .setDisplayName(LocalizedText.english("SlowVariable"))
+                    .setDataType(Identifiers.Int32)
+                    .setTypeDefinition(Identifiers.BaseDataVariableType)
+                    .build();
+
+                variableNode.getFilterChain().addLast(
+                    AttributeFilters.getValue(ctx -> {
+                        simulateBackend(latencyMillis);
+
+                        return new DataValue(new Variant(42));
+                    })
+                );
+
+                getNodeManager().addNode(variableNode);
+
+                UaMethodNode methodNode = UaMethodNode.builder(getNodeContext())
+                    .setNodeId(methodNodeId)
+                    .setBrowseName(newQualifiedName("SlowMethod"))
+                    .setDisplayName(LocalizedText.english("SlowMethod"))
+                    .build();
+
+                methodNode.setInvocationHandler(new AbstractMethodInvocationHandler(methodNode) {
+                    @Override
+                    public Argument[] getInputArguments() {
+                        return new Argument[0];
+                    }
+
+                    @Override
+                    public Argument[] getOutputArguments() {
+                        return new Argument[0];
+                    }
+
+                    @Override
+                    protected Variant[] invoke(InvocationContext invocationContext, Variant[] inputValues) {
+                        simulateBackend(latencyMillis);
+
+                        return new Variant[0];
+                    }
+                });
+
+                getNodeManager().addNode(methodNode);
+
+                UaObjectNode objectNode = new UaObjectNode.UaObjectNodeBuilder(getNodeContext())
+                    .setNodeId(objectNodeId)
+                    .setBrowseName(newQualifiedName("SlowDevice"))
+                    .setDisplayName(LocalizedText.english("SlowDevice"))
+                    .setTypeDefinition(Identifiers.BaseObjectType)
+                    .build();
+
+                objectNode.addComponent(methodNode);
+
+                getNodeManager().addNode(objectNode);
+            });
+        }
+
+        NodeId getVariableNodeId() {
+            return variableNodeId;
+        }
+
+        NodeId getObjectNodeId() {
+            return objectNodeId;
+        }
+
+        NodeId getMethodNodeId() {
+            return methodNodeId;
+        }
+
+        @Override
+        public void onDataItemsCreated(List<DataItem> dataItems) {}
+
+        @Override
+        public void onDataItemsModified(List<DataItem> dataItems) {}
+
+        @Override
+        public void onDataItemsDeleted(List<DataItem> dataItems) {}
+
+        @Override
+        public void onMonitoringModeChanged(List<MonitoredItem> monitoredItems) {}
+
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.UaMessage;
+import org.eclipse.milo.opcua.stack.core.serialization.UaResponseMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes and decodes common service response messages, including the encoding id that precedes each message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructureBenchmark {
+
+    @Param({"ReadResponse", "PublishResponse", "BrowseResponse"})
+    public String response;
+
+    /**
+     * The number of results, monitored item notifications, or references in the response.
+     */
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private UaResponseMessage message;
+
+    private ByteBuf encodeBuffer;
+    private OpcUaBinaryStreamEncoder encoder;
+
+    private ByteBuf decodeBuffer;
+    private OpcUaBinaryStreamDecoder decoder;
+
+    @Setup
+    public void setup() {
+        SerializationContext context = new BenchmarkSerializationContext();
+
+        message = SampleValues.response(response, size, context);
+
+        encodeBuffer = Unpooled.buffer();
+        encoder = new OpcUaBinaryStreamEncoder(context).setBuffer(encodeBuffer);
+
+        decodeBuffer = Unpooled.buffer();
+        new OpcUaBinaryStreamEncoder(context).setBuffer(decodeBuffer).writeMessage(null, message);
+        decoder = new OpcUaBinaryStreamDecoder(context).setBuffer(decodeBuffer);
+    }
+
+    @TearDown
+    public void tearDown() {
+        encodeBuffer.release();
+        decodeBuffer.release();
+    }
+
+    @Benchmark
+    public ByteBuf encode() {
+        encodeBuffer.clear();
+        encoder.writeMessage(null, message);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public UaMessage decode() {
+        decodeBuffer.readerIndex(0);
+        return decoder.readMessage(null);
+    }
+
+}
@@ -126,6 +126,7 @@ public interface OpcUaClientConfig extends UaStackClientConfig {
         builder.setConnectTimeout(config.getConnectTimeout());
         builder.setAcknowledgeTimeout(config.getAcknowledgeTimeout());
         builder.setRequestTimeout(config.getRequestTimeout());
+        builder.setMaxFlushDelay(config.getMaxFlushDelay());
 
         // OpcUaClientConfig values
         builder.setSessionName(config.getSessionName());
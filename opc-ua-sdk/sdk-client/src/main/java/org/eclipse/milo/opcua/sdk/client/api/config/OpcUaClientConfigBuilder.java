@@ -200,6 +200,12 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
         return this;
     }
 
+    @Override
+    public OpcUaClientConfigBuilder setMaxFlushDelay(UInteger maxFlushDelay) {
+        super.setMaxFlushDelay(maxFlushDelay);
+        return this;
+    }
+
     @Override
     public OpcUaClientConfig build() {
         UaStackClientConfig stackClientConfig = super.build();
@@ -414,6 +420,11 @@ public class OpcUaClientConfigBuilder extends UaStackClientConfigBuilder {
             return stackClientConfig.getRequestTimeout();
         }
 
+        @Override
+        public UInteger getMaxFlushDelay() {
+            return stackClientConfig.getMaxFlushDelay();
+        }
+
     }
 
 }
@@ -11,72 +11,103 @@
 package org.eclipse.milo.opcua.sdk.core.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.slf4j.LoggerFactory;
 
 
 public class GroupMapCollate {
 
+    /**
+     * Group {@code items} by key, map each group into results, and collate the results in the order of
+     * {@code items}.
+     * <p>
+     * Items are partitioned in a single pass, and each group's results are scattered into place as they complete.
+     * When every item has the same key the group is {@code items} itself.
+     *
+     * @param items   the items to group, map, and collate.
+     * @param grouper the function that gets an item's key.
+     * @param mappers the function that gets the {@link Mapper} for a key.
+     * @return a CompletableFuture containing the results, in the order of {@code items}.
+     */
     public static <T, K, R> CompletableFuture<List<R>> groupMapCollate(
         List<T> items,
         Function<T, K> grouper,
         Function<K, Mapper<T, R>> mappers
     ) {
 
-        List<Pending<T, R>> pending = new ArrayList<>();
+        Partition<T, K> partition = new Partition<>(items, grouper);
 
-        for (int i = 0; i < items.size(); i++) {
-            pending.add(new Pending<>(items.get(i), i));
-        }
+        if (partition.size() == 1) {
+            List<T> group = partition.group(0);
 
-        Map<K, List<Pending<T, R>>> grouped = pending.stream()
-            .collect(Collectors.groupingBy(p -> grouper.apply(p.item)));
+            return mappers.apply(partition.key(0)).map(group).thenApply(results -> {
+                checkSize(results, group);
 
-        Stream<CompletableFuture<Void>> futures = grouped.entrySet().stream().map(entry -> {
-            K key = entry.getKey();
-            List<Pending<T, R>> pendingForKey = entry.getValue();
+                return results;
+            });
+        }
 
-            Mapper<T, R> mapper = mappers.apply(key);
+        Object[] results = new Object[items.size()];
 
-            CompletableFuture<List<R>> future = mapper.map(
-                pendingForKey.stream()
-                    .map(p -> p.item)
-                    .collect(Collectors.toList())
-            );
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[partition.size()];
 
-            return future.thenAccept(results -> {
-                if (results.size() != pendingForKey.size()) {
-                    String message = String.format(
-                        "result size (%s) does not match pending size (%s)",
-                        results.size(), pendingForKey.size());
-                    LoggerFactory.getLogger(GroupMapCollate.class).error(message);
-                    throw new RuntimeException(message);
-                }
+        for (int g = 0; g < partition.size(); g++) {
+            List<T> group = partition.group(g);
+            int offset = partition.offsets[g];
+
+            futures[g] = mappers.apply(partition.key(g)).map(group).thenAccept(groupResults -> {
+                checkSize(groupResults, group);
 
-                for (int i = 0; i < pendingForKey.size(); i++) {
-                    pendingForKey.get(i).result = results.get(i);
+                for (int i = 0; i < groupResults.size(); i++) {
+                    results[partition.indices[offset + i]] = groupResults.get(i);
                 }
             });
-        });
+        }
+
+        return CompletableFuture.allOf(futures).thenApply(v -> {
+            @SuppressWarnings("unchecked")
+            List<R> collated = (List<R>) Arrays.asList(results);
 
-        return allOf(futures).thenApply(
-            v ->
-                pending.stream()
-                    .map(p -> p.result)
-                    .collect(Collectors.toList())
-        );
+            return collated;
+        });
     }
 
-    private static CompletableFuture<Void> allOf(Stream<CompletableFuture<Void>> futureStream) {
-        CompletableFuture[] fa = futureStream.toArray(CompletableFuture[]::new);
+    /**
+     * Group {@code items} by key and call {@code consumer} once for each group, in the order each key first appears
+     * in {@code items}.
+     *
+     * @param items    the items to group.
+     * @param grouper  the function that gets an item's key.
+     * @param consumer the consumer of each key and its group of items.
+     */
+    public static <T, K> void groupForEach(
+        List<T> items,
+        Function<T, K> grouper,
+        BiConsumer<K, List<T>> consumer
+    ) {
+
+        Partition<T, K> partition = new Partition<>(items, grouper);
+
+        for (int g = 0; g < partition.size(); g++) {
+            consumer.accept(partition.key(g), partition.group(g));
+        }
+    }
 
-        return CompletableFuture.allOf(fa);
+    private static void checkSize(List<?> results, List<?> group) {
+        if (results.size() != group.size()) {
+            String message = String.format(
+                "result size (%s) does not match pending size (%s)",
+                results.size(), group.size());
+            LoggerFactory.getLogger(GroupMapCollate.class).error(message);
+            throw new RuntimeException(message);
+        }
     }
 
     public interface Mapper<T, R> {
@@ -91,17 +122,92 @@ public class GroupMapCollate {
 
     }
 
+    /**
+     * A partition of a List of items into groups by key.
+     * <p>
+     * The indices of the items in group {@code g} are {@code indices[offsets[g]]} up to
+     * {@code indices[offsets[g + 1]]}, in the order the items appear in the List.
+     */
+    private static final class Partition<T, K> {
+
+        private final List<K> keys = new ArrayList<>();
+
+        private final List<T> items;
+
+        final int[] offsets;
+        final int[] indices;
 
-    private static class Pending<T, R> {
-        volatile R result;
+        Partition(List<T> items, Function<T, K> grouper) {
+            this.items = items;
 
-        final T item;
-        final int index;
+            int[] groups = new int[items.size()];
+            int[] counts = new int[8];
 
-        Pending(T item, int index) {
-            this.item = item;
-            this.index = index;
+            K lastKey = null;
+            int lastGroup = -1;
+
+            Map<K, Integer> groupsByKey = new HashMap<>();
+
+            for (int i = 0; i < groups.length; i++) {
+                K key = grouper.apply(items.get(i));
+
+                // runs of items with the same key are common, skip the lookup for those
+                if (lastGroup < 0 || !key.equals(lastKey)) {
+                    Integer group = groupsByKey.get(key);
+
+                    if (group == null) {
+                        group = keys.size();
+                        groupsByKey.put(key, group);
+                        keys.add(key);
+
+                        if (group == counts.length) {
+                            counts = Arrays.copyOf(counts, counts.length * 2);
+                        }
+                    }
+
+                    lastKey = key;
+                    lastGroup = group;
+                }
+
+                groups[i] = lastGroup;
+                counts[lastGroup]++;
+            }
+
+            offsets = new int[keys.size() + 1];
+            for (int g = 0; g < keys.size(); g++) {
+                offsets[g + 1] = offsets[g] + counts[g];
+            }
+
+            indices = new int[groups.length];
+            int[] next = Arrays.copyOf(offsets, keys.size());
+            for (int i = 0; i < groups.length; i++) {
+                indices[next[groups[i]]++] = i;
+            }
         }
+
+        int size() {
+            return keys.size();
+        }
+
+        K key(int group) {
+            return keys.get(group);
+        }
+
+        List<T> group(int group) {
+            if (keys.size() == 1) {
+                return items;
+            }
+
+            int offset = offsets[group];
+            int size = offsets[group + 1] - offset;
+
+            List<T> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(items.get(indices[offset + i]));
+            }
+            return list;
+        }
+
     }
 
 }
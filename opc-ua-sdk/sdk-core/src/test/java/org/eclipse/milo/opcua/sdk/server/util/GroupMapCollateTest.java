@@ -11,6 +11,7 @@
 package org.eclipse.milo.opcua.sdk.server.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -19,6 +20,7 @@ import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate.groupForEach;
 import static org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate.groupMapCollate;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -55,4 +57,27 @@ public class GroupMapCollateTest {
         }
     }
 
+    @Test
+    public void testGroupForEach() {
+        List<Integer> items = new ArrayList<>();
+        IntStream.range(0, 10).forEach(items::add);
+
+        List<Integer> keys = new ArrayList<>();
+        List<List<Integer>> groups = new ArrayList<>();
+
+        groupForEach(
+            items,
+            item -> item % 3,
+            (remainder, group) -> {
+                keys.add(remainder);
+                groups.add(group);
+            }
+        );
+
+        assertEquals(Arrays.asList(0, 1, 2), keys);
+        assertEquals(Arrays.asList(0, 3, 6, 9), groups.get(0));
+        assertEquals(Arrays.asList(1, 4, 7), groups.get(1));
+        assertEquals(Arrays.asList(2, 5, 8), groups.get(2));
+    }
+
 }
@@ -0,0 +1,930 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.milo.opcua.sdk.server.api.ReferenceStore;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeObserver;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.delegates.AttributeDelegate;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilter;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilterChain;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
+/**
+ * A {@link UaNodeManager} for large address spaces of mostly static Nodes, that holds plain Variable and Object Nodes
+ * as rows of columnar, primitive-backed arrays rather than as {@link UaNode} instances.
+ * <p>
+ * {@link #addCompactNode(UaNode)} copies a Node that is exactly a {@link UaVariableNode} or {@link UaObjectNode}, and
+ * has no {@link AttributeFilter}s, {@link AttributeDelegate} or {@link AttributeObserver}s, into a row, indexed by
+ * {@link NodeId} in an open-addressing table of row numbers, and doesn't keep the Node itself; it rejects any other
+ * Node. {@link #addNode(UaNode)} holds the Node it is given as is, as by {@link UaNodeManager}.
+ * <p>
+ * {@link #getNode(NodeId)} returns a view of a row, materialized on first use and cached for as long as it is
+ * reachable, so there is at most one view of a row at a time. Attributes set on a view are written through to its
+ * row, so reading, writing, browsing and sampling through a ManagedAddressSpace work as with a {@link UaNodeManager},
+ * with these differences:
+ * <ul>
+ *     <li>adding an {@link AttributeObserver} to, setting an {@link AttributeDelegate} on or getting the
+ *     {@link AttributeFilterChain} of a view, or setting its NodeId or NodeClass, promotes it to a Node held as is,
+ *     which {@link #getNode(NodeId)} returns from then on.</li>
+ *     <li>a view of a row that was removed or replaced is detached, as a removed Node is; attributes set on it are not
+ *     written through.</li>
+ * </ul>
+ * References are held in a {@link ReferenceStore}, as by {@link UaNodeManager}.
+ *
+ * @see org.eclipse.milo.opcua.sdk.server.api.ManagedNamespace#ManagedNamespace(OpcUaServer, String, UaNodeManager)
+ */
+public class CompactNodeManager extends UaNodeManager {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private static final byte OBJECT = (byte) NodeClass.Object.getValue();
+    private static final byte VARIABLE = (byte) NodeClass.Variable.getValue();
+
+    private static final int ROW_LOCK_STRIPES = 64;
+
+    /**
+     * Guards the table and the size of the columns: the read lock is held to look up or access a row, and the write
+     * lock to add, remove or promote a row.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Guard the cached view and the attribute columns of the rows they stripe over, while holding the read lock.
+     */
+    private final Object[] rowLocks = new Object[ROW_LOCK_STRIPES];
+
+    /**
+     * Open-addressing table of row + 1, indexed by the hash of the NodeId in that row; 0 marks an empty slot.
+     */
+    private int[] table;
+
+    private int size;
+    private int rowCount;
+
+    private int[] freeRows = new int[0];
+    private int freeCount;
+
+    private NodeId[] nodeIds;
+    private UaNodeContext[] contexts;
+    private byte[] nodeClasses;
+    private QualifiedName[] browseNames;
+    private LocalizedText[] displayNames;
+    private LocalizedText[] descriptions;
+    private int[] writeMasks;
+    private int[] userWriteMasks;
+
+    // Variable attributes, except accessLevels, which holds the EventNotifier of an Object
+    private DataValue[] values;
+    private NodeId[] dataTypes;
+    private int[] valueRanks;
+    private UInteger[][] arrayDimensions;
+    private byte[] accessLevels;
+    private byte[] userAccessLevels;
+    private double[] minimumSamplingIntervals;
+    private boolean[] historizing;
+
+    // The cached view of each row, if one was materialized and is still reachable
+    private WeakReference<UaNode>[] views;
+
+    public CompactNodeManager() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of Nodes to size the columns for up front.
+     */
+    public CompactNodeManager(int expectedSize) {
+        int capacity = Math.max(expectedSize, DEFAULT_CAPACITY);
+
+        for (int i = 0; i < rowLocks.length; i++) {
+            rowLocks[i] = new Object();
+        }
+
+        table = new int[tableSizeFor(capacity)];
+
+        nodeIds = new NodeId[capacity];
+        contexts = new UaNodeContext[capacity];
+        nodeClasses = new byte[capacity];
+        browseNames = new QualifiedName[capacity];
+        displayNames = new LocalizedText[capacity];
+        descriptions = new LocalizedText[capacity];
+        writeMasks = new int[capacity];
+        userWriteMasks = new int[capacity];
+        values = new DataValue[capacity];
+        dataTypes = new NodeId[capacity];
+        valueRanks = new int[capacity];
+        arrayDimensions = new UInteger[capacity][];
+        accessLevels = new byte[capacity];
+        userAccessLevels = new byte[capacity];
+        minimumSamplingIntervals = new double[capacity];
+        historizing = new boolean[capacity];
+        views = newViews(capacity);
+    }
+
+    /**
+     * @return the number of Nodes held as rows rather than as {@link UaNode} instances.
+     */
+    public int getCompactNodeCount() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Nodes held as rows are returned as their views.
+     */
+    @Override
+    public List<UaNode> getNodes() {
+        lock.readLock().lock();
+        try {
+            List<UaNode> nodes = new ArrayList<>(getNodeMap().size() + size);
+            nodes.addAll(getNodeMap().values());
+
+            for (int row = 0; row < rowCount; row++) {
+                if (nodeIds[row] != null) {
+                    nodes.add(viewOf(row));
+                }
+            }
+
+            return nodes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<NodeId> getNodeIds() {
+        lock.readLock().lock();
+        try {
+            List<NodeId> ids = new ArrayList<>(getNodeMap().size() + size);
+            ids.addAll(getNodeMap().keySet());
+
+            for (int row = 0; row < rowCount; row++) {
+                if (nodeIds[row] != null) {
+                    ids.add(nodeIds[row]);
+                }
+            }
+
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean containsNode(NodeId nodeId) {
+        lock.readLock().lock();
+        try {
+            return slotOf(nodeId) >= 0 || getNodeMap().containsKey(nodeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * {@code node} is held as is, unless it is a view of this manager, which is held as a row again with
+     * {@code node} as its view.
+     */
+    @Override
+    public Optional<UaNode> addNode(UaNode node) {
+        // read the Node before taking the lock; a view holds its own monitor while it waits for the lock
+        Row row = isView(node) && isCompactable(node) ? new Row(node) : null;
+
+        return putNode(node.getNodeId(), node, row);
+    }
+
+    /**
+     * Add {@code node} as a row, replacing any Node with the same NodeId.
+     * <p>
+     * The attributes of {@code node} are copied into the row and {@code node} itself is not kept;
+     * {@link #getNode(NodeId)} returns a view of the row instead.
+     *
+     * @param node a Node that is exactly a {@link UaVariableNode} or {@link UaObjectNode}, and has no
+     *             {@link AttributeFilter}s, {@link AttributeDelegate} or {@link AttributeObserver}s.
+     * @return the Node that was replaced, if any.
+     * @throws IllegalArgumentException if {@code node} can't be held as a row.
+     */
+    public Optional<UaNode> addCompactNode(UaNode node) {
+        if (!isCompactable(node)) {
+            throw new IllegalArgumentException("not a plain Variable or Object Node: " + node.getNodeId());
+        }
+
+        return putNode(node.getNodeId(), node, new Row(node));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A Node held as a row is returned as its view.
+     */
+    @Override
+    public Optional<UaNode> getNode(NodeId nodeId) {
+        lock.readLock().lock();
+        try {
+            int slot = slotOf(nodeId);
+
+            if (slot >= 0) {
+                return Optional.of(viewOf(table[slot] - 1));
+            } else {
+                return Optional.ofNullable(getNodeMap().get(nodeId));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<UaNode> removeNode(NodeId nodeId) {
+        UaNode removed;
+
+        lock.writeLock().lock();
+        try {
+            removed = removeRow(nodeId);
+
+            if (removed == null) {
+                removed = getNodeMap().remove(nodeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (removed != null) {
+            fireNodeRemoved(nodeId);
+        }
+
+        return Optional.ofNullable(removed);
+    }
+
+    private Optional<UaNode> putNode(NodeId nodeId, UaNode node, @Nullable Row row) {
+        lock.writeLock().lock();
+        try {
+            UaNode previous = removeRow(nodeId);
+
+            if (row != null) {
+                UaNode removed = getNodeMap().remove(nodeId);
+                if (previous == null) previous = removed;
+
+                int index = addRow(nodeId, row);
+
+                if (isView(node)) {
+                    views[index] = new WeakReference<>(node);
+                }
+            } else {
+                UaNode replaced = getNodeMap().put(nodeId, node);
+                if (previous == null) previous = replaced;
+            }
+
+            return Optional.ofNullable(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isView(UaNode node) {
+        return node instanceof View && ((View) node).getOwner() == this;
+    }
+
+    private boolean isCompactable(UaNode node) {
+        if (isView(node)) {
+            // getting the filter chain of a view promotes it, so a view that isn't promoted has no filters
+            if (((View) node).isPromoted()) {
+                return false;
+            }
+        } else {
+            Class<?> nodeClass = node.getClass();
+
+            if (nodeClass != UaVariableNode.class && nodeClass != UaObjectNode.class ||
+                !node.getFilterChain().getFilters().isEmpty()) {
+
+                return false;
+            }
+        }
+
+        if (node.getAttributeDelegate() != null ||
+            node.hasAttributeObservers() ||
+            node.getAttribute(AttributeId.WriteMask) == null ||
+            node.getAttribute(AttributeId.UserWriteMask) == null) {
+
+            return false;
+        }
+
+        if (node instanceof UaVariableNode) {
+            return node.getAttribute(AttributeId.ValueRank) != null &&
+                node.getAttribute(AttributeId.AccessLevel) != null &&
+                node.getAttribute(AttributeId.UserAccessLevel) != null &&
+                node.getAttribute(AttributeId.MinimumSamplingInterval) != null &&
+                node.getAttribute(AttributeId.Historizing) != null;
+        } else {
+            return node.getAttribute(AttributeId.EventNotifier) != null;
+        }
+    }
+
+    /**
+     * Must be called while holding the read or write lock.
+     * <p>
+     * The view is materialized and cached while holding the lock of its row, so no other view of the row can be
+     * cached.
+     */
+    private UaNode viewOf(int row) {
+        synchronized (rowLock(row)) {
+            UaNode view = cachedView(row);
+
+            if (view == null) {
+                view = materialize(row);
+                views[row] = new WeakReference<>(view);
+            }
+
+            return view;
+        }
+    }
+
+    private Object rowLock(int row) {
+        return rowLocks[row & (ROW_LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Must be called while holding the write lock, or the read lock and the lock of {@code row}.
+     */
+    @Nullable
+    private UaNode cachedView(int row) {
+        WeakReference<UaNode> reference = views[row];
+
+        return reference != null ? reference.get() : null;
+    }
+
+    /**
+     * Must be called while holding the read or write lock.
+     *
+     * @return the row {@code view} is the view of, or -1 if it's detached.
+     */
+    private int rowOf(UaNode view, NodeId key) {
+        int slot = slotOf(key);
+
+        if (slot < 0) {
+            return -1;
+        }
+
+        int row = table[slot] - 1;
+
+        synchronized (rowLock(row)) {
+            return cachedView(row) == view ? row : -1;
+        }
+    }
+
+    /**
+     * Must be called while holding the write lock, or the read lock and the lock of {@code row}.
+     */
+    private UaNode materialize(int row) {
+        if (nodeClasses[row] == VARIABLE) {
+            return new VariableView(row);
+        } else {
+            return new ObjectView(row);
+        }
+    }
+
+    /**
+     * Must be called while holding the write lock.
+     *
+     * @return the row {@code r} was added as.
+     */
+    private int addRow(NodeId nodeId, Row r) {
+        if ((size + 1) * 4L > table.length * 3L) {
+            rehash(table.length * 2);
+        }
+
+        int row;
+        if (freeCount > 0) {
+            row = freeRows[--freeCount];
+        } else {
+            row = rowCount++;
+            ensureCapacity(rowCount);
+        }
+
+        nodeIds[row] = nodeId;
+        contexts[row] = r.context;
+        nodeClasses[row] = r.nodeClass;
+        browseNames[row] = r.browseName;
+        displayNames[row] = r.displayName;
+        descriptions[row] = r.description;
+        writeMasks[row] = r.writeMask;
+        userWriteMasks[row] = r.userWriteMask;
+        values[row] = r.value;
+        dataTypes[row] = r.dataType;
+        valueRanks[row] = r.valueRank;
+        arrayDimensions[row] = r.arrayDimensions;
+        accessLevels[row] = r.accessLevel;
+        userAccessLevels[row] = r.userAccessLevel;
+        minimumSamplingIntervals[row] = r.minimumSamplingInterval;
+        historizing[row] = r.historizing;
+
+        insert(row);
+        size++;
+
+        return row;
+    }
+
+    /**
+     * Must be called while holding the write lock.
+     *
+     * @return the view of the removed row, or {@code null} if there was no row for {@code nodeId}.
+     */
+    private UaNode removeRow(NodeId nodeId) {
+        int slot = slotOf(nodeId);
+
+        if (slot < 0) {
+            return null;
+        }
+
+        int row = table[slot] - 1;
+
+        UaNode removed = cachedView(row);
+
+        if (removed == null) {
+            removed = materialize(row);
+        }
+
+        deleteSlot(slot);
+        size--;
+
+        nodeIds[row] = null;
+        contexts[row] = null;
+        browseNames[row] = null;
+        displayNames[row] = null;
+        descriptions[row] = null;
+        values[row] = null;
+        dataTypes[row] = null;
+        arrayDimensions[row] = null;
+        views[row] = null;
+
+        if (freeCount == freeRows.length) {
+            freeRows = Arrays.copyOf(freeRows, Math.max(freeCount * 2, DEFAULT_CAPACITY));
+        }
+        freeRows[freeCount++] = row;
+
+        return removed;
+    }
+
+    /**
+     * Called by a view that isn't promoted after an attribute was set on it.
+     *
+     * @return {@code false} if {@code value} can't be held in the row and the view must be promoted.
+     */
+    private boolean writeThrough(UaNode view, NodeId key, AttributeId attributeId, Object value) {
+        lock.readLock().lock();
+        try {
+            int slot = slotOf(key);
+
+            if (slot < 0) {
+                // a detached view isn't written through, as a removed Node isn't
+                return true;
+            }
+
+            int row = table[slot] - 1;
+
+            synchronized (rowLock(row)) {
+                return cachedView(row) != view || writeColumn(row, attributeId, value);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Must be called while holding the read lock and the lock of {@code row}.
+     *
+     * @return {@code false} if {@code value} can't be held in the row.
+     */
+    private boolean writeColumn(int row, AttributeId attributeId, Object value) {
+        switch (attributeId) {
+            case BrowseName:
+                browseNames[row] = (QualifiedName) value;
+                return true;
+            case DisplayName:
+                displayNames[row] = (LocalizedText) value;
+                return true;
+            case Description:
+                descriptions[row] = (LocalizedText) value;
+                return true;
+            case Value:
+                values[row] = (DataValue) value;
+                return true;
+            case DataType:
+                dataTypes[row] = (NodeId) value;
+                return true;
+            case ArrayDimensions:
+                arrayDimensions[row] = (UInteger[]) value;
+                return true;
+            default:
+                break;
+        }
+
+        if (value == null) {
+            return false;
+        }
+
+        switch (attributeId) {
+            case WriteMask:
+                writeMasks[row] = ((UInteger) value).intValue();
+                return true;
+            case UserWriteMask:
+                userWriteMasks[row] = ((UInteger) value).intValue();
+                return true;
+            case ValueRank:
+                valueRanks[row] = (Integer) value;
+                return true;
+            case AccessLevel:
+            case EventNotifier:
+                accessLevels[row] = ((UByte) value).byteValue();
+                return true;
+            case UserAccessLevel:
+                userAccessLevels[row] = ((UByte) value).byteValue();
+                return true;
+            case MinimumSamplingInterval:
+                minimumSamplingIntervals[row] = (Double) value;
+                return true;
+            case Historizing:
+                historizing[row] = (Boolean) value;
+                return true;
+            default:
+                // NodeId, NodeClass
+                return false;
+        }
+    }
+
+    /**
+     * Replace the row for {@code key} with {@code view} held as is, if {@code view} is still the view of that row.
+     */
+    private void promote(UaNode view, NodeId key) {
+        lock.writeLock().lock();
+        try {
+            if (rowOf(view, key) >= 0) {
+                removeRow(key);
+                getNodeMap().put(key, view);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int slotOf(NodeId nodeId) {
+        int mask = table.length - 1;
+
+        for (int slot = spread(nodeId.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+
+            if (entry == 0) {
+                return -1;
+            } else if (nodeIds[entry - 1].equals(nodeId)) {
+                return slot;
+            }
+        }
+    }
+
+    private void insert(int row) {
+        int mask = table.length - 1;
+        int slot = spread(nodeIds[row].hashCode()) & mask;
+
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+
+        table[slot] = row + 1;
+    }
+
+    /**
+     * Empty {@code slot}, shifting back the entries after it that would otherwise become unreachable.
+     */
+    private void deleteSlot(int slot) {
+        int mask = table.length - 1;
+        int hole = slot;
+
+        table[hole] = 0;
+
+        for (int next = (hole + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int home = spread(nodeIds[table[next] - 1].hashCode()) & mask;
+
+            // the entry at next stays put if its home slot is cyclically in (hole, next]
+            boolean reachable = hole <= next ?
+                (hole < home && home <= next) :
+                (hole < home || home <= next);
+
+            if (!reachable) {
+                table[hole] = table[next];
+                table[next] = 0;
+                hole = next;
+            }
+        }
+    }
+
+    private void rehash(int tableSize) {
+        table = new int[tableSize];
+
+        for (int row = 0; row < rowCount; row++) {
+            if (nodeIds[row] != null) {
+                insert(row);
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= nodeIds.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, nodeIds.length + (nodeIds.length >> 1));
+
+        nodeIds = Arrays.copyOf(nodeIds, newCapacity);
+        contexts = Arrays.copyOf(contexts, newCapacity);
+        nodeClasses = Arrays.copyOf(nodeClasses, newCapacity);
+        browseNames = Arrays.copyOf(browseNames, newCapacity);
+        displayNames = Arrays.copyOf(displayNames, newCapacity);
+        descriptions = Arrays.copyOf(descriptions, newCapacity);
+        writeMasks = Arrays.copyOf(writeMasks, newCapacity);
+        userWriteMasks = Arrays.copyOf(userWriteMasks, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+        dataTypes = Arrays.copyOf(dataTypes, newCapacity);
+        valueRanks = Arrays.copyOf(valueRanks, newCapacity);
+        arrayDimensions = Arrays.copyOf(arrayDimensions, newCapacity);
+        accessLevels = Arrays.copyOf(accessLevels, newCapacity);
+        userAccessLevels = Arrays.copyOf(userAccessLevels, newCapacity);
+        minimumSamplingIntervals = Arrays.copyOf(minimumSamplingIntervals, newCapacity);
+        historizing = Arrays.copyOf(historizing, newCapacity);
+        views = Arrays.copyOf(views, newCapacity);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        // keep the load factor at or below 0.75
+        int minSize = (int) Math.min((capacity * 4L + 2) / 3, 1 << 30);
+
+        return Math.max(Integer.highestOneBit(Math.max(minSize - 1, 1)) << 1, DEFAULT_CAPACITY);
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WeakReference<UaNode>[] newViews(int capacity) {
+        return (WeakReference<UaNode>[]) new WeakReference[capacity];
+    }
+
+    /**
+     * A {@link UaNode} materialized from a row.
+     */
+    private interface View {
+
+        CompactNodeManager getOwner();
+
+        /**
+         * @return {@code true} if this view was promoted to a Node held as is, or was detached when it would have been.
+         */
+        boolean isPromoted();
+
+    }
+
+    /**
+     * The attributes of a Node being added, read before taking the lock.
+     */
+    private static final class Row {
+
+        final UaNodeContext context;
+        final byte nodeClass;
+        final QualifiedName browseName;
+        final LocalizedText displayName;
+        final LocalizedText description;
+        final int writeMask;
+        final int userWriteMask;
+
+        DataValue value;
+        NodeId dataType;
+        int valueRank;
+        UInteger[] arrayDimensions;
+        byte accessLevel;
+        byte userAccessLevel;
+        double minimumSamplingInterval;
+        boolean historizing;
+
+        Row(UaNode node) {
+            context = node.getNodeContext();
+            browseName = (QualifiedName) node.getAttribute(AttributeId.BrowseName);
+            displayName = (LocalizedText) node.getAttribute(AttributeId.DisplayName);
+            description = (LocalizedText) node.getAttribute(AttributeId.Description);
+            writeMask = ((UInteger) node.getAttribute(AttributeId.WriteMask)).intValue();
+            userWriteMask = ((UInteger) node.getAttribute(AttributeId.UserWriteMask)).intValue();
+
+            if (node instanceof UaVariableNode) {
+                nodeClass = VARIABLE;
+                value = (DataValue) node.getAttribute(AttributeId.Value);
+                dataType = (NodeId) node.getAttribute(AttributeId.DataType);
+                valueRank = (Integer) node.getAttribute(AttributeId.ValueRank);
+                arrayDimensions = (UInteger[]) node.getAttribute(AttributeId.ArrayDimensions);
+                accessLevel = ((UByte) node.getAttribute(AttributeId.AccessLevel)).byteValue();
+                userAccessLevel = ((UByte) node.getAttribute(AttributeId.UserAccessLevel)).byteValue();
+                minimumSamplingInterval = (Double) node.getAttribute(AttributeId.MinimumSamplingInterval);
+                historizing = (Boolean) node.getAttribute(AttributeId.Historizing);
+            } else {
+                nodeClass = OBJECT;
+                accessLevel = ((UByte) node.getAttribute(AttributeId.EventNotifier)).byteValue();
+            }
+        }
+
+    }
+
+    /**
+     * A {@link UaVariableNode} materialized from a row.
+     */
+    private final class VariableView extends UaVariableNode implements View {
+
+        private final NodeId key;
+
+        private volatile boolean promoted = false;
+
+        VariableView(int row) {
+            super(
+                contexts[row],
+                nodeIds[row],
+                browseNames[row],
+                displayNames[row],
+                descriptions[row],
+                uint(writeMasks[row]),
+                uint(userWriteMasks[row]),
+                values[row],
+                dataTypes[row],
+                valueRanks[row],
+                arrayDimensions[row],
+                ubyte(accessLevels[row]),
+                ubyte(userAccessLevels[row]),
+                minimumSamplingIntervals[row],
+                historizing[row]
+            );
+
+            key = nodeIds[row];
+        }
+
+        @Override
+        public CompactNodeManager getOwner() {
+            return CompactNodeManager.this;
+        }
+
+        @Override
+        public boolean isPromoted() {
+            return promoted;
+        }
+
+        @Override
+        public synchronized void setAttribute(AttributeId attributeId, Object value) {
+            super.setAttribute(attributeId, value);
+
+            if (!promoted && !writeThrough(this, key, attributeId, value)) {
+                promote();
+            }
+        }
+
+        @Override
+        public synchronized void addAttributeObserver(AttributeObserver observer) {
+            promote();
+
+            super.addAttributeObserver(observer);
+        }
+
+        @Override
+        public synchronized void setAttributeDelegate(AttributeDelegate attributeDelegate) {
+            promote();
+
+            super.setAttributeDelegate(attributeDelegate);
+        }
+
+        @Override
+        public AttributeFilterChain getFilterChain() {
+            if (!promoted) {
+                promote();
+            }
+
+            return super.getFilterChain();
+        }
+
+        private synchronized void promote() {
+            if (!promoted) {
+                promoted = true;
+
+                CompactNodeManager.this.promote(this, key);
+            }
+        }
+
+    }
+
+    /**
+     * A {@link UaObjectNode} materialized from a row.
+     */
+    private final class ObjectView extends UaObjectNode implements View {
+
+        private final NodeId key;
+
+        private volatile boolean promoted = false;
+
+        ObjectView(int row) {
+            super(
+                contexts[row],
+                nodeIds[row],
+                browseNames[row],
+                displayNames[row],
+                descriptions[row],
+                uint(writeMasks[row]),
+                uint(userWriteMasks[row]),
+                ubyte(accessLevels[row])
+            );
+
+            key = nodeIds[row];
+        }
+
+        @Override
+        public CompactNodeManager getOwner() {
+            return CompactNodeManager.this;
+        }
+
+        @Override
+        public boolean isPromoted() {
+            return promoted;
+        }
+
+        @Override
+        public synchronized void setAttribute(AttributeId attributeId, Object value) {
+            super.setAttribute(attributeId, value);
+
+            if (!promoted && !writeThrough(this, key, attributeId, value)) {
+                promote();
+            }
+        }
+
+        @Override
+        public synchronized void addAttributeObserver(AttributeObserver observer) {
+            promote();
+
+            super.addAttributeObserver(observer);
+        }
+
+        @Override
+        public synchronized void setAttributeDelegate(AttributeDelegate attributeDelegate) {
+            promote();
+
+            super.setAttributeDelegate(attributeDelegate);
+        }
+
+        @Override
+        public AttributeFilterChain getFilterChain() {
+            if (!promoted) {
+                promote();
+            }
+
+            return super.getFilterChain();
+        }
+
+        private synchronized void promote() {
+            if (!promoted) {
+                promoted = true;
+
+                CompactNodeManager.this.promote(this, key);
+            }
+        }
+
+    }
+
+}
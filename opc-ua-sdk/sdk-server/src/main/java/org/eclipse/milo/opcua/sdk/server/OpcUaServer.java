@@ -18,6 +18,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
@@ -28,6 +29,7 @@ import com.google.common.eventbus.EventBus;
 import org.eclipse.milo.opcua.sdk.core.ServerTable;
 import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
 import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigLimits;
 import org.eclipse.milo.opcua.sdk.server.diagnostics.ServerDiagnosticsSummary;
 import org.eclipse.milo.opcua.sdk.server.model.ObjectTypeInitializer;
 import org.eclipse.milo.opcua.sdk.server.model.VariableTypeInitializer;
@@ -42,9 +44,11 @@ import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
 import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
+import org.eclipse.milo.opcua.stack.core.util.CachedClock;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.eclipse.milo.opcua.stack.core.util.ManifestUtil;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
@@ -56,6 +60,7 @@ import org.eclipse.milo.opcua.stack.server.services.NodeManagementServiceSet;
 import org.eclipse.milo.opcua.stack.server.services.SessionServiceSet;
 import org.eclipse.milo.opcua.stack.server.services.SubscriptionServiceSet;
 import org.eclipse.milo.opcua.stack.server.services.ViewServiceSet;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -100,9 +105,28 @@ public class OpcUaServer {
 
     private final OpcUaServerConfig config;
 
+    /**
+     * The clock timestamps are read from, or {@code null} to read the system clock.
+     *
+     * @see OpcUaServerConfigLimits#getTimestampResolution()
+     */
+    @Nullable
+    private final CachedClock clock;
+
     public OpcUaServer(OpcUaServerConfig config) {
         this.config = config;
 
+        Double timestampResolution = config.getLimits().getTimestampResolution();
+        if (timestampResolution != null && timestampResolution > 0) {
+            clock = new CachedClock(
+                Math.round(timestampResolution * 1000),
+                TimeUnit.MICROSECONDS,
+                config.getScheduledExecutorService()
+            );
+        } else {
+            clock = null;
+        }
+
         stackServer = new UaStackServer(config);
 
         Stream<String> paths = stackServer.getConfig().getEndpoints()
@@ -158,6 +182,10 @@ public class OpcUaServer {
         subscriptions.values()
             .forEach(Subscription::deleteSubscription);
 
+        if (clock != null) {
+            clock.close();
+        }
+
         return stackServer.shutdown()
             .thenApply(s -> OpcUaServer.this);
     }
@@ -262,6 +290,16 @@ public class OpcUaServer {
         return config.getScheduledExecutorService();
     }
 
+    /**
+     * Get the current time, as 100 nanosecond intervals since UTC epoch, from the clock configured by
+     * {@link OpcUaServerConfigLimits#getTimestampResolution()}.
+     *
+     * @return the current time as 100 nanosecond intervals since UTC epoch.
+     */
+    public long nowUtcTime() {
+        return clock != null ? clock.getUtcTime() : DateTime.nowUtcTime();
+    }
+
     public ImmutableList<EndpointDescription> getEndpointDescriptions() {
         return stackServer.getEndpointDescriptions();
     }
@@ -11,11 +11,11 @@
 package org.eclipse.milo.opcua.sdk.server.api;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -30,12 +30,14 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
 
     private final ConcurrentMap<NodeId, T> nodeMap;
-    private final ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> referenceMap;
+    private final ReferenceStore referenceStore;
+
+    private final List<ReferenceListener> referenceListeners = new CopyOnWriteArrayList<>();
 
     public AbstractNodeManager() {
         nodeMap = makeNodeMap(new MapMaker());
 
-        referenceMap = new ConcurrentHashMap<>();
+        referenceStore = new ReferenceStore();
     }
 
     /**
@@ -58,14 +60,98 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
     }
 
     /**
-     * Get the backing {@link ConcurrentMap} holding this {@link NodeManager}'s References.
+     * Get the backing {@link ReferenceStore} holding this {@link NodeManager}'s References.
      *
-     * @return the backing {@link ConcurrentMap} holding this {@link NodeManager}'s References.
+     * @return the backing {@link ReferenceStore} holding this {@link NodeManager}'s References.
      */
+    public ReferenceStore getReferenceStore() {
+        return referenceStore;
+    }
+
+    /**
+     * Get a copy of this {@link NodeManager}'s References, keyed by source {@link NodeId}.
+     * <p>
+     * The map is built from {@link #getReferenceStore()} on each call; changes to it are not written back.
+     *
+     * @return a copy of this {@link NodeManager}'s References, keyed by source {@link NodeId}.
+     * @deprecated References are held in a {@link ReferenceStore}; use {@link #getReferenceStore()} or
+     *     {@link #getReferences(NodeId)} instead.
+     */
+    @Deprecated
     public ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> getReferenceMap() {
+        ConcurrentMap<NodeId, LinkedHashMultiset<Reference>> referenceMap = new ConcurrentHashMap<>();
+
+        referenceStore.forEach(
+            (nodeId, references) -> referenceMap.put(nodeId, LinkedHashMultiset.create(references))
+        );
+
         return referenceMap;
     }
 
+    /**
+     * Add a {@link ReferenceListener} to be notified when a Reference is added to or removed from this
+     * {@link NodeManager}, or a Node is removed from it.
+     *
+     * @param listener the {@link ReferenceListener} to add.
+     */
+    public void addReferenceListener(ReferenceListener listener) {
+        referenceListeners.add(listener);
+    }
+
+    /**
+     * Remove a {@link ReferenceListener} previously added by {@link #addReferenceListener(ReferenceListener)}.
+     *
+     * @param listener the {@link ReferenceListener} to remove.
+     */
+    public void removeReferenceListener(ReferenceListener listener) {
+        referenceListeners.remove(listener);
+    }
+
+    /**
+     * Notify the registered {@link ReferenceListener}s that {@code reference} was added.
+     * <p>
+     * Subclasses that add References without calling {@link #addReference(Reference)} must call this.
+     *
+     * @param reference the {@link Reference} that was added.
+     */
+    protected void fireReferenceAdded(Reference reference) {
+        if (referenceListeners.isEmpty()) return;
+
+        for (ReferenceListener listener : referenceListeners) {
+            listener.onReferenceAdded(reference);
+        }
+    }
+
+    /**
+     * Notify the registered {@link ReferenceListener}s that {@code reference} was removed.
+     * <p>
+     * Subclasses that remove References without calling {@link #removeReference(Reference)} must call this.
+     *
+     * @param reference the {@link Reference} that was removed.
+     */
+    protected void fireReferenceRemoved(Reference reference) {
+        if (referenceListeners.isEmpty()) return;
+
+        for (ReferenceListener listener : referenceListeners) {
+            listener.onReferenceRemoved(reference);
+        }
+    }
+
+    /**
+     * Notify the registered {@link ReferenceListener}s that the Node identified by {@code nodeId} was removed.
+     * <p>
+     * Subclasses that remove Nodes without calling {@link #removeNode(NodeId)} must call this.
+     *
+     * @param nodeId the {@link NodeId} of the Node that was removed.
+     */
+    protected void fireNodeRemoved(NodeId nodeId) {
+        if (referenceListeners.isEmpty()) return;
+
+        for (ReferenceListener listener : referenceListeners) {
+            listener.onNodeRemoved(nodeId);
+        }
+    }
+
     /**
      * Get a copied List of the Nodes being managed.
      *
@@ -113,7 +199,13 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
 
     @Override
     public Optional<T> removeNode(NodeId nodeId) {
-        return Optional.ofNullable(nodeMap.remove(nodeId));
+        T removed = nodeMap.remove(nodeId);
+
+        if (removed != null) {
+            fireNodeRemoved(nodeId);
+        }
+
+        return Optional.ofNullable(removed);
     }
 
     @Override
@@ -122,55 +214,51 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
     }
 
     @Override
-    public synchronized void addReference(Reference reference) {
-        LinkedHashMultiset<Reference> references = referenceMap.computeIfAbsent(
-            reference.getSourceNodeId(),
-            nodeId -> LinkedHashMultiset.create()
-        );
+    public void addReference(Reference reference) {
+        referenceStore.add(reference);
 
-        references.add(reference);
+        fireReferenceAdded(reference);
     }
 
     @Override
-    public synchronized void addReferences(Reference reference, NamespaceTable namespaceTable) {
-        addReference(reference);
-
-        reference.invert(namespaceTable).ifPresent(this::addReference);
-    }
+    public void addReferences(Reference reference, NamespaceTable namespaceTable) {
+        Reference inverse = reference.invert(namespaceTable).orElse(null);
 
-    @Override
-    public synchronized void removeReference(Reference reference) {
-        LinkedHashMultiset<Reference> references = referenceMap.get(
-            reference.getSourceNodeId()
-        );
+        referenceStore.add(reference, inverse);
 
-        if (references != null) {
-            references.remove(reference);
+        fireReferenceAdded(reference);
 
-            if (references.isEmpty()) {
-                referenceMap.remove(reference.getSourceNodeId());
-            }
+        if (inverse != null) {
+            fireReferenceAdded(inverse);
         }
     }
 
     @Override
-    public synchronized void removeReferences(Reference reference, NamespaceTable namespaceTable) {
-        removeReference(reference);
-
-        reference.invert(namespaceTable).ifPresent(this::removeReference);
+    public void removeReference(Reference reference) {
+        if (referenceStore.remove(reference)) {
+            fireReferenceRemoved(reference);
+        }
     }
 
     @Override
-    public synchronized List<Reference> getReferences(NodeId nodeId) {
-        LinkedHashMultiset<Reference> references = referenceMap.get(nodeId);
+    public void removeReferences(Reference reference, NamespaceTable namespaceTable) {
+        Reference inverse = reference.invert(namespaceTable).orElse(null);
 
-        if (references != null) {
-            return new ArrayList<>(references);
-        } else {
-            return Collections.emptyList();
+        for (Reference removed : referenceStore.remove(reference, inverse)) {
+            fireReferenceRemoved(removed);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned List is an unmodifiable snapshot; it is not copied.
+     */
+    @Override
+    public List<Reference> getReferences(NodeId nodeId) {
+        return referenceStore.get(nodeId);
+    }
+
     @Override
     public List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter) {
         return getReferences(nodeId)
@@ -179,4 +267,36 @@ public class AbstractNodeManager<T extends Node> implements NodeManager<T> {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Reference> getReferences(
+        NodeId nodeId,
+        Reference.Direction direction,
+        Predicate<NodeId> referenceTypeFilter
+    ) {
+
+        return referenceStore.get(nodeId, direction, referenceTypeFilter);
+    }
+
+    /**
+     * Notified when a {@link Reference} is added to or removed from an {@link AbstractNodeManager}, or a Node is
+     * removed from it.
+     * <p>
+     * Listeners are called on the thread that changed the References or Nodes and must not block.
+     */
+    public interface ReferenceListener {
+
+        void onReferenceAdded(Reference reference);
+
+        void onReferenceRemoved(Reference reference);
+
+        /**
+         * Called when a Node is removed. Its References aren't removed with it, so no
+         * {@link #onReferenceRemoved(Reference)} calls follow unless they're removed too.
+         *
+         * @param nodeId the {@link NodeId} of the Node that was removed.
+         */
+        default void onNodeRemoved(NodeId nodeId) {}
+
+    }
+
 }
@@ -13,7 +13,6 @@ package org.eclipse.milo.opcua.sdk.server.api;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
@@ -47,12 +46,13 @@ import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
 import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
+import static org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate.groupForEach;
 import static org.eclipse.milo.opcua.sdk.core.util.GroupMapCollate.groupMapCollate;
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
@@ -61,6 +61,9 @@ import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.
  * <p>
  * Service call operations are executed by the first fragment that matches on the NodeId in the
  * operation.
+ * <p>
+ * Fragments that declare the NodeIds they serve with {@link SimpleAddressSpaceFilter.KeySpace}s are found by a hash
+ * lookup rather than by testing each fragment's filter in turn; see {@link #register(AddressSpaceFragment)}.
  */
 public class AddressSpaceComposite implements AddressSpaceFragment {
 
@@ -68,7 +71,11 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
 
     private final CopyOnWriteArrayList<AddressSpaceFragment> addressSpaces = new CopyOnWriteArrayList<>();
 
-    private final CompositeAddressSpaceFilter filter = new CompositeAddressSpaceFilter(addressSpaces);
+    private final CompositeAddressSpaceFilter filter = new CompositeAddressSpaceFilter();
+
+    private volatile AddressSpaceRoutes routes = AddressSpaceRoutes.EMPTY;
+
+    private volatile EmptyAddressSpaceFragment emptyAddressSpace;
 
     private final OpcUaServer server;
 
@@ -85,12 +92,17 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
      * Register an {@link AddressSpace} with this composite.
      * <p>
      * The AddressSpace is inserted at the end of the list.
+     * <p>
+     * If the AddressSpace's filter is a {@link SimpleAddressSpaceFilter} created from
+     * {@link SimpleAddressSpaceFilter.KeySpace}s, operations are routed to it by NodeId, and the key spaces are read
+     * once, here.
      *
      * @param addressSpace the {@link AddressSpace} to register.
      */
     public synchronized void register(AddressSpaceFragment addressSpace) {
         if (!addressSpaces.contains(addressSpace)) {
             addressSpaces.add(addressSpace);
+            routes = new AddressSpaceRoutes(addressSpaces);
 
             logger.debug("registered {}", addressSpace);
         } else {
@@ -108,6 +120,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public synchronized void registerFirst(AddressSpaceFragment addressSpace) {
         if (!addressSpaces.contains(addressSpace)) {
             addressSpaces.add(0, addressSpace);
+            routes = new AddressSpaceRoutes(addressSpaces);
 
             logger.debug("registered {} at index 0", addressSpace);
         } else {
@@ -123,6 +136,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public synchronized void unregister(AddressSpaceFragment addressSpace) {
         if (addressSpaces.contains(addressSpace)) {
             addressSpaces.remove(addressSpace);
+            routes = new AddressSpaceRoutes(addressSpaces);
 
             logger.debug("unregistered {}", addressSpace);
         } else {
@@ -148,11 +162,25 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         return new ArrayList<>(addressSpaces);
     }
 
-    private AddressSpaceFragment getAddressSpace(Predicate<AddressSpaceFragment> filter) {
-        return addressSpaces.stream()
-            .filter(filter)
-            .findFirst()
-            .orElse(new EmptyAddressSpaceFragment(server));
+    /**
+     * Get the first {@link AddressSpaceFragment} that accepts an operation on {@code nodeId}.
+     *
+     * @param nodeId the {@link NodeId} the operation is on, or {@code null} if it can't be routed by NodeId.
+     * @param filter tests whether a fragment accepts the operation.
+     * @return the first {@link AddressSpaceFragment} that accepts the operation, or an empty fragment if none does.
+     */
+    private AddressSpaceFragment getAddressSpace(@Nullable NodeId nodeId, Predicate<AddressSpaceFragment> filter) {
+        AddressSpaceFragment addressSpace = routes.find(nodeId, filter);
+
+        if (addressSpace == null) {
+            addressSpace = emptyAddressSpace;
+
+            if (addressSpace == null) {
+                addressSpace = emptyAddressSpace = new EmptyAddressSpaceFragment(server);
+            }
+        }
+
+        return addressSpace;
     }
 
     //region ViewServices
@@ -161,16 +189,12 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     public void browse(BrowseContext context, ViewDescription view, NodeId nodeId) {
         List<AddressSpaceFragment> addressSpaces = getAddressSpaces();
 
-        AddressSpace firstMatch;
-        try {
-            firstMatch = addressSpaces.stream()
-                .filter(asx -> asx.getFilter().filterBrowse(server, nodeId))
-                .findFirst()
-                .orElseThrow(() -> new UaException(StatusCodes.Bad_NodeIdUnknown));
+        AddressSpace firstMatch = routes.find(nodeId, asx -> asx.getFilter().filterBrowse(server, nodeId));
 
+        if (firstMatch != null) {
             addressSpaces.remove(firstMatch);
-        } catch (UaException e) {
-            context.failure(e);
+        } else {
+            context.failure(new UaException(StatusCodes.Bad_NodeIdUnknown));
             return;
         }
 
@@ -252,6 +276,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<NodeId>> registeredNodeIds = groupMapCollate(
             nodeIds,
             nodeId -> getAddressSpace(
+                nodeId,
                 asx ->
                     asx.getFilter().filterRegisterNode(server, nodeId)
             ),
@@ -276,6 +301,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<Unit>> units = groupMapCollate(
             nodeIds,
             nodeId -> getAddressSpace(
+                nodeId,
                 asx ->
                     asx.getFilter().filterUnregisterNode(server, nodeId)
             ),
@@ -317,6 +343,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<DataValue>> values = groupMapCollate(
             readValueIds,
             readValueId -> getAddressSpace(
+                readValueId.getNodeId(),
                 asx ->
                     asx.getFilter().filterRead(server, readValueId)
             ),
@@ -345,6 +372,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<StatusCode>> results = groupMapCollate(
             writeValues,
             writeValue -> getAddressSpace(
+                writeValue.getNodeId(),
                 asx ->
                     asx.getFilter().filterWrite(server, writeValue)
             ),
@@ -380,6 +408,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<HistoryReadResult>> results = groupMapCollate(
             readValueIds,
             readValueId -> getAddressSpace(
+                readValueId.getNodeId(),
                 asx ->
                     asx.getFilter().filterHistoryRead(server, readValueId)
             ),
@@ -414,6 +443,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<HistoryUpdateResult>> results = groupMapCollate(
             updateDetailsList,
             updateDetails -> getAddressSpace(
+                updateDetails.getNodeId(),
                 asx ->
                     asx.getFilter().filterHistoryUpdate(server, updateDetails)
             ),
@@ -447,6 +477,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<CallMethodResult>> results = groupMapCollate(
             requests,
             request -> getAddressSpace(
+                request.getObjectId(),
                 asx ->
                     asx.getFilter().filterCall(server, request)
             ),
@@ -480,6 +511,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
+            itemToMonitor.getNodeId(),
             asx ->
                 asx.getFilter().filterOnCreateDataItem(server, itemToMonitor)
         );
@@ -501,6 +533,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
+            itemToModify.getNodeId(),
             asx ->
                 asx.getFilter().filterOnModifyDataItem(server, itemToModify)
         );
@@ -521,6 +554,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
+            itemToMonitor.getNodeId(),
             asx ->
                 asx.getFilter().filterOnCreateEventItem(server, itemToMonitor)
         );
@@ -540,6 +574,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
     ) {
 
         AddressSpace addressSpace = getAddressSpace(
+            itemToModify.getNodeId(),
             asx ->
                 asx.getFilter().filterOnModifyEventItem(server, itemToModify)
         );
@@ -553,86 +588,93 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
 
     @Override
     public void onDataItemsCreated(List<DataItem> dataItems) {
-        Map<AddressSpace, List<DataItem>> byAddressSpace = dataItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
+        groupForEach(
+            dataItems,
+            item -> getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnDataItemsCreated(server, item.getReadValueId())
-            )
-        ));
-
-        byAddressSpace.forEach(MonitoredItemServices::onDataItemsCreated);
+            ),
+            MonitoredItemServices::onDataItemsCreated
+        );
     }
 
     @Override
     public void onDataItemsModified(List<DataItem> dataItems) {
-        Map<AddressSpace, List<DataItem>> byAddressSpace = dataItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
+        groupForEach(
+            dataItems,
+            item -> getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnDataItemsModified(server, item.getReadValueId())
-            )
-        ));
-
-        byAddressSpace.forEach(MonitoredItemServices::onDataItemsModified);
+            ),
+            MonitoredItemServices::onDataItemsModified
+        );
     }
 
     @Override
     public void onDataItemsDeleted(List<DataItem> dataItems) {
-        Map<AddressSpace, List<DataItem>> byAddressSpace = dataItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
+        groupForEach(
+            dataItems,
+            item -> getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnDataItemsDeleted(server, item.getReadValueId())
-            )
-        ));
-
-        byAddressSpace.forEach(MonitoredItemServices::onDataItemsDeleted);
+            ),
+            MonitoredItemServices::onDataItemsDeleted
+        );
     }
 
     @Override
     public void onEventItemsCreated(List<EventItem> eventItems) {
-        Map<AddressSpace, List<EventItem>> byAddressSpace = eventItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
+        groupForEach(
+            eventItems,
+            item -> getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnEventItemsCreated(server, item.getReadValueId())
-            )
-        ));
-
-        byAddressSpace.forEach(MonitoredItemServices::onEventItemsCreated);
+            ),
+            MonitoredItemServices::onEventItemsCreated
+        );
     }
 
     @Override
     public void onEventItemsModified(List<EventItem> eventItems) {
-        Map<AddressSpace, List<EventItem>> byAddressSpace = eventItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
+        groupForEach(
+            eventItems,
+            item -> getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnEventItemsModified(server, item.getReadValueId())
-            )
-        ));
-
-        byAddressSpace.forEach(MonitoredItemServices::onEventItemsModified);
+            ),
+            MonitoredItemServices::onEventItemsModified
+        );
     }
 
     @Override
     public void onEventItemsDeleted(List<EventItem> eventItems) {
-        Map<AddressSpace, List<EventItem>> byAddressSpace = eventItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
+        groupForEach(
+            eventItems,
+            item -> getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnEventItemsDeleted(server, item.getReadValueId())
-            )
-        ));
-
-        byAddressSpace.forEach(MonitoredItemServices::onEventItemsDeleted);
+            ),
+            MonitoredItemServices::onEventItemsDeleted
+        );
     }
 
     @Override
     public void onMonitoringModeChanged(List<MonitoredItem> monitoredItems) {
-        Map<AddressSpace, List<MonitoredItem>> byAddressSpace = monitoredItems.stream().collect(groupingBy(item ->
-            getAddressSpace(
+        groupForEach(
+            monitoredItems,
+            item -> getAddressSpace(
+                item.getReadValueId().getNodeId(),
                 asx ->
                     asx.getFilter().filterOnMonitoringModeChanged(server, item.getReadValueId())
-            )
-        ));
-
-        byAddressSpace.forEach(MonitoredItemServices::onMonitoringModeChanged);
+            ),
+            MonitoredItemServices::onMonitoringModeChanged
+        );
     }
 
     //endregion
@@ -644,6 +686,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<AddNodesResult>> results = groupMapCollate(
             nodesToAdd,
             addNodesItem -> getAddressSpace(
+                null,
                 asx ->
                     asx.getFilter().filterAddNodes(server, addNodesItem)
             ),
@@ -669,6 +712,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<StatusCode>> results = groupMapCollate(
             nodesToDelete,
             deleteNodesItem -> getAddressSpace(
+                deleteNodesItem.getNodeId(),
                 asx ->
                     asx.getFilter().filterDeleteNodes(server, deleteNodesItem)
             ),
@@ -694,6 +738,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<StatusCode>> results = groupMapCollate(
             referencesToAdd,
             addReferencesItem -> getAddressSpace(
+                addReferencesItem.getSourceNodeId(),
                 asx ->
                     asx.getFilter().filterAddReferences(server, addReferencesItem)
             ),
@@ -719,6 +764,7 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
         CompletableFuture<List<StatusCode>> results = groupMapCollate(
             referencesToDelete,
             deleteReferencesItem -> getAddressSpace(
+                deleteReferencesItem.getSourceNodeId(),
                 asx ->
                     asx.getFilter().filterDeleteReferences(server, deleteReferencesItem)
             ),
@@ -741,156 +787,198 @@ public class AddressSpaceComposite implements AddressSpaceFragment {
 
     //endregion
 
-    private static class CompositeAddressSpaceFilter implements AddressSpaceFilter {
-
-        private final List<AddressSpaceFragment> addressSpaces;
-
-        CompositeAddressSpaceFilter(List<AddressSpaceFragment> addressSpaces) {
-            this.addressSpaces = addressSpaces;
-        }
+    private class CompositeAddressSpaceFilter implements AddressSpaceFilter {
 
         @Override
         public boolean filterBrowse(OpcUaServer server, NodeId nodeId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterBrowse(server, nodeId));
+            return routes.find(
+                nodeId,
+                asx -> asx.getFilter().filterBrowse(server, nodeId)
+            ) != null;
         }
 
         @Override
         public boolean filterRegisterNode(OpcUaServer server, NodeId nodeId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterRegisterNode(server, nodeId));
+            return routes.find(
+                nodeId,
+                asx -> asx.getFilter().filterRegisterNode(server, nodeId)
+            ) != null;
         }
 
         @Override
         public boolean filterUnregisterNode(OpcUaServer server, NodeId nodeId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterUnregisterNode(server, nodeId));
+            return routes.find(
+                nodeId,
+                asx -> asx.getFilter().filterUnregisterNode(server, nodeId)
+            ) != null;
         }
 
         @Override
         public boolean filterRead(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterRead(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterRead(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterWrite(OpcUaServer server, WriteValue writeValue) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterWrite(server, writeValue));
+            return routes.find(
+                writeValue.getNodeId(),
+                asx -> asx.getFilter().filterWrite(server, writeValue)
+            ) != null;
         }
 
         @Override
         public boolean filterHistoryRead(OpcUaServer server, HistoryReadValueId historyReadValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterHistoryRead(server, historyReadValueId));
+            return routes.find(
+                historyReadValueId.getNodeId(),
+                asx -> asx.getFilter().filterHistoryRead(server, historyReadValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterHistoryUpdate(OpcUaServer server, HistoryUpdateDetails historyUpdateDetails) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterHistoryUpdate(server, historyUpdateDetails));
+            return routes.find(
+                historyUpdateDetails.getNodeId(),
+                asx -> asx.getFilter().filterHistoryUpdate(server, historyUpdateDetails)
+            ) != null;
         }
 
         @Override
         public boolean filterCall(OpcUaServer server, CallMethodRequest callMethodRequest) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterCall(server, callMethodRequest));
+            return routes.find(
+                callMethodRequest.getObjectId(),
+                asx -> asx.getFilter().filterCall(server, callMethodRequest)
+            ) != null;
         }
 
         @Override
         public boolean filterOnCreateDataItem(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnCreateDataItem(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnCreateDataItem(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnModifyDataItem(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnModifyDataItem(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnModifyDataItem(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnCreateEventItem(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnCreateEventItem(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnCreateEventItem(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnModifyEventItem(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnModifyEventItem(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnModifyEventItem(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnDataItemsCreated(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnDataItemsCreated(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnDataItemsCreated(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnDataItemsModified(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnDataItemsModified(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnDataItemsModified(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnDataItemsDeleted(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnDataItemsDeleted(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnDataItemsDeleted(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnEventItemsCreated(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnEventItemsCreated(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnEventItemsCreated(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnEventItemsModified(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnEventItemsModified(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnEventItemsModified(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnEventItemsDeleted(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnEventItemsDeleted(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnEventItemsDeleted(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterOnMonitoringModeChanged(OpcUaServer server, ReadValueId readValueId) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterOnMonitoringModeChanged(server, readValueId));
+            return routes.find(
+                readValueId.getNodeId(),
+                asx -> asx.getFilter().filterOnMonitoringModeChanged(server, readValueId)
+            ) != null;
         }
 
         @Override
         public boolean filterAddNodes(OpcUaServer server, AddNodesItem addNodesItem) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterAddNodes(server, addNodesItem));
+            return routes.find(
+                null,
+                asx -> asx.getFilter().filterAddNodes(server, addNodesItem)
+            ) != null;
         }
 
         @Override
         public boolean filterDeleteNodes(OpcUaServer server, DeleteNodesItem deleteNodesItem) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterDeleteNodes(server, deleteNodesItem));
+            return routes.find(
+                deleteNodesItem.getNodeId(),
+                asx -> asx.getFilter().filterDeleteNodes(server, deleteNodesItem)
+            ) != null;
         }
 
         @Override
         public boolean filterAddReferences(OpcUaServer server, AddReferencesItem addReferencesItem) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterAddReferences(server, addReferencesItem));
+            return routes.find(
+                addReferencesItem.getSourceNodeId(),
+                asx -> asx.getFilter().filterAddReferences(server, addReferencesItem)
+            ) != null;
         }
 
         @Override
         public boolean filterDeleteReferences(OpcUaServer server, DeleteReferencesItem deleteReferencesItem) {
-            return addressSpaces.stream()
-                .anyMatch(asx -> asx.getFilter().filterDeleteReferences(server, deleteReferencesItem));
+            return routes.find(
+                deleteReferencesItem.getSourceNodeId(),
+                asx -> asx.getFilter().filterDeleteReferences(server, deleteReferencesItem)
+            ) != null;
         }
 
     }
 
     /**
-     * EmptyAddressSpace is used ephemerally and should never be registered.
+     * EmptyAddressSpace handles the operations no registered fragment accepts and should never be registered.
+     * <p>
+     * One instance is shared so that those operations are grouped together rather than one group each.
      */
     private static class EmptyAddressSpaceFragment extends ManagedAddressSpace implements AddressSpaceFragment {
 
@@ -31,10 +31,43 @@ public class AddressSpaceManager extends AddressSpaceComposite {
 
     private final List<NodeManager<UaNode>> nodeManagers = new CopyOnWriteArrayList<>();
 
+    private final BrowsePathCache browsePathCache = new BrowsePathCache();
+
     public AddressSpaceManager(OpcUaServer server) {
         super(server);
     }
 
+    /**
+     * Get the {@link BrowsePathCache}, which is invalidated by changes to the References of the registered
+     * {@link NodeManager}s and cleared when an {@link AddressSpaceFragment} is registered or unregistered.
+     *
+     * @return the {@link BrowsePathCache}.
+     */
+    public BrowsePathCache getBrowsePathCache() {
+        return browsePathCache;
+    }
+
+    @Override
+    public synchronized void register(AddressSpaceFragment addressSpace) {
+        super.register(addressSpace);
+
+        browsePathCache.invalidateAll();
+    }
+
+    @Override
+    public synchronized void registerFirst(AddressSpaceFragment addressSpace) {
+        super.registerFirst(addressSpace);
+
+        browsePathCache.invalidateAll();
+    }
+
+    @Override
+    public synchronized void unregister(AddressSpaceFragment addressSpace) {
+        super.unregister(addressSpace);
+
+        browsePathCache.invalidateAll();
+    }
+
     /**
      * Register a {@link NodeManager} with this {@link AddressSpaceManager}.
      *
@@ -43,6 +76,12 @@ public class AddressSpaceManager extends AddressSpaceComposite {
     public synchronized void register(NodeManager<UaNode> nodeManager) {
         if (!nodeManagers.contains(nodeManager)) {
             nodeManagers.add(nodeManager);
+
+            if (nodeManager instanceof AbstractNodeManager) {
+                ((AbstractNodeManager<UaNode>) nodeManager).addReferenceListener(browsePathCache);
+            }
+
+            browsePathCache.invalidateAll();
         } else {
             logger.warn("NodeManager already registered: {}", nodeManager);
         }
@@ -56,6 +95,12 @@ public class AddressSpaceManager extends AddressSpaceComposite {
     public synchronized void unregister(NodeManager<UaNode> nodeManager) {
         if (nodeManagers.contains(nodeManager)) {
             nodeManagers.remove(nodeManager);
+
+            if (nodeManager instanceof AbstractNodeManager) {
+                ((AbstractNodeManager<UaNode>) nodeManager).removeReferenceListener(browsePathCache);
+            }
+
+            browsePathCache.invalidateAll();
         } else {
             logger.warn("NodeManager not registered: {}", nodeManager);
         }
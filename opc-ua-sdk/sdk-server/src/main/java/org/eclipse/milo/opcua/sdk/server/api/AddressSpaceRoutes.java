@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import org.eclipse.milo.opcua.sdk.server.api.SimpleAddressSpaceFilter.KeySpace;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable index of the {@link AddressSpaceFragment}s registered with an {@link AddressSpaceComposite}, that finds
+ * the first fragment, in registration order, whose filter accepts an operation.
+ * <p>
+ * Fragments with a {@link SimpleAddressSpaceFilter} created from {@link KeySpace}s are found by NodeId, with a hash
+ * lookup by namespace index and then by a walk of a trie of identifier prefixes or a binary search of numeric ranges,
+ * without testing their filter. Other fragments are tested in order, as far as the first fragment found by NodeId.
+ */
+final class AddressSpaceRoutes {
+
+    static final AddressSpaceRoutes EMPTY = new AddressSpaceRoutes(new ArrayList<>());
+
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final AddressSpaceFragment[] fragments;
+
+    /**
+     * Positions in {@link #fragments} of the fragments without {@link KeySpace}s, ascending.
+     */
+    private final int[] unrouted;
+
+    private final Map<UShort, NamespaceRoutes> namespaces = new HashMap<>();
+
+    AddressSpaceRoutes(List<AddressSpaceFragment> fragments) {
+        this.fragments = fragments.toArray(new AddressSpaceFragment[0]);
+
+        Map<UShort, List<Route>> routes = new HashMap<>();
+        int[] unrouted = new int[this.fragments.length];
+        int unroutedCount = 0;
+
+        for (int i = 0; i < this.fragments.length; i++) {
+            AddressSpaceFilter filter = this.fragments[i].getFilter();
+
+            List<KeySpace> keySpaces = filter instanceof SimpleAddressSpaceFilter ?
+                ((SimpleAddressSpaceFilter) filter).getKeySpaces() : null;
+
+            if (keySpaces == null || keySpaces.isEmpty()) {
+                unrouted[unroutedCount++] = i;
+            } else {
+                for (KeySpace keySpace : keySpaces) {
+                    routes.computeIfAbsent(keySpace.getNamespaceIndex(), k -> new ArrayList<>())
+                        .add(new Route(keySpace, i));
+                }
+            }
+        }
+
+        this.unrouted = Arrays.copyOf(unrouted, unroutedCount);
+
+        routes.forEach((namespaceIndex, r) -> namespaces.put(namespaceIndex, new NamespaceRoutes(r)));
+    }
+
+    /**
+     * Find the first fragment that accepts an operation on {@code nodeId}.
+     *
+     * @param nodeId the {@link NodeId} the operation is on, or {@code null} if it can't be routed by NodeId, in
+     *               which case every fragment is tested.
+     * @param filter tests whether a fragment's filter accepts the operation.
+     * @return the first fragment that accepts the operation, or {@code null} if none does.
+     */
+    @Nullable
+    AddressSpaceFragment find(@Nullable NodeId nodeId, Predicate<AddressSpaceFragment> filter) {
+        if (nodeId == null) {
+            for (AddressSpaceFragment fragment : fragments) {
+                if (filter.test(fragment)) {
+                    return fragment;
+                }
+            }
+            return null;
+        }
+
+        NamespaceRoutes routes = namespaces.get(nodeId.getNamespaceIndex());
+        int routed = routes != null ? routes.route(nodeId.getIdentifier()) : NONE;
+
+        for (int position : unrouted) {
+            if (position > routed) {
+                break;
+            }
+            if (filter.test(fragments[position])) {
+                return fragments[position];
+            }
+        }
+
+        return routed != NONE ? fragments[routed] : null;
+    }
+
+    private static final class Route {
+
+        final KeySpace keySpace;
+        final int position;
+
+        Route(KeySpace keySpace, int position) {
+            this.keySpace = keySpace;
+            this.position = position;
+        }
+
+    }
+
+    /**
+     * The routes of one namespace index, each resolving to the lowest position of the fragments that accept a NodeId.
+     */
+    private static final class NamespaceRoutes {
+
+        private int namespace = NONE;
+
+        /**
+         * The root of a trie of the identifier prefixes routed to, or {@code null} if there are none.
+         */
+        private PrefixNode prefixes;
+
+        /**
+         * The start of each of a set of disjoint numeric ranges, ascending; each range ends where the next starts.
+         */
+        private final long[] rangeStarts;
+
+        /**
+         * The position each range in {@link #rangeStarts} routes to, or {@link #NONE}.
+         */
+        private final int[] rangePositions;
+
+        NamespaceRoutes(List<Route> routes) {
+            List<Route> ranges = new ArrayList<>();
+            TreeSet<Long> boundaries = new TreeSet<>();
+
+            for (Route route : routes) {
+                KeySpace keySpace = route.keySpace;
+
+                if (keySpace.getPrefix() != null) {
+                    if (prefixes == null) {
+                        prefixes = new PrefixNode();
+                    }
+
+                    PrefixNode node = prefixes;
+                    for (char c : keySpace.getPrefix().toCharArray()) {
+                        node = node.getOrAddChild(c);
+                    }
+                    node.position = Math.min(node.position, route.position);
+                } else if (keySpace.isNumericRange()) {
+                    ranges.add(route);
+                    boundaries.add(keySpace.getLow());
+                    boundaries.add(keySpace.getHigh() + 1);
+                } else {
+                    namespace = Math.min(namespace, route.position);
+                }
+            }
+
+            // split overlapping ranges into disjoint ones, each routing to the first fragment that covers it
+            rangeStarts = boundaries.stream().mapToLong(Long::longValue).toArray();
+            rangePositions = new int[rangeStarts.length];
+
+            for (int i = 0; i < rangeStarts.length; i++) {
+                int position = NONE;
+
+                for (Route range : ranges) {
+                    if (range.keySpace.getLow() <= rangeStarts[i] && rangeStarts[i] <= range.keySpace.getHigh()) {
+                        position = Math.min(position, range.position);
+                    }
+                }
+
+                rangePositions[i] = position;
+            }
+        }
+
+        /**
+         * @return the lowest position of the fragments that accept a NodeId with {@code identifier}, or
+         * {@link #NONE}.
+         */
+        int route(Object identifier) {
+            int position = namespace;
+
+            if (identifier instanceof String && prefixes != null) {
+                String s = (String) identifier;
+
+                // every node on the path of s is a prefix of s; walk it without allocating
+                PrefixNode node = prefixes;
+                int i = 0;
+
+                while (node != null) {
+                    if (node.position < position) {
+                        position = node.position;
+                    }
+
+                    node = i < s.length() ? node.getChild(s.charAt(i++)) : null;
+                }
+            } else if (identifier instanceof UInteger && rangeStarts.length > 0) {
+                int index = Arrays.binarySearch(rangeStarts, ((UInteger) identifier).longValue());
+
+                if (index < 0) {
+                    // the range that starts before identifier
+                    index = -index - 2;
+                }
+
+                if (index >= 0 && rangePositions[index] < position) {
+                    position = rangePositions[index];
+                }
+            }
+
+            return position;
+        }
+
+    }
+
+    /**
+     * A node of a trie of identifier prefixes, with its children kept sorted by char.
+     */
+    private static final class PrefixNode {
+
+        /**
+         * The lowest position of the fragments with the prefix that ends at this node, or {@link #NONE}.
+         */
+        int position = NONE;
+
+        private char[] chars = new char[0];
+        private PrefixNode[] children = new PrefixNode[0];
+
+        @Nullable
+        PrefixNode getChild(char c) {
+            int index = Arrays.binarySearch(chars, c);
+
+            return index >= 0 ? children[index] : null;
+        }
+
+        PrefixNode getOrAddChild(char c) {
+            int index = Arrays.binarySearch(chars, c);
+
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertion = -index - 1;
+
+            char[] newChars = new char[chars.length + 1];
+            System.arraycopy(chars, 0, newChars, 0, insertion);
+            System.arraycopy(chars, insertion, newChars, insertion + 1, chars.length - insertion);
+            newChars[insertion] = c;
+
+            PrefixNode[] newChildren = new PrefixNode[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+            newChildren[insertion] = new PrefixNode();
+
+            chars = newChars;
+            children = newChildren;
+
+            return newChildren[insertion];
+        }
+
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePathResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.RelativePathElement;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A cache of TranslateBrowsePathsToNodeIds results, keyed by starting Node and RelativePath.
+ * <p>
+ * Each result depends on the Nodes that were browsed to resolve it and the Nodes it targets, and is invalidated when a
+ * Reference is added to or removed from any of them, or any of them is removed, in a {@link NodeManager} registered
+ * with the {@link AddressSpaceManager}. Changes that
+ * don't go through a registered {@link AbstractNodeManager}, such as the BrowseName of a Node changing or References
+ * computed by an {@link AddressSpace} that has no NodeManager, are not seen; call {@link #invalidate(NodeId)} or
+ * {@link #invalidateAll()} after making them.
+ * <p>
+ * Results are shared by all Sessions.
+ */
+public class BrowsePathCache implements AbstractNodeManager.ReferenceListener {
+
+    private final ConcurrentMap<PathKey, BrowsePathResult> results = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<NodeId, Set<PathKey>> dependents = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every invalidation, so a result resolved while an invalidation happened isn't cached.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Get the cached result of translating {@code elements} from {@code startingNode}.
+     *
+     * @param startingNode the {@link NodeId} of the starting Node.
+     * @param elements     the {@link RelativePathElement}s of the RelativePath.
+     * @return the cached {@link BrowsePathResult}, or {@code null} if there is none.
+     */
+    @Nullable
+    public BrowsePathResult get(NodeId startingNode, List<RelativePathElement> elements) {
+        return results.get(new PathKey(startingNode, elements));
+    }
+
+    /**
+     * Get the current version of this cache, to be passed to
+     * {@link #put(NodeId, List, BrowsePathResult, Collection, long, int)} after resolving a path.
+     *
+     * @return the current version of this cache.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Cache the result of translating {@code elements} from {@code startingNode}, unless this cache was invalidated
+     * since {@code version} was obtained or already holds {@code maxSize} results.
+     *
+     * @param startingNode the {@link NodeId} of the starting Node.
+     * @param elements     the {@link RelativePathElement}s of the RelativePath.
+     * @param result       the {@link BrowsePathResult}.
+     * @param browsed      the {@link NodeId}s of the Nodes browsed to resolve {@code result} and of its targets.
+     * @param version      the version obtained from {@link #getVersion()} before resolving {@code result}.
+     * @param maxSize      the maximum number of results to hold.
+     */
+    public void put(
+        NodeId startingNode,
+        List<RelativePathElement> elements,
+        BrowsePathResult result,
+        Collection<NodeId> browsed,
+        long version,
+        int maxSize
+    ) {
+
+        if (this.version.get() != version || results.size() >= maxSize) return;
+
+        PathKey key = new PathKey(startingNode, elements);
+
+        results.put(key, result);
+
+        for (NodeId nodeId : browsed) {
+            dependents.computeIfAbsent(nodeId, k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+
+        // an invalidation between the version check and registering the dependents may have missed this result
+        if (this.version.get() != version) {
+            results.remove(key, result);
+        }
+    }
+
+    /**
+     * Invalidate the cached results that depend on the Node identified by {@code nodeId}.
+     *
+     * @param nodeId the {@link NodeId} of a Node whose References or whose children's BrowseNames changed.
+     */
+    public void invalidate(NodeId nodeId) {
+        version.incrementAndGet();
+
+        Set<PathKey> keys = dependents.remove(nodeId);
+
+        if (keys != null) {
+            keys.forEach(results::remove);
+        }
+    }
+
+    /**
+     * Invalidate all cached results.
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+
+        dependents.clear();
+        results.clear();
+    }
+
+    /**
+     * @return the number of cached results.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    @Override
+    public void onReferenceAdded(Reference reference) {
+        invalidate(reference.getSourceNodeId());
+    }
+
+    @Override
+    public void onReferenceRemoved(Reference reference) {
+        invalidate(reference.getSourceNodeId());
+    }
+
+    @Override
+    public void onNodeRemoved(NodeId nodeId) {
+        invalidate(nodeId);
+    }
+
+    private static final class PathKey {
+
+        private final NodeId startingNode;
+        private final List<RelativePathElement> elements;
+        private final int hashCode;
+
+        PathKey(NodeId startingNode, List<RelativePathElement> elements) {
+            this.startingNode = startingNode;
+            this.elements = elements;
+            this.hashCode = 31 * startingNode.hashCode() + elements.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PathKey pathKey = (PathKey) o;
+            return hashCode == pathKey.hashCode &&
+                startingNode.equals(pathKey.startingNode) &&
+                elements.equals(pathKey.elements);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -12,6 +12,8 @@ package org.eclipse.milo.opcua.sdk.server.api;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.Lists;
 import org.eclipse.milo.opcua.sdk.core.Reference;
@@ -41,6 +43,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodResult;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
 import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.eclipse.milo.opcua.stack.core.util.FutureUtils;
 import org.eclipse.milo.opcua.stack.core.util.Unit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -212,47 +215,62 @@ public abstract class ManagedAddressSpace implements AddressSpace {
 
     /**
      * Invoke one or more methods belonging to this {@link MethodServices}.
+     * <p>
+     * When service requests are executed on virtual threads (see
+     * {@link org.eclipse.milo.opcua.stack.server.UaStackServerConfig#isVirtualThreadsEnabled()}) each method is
+     * invoked on its own virtual thread, so handlers that block don't delay the other invocations in the same request.
      *
      * @param context  the {@link CallContext}.
      * @param requests The {@link CallMethodRequest}s for the methods to invoke.
      */
     @Override
     public void call(CallContext context, List<CallMethodRequest> requests) {
-        List<CallMethodResult> results = Lists.newArrayListWithCapacity(requests.size());
-
-        for (CallMethodRequest request : requests) {
-            try {
-                MethodInvocationHandler handler = getInvocationHandler(
-                    request.getObjectId(),
-                    request.getMethodId()
-                );
+        if (requests.size() > 1 && server.getConfig().isVirtualThreadsEnabled()) {
+            List<CompletableFuture<CallMethodResult>> futures = requests.stream()
+                .map(request -> CompletableFuture.supplyAsync(
+                    () -> invoke(context, request),
+                    server.getExecutorService()
+                ))
+                .collect(Collectors.toList());
+
+            FutureUtils.sequence(futures).thenAccept(context::success);
+        } else {
+            List<CallMethodResult> results = Lists.newArrayListWithCapacity(requests.size());
 
-                results.add(handler.invoke(context, request));
-            } catch (UaException e) {
-                results.add(
-                    new CallMethodResult(
-                        e.getStatusCode(),
-                        new StatusCode[0],
-                        new DiagnosticInfo[0],
-                        new Variant[0]
-                    )
-                );
-            } catch (Throwable t) {
-                LoggerFactory.getLogger(getClass())
-                    .error("Uncaught Throwable invoking method handler for methodId={}.", request.getMethodId(), t);
-
-                results.add(
-                    new CallMethodResult(
-                        new StatusCode(StatusCodes.Bad_InternalError),
-                        new StatusCode[0],
-                        new DiagnosticInfo[0],
-                        new Variant[0]
-                    )
-                );
+            for (CallMethodRequest request : requests) {
+                results.add(invoke(context, request));
             }
+
+            context.success(results);
         }
+    }
 
-        context.success(results);
+    private CallMethodResult invoke(CallContext context, CallMethodRequest request) {
+        try {
+            MethodInvocationHandler handler = getInvocationHandler(
+                request.getObjectId(),
+                request.getMethodId()
+            );
+
+            return handler.invoke(context, request);
+        } catch (UaException e) {
+            return new CallMethodResult(
+                e.getStatusCode(),
+                new StatusCode[0],
+                new DiagnosticInfo[0],
+                new Variant[0]
+            );
+        } catch (Throwable t) {
+            LoggerFactory.getLogger(getClass())
+                .error("Uncaught Throwable invoking method handler for methodId={}.", request.getMethodId(), t);
+
+            return new CallMethodResult(
+                new StatusCode(StatusCodes.Bad_InternalError),
+                new StatusCode[0],
+                new DiagnosticInfo[0],
+                new Variant[0]
+            );
+        }
     }
 
     /**
@@ -13,6 +13,7 @@ package org.eclipse.milo.opcua.sdk.server.api;
 import java.util.UUID;
 
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
 import org.eclipse.milo.opcua.stack.core.NamespaceTable;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
@@ -41,15 +42,25 @@ public abstract class ManagedNamespace extends ManagedAddressSpaceFragment imple
      * @param namespaceUri the URI assigned to this namespace.
      */
     public ManagedNamespace(OpcUaServer server, String namespaceUri) {
-        super(server);
+        this(server, namespaceUri, new UaNodeManager());
+    }
+
+    /**
+     * Create a {@link ManagedNamespace} at {@code namespaceUri} that holds its Nodes in {@code nodeManager}.
+     * <p>
+     * The URI will be registered with the Server's {@link NamespaceTable} and assigned a namespace index.
+     *
+     * @param server       the {@link OpcUaServer}.
+     * @param namespaceUri the URI assigned to this namespace.
+     * @param nodeManager  the {@link UaNodeManager} to hold this namespace's Nodes and References.
+     */
+    public ManagedNamespace(OpcUaServer server, String namespaceUri, UaNodeManager nodeManager) {
+        super(server, nodeManager);
 
         this.namespaceUri = namespaceUri;
         this.namespaceIndex = server.getNamespaceTable().addUri(namespaceUri);
 
-        filter = SimpleAddressSpaceFilter.create(
-            nodeId ->
-                nodeId.getNamespaceIndex().equals(getNamespaceIndex())
-        );
+        filter = SimpleAddressSpaceFilter.create(SimpleAddressSpaceFilter.KeySpace.namespace(namespaceIndex));
     }
 
     @Override
@@ -20,7 +20,11 @@ public abstract class ManagedNamespaceWithLifecycle extends ManagedNamespace imp
     private final LifecycleManager lifecycleManager = new LifecycleManager();
 
     public ManagedNamespaceWithLifecycle(OpcUaServer server, String namespaceUri) {
-        super(server, namespaceUri);
+        this(server, namespaceUri, new UaNodeManager());
+    }
+
+    public ManagedNamespaceWithLifecycle(OpcUaServer server, String namespaceUri, UaNodeManager nodeManager) {
+        super(server, namespaceUri, nodeManager);
 
         getLifecycleManager().addLifecycle(new Lifecycle() {
             @Override
@@ -139,6 +139,32 @@ public interface NodeManager<T extends Node> {
      */
     List<Reference> getReferences(NodeId nodeId, Predicate<Reference> filter);
 
+    /**
+     * Get the {@link Reference}s where {@code nodeId} is the source {@link NodeId}, in {@code direction}, and with a
+     * reference type that passes {@code referenceTypeFilter}.
+     * <p>
+     * Implementations that index References by reference type, e.g. {@link AbstractNodeManager}, test
+     * {@code referenceTypeFilter} once per reference type instead of once per Reference.
+     *
+     * @param nodeId              the {@link NodeId} of the source Node.
+     * @param direction           the {@link Reference.Direction} of the References to get.
+     * @param referenceTypeFilter a {@link Predicate} on the reference type {@link NodeId}.
+     * @return the matching {@link Reference}s.
+     */
+    default List<Reference> getReferences(
+        NodeId nodeId,
+        Reference.Direction direction,
+        Predicate<NodeId> referenceTypeFilter
+    ) {
+
+        return getReferences(
+            nodeId,
+            reference ->
+                reference.getDirection() == direction &&
+                    referenceTypeFilter.test(reference.getReferenceTypeId())
+        );
+    }
+
     /**
      * Return {@code true} if this {@link NodeManager} contains {@code node}.
      *
@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds {@link Reference}s by source {@link NodeId}, grouped by reference type and direction.
+ * <p>
+ * Reads never lock: each Node's References are published as an immutable snapshot that readers get a view of without
+ * copying. Writes to the same Node are serialized; writes to different Nodes don't contend with each other.
+ * <p>
+ * Adding a Reference appends it to the array of its reference type and direction, which grows geometrically and is
+ * shared with earlier snapshots that only read below their own size, so adding is amortized O(1) per Reference and
+ * the cost per Reference is one array slot (plus growth slack) rather than a hash entry and a count, as in a
+ * multiset. Removing a Reference copies the array it was in.
+ * <p>
+ * Like a multiset, the same Reference can be added more than once, and each removal removes one occurrence. The
+ * References of a Node are ordered by reference type and direction, in the order each was first added, and then by
+ * the order they were added in.
+ * <p>
+ * A Reference and its inverse belong to different Nodes, so readers can see one without the other for a moment, but
+ * {@link #add(Reference, Reference)} and {@link #remove(Reference, Reference)} are serialized with each other so that
+ * concurrent changes to the same pair never leave only half of it in place.
+ */
+public class ReferenceStore {
+
+    private static final Group[] NO_GROUPS = new Group[0];
+
+    private final ConcurrentMap<NodeId, Group[]> groupsByNodeId = new ConcurrentHashMap<>();
+
+    private final Object pairLock = new Object();
+
+    /**
+     * Add {@code reference} to the References of its source Node.
+     *
+     * @param reference the {@link Reference} to add.
+     */
+    public void add(Reference reference) {
+        groupsByNodeId.compute(reference.getSourceNodeId(), (nodeId, groups) -> {
+            if (groups == null) {
+                groups = NO_GROUPS;
+            }
+
+            int index = indexOf(groups, reference.getReferenceTypeId(), reference.getDirection());
+
+            Group[] newGroups;
+
+            if (index >= 0) {
+                newGroups = groups.clone();
+                newGroups[index] = groups[index].append(reference);
+            } else {
+                newGroups = Arrays.copyOf(groups, groups.length + 1);
+                newGroups[groups.length] = new Group(reference);
+            }
+
+            return newGroups;
+        });
+    }
+
+    /**
+     * Add {@code reference} and its {@code inverse}, if any, as one operation.
+     *
+     * @param reference the {@link Reference} to add.
+     * @param inverse   the inverse of {@code reference} to add, or {@code null} if it has none in this store.
+     */
+    public void add(Reference reference, @Nullable Reference inverse) {
+        synchronized (pairLock) {
+            add(reference);
+
+            if (inverse != null) {
+                add(inverse);
+            }
+        }
+    }
+
+    /**
+     * Remove one occurrence of {@code reference} and of its {@code inverse}, if any, as one operation.
+     *
+     * @param reference the {@link Reference} to remove.
+     * @param inverse   the inverse of {@code reference} to remove, or {@code null} if it has none in this store.
+     * @return the References that were present and removed, in the order {@code reference}, {@code inverse}.
+     */
+    public List<Reference> remove(Reference reference, @Nullable Reference inverse) {
+        synchronized (pairLock) {
+            boolean referenceRemoved = remove(reference);
+            boolean inverseRemoved = inverse != null && remove(inverse);
+
+            if (referenceRemoved && inverseRemoved) {
+                return Arrays.asList(reference, inverse);
+            } else if (referenceRemoved) {
+                return Collections.singletonList(reference);
+            } else if (inverseRemoved) {
+                return Collections.singletonList(inverse);
+            } else {
+                return Collections.emptyList();
+            }
+        }
+    }
+
+    /**
+     * Remove one occurrence of {@code reference} from the References of its source Node.
+     *
+     * @param reference the {@link Reference} to remove.
+     * @return {@code true} if {@code reference} was present.
+     */
+    public boolean remove(Reference reference) {
+        boolean[] removed = new boolean[1];
+
+        groupsByNodeId.computeIfPresent(reference.getSourceNodeId(), (nodeId, groups) -> {
+            int index = indexOf(groups, reference.getReferenceTypeId(), reference.getDirection());
+
+            if (index < 0) {
+                return groups;
+            }
+
+            Group group = groups[index].without(reference);
+
+            if (group == groups[index]) {
+                return groups;
+            }
+
+            removed[0] = true;
+
+            if (group != null) {
+                Group[] newGroups = groups.clone();
+                newGroups[index] = group;
+                return newGroups;
+            } else if (groups.length > 1) {
+                Group[] newGroups = new Group[groups.length - 1];
+                System.arraycopy(groups, 0, newGroups, 0, index);
+                System.arraycopy(groups, index + 1, newGroups, index, groups.length - index - 1);
+                return newGroups;
+            } else {
+                return null;
+            }
+        });
+
+        return removed[0];
+    }
+
+    /**
+     * Remove all References of the Node identified by {@code nodeId}.
+     *
+     * @param nodeId the {@link NodeId} of the source Node.
+     */
+    public void removeAll(NodeId nodeId) {
+        groupsByNodeId.remove(nodeId);
+    }
+
+    /**
+     * Get a snapshot of the References of the Node identified by {@code nodeId}.
+     *
+     * @param nodeId the {@link NodeId} of the source Node.
+     * @return an unmodifiable snapshot of the References of the Node identified by {@code nodeId}.
+     */
+    public List<Reference> get(NodeId nodeId) {
+        Group[] groups = groupsByNodeId.get(nodeId);
+
+        if (groups == null) {
+            return Collections.emptyList();
+        } else if (groups.length == 1) {
+            return groups[0];
+        } else {
+            return new GroupList(groups);
+        }
+    }
+
+    /**
+     * Get a snapshot of the References of the Node identified by {@code nodeId} in {@code direction} and with a
+     * reference type that passes {@code referenceTypeFilter}.
+     * <p>
+     * {@code referenceTypeFilter} is tested once per reference type rather than once per Reference, so this is the
+     * cheap way to get e.g. the forward hierarchical References of a Node with many other References.
+     *
+     * @param nodeId              the {@link NodeId} of the source Node.
+     * @param direction           the {@link Reference.Direction} of the References to get.
+     * @param referenceTypeFilter a {@link Predicate} on the reference type {@link NodeId}.
+     * @return an unmodifiable snapshot of the matching References.
+     */
+    public List<Reference> get(
+        NodeId nodeId,
+        Reference.Direction direction,
+        Predicate<NodeId> referenceTypeFilter
+    ) {
+
+        Group[] groups = groupsByNodeId.get(nodeId);
+
+        if (groups == null) {
+            return Collections.emptyList();
+        }
+
+        Group[] matches = null;
+        int count = 0;
+
+        for (Group group : groups) {
+            if (group.direction == direction && referenceTypeFilter.test(group.referenceTypeId)) {
+                if (matches == null) {
+                    matches = new Group[groups.length];
+                }
+                matches[count++] = group;
+            }
+        }
+
+        if (count == 0) {
+            return Collections.emptyList();
+        } else if (count == 1) {
+            return matches[0];
+        } else {
+            return new GroupList(Arrays.copyOf(matches, count));
+        }
+    }
+
+    /**
+     * @param nodeId the {@link NodeId} of a Node.
+     * @return {@code true} if the Node identified by {@code nodeId} has any References.
+     */
+    public boolean contains(NodeId nodeId) {
+        return groupsByNodeId.containsKey(nodeId);
+    }
+
+    /**
+     * Call {@code consumer} with each source {@link NodeId} and a snapshot of its References.
+     *
+     * @param consumer the {@link BiConsumer} to call.
+     */
+    public void forEach(BiConsumer<NodeId, List<Reference>> consumer) {
+        groupsByNodeId.forEach((nodeId, groups) ->
+            consumer.accept(nodeId, groups.length == 1 ? groups[0] : new GroupList(groups))
+        );
+    }
+
+    /**
+     * @return the number of Nodes that have References.
+     */
+    public int size() {
+        return groupsByNodeId.size();
+    }
+
+    private static int indexOf(Group[] groups, NodeId referenceTypeId, Reference.Direction direction) {
+        for (int i = 0; i < groups.length; i++) {
+            Group group = groups[i];
+
+            if (group.direction == direction && group.referenceTypeId.equals(referenceTypeId)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * An immutable snapshot of the References of a Node with the same reference type and direction.
+     * <p>
+     * {@link #append(Reference)} may write into {@link #references} beyond {@link #size}, which this snapshot never
+     * reads, so that appending doesn't copy; every other change copies.
+     */
+    private static final class Group extends AbstractList<Reference> implements RandomAccess {
+
+        final NodeId referenceTypeId;
+        final Reference.Direction direction;
+
+        private final Reference[] references;
+        private final int size;
+
+        Group(Reference reference) {
+            this(reference.getReferenceTypeId(), reference.getDirection(), new Reference[]{reference}, 1);
+        }
+
+        private Group(NodeId referenceTypeId, Reference.Direction direction, Reference[] references, int size) {
+            this.referenceTypeId = referenceTypeId;
+            this.direction = direction;
+            this.references = references;
+            this.size = size;
+        }
+
+        /**
+         * Must only be called while holding the write lock of this Group's Node, and only on the latest snapshot.
+         */
+        Group append(Reference reference) {
+            Reference[] array = references;
+
+            if (size == array.length) {
+                array = Arrays.copyOf(array, size + (size >> 1) + 1);
+            }
+
+            array[size] = reference;
+
+            return new Group(referenceTypeId, direction, array, size + 1);
+        }
+
+        /**
+         * @return this Group if {@code reference} isn't present, {@code null} if it was the only Reference, or
+         * otherwise a copy without it.
+         */
+        Group without(Reference reference) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (references[i].equals(reference)) {
+                    if (size == 1) {
+                        return null;
+                    }
+
+                    Reference[] array = new Reference[size - 1];
+                    System.arraycopy(references, 0, array, 0, i);
+                    System.arraycopy(references, i + 1, array, i, size - i - 1);
+
+                    return new Group(referenceTypeId, direction, array, size - 1);
+                }
+            }
+
+            return this;
+        }
+
+        @Override
+        public Reference get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+            }
+            return references[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+    /**
+     * An immutable concatenation of several {@link Group}s.
+     */
+    private static final class GroupList extends AbstractList<Reference> implements RandomAccess {
+
+        private final Group[] groups;
+        private final int size;
+
+        GroupList(Group[] groups) {
+            this.groups = groups;
+
+            int size = 0;
+            for (Group group : groups) {
+                size += group.size;
+            }
+            this.size = size;
+        }
+
+        @Override
+        public Reference get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+            }
+
+            int offset = index;
+
+            for (Group group : groups) {
+                if (offset < group.size) {
+                    return group.references[offset];
+                }
+                offset -= group.size;
+            }
+
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+}
@@ -10,12 +10,18 @@
 
 package org.eclipse.milo.opcua.sdk.server.api;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.stack.core.NamespaceTable;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
 import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
 import org.eclipse.milo.opcua.stack.core.types.structured.AddNodesItem;
 import org.eclipse.milo.opcua.stack.core.types.structured.AddReferencesItem;
 import org.eclipse.milo.opcua.stack.core.types.structured.CallMethodRequest;
@@ -25,13 +31,28 @@ import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateDetails;
 import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
 import org.eclipse.milo.opcua.stack.core.types.structured.WriteValue;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A simple {@link AddressSpaceFilter} that delegates each of the filter operations to a simple filter on {@link NodeId}
  * using the most reasonable NodeId from that operation's request as the filter criteria.
+ * <p>
+ * A filter created from {@link KeySpace}s declares the NodeIds it accepts up front, which lets an
+ * {@link AddressSpaceComposite} route operations to its {@link AddressSpaceFragment} by NodeId rather than by testing
+ * the filter of each registered fragment in turn.
  */
 public abstract class SimpleAddressSpaceFilter implements AddressSpaceFilter {
 
+    private final List<KeySpace> keySpaces;
+
+    protected SimpleAddressSpaceFilter() {
+        this(Collections.emptyList());
+    }
+
+    private SimpleAddressSpaceFilter(List<KeySpace> keySpaces) {
+        this.keySpaces = keySpaces;
+    }
+
     /**
      * Create a new {@link SimpleAddressSpaceFilter} that uses a {@link Predicate} on {@link NodeId}.
      *
@@ -68,6 +89,33 @@ public abstract class SimpleAddressSpaceFilter implements AddressSpaceFilter {
         };
     }
 
+    /**
+     * Create a new {@link SimpleAddressSpaceFilter} that accepts the NodeIds in any of {@code keySpaces}, for Node and
+     * MonitoredItem operations alike.
+     *
+     * @param keySpaces the {@link KeySpace}s to accept.
+     * @return a new {@link SimpleAddressSpaceFilter} that accepts the NodeIds in any of {@code keySpaces}.
+     */
+    public static SimpleAddressSpaceFilter create(KeySpace... keySpaces) {
+        if (keySpaces.length == 0) {
+            throw new IllegalArgumentException("keySpaces must not be empty");
+        }
+
+        return new KeySpaceFilter(Collections.unmodifiableList(Arrays.asList(keySpaces.clone())));
+    }
+
+    /**
+     * Get the {@link KeySpace}s this filter was created from.
+     * <p>
+     * A filter with {@link KeySpace}s accepts exactly the NodeIds in them for every operation; a filter without
+     * declares nothing and must be tested.
+     *
+     * @return the {@link KeySpace}s this filter was created from, or an empty List if it wasn't.
+     */
+    public final List<KeySpace> getKeySpaces() {
+        return keySpaces;
+    }
+
     /**
      * Return {@code true} if the operation {@code nodeId} belongs to should be handled this filter's
      * {@link AddressSpace}.
@@ -241,4 +289,177 @@ public abstract class SimpleAddressSpaceFilter implements AddressSpaceFilter {
 
     //endregion
 
+    /**
+     * A set of NodeIds declared by namespace index: a whole namespace, the String identifiers in a namespace that
+     * start with a prefix, or the numeric identifiers in a namespace within a range.
+     */
+    public static final class KeySpace {
+
+        private final UShort namespaceIndex;
+
+        @Nullable
+        private final String prefix;
+
+        private final long low;
+        private final long high;
+
+        private KeySpace(UShort namespaceIndex, @Nullable String prefix, long low, long high) {
+            this.namespaceIndex = namespaceIndex;
+            this.prefix = prefix;
+            this.low = low;
+            this.high = high;
+        }
+
+        /**
+         * @param namespaceIndex a namespace index.
+         * @return a {@link KeySpace} of every NodeId in namespace {@code namespaceIndex}.
+         */
+        public static KeySpace namespace(UShort namespaceIndex) {
+            return new KeySpace(namespaceIndex, null, -1L, -1L);
+        }
+
+        /**
+         * @param namespaceIndex a namespace index.
+         * @param prefix         a String identifier prefix.
+         * @return a {@link KeySpace} of the NodeIds in namespace {@code namespaceIndex} with a String identifier
+         * that starts with {@code prefix}.
+         */
+        public static KeySpace stringPrefix(UShort namespaceIndex, String prefix) {
+            return new KeySpace(namespaceIndex, Objects.requireNonNull(prefix), -1L, -1L);
+        }
+
+        /**
+         * @param namespaceIndex a namespace index.
+         * @param low            the lowest numeric identifier, inclusive.
+         * @param high           the highest numeric identifier, inclusive.
+         * @return a {@link KeySpace} of the NodeIds in namespace {@code namespaceIndex} with a numeric identifier
+         * from {@code low} to {@code high}.
+         */
+        public static KeySpace numericRange(UShort namespaceIndex, UInteger low, UInteger high) {
+            if (low.compareTo(high) > 0) {
+                throw new IllegalArgumentException("low > high: " + low + " > " + high);
+            }
+
+            return new KeySpace(namespaceIndex, null, low.longValue(), high.longValue());
+        }
+
+        public UShort getNamespaceIndex() {
+            return namespaceIndex;
+        }
+
+        /**
+         * @return the String identifier prefix, or {@code null} if this isn't a String prefix {@link KeySpace}.
+         */
+        @Nullable
+        public String getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * @return {@code true} if this is a numeric range {@link KeySpace}.
+         */
+        public boolean isNumericRange() {
+            return low >= 0;
+        }
+
+        /**
+         * @return the lowest numeric identifier, or -1 if this isn't a numeric range {@link KeySpace}.
+         */
+        public long getLow() {
+            return low;
+        }
+
+        /**
+         * @return the highest numeric identifier, or -1 if this isn't a numeric range {@link KeySpace}.
+         */
+        public long getHigh() {
+            return high;
+        }
+
+        /**
+         * @param nodeId a {@link NodeId}.
+         * @return {@code true} if {@code nodeId} is in this {@link KeySpace}.
+         */
+        public boolean contains(NodeId nodeId) {
+            if (!namespaceIndex.equals(nodeId.getNamespaceIndex())) {
+                return false;
+            }
+
+            Object identifier = nodeId.getIdentifier();
+
+            if (prefix != null) {
+                return identifier instanceof String && ((String) identifier).startsWith(prefix);
+            } else if (low >= 0) {
+                if (identifier instanceof UInteger) {
+                    long id = ((UInteger) identifier).longValue();
+
+                    return id >= low && id <= high;
+                } else {
+                    return false;
+                }
+            } else {
+                return true;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            KeySpace keySpace = (KeySpace) o;
+            return low == keySpace.low &&
+                high == keySpace.high &&
+                namespaceIndex.equals(keySpace.namespaceIndex) &&
+                Objects.equals(prefix, keySpace.prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespaceIndex, prefix, low, high);
+        }
+
+        @Override
+        public String toString() {
+            if (prefix != null) {
+                return "KeySpace{ns=" + namespaceIndex + ", prefix=" + prefix + "}";
+            } else if (low >= 0) {
+                return "KeySpace{ns=" + namespaceIndex + ", range=[" + low + ", " + high + "]}";
+            } else {
+                return "KeySpace{ns=" + namespaceIndex + "}";
+            }
+        }
+
+    }
+
+    /**
+     * A {@link SimpleAddressSpaceFilter} that accepts the NodeIds in its {@link KeySpace}s; final, so that it accepts
+     * exactly those for every operation.
+     */
+    private static final class KeySpaceFilter extends SimpleAddressSpaceFilter {
+
+        private final KeySpace[] keySpaces;
+
+        KeySpaceFilter(List<KeySpace> keySpaces) {
+            super(keySpaces);
+
+            this.keySpaces = keySpaces.toArray(new KeySpace[0]);
+        }
+
+        @Override
+        protected boolean filterNode(NodeId nodeId) {
+            for (KeySpace keySpace : keySpaces) {
+                if (keySpace.contains(nodeId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean filterMonitoredItem(NodeId nodeId) {
+            return filterNode(nodeId);
+        }
+
+    }
+
 }
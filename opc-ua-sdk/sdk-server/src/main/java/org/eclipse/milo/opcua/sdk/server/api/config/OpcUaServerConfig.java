@@ -115,6 +115,10 @@ public interface OpcUaServerConfig extends UaStackServerConfig {
         builder.setHttpsKeyPair(config.getHttpsKeyPair().orElse(null));
         builder.setHttpsCertificateChain(config.getHttpsCertificateChain().orElse(null));
         builder.setExecutor(config.getExecutor());
+        builder.setMaxFlushDelay(config.getMaxFlushDelay());
+        builder.setServiceRequestLimits(config.getServiceRequestLimits());
+        builder.setServiceLaneExecutors(config.getServiceLaneExecutors());
+        builder.setVirtualThreadsEnabled(config.isVirtualThreadsEnabled());
 
         // OpcUaServerConfig values
         builder.setIdentityValidator(config.getIdentityValidator());
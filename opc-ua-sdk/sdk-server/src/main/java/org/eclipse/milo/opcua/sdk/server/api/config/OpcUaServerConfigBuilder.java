@@ -12,6 +12,7 @@ package org.eclipse.milo.opcua.sdk.server.api.config;
 
 import java.security.KeyPair;
 import java.security.cert.X509Certificate;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -28,6 +29,8 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.BuildInfo;
 import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
+import org.eclipse.milo.opcua.stack.server.ServiceLane;
+import org.eclipse.milo.opcua.stack.server.ServiceRequestLimits;
 import org.eclipse.milo.opcua.stack.server.UaStackServerConfig;
 import org.eclipse.milo.opcua.stack.server.UaStackServerConfigBuilder;
 import org.eclipse.milo.opcua.stack.server.security.ServerCertificateValidator;
@@ -157,6 +160,30 @@ public class OpcUaServerConfigBuilder extends UaStackServerConfigBuilder {
         return this;
     }
 
+    @Override
+    public OpcUaServerConfigBuilder setMaxFlushDelay(UInteger maxFlushDelay) {
+        super.setMaxFlushDelay(maxFlushDelay);
+        return this;
+    }
+
+    @Override
+    public OpcUaServerConfigBuilder setServiceRequestLimits(ServiceRequestLimits serviceRequestLimits) {
+        super.setServiceRequestLimits(serviceRequestLimits);
+        return this;
+    }
+
+    @Override
+    public OpcUaServerConfigBuilder setServiceLaneExecutors(Map<ServiceLane, ExecutorService> serviceLaneExecutors) {
+        super.setServiceLaneExecutors(serviceLaneExecutors);
+        return this;
+    }
+
+    @Override
+    public OpcUaServerConfigBuilder setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        super.setVirtualThreadsEnabled(virtualThreadsEnabled);
+        return this;
+    }
+
     @Override
     public OpcUaServerConfig build() {
         UaStackServerConfig stackServerConfig = super.build();
@@ -285,6 +312,26 @@ public class OpcUaServerConfigBuilder extends UaStackServerConfigBuilder {
             return stackServerConfig.getMaximumSecureChannelLifetime();
         }
 
+        @Override
+        public UInteger getMaxFlushDelay() {
+            return stackServerConfig.getMaxFlushDelay();
+        }
+
+        @Override
+        public ServiceRequestLimits getServiceRequestLimits() {
+            return stackServerConfig.getServiceRequestLimits();
+        }
+
+        @Override
+        public Map<ServiceLane, ExecutorService> getServiceLaneExecutors() {
+            return stackServerConfig.getServiceLaneExecutors();
+        }
+
+        @Override
+        public boolean isVirtualThreadsEnabled() {
+            return stackServerConfig.isVirtualThreadsEnabled();
+        }
+
     }
 
 }
@@ -139,6 +139,33 @@ public interface OpcUaServerConfigLimits {
         return uint(Integer.MAX_VALUE);
     }
 
+    /**
+     * Get the maximum number of TranslateBrowsePathsToNodeIds results to cache, or 0 to disable the cache.
+     * <p>
+     * Cached results are shared by all Sessions, so the cache should only be enabled when translating a BrowsePath
+     * doesn't depend on the Session. See {@link org.eclipse.milo.opcua.sdk.server.api.BrowsePathCache} for the changes
+     * that invalidate cached results.
+     *
+     * @return the maximum number of TranslateBrowsePathsToNodeIds results to cache, or 0 to disable the cache.
+     */
+    default UInteger getMaxCachedBrowsePaths() {
+        return uint(0);
+    }
+
+    /**
+     * Get the resolution, in milliseconds, of the clock the server reads the server timestamps of sampled values and
+     * the publish times of NotificationMessages from, or 0 to read the system clock for each timestamp.
+     * <p>
+     * With a resolution greater than 0 the system clock is read once per interval, making timestamps cheaper to take
+     * at the cost of lagging by up to the resolution.
+     *
+     * @return the resolution, in milliseconds, of the server's timestamp clock, or 0 to read the system clock.
+     * @see org.eclipse.milo.opcua.sdk.server.OpcUaServer#nowUtcTime()
+     */
+    default Double getTimestampResolution() {
+        return 0.0;
+    }
+
     //region ServerCapabilities
 
     default Double getMinSupportedSampleRate() {
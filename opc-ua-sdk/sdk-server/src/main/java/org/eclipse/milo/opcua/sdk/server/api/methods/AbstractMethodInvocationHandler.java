@@ -228,6 +228,10 @@ public abstract class AbstractMethodInvocationHandler implements MethodInvocatio
      * <p>
      * The Executable and UserExecutable attributes have already been checked to ensure this method is allowed to
      * execute.
+     * <p>
+     * This is called on the thread executing the Call request and may block, e.g. on device I/O. When service
+     * requests are executed on virtual threads each method in a Call request is invoked on its own virtual thread, so
+     * a blocking invocation doesn't hold up the other methods in the same request or exhaust a thread pool.
      *
      * @param invocationContext the {@link InvocationContext}.
      * @param inputValues       the user-supplied values for the input arguments. Each value has been verified to be of
@@ -168,24 +168,24 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
 
         // remove the source timestamp if not requested
         boolean sourceTimeUpdated = false;
-        DateTime sourceTime = value.getSourceTime();
+        long sourceTime = value.getSourceUtcTime();
         UShort sourcePicoseconds = value.getSourcePicoseconds();
-        if (!includeSource && (sourceTime != null || sourcePicoseconds != null)) {
-            sourceTime = null;
+        if (!includeSource && (sourceTime != DataValue.NULL_UTC_TIME || sourcePicoseconds != null)) {
+            sourceTime = DataValue.NULL_UTC_TIME;
             sourcePicoseconds = null;
             sourceTimeUpdated = true;
         }
 
         // remove server timestamp if not requested, add if requested but not present
         boolean serverTimeUpdated = false;
-        DateTime serverTime = value.getServerTime();
+        long serverTime = value.getServerUtcTime();
         UShort serverPicoseconds = value.getServerPicoseconds();
-        if (!includeServer && (serverTime != null || serverPicoseconds != null)) {
-            serverTime = null;
+        if (!includeServer && (serverTime != DataValue.NULL_UTC_TIME || serverPicoseconds != null)) {
+            serverTime = DataValue.NULL_UTC_TIME;
             serverPicoseconds = null;
             serverTimeUpdated = true;
-        } else if (includeServer && serverTime == null) {
-            serverTime = DateTime.now();
+        } else if (includeServer && serverTime == DataValue.NULL_UTC_TIME) {
+            serverTime = server.nowUtcTime();
             serverTimeUpdated = true;
         }
 
@@ -195,9 +195,9 @@ public class MonitoredDataItem extends BaseMonitoredItem<DataValue> implements D
                 value.getValue(),
                 value.getStatusCode(),
                 sourceTime,
-                sourcePicoseconds,
+                sourcePicoseconds != null ? sourcePicoseconds.intValue() : -1,
                 serverTime,
-                serverPicoseconds
+                serverPicoseconds != null ? serverPicoseconds.intValue() : -1
             );
         }
 
@@ -11,7 +11,6 @@
 package org.eclipse.milo.opcua.sdk.server.namespaces.loader;
 
 import java.io.IOException;
-import java.io.StringReader;
 
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
@@ -56,9 +55,12 @@ class VariableNodeLoader {
 
     private final NodeManager<UaNode> nodeManager;
 
+    private final OpcUaXmlStreamDecoder decoder;
+
     VariableNodeLoader(UaNodeContext context, NodeManager<UaNode> nodeManager) {
         this.context = context;
         this.nodeManager = nodeManager;
+        this.decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext());
     }
 
     private void loadNode0() throws IOException, SAXException {
@@ -68,8 +70,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">RedundantServerDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -82,8 +83,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">SamplingIntervalDiagnosticsDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -96,8 +96,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ServerDiagnosticsSummaryDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -110,8 +109,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ServerStatusDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -124,8 +122,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">SessionDiagnosticsDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -138,8 +135,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">SessionSecurityDiagnosticsDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -152,8 +148,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ServiceCounterDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -166,8 +161,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">SubscriptionDiagnosticsDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -180,8 +174,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ModelChangeStructureDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -194,8 +187,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">SemanticChangeStructureDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -208,8 +200,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">Range</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -222,8 +213,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">EUInformation</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -236,8 +226,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">Annotation</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -250,8 +239,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ProgramDiagnosticDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -332,8 +320,7 @@ class VariableNodeLoader {
         sb.append("bXBsZXhUeXBlIG5hbWU9Ik5vdGlmaWNhdGlvbkRhdGEiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJOb3RpZmljYXRpb25EYXRhIiB0eXBlPSJ0bnM6Tm90aWZpY2F0aW9uRGF0YSIgLz4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iRGF0YUNoYW5nZU5vdGlmaWNhdGlvbiI+DQogICAgPHhzOmNvbXBsZXhDb250ZW50IG1peGVkPSJmYWxzZSI+DQogICAgICA8eHM6ZXh0ZW5zaW9uIGJhc2U9InRuczpOb3RpZmljYXRpb25EYXRhIj4NCiAgICAgICAgPHhzOnNlcXVlbmNlPg0KICAgICAgICAgIDx4czplbGVtZW50IG5hbWU9Ik1vbml0b3JlZEl0ZW1zIiB0eXBlPSJ0bnM6TGlzdE9mTW9uaXRvcmVkSXRlbU5vdGlmaWNhdGlvbiIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgICAgICA8eHM6ZWxlbWVudCBuYW1lPSJEaWFnbm9zdGljSW5mb3MiIHR5cGU9InVhOkxpc3RPZkRpYWdub3N0aWNJbmZvIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgICA8L3hzOnNlcXVlbmNlPg0KICAgICAgPC94czpleHRlbnNpb24+DQogICAgPC94czpjb21wbGV4Q29udGVudD4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iRGF0YUNoYW5nZU5vdGlmaWNhdGlvbiIgdHlwZT0idG5zOkRhdGFDaGFuZ2VOb3RpZmljYXRpb24iIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9Ik1vbml0b3JlZEl0ZW1Ob3RpZmljYXRpb24iPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkNsaWVudEhhbmRsZSIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlZhbHVlIiB0eXBlPSJ1YTpEYXRhVmFsdWUiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iTW9uaXRvcmVkSXRlbU5vdGlmaWNhdGlvbiIgdHlwZT0idG5zOk1vbml0b3JlZEl0ZW1Ob3RpZmljYXRpb24iIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9Ikxpc3RPZk1vbml0b3JlZEl0ZW1Ob3RpZmljYXRpb24iPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ik1vbml0b3JlZEl0ZW1Ob3RpZmljYXRpb24iIHR5cGU9InRuczpNb25pdG9yZWRJdGVtTm90aWZpY2F0aW9uIiBtaW5PY2N1cnM9IjAiIG1heE9jY3Vycz0idW5ib3VuZGVkIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJMaXN0T2ZNb25pdG9yZWRJdGVtTm90aWZpY2F0aW9uIiB0eXBlPSJ0bnM6TGlzdE9mTW9uaXRvcmVkSXRlbU5vdGlmaWNhdGlvbiIgbmlsbGFibGU9InRydWUiPjwveHM6ZWxlbWVudD4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iRXZlbnROb3RpZmljYXRpb25MaXN0Ij4NCiAgICA8eHM6Y29tcGxleENvbnRlbnQgbWl4ZWQ9ImZhbHNlIj4NCiAgICAgIDx4czpleHRlbnNpb24gYmFzZT0idG5zOk5vdGlmaWNhdGlvbkRhdGEiPg0KICAgICAgICA8eHM6c2VxdWVuY2U+DQogICAgICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iRXZlbnRzIiB0eXBlPSJ0bnM6TGlzdE9mRXZlbnRGaWVsZExpc3QiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICAgIDwveHM6c2VxdWVuY2U+DQogICAgICA8L3hzOmV4dGVuc2lvbj4NCiAgICA8L3hzOmNvbXBsZXhDb250ZW50Pg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJFdmVudE5vdGlmaWNhdGlvbkxpc3QiIHR5cGU9InRuczpFdmVudE5vdGlmaWNhdGlvbkxpc3QiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IkV2ZW50RmllbGRMaXN0Ij4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDbGllbnRIYW5kbGUiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJFdmVudEZpZWxkcyIgdHlwZT0idWE6TGlzdE9mVmFyaWFudCIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJFdmVudEZpZWxkTGlzdCIgdHlwZT0idG5zOkV2ZW50RmllbGRMaXN0IiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJMaXN0T2ZFdmVudEZpZWxkTGlzdCI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iRXZlbnRGaWVsZExpc3QiIHR5cGU9InRuczpFdmVudEZpZWxkTGlzdCIgbWluT2NjdXJzPSIwIiBtYXhPY2N1cnM9InVuYm91bmRlZCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iTGlzdE9mRXZlbnRGaWVsZExpc3QiIHR5cGU9InRuczpMaXN0T2ZFdmVudEZpZWxkTGlzdCIgbmlsbGFibGU9InRydWUiPjwveHM6ZWxlbWVudD4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iSGlzdG9yeUV2ZW50RmllbGRMaXN0Ij4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJFdmVudEZpZWxkcyIgdHlwZT0idWE6TGlzdE9mVmFyaWFudCIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJIaXN0b3J5RXZlbnRGaWVsZExpc3QiIHR5cGU9InRuczpIaXN0b3J5RXZlbnRGaWVsZExpc3QiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9Ikxpc3RPZkhpc3RvcnlFdmVudEZpZWxkTGlzdCI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iSGlzdG9yeUV2ZW50RmllbGRMaXN0IiB0eXBlPSJ0bnM6SGlzdG9yeUV2ZW50RmllbGRMaXN0IiBtaW5PY2N1cnM9IjAiIG1heE9jY3Vycz0idW5ib3VuZGVkIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJMaXN0T2ZIaXN0b3J5RXZlbnRGaWVsZExpc3QiIHR5cGU9InRuczpMaXN0T2ZIaXN0b3J5RXZlbnRGaWVsZExpc3QiIG5pbGxhYmxlPSJ0cnVlIj48L3hzOmVsZW1lbnQ+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IlN0YXR1c0NoYW5nZU5vdGlmaWNhdGlvbiI+DQogICAgPHhzOmNvbXBsZXhDb250ZW50IG1peGVkPSJmYWxzZSI+DQogICAgICA8eHM6ZXh0ZW5zaW9uIGJhc2U9InRuczpOb3RpZmljYXRpb25EYXRhIj4NCiAgICAgICAgPHhzOnNlcXVlbmNlPg0KICAgICAgICAgIDx4czplbGVtZW50IG5hbWU9IlN0YXR1cyIgdHlwZT0idWE6U3RhdHVzQ29kZSIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgICAgIDx4czplbGVtZW50IG5hbWU9IkRpYWdub3N0aWNJbmZvIiB0eXBlPSJ1YTpEaWFnbm9zdGljSW5mbyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgICAgPC94czpzZXF1ZW5jZT4NCiAgICAgIDwveHM6ZXh0ZW5zaW9uPg0KICAgIDwveHM6Y29tcGxleENvbnRlbnQ+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IlN0YXR1c0NoYW5nZU5vdGlmaWNhdGlvbiIgdHlwZT0idG5zOlN0YXR1c0NoYW5nZU5vdGlmaWNhdGlvbiIgLz4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iU3Vic2NyaXB0aW9uQWNrbm93bGVkZ2VtZW50Ij4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTdWJzY3JpcHRpb25JZCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNlcXVlbmNlTnVtYmVyIiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IlN1YnNjcmlwdGlvbkFja25vd2xlZGdlbWVudCIgdHlwZT0idG5zOlN1YnNjcmlwdGlvbkFja25vd2xlZGdlbWVudCIgLz4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iTGlzdE9mU3Vic2NyaXB0aW9uQWNrbm93bGVkZ2VtZW50Ij4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTdWJzY3JpcHRpb25BY2tub3dsZWRnZW1lbnQiIHR5cGU9InRuczpTdWJzY3JpcHRpb25BY2tub3dsZWRnZW1lbnQiIG1pbk9jY3Vycz0iMCIgbWF4T2NjdXJzPSJ1bmJvdW5kZWQiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9Ikxpc3RPZlN1YnNjcmlwdGlvbkFja25vd2xlZGdlbWVudCIgdHlwZT0idG5zOkxpc3RPZlN1YnNjcmlwdGlvbkFja25vd2xlZGdlbWVudCIgbmlsbGFibGU9InRydWUiPjwveHM6ZWxlbWVudD4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iUHVibGlzaFJlcXVlc3QiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlJlcXVlc3RIZWFkZXIiIHR5cGU9InRuczpSZXF1ZXN0SGVhZGVyIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU3Vic2NyaXB0aW9uQWNrbm93bGVkZ2VtZW50cyIgdHlwZT0idG5zOkxpc3RPZlN1YnNjcmlwdGlvbkFja25vd2xlZGdlbWVudCIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJQdWJsaXNoUmVxdWVzdCIgdHlwZT0idG5zOlB1Ymxpc2hSZXF1ZXN0IiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJQdWJsaXNoUmVzcG9uc2UiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlJlc3BvbnNlSGVhZGVyIiB0eXBlPSJ0bnM6UmVzcG9uc2VIZWFkZXIiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTdWJzY3JpcHRpb25JZCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkF2YWlsYWJsZVNlcXVlbmNlTnVtYmVycyIgdHlwZT0idWE6TGlzdE9mVUludDMyIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTW9yZU5vdGlmaWNhdGlvbnMiIHR5cGU9InhzOmJvb2xlYW4iIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ik5vdGlmaWNhdGlvbk1lc3NhZ2UiIHR5cGU9InRuczpOb3RpZmljYXRpb25NZXNzYWdlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUmVzdWx0cyIgdHlwZT0idWE6TGlzdE9mU3RhdHVzQ29kZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkRpYWdub3N0aWNJbmZvcyIgdHlwZT0idWE6TGlzdE9mRGlhZ25vc3RpY0luZm8iIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iUHVibGlzaFJlc3BvbnNlIiB0eXBlPSJ0bnM6UHVibGlzaFJlc3BvbnNlIiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJSZXB1Ymxpc2hSZXF1ZXN0Ij4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJSZXF1ZXN0SGVhZGVyIiB0eXBlPSJ0bnM6UmVxdWVzdEhlYWRlciIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlN1YnNjcmlwdGlvbklkIiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUmV0cmFuc21pdFNlcXVlbmNlTnVtYmVyIiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IlJlcHVibGlzaFJlcXVlc3QiIHR5cGU9InRuczpSZXB1Ymxpc2hSZXF1ZXN0IiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJSZXB1Ymxpc2hSZXNwb25zZSI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUmVzcG9uc2VIZWFkZXIiIHR5cGU9InRuczpSZXNwb25zZUhlYWRlciIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ik5vdGlmaWNhdGlvbk1lc3NhZ2UiIHR5cGU9InRuczpOb3RpZmljYXRpb25NZXNzYWdlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IlJlcHVibGlzaFJlc3BvbnNlIiB0eXBlPSJ0bnM6UmVwdWJsaXNoUmVzcG9uc2UiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IlRyYW5zZmVyUmVzdWx0Ij4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTdGF0dXNDb2RlIiB0eXBlPSJ1YTpTdGF0dXNDb2RlIiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJBdmFpbGFibGVTZXF1ZW5jZU51bWJlcnMiIHR5cGU9InVhOkxpc3RPZlVJbnQzMiIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJUcmFuc2ZlclJlc3VsdCIgdHlwZT0idG5zOlRyYW5zZmVyUmVzdWx0IiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJMaXN0T2ZUcmFuc2ZlclJlc3VsdCI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iVHJhbnNmZXJSZXN1bHQiIHR5cGU9InRuczpUcmFuc2ZlclJlc3VsdCIgbWluT2NjdXJzPSIwIiBtYXhPY2N1cnM9InVuYm91bmRlZCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iTGlzdE9mVHJhbnNmZXJSZXN1bHQiIHR5cGU9InRuczpMaXN0T2ZUcmFuc2ZlclJlc3VsdCIgbmlsbGFibGU9InRydWUiPjwveHM6ZWxlbWVudD4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iVHJhbnNmZXJTdWJzY3JpcHRpb25zUmVxdWVzdCI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUmVxdWVzdEhlYWRlciIgdHlwZT0idG5zOlJlcXVlc3RIZWFkZXIiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTdWJzY3JpcHRpb25JZHMiIHR5cGU9InVhOkxpc3RPZlVJbnQzMiIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNlbmRJbml0aWFsVmFsdWVzIiB0eXBlPSJ4czpib29sZWFuIiBtaW5PY2N1cnM9IjAiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iVHJhbnNmZXJTdWJzY3JpcHRpb25zUmVxdWVzdCIgdHlwZT0idG5zOlRyYW5zZmVyU3Vic2NyaXB0aW9uc1JlcXVlc3QiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IlRyYW5zZmVyU3Vic2NyaXB0aW9uc1Jlc3BvbnNlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJSZXNwb25zZUhlYWRlciIgdHlwZT0idG5zOlJlc3BvbnNlSGVhZGVyIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUmVzdWx0cyIgdHlwZT0idG5zOkxpc3RPZlRyYW5zZmVyUmVzdWx0IiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iRGlhZ25vc3RpY0luZm9zIiB0eXBlPSJ1YTpMaXN0T2ZEaWFnbm9zdGljSW5mbyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJUcmFuc2ZlclN1YnNjcmlwdGlvbnNSZXNwb25zZSIgdHlwZT0idG5zOlRyYW5zZmVyU3Vic2NyaXB0aW9uc1Jlc3BvbnNlIiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJEZWxldGVTdWJzY3JpcHRpb25zUmVxdWVzdCI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUmVxdWVzdEhlYWRlciIgdHlwZT0idG5zOlJlcXVlc3RIZWFkZXIiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTdWJzY3JpcHRpb25JZHMiIHR5cGU9InVhOkxpc3RPZlVJbnQzMiIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJEZWxldGVTdWJzY3JpcHRpb25zUmVxdWVzdCIgdHlwZT0idG5zOkRlbGV0ZVN1YnNjcmlwdGlvbnNSZXF1ZXN0IiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJEZWxldGVTdWJzY3JpcHRpb25zUmVzcG9uc2UiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlJlc3BvbnNlSGVhZGVyIiB0eXBlPSJ0bnM6UmVzcG9uc2VIZWFkZXIiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJSZXN1bHRzIiB0eXBlPSJ1YTpMaXN0T2ZTdGF0dXNDb2RlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iRGlhZ25vc3RpY0luZm9zIiB0eXBlPSJ1YTpMaXN0T2ZEaWFnbm9zdGljSW5mbyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJEZWxldGVTdWJzY3JpcHRpb25zUmVzcG9uc2UiIHR5cGU9InRuczpEZWxldGVTdWJzY3JpcHRpb25zUmVzcG9uc2UiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IkJ1aWxkSW5mbyI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUHJvZHVjdFVyaSIgdHlwZT0ieHM6c3RyaW5nIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTWFudWZhY3R1cmVyTmFtZSIgdHlwZT0ieHM6c3RyaW5nIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUHJvZHVjdE5hbWUiIHR5cGU9InhzOnN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNvZnR3YXJlVmVyc2lvbiIgdHlwZT0ieHM6c3RyaW5nIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iQnVpbGROdW1iZXIiIHR5cGU9InhzOnN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkJ1aWxkRGF0ZSIgdHlwZT0ieHM6ZGF0ZVRpbWUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJCdWlsZEluZm8iIHR5cGU9InRuczpCdWlsZEluZm8iIC8+DQoNCiAgPHhzOnNpbXBsZVR5cGUgIG5hbWU9IlJlZHVuZGFuY3lTdXBwb3J0Ij4NCiAgICA8eHM6cmVzdHJpY3Rpb24gYmFzZT0ieHM6c3RyaW5nIj4NCiAgICAgIDx4czplbnVtZXJhdGlvbiB2YWx1ZT0iTm9uZV8wIiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJDb2xkXzEiIC8+DQogICAgICA8eHM6ZW51bWVyYXRpb24gdmFsdWU9Ildhcm1fMiIgLz4NCiAgICAgIDx4czplbnVtZXJhdGlvbiB2YWx1ZT0iSG90XzMiIC8+DQogICAgICA8eHM6ZW51bWVyYXRpb24gdmFsdWU9IlRyYW5zcGFyZW50XzQiIC8+DQogICAgICA8eHM6ZW51bWVyYXRpb24gdmFsdWU9IkhvdEFuZE1pcnJvcmVkXzUiIC8+DQogICAgPC94czpyZXN0cmljdGlvbj4NCiAgPC94czpzaW1wbGVUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJSZWR1bmRhbmN5U3VwcG9ydCIgdHlwZT0idG5zOlJlZHVuZGFuY3lTdXBwb3J0IiAvPg0KDQogIDx4czpzaW1wbGVUeXBlICBuYW1lPSJTZXJ2ZXJTdGF0ZSI+DQogICAgPHhzOnJlc3RyaWN0aW9uIGJhc2U9InhzOnN0cmluZyI+DQogICAgICA8eHM6ZW51bWVyYXRpb24gdmFsdWU9IlJ1bm5pbmdfMCIgLz4NCiAgICAgIDx4czplbnVtZXJhdGlvbiB2YWx1ZT0iRmFpbGVkXzEiIC8+DQogICAgICA8eHM6ZW51bWVyYXRpb24gdmFsdWU9Ik5vQ29uZmlndXJhdGlvbl8yIiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJTdXNwZW5kZWRfMyIgLz4NCiAgICAgIDx4czplbnVtZXJhdGlvbiB2YWx1ZT0iU2h1dGRvd25fNCIgLz4NCiAgICAgIDx4czplbnVtZXJhdGlvbiB2YWx1ZT0iVGVzdF81IiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJDb21tdW5pY2F0aW9uRmF1bHRfNiIgLz4NCiAgICAgIDx4czplbnVtZXJhdGlvbiB2YWx1ZT0iVW5rbm93bl83IiAvPg0KICAgIDwveHM6cmVzdHJpY3Rpb24+DQogIDwveHM6c2ltcGxlVHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iU2VydmVyU3RhdGUiIHR5cGU9InRuczpTZXJ2ZXJTdGF0ZSIgLz4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iUmVkdW5kYW50U2VydmVyRGF0YVR5cGUiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNlcnZlcklkIiB0eXBlPSJ4czpzdHJpbmciIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTZXJ2aWNlTGV2ZWwiIHR5cGU9InhzOnVuc2lnbmVkQnl0ZSIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU2VydmVyU3RhdGUiIHR5cGU9InRuczpTZXJ2ZXJTdGF0ZSIgbWluT2NjdXJzPSIwIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IlJlZHVuZGFudFNlcnZlckRhdGFUeXBlIiB0eXBlPSJ0bnM6UmVkdW5kYW50U2VydmVyRGF0YVR5cGUiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9Ikxpc3RPZlJlZHVuZGFudFNlcnZlckRhdGFUeXBlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJSZWR1bmRhbnRTZXJ2ZXJEYXRhVHlwZSIgdHlwZT0idG5zOlJlZHVuZGFudFNlcnZlckRhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG1heE9jY3Vycz0idW5ib3VuZGVkIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJMaXN0T2ZSZWR1bmRhbnRTZXJ2ZXJEYXRhVHlwZSIgdHlwZT0idG5zOkxpc3RPZlJlZHVuZGFudFNlcnZlckRhdGFUeXBlIiBuaWxsYWJsZT0idHJ1ZSI+PC94czplbGVtZW50Pg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJFbmRwb2ludFVybExpc3REYXRhVHlwZSI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iRW5kcG9pbnRVcmxMaXN0IiB0eXBlPSJ1YTpMaXN0T2ZTdHJpbmciIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iRW5kcG9pbnRVcmxMaXN0RGF0YVR5cGUiIHR5cGU9InRuczpFbmRwb2ludFVybExpc3REYXRhVHlwZSIgLz4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iTGlzdE9mRW5kcG9pbnRVcmxMaXN0RGF0YVR5cGUiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkVuZHBvaW50VXJsTGlzdERhdGFUeXBlIiB0eXBlPSJ0bnM6RW5kcG9pbnRVcmxMaXN0RGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbWF4T2NjdXJzPSJ1bmJvdW5kZWQiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9Ikxpc3RPZkVuZHBvaW50VXJsTGlzdERhdGFUeXBlIiB0eXBlPSJ0bnM6TGlzdE9mRW5kcG9pbnRVcmxMaXN0RGF0YVR5cGUiIG5pbGxhYmxlPSJ0cnVlIj48L3hzOmVsZW1lbnQ+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9Ik5ldHdvcmtHcm91cERhdGFUeXBlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTZXJ2ZXJVcmkiIHR5cGU9InhzOnN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ik5ldHdvcmtQYXRocyIgdHlwZT0idG5zOkxpc3RPZkVuZHBvaW50VXJsTGlzdERhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9Ik5ldHdvcmtHcm91cERhdGFUeXBlIiB0eXBlPSJ0bnM6TmV0d29ya0dyb3VwRGF0YVR5cGUiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9Ikxpc3RPZk5ldHdvcmtHcm91cERhdGFUeXBlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJOZXR3b3JrR3JvdXBEYXRhVHlwZSIgdHlwZT0idG5zOk5ldHdvcmtHcm91cERhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG1heE9jY3Vycz0idW5ib3VuZGVkIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJMaXN0T2ZOZXR3b3JrR3JvdXBEYXRhVHlwZSIgdHlwZT0idG5zOkxpc3RPZk5ldHdvcmtHcm91cERhdGFUeXBlIiBuaWxsYWJsZT0idHJ1ZSI+PC94czplbGVtZW50Pg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJTYW1wbGluZ0ludGVydmFsRGlhZ25vc3RpY3NEYXRhVHlwZSI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU2FtcGxpbmdJbnRlcnZhbCIgdHlwZT0ieHM6ZG91YmxlIiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJNb25pdG9yZWRJdGVtQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJNYXhNb25pdG9yZWRJdGVtQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJEaXNhYmxlZE1vbml0b3JlZEl0ZW1Db3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJTYW1wbGluZ0ludGVydmFsRGlhZ25vc3RpY3NEYXRhVHlwZSIgdHlwZT0idG5zOlNhbXBsaW5nSW50ZXJ2YWxEaWFnbm9zdGljc0RhdGFUeXBlIiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJMaXN0T2ZTYW1wbGluZ0ludGVydmFsRGlhZ25vc3RpY3NEYXRhVHlwZSI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU2FtcGxpbmdJbnRlcnZhbERpYWdub3N0aWNzRGF0YVR5cGUiIHR5cGU9InRuczpTYW1wbGluZ0ludGVydmFsRGlhZ25vc3RpY3NEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBtYXhPY2N1cnM9InVuYm91bmRlZCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iTGlzdE9mU2FtcGxpbmdJbnRlcnZhbERpYWdub3N0aWNzRGF0YVR5cGUiIHR5cGU9InRuczpMaXN0T2ZTYW1wbGluZ0ludGVydmFsRGlhZ25vc3RpY3NEYXRhVHlwZSIgbmlsbGFibGU9InRydWUiPjwveHM6ZWxlbWVudD4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iU2VydmVyRGlhZ25vc3RpY3NTdW1tYXJ5RGF0YVR5cGUiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNlcnZlclZpZXdDb3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkN1cnJlbnRTZXNzaW9uQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDdW11bGF0ZWRTZXNzaW9uQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTZWN1cml0eVJlamVjdGVkU2Vzc2lvbkNvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUmVqZWN0ZWRTZXNzaW9uQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTZXNzaW9uVGltZW91dENvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU2Vzc2lvbkFib3J0Q291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDdXJyZW50U3Vic2NyaXB0aW9uQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDdW11bGF0ZWRTdWJzY3JpcHRpb25Db3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlB1Ymxpc2hpbmdJbnRlcnZhbENvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU2VjdXJpdHlSZWplY3RlZFJlcXVlc3RzQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJSZWplY3RlZFJlcXVlc3RzQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iU2VydmVyRGlhZ25vc3RpY3NTdW1tYXJ5RGF0YVR5cGUiIHR5cGU9InRuczpTZXJ2ZXJEaWFnbm9zdGljc1N1bW1hcnlEYXRhVHlwZSIgLz4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iU2VydmVyU3RhdHVzRGF0YVR5cGUiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlN0YXJ0VGltZSIgdHlwZT0ieHM6ZGF0ZVRpbWUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkN1cnJlbnRUaW1lIiB0eXBlPSJ4czpkYXRlVGltZSIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU3RhdGUiIHR5cGU9InRuczpTZXJ2ZXJTdGF0ZSIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iQnVpbGRJbmZvIiB0eXBlPSJ0bnM6QnVpbGRJbmZvIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU2Vjb25kc1RpbGxTaHV0ZG93biIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNodXRkb3duUmVhc29uIiB0eXBlPSJ1YTpMb2NhbGl6ZWRUZXh0IiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IlNlcnZlclN0YXR1c0RhdGFUeXBlIiB0eXBlPSJ0bnM6U2VydmVyU3RhdHVzRGF0YVR5cGUiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IlNlc3Npb25EaWFnbm9zdGljc0RhdGFUeXBlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTZXNzaW9uSWQiIHR5cGU9InVhOk5vZGVJZCIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNlc3Npb25OYW1lIiB0eXBlPSJ4czpzdHJpbmciIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDbGllbnREZXNjcmlwdGlvbiIgdHlwZT0idG5zOkFwcGxpY2F0aW9uRGVzY3JpcHRpb24iIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTZXJ2ZXJVcmkiIHR5cGU9InhzOnN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkVuZHBvaW50VXJsIiB0eXBlPSJ4czpzdHJpbmciIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJMb2NhbGVJZHMiIHR5cGU9InVhOkxpc3RPZlN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkFjdHVhbFNlc3Npb25UaW1lb3V0IiB0eXBlPSJ4czpkb3VibGUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ik1heFJlc3BvbnNlTWVzc2FnZVNpemUiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDbGllbnRDb25uZWN0aW9uVGltZSIgdHlwZT0ieHM6ZGF0ZVRpbWUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkNsaWVudExhc3RDb250YWN0VGltZSIgdHlwZT0ieHM6ZGF0ZVRpbWUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkN1cnJlbnRTdWJzY3JpcHRpb25zQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDdXJyZW50TW9uaXRvcmVkSXRlbXNDb3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkN1cnJlbnRQdWJsaXNoUmVxdWVzdHNJblF1ZXVlIiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iVG90YWxSZXF1ZXN0Q291bnQiIHR5cGU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iVW5hdXRob3JpemVkUmVxdWVzdENvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUmVhZENvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ikhpc3RvcnlSZWFkQ291bnQiIHR5cGU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iV3JpdGVDb3VudCIgdHlwZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJIaXN0b3J5VXBkYXRlQ291bnQiIHR5cGU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iQ2FsbENvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkNyZWF0ZU1vbml0b3JlZEl0ZW1zQ291bnQiIHR5cGU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTW9kaWZ5TW9uaXRvcmVkSXRlbXNDb3VudCIgdHlwZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTZXRNb25pdG9yaW5nTW9kZUNvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNldFRyaWdnZXJpbmdDb3VudCIgdHlwZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJEZWxldGVNb25pdG9yZWRJdGVtc0NvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkNyZWF0ZVN1YnNjcmlwdGlvbkNvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ik1vZGlmeVN1YnNjcmlwdGlvbkNvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNldFB1Ymxpc2hpbmdNb2RlQ291bnQiIHR5cGU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUHVibGlzaENvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlJlcHVibGlzaENvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlRyYW5zZmVyU3Vic2NyaXB0aW9uc0NvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkRlbGV0ZVN1YnNjcmlwdGlvbnNDb3VudCIgdHlwZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJBZGROb2Rlc0NvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkFkZFJlZmVyZW5jZXNDb3VudCIgdHlwZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJEZWxldGVOb2Rlc0NvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkRlbGV0ZVJlZmVyZW5jZXNDb3VudCIgdHlwZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJCcm93c2VDb3VudCIgdHlwZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJCcm93c2VOZXh0Q291bnQiIHR5cGU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iVHJhbnNsYXRlQnJvd3NlUGF0aHNUb05vZGVJZHNDb3VudCIgdHlwZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJRdWVyeUZpcnN0Q291bnQiIHR5cGU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUXVlcnlOZXh0Q291bnQiIHR5cGU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iUmVnaXN0ZXJOb2Rlc0NvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlVucmVnaXN0ZXJOb2Rlc0NvdW50IiB0eXBlPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJTZXNzaW9uRGlhZ25vc3RpY3NEYXRhVHlwZSIgdHlwZT0idG5zOlNlc3Npb25EaWFnbm9zdGljc0RhdGFUeXBlIiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJMaXN0T2ZTZXNzaW9uRGlhZ25vc3RpY3NEYXRhVHlwZSI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU2Vzc2lvbkRpYWdub3N0aWNzRGF0YVR5cGUiIHR5cGU9InRuczpTZXNzaW9uRGlhZ25vc3RpY3NEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBtYXhPY2N1cnM9InVuYm91bmRlZCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iTGlzdE9mU2Vzc2lvbkRpYWdub3N0aWNzRGF0YVR5cGUiIHR5cGU9InRuczpMaXN0T2ZTZXNzaW9uRGlhZ25vc3RpY3NEYXRhVHlwZSIgbmlsbGFibGU9InRydWUiPjwveHM6ZWxlbWVudD4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iU2Vzc2lvblNlY3VyaXR5RGlhZ25vc3RpY3NEYXRhVHlwZSI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU2Vzc2lvbklkIiB0eXBlPSJ1YTpOb2RlSWQiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDbGllbnRVc2VySWRPZlNlc3Npb24iIHR5cGU9InhzOnN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkNsaWVudFVzZXJJZEhpc3RvcnkiIHR5cGU9InVhOkxpc3RPZlN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkF1dGhlbnRpY2F0aW9uTWVjaGFuaXNtIiB0eXBlPSJ4czpzdHJpbmciIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJFbmNvZGluZyIgdHlwZT0ieHM6c3RyaW5nIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iVHJhbnNwb3J0UHJvdG9jb2wiIHR5cGU9InhzOnN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNlY3VyaXR5TW9kZSIgdHlwZT0idG5zOk1lc3NhZ2VTZWN1cml0eU1vZGUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNlY3VyaXR5UG9saWN5VXJpIiB0eXBlPSJ4czpzdHJpbmciIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDbGllbnRDZXJ0aWZpY2F0ZSIgdHlwZT0ieHM6YmFzZTY0QmluYXJ5IiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IlNlc3Npb25TZWN1cml0eURpYWdub3N0aWNzRGF0YVR5cGUiIHR5cGU9InRuczpTZXNzaW9uU2VjdXJpdHlEaWFnbm9zdGljc0RhdGFUeXBlIiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJMaXN0T2ZTZXNzaW9uU2VjdXJpdHlEaWFnbm9zdGljc0RhdGFUeXBlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJTZXNzaW9uU2VjdXJpdHlEaWFnbm9zdGljc0RhdGFUeXBlIiB0eXBlPSJ0bnM6U2Vzc2lvblNlY3VyaXR5RGlhZ25vc3RpY3NEYXRhVHlwZSIgbWluT2NjdXJzPSIwIiBtYXhPY2N1cnM9InVuYm91bmRlZCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iTGlzdE9mU2Vzc2lvblNlY3VyaXR5RGlhZ25vc3RpY3NEYXRhVHlwZSIgdHlwZT0idG5zOkxpc3RPZlNlc3Npb25TZWN1cml0eURpYWdub3N0aWNzRGF0YVR5cGUiIG5pbGxhYmxlPSJ0cnVlIj48L3hzOmVsZW1lbnQ+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlRvdGFsQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJFcnJvckNvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIHR5cGU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJTdGF0dXNSZXN1bHQiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlN0YXR1c0NvZGUiIHR5cGU9InVhOlN0YXR1c0NvZGUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkRpYWdub3N0aWNJbmZvIiB0eXBlPSJ1YTpEaWFnbm9zdGljSW5mbyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJTdGF0dXNSZXN1bHQiIHR5cGU9InRuczpTdGF0dXNSZXN1bHQiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9Ikxpc3RPZlN0YXR1c1Jlc3VsdCI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iU3RhdHVzUmVzdWx0IiB0eXBlPSJ0bnM6U3RhdHVzUmVzdWx0IiBtaW5PY2N1cnM9IjAiIG1heE9jY3Vycz0idW5ib3VuZGVkIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJMaXN0T2ZTdGF0dXNSZXN1bHQiIHR5cGU9InRuczpMaXN0T2ZTdGF0dXNSZXN1bHQiIG5pbGxhYmxlPSJ0cnVlIj48L3hzOmVsZW1lbnQ+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IlN1YnNjcmlwdGlvbkRpYWdub3N0aWNzRGF0YVR5cGUiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNlc3Npb25JZCIgdHlwZT0idWE6Tm9kZUlkIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFt");
         sb.append("ZT0iU3Vic2NyaXB0aW9uSWQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJQcmlvcml0eSIgdHlwZT0ieHM6dW5zaWduZWRCeXRlIiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJQdWJsaXNoaW5nSW50ZXJ2YWwiIHR5cGU9InhzOmRvdWJsZSIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTWF4S2VlcEFsaXZlQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJNYXhMaWZldGltZUNvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTWF4Tm90aWZpY2F0aW9uc1BlclB1Ymxpc2giIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJQdWJsaXNoaW5nRW5hYmxlZCIgdHlwZT0ieHM6Ym9vbGVhbiIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTW9kaWZ5Q291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJFbmFibGVDb3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkRpc2FibGVDb3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlJlcHVibGlzaFJlcXVlc3RDb3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlJlcHVibGlzaE1lc3NhZ2VSZXF1ZXN0Q291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJSZXB1Ymxpc2hNZXNzYWdlQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJUcmFuc2ZlclJlcXVlc3RDb3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlRyYW5zZmVycmVkVG9BbHRDbGllbnRDb3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlRyYW5zZmVycmVkVG9TYW1lQ2xpZW50Q291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJQdWJsaXNoUmVxdWVzdENvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iRGF0YUNoYW5nZU5vdGlmaWNhdGlvbnNDb3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkV2ZW50Tm90aWZpY2F0aW9uc0NvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTm90aWZpY2F0aW9uc0NvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTGF0ZVB1Ymxpc2hSZXF1ZXN0Q291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDdXJyZW50S2VlcEFsaXZlQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJDdXJyZW50TGlmZXRpbWVDb3VudCIgdHlwZT0ieHM6dW5zaWduZWRJbnQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlVuYWNrbm93bGVkZ2VkTWVzc2FnZUNvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iRGlzY2FyZGVkTWVzc2FnZUNvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTW9uaXRvcmVkSXRlbUNvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iRGlzYWJsZWRNb25pdG9yZWRJdGVtQ291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJNb25pdG9yaW5nUXVldWVPdmVyZmxvd0NvdW50IiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTmV4dFNlcXVlbmNlTnVtYmVyIiB0eXBlPSJ4czp1bnNpZ25lZEludCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iRXZlbnRRdWV1ZU92ZXJGbG93Q291bnQiIHR5cGU9InhzOnVuc2lnbmVkSW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iU3Vic2NyaXB0aW9uRGlhZ25vc3RpY3NEYXRhVHlwZSIgdHlwZT0idG5zOlN1YnNjcmlwdGlvbkRpYWdub3N0aWNzRGF0YVR5cGUiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9Ikxpc3RPZlN1YnNjcmlwdGlvbkRpYWdub3N0aWNzRGF0YVR5cGUiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlN1YnNjcmlwdGlvbkRpYWdub3N0aWNzRGF0YVR5cGUiIHR5cGU9InRuczpTdWJzY3JpcHRpb25EaWFnbm9zdGljc0RhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG1heE9jY3Vycz0idW5ib3VuZGVkIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJMaXN0T2ZTdWJzY3JpcHRpb25EaWFnbm9zdGljc0RhdGFUeXBlIiB0eXBlPSJ0bnM6TGlzdE9mU3Vic2NyaXB0aW9uRGlhZ25vc3RpY3NEYXRhVHlwZSIgbmlsbGFibGU9InRydWUiPjwveHM6ZWxlbWVudD4NCg0KICA8eHM6c2ltcGxlVHlwZSAgbmFtZT0iTW9kZWxDaGFuZ2VTdHJ1Y3R1cmVWZXJiTWFzayI+DQogICAgPHhzOnJlc3RyaWN0aW9uIGJhc2U9InhzOnN0cmluZyI+DQogICAgICA8eHM6ZW51bWVyYXRpb24gdmFsdWU9Ik5vZGVBZGRlZF8xIiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJOb2RlRGVsZXRlZF8yIiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJSZWZlcmVuY2VBZGRlZF80IiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJSZWZlcmVuY2VEZWxldGVkXzgiIC8+DQogICAgICA8eHM6ZW51bWVyYXRpb24gdmFsdWU9IkRhdGFUeXBlQ2hhbmdlZF8xNiIgLz4NCiAgICA8L3hzOnJlc3RyaWN0aW9uPg0KICA8L3hzOnNpbXBsZVR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9Ik1vZGVsQ2hhbmdlU3RydWN0dXJlVmVyYk1hc2siIHR5cGU9InRuczpNb2RlbENoYW5nZVN0cnVjdHVyZVZlcmJNYXNrIiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJNb2RlbENoYW5nZVN0cnVjdHVyZURhdGFUeXBlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJBZmZlY3RlZCIgdHlwZT0idWE6Tm9kZUlkIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iQWZmZWN0ZWRUeXBlIiB0eXBlPSJ1YTpOb2RlSWQiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJWZXJiIiB0eXBlPSJ4czp1bnNpZ25lZEJ5dGUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJNb2RlbENoYW5nZVN0cnVjdHVyZURhdGFUeXBlIiB0eXBlPSJ0bnM6TW9kZWxDaGFuZ2VTdHJ1Y3R1cmVEYXRhVHlwZSIgLz4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iTGlzdE9mTW9kZWxDaGFuZ2VTdHJ1Y3R1cmVEYXRhVHlwZSI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iTW9kZWxDaGFuZ2VTdHJ1Y3R1cmVEYXRhVHlwZSIgdHlwZT0idG5zOk1vZGVsQ2hhbmdlU3RydWN0dXJlRGF0YVR5cGUiIG1pbk9jY3Vycz0iMCIgbWF4T2NjdXJzPSJ1bmJvdW5kZWQiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9Ikxpc3RPZk1vZGVsQ2hhbmdlU3RydWN0dXJlRGF0YVR5cGUiIHR5cGU9InRuczpMaXN0T2ZNb2RlbENoYW5nZVN0cnVjdHVyZURhdGFUeXBlIiBuaWxsYWJsZT0idHJ1ZSI+PC94czplbGVtZW50Pg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJTZW1hbnRpY0NoYW5nZVN0cnVjdHVyZURhdGFUeXBlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJBZmZlY3RlZCIgdHlwZT0idWE6Tm9kZUlkIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iQWZmZWN0ZWRUeXBlIiB0eXBlPSJ1YTpOb2RlSWQiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iU2VtYW50aWNDaGFuZ2VTdHJ1Y3R1cmVEYXRhVHlwZSIgdHlwZT0idG5zOlNlbWFudGljQ2hhbmdlU3RydWN0dXJlRGF0YVR5cGUiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9Ikxpc3RPZlNlbWFudGljQ2hhbmdlU3RydWN0dXJlRGF0YVR5cGUiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlNlbWFudGljQ2hhbmdlU3RydWN0dXJlRGF0YVR5cGUiIHR5cGU9InRuczpTZW1hbnRpY0NoYW5nZVN0cnVjdHVyZURhdGFUeXBlIiBtaW5PY2N1cnM9IjAiIG1heE9jY3Vycz0idW5ib3VuZGVkIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJMaXN0T2ZTZW1hbnRpY0NoYW5nZVN0cnVjdHVyZURhdGFUeXBlIiB0eXBlPSJ0bnM6TGlzdE9mU2VtYW50aWNDaGFuZ2VTdHJ1Y3R1cmVEYXRhVHlwZSIgbmlsbGFibGU9InRydWUiPjwveHM6ZWxlbWVudD4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iUmFuZ2UiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkxvdyIgdHlwZT0ieHM6ZG91YmxlIiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJIaWdoIiB0eXBlPSJ4czpkb3VibGUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJSYW5nZSIgdHlwZT0idG5zOlJhbmdlIiAvPg0KDQogIDx4czpjb21wbGV4VHlwZSBuYW1lPSJFVUluZm9ybWF0aW9uIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJOYW1lc3BhY2VVcmkiIHR5cGU9InhzOnN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlVuaXRJZCIgdHlwZT0ieHM6aW50IiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJEaXNwbGF5TmFtZSIgdHlwZT0idWE6TG9jYWxpemVkVGV4dCIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkRlc2NyaXB0aW9uIiB0eXBlPSJ1YTpMb2NhbGl6ZWRUZXh0IiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IkVVSW5mb3JtYXRpb24iIHR5cGU9InRuczpFVUluZm9ybWF0aW9uIiAvPg0KDQogIDx4czpzaW1wbGVUeXBlICBuYW1lPSJBeGlzU2NhbGVFbnVtZXJhdGlvbiI+DQogICAgPHhzOnJlc3RyaWN0aW9uIGJhc2U9InhzOnN0cmluZyI+DQogICAgICA8eHM6ZW51bWVyYXRpb24gdmFsdWU9IkxpbmVhcl8wIiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJMb2dfMSIgLz4NCiAgICAgIDx4czplbnVtZXJhdGlvbiB2YWx1ZT0iTG5fMiIgLz4NCiAgICA8L3hzOnJlc3RyaWN0aW9uPg0KICA8L3hzOnNpbXBsZVR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IkF4aXNTY2FsZUVudW1lcmF0aW9uIiB0eXBlPSJ0bnM6QXhpc1NjYWxlRW51bWVyYXRpb24iIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IkNvbXBsZXhOdW1iZXJUeXBlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJSZWFsIiB0eXBlPSJ4czpmbG9hdCIgbWluT2NjdXJzPSIwIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iSW1hZ2luYXJ5IiB0eXBlPSJ4czpmbG9hdCIgbWluT2NjdXJzPSIwIiAvPg0KICAgIDwveHM6c2VxdWVuY2U+DQogIDwveHM6Y29tcGxleFR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IkNvbXBsZXhOdW1iZXJUeXBlIiB0eXBlPSJ0bnM6Q29tcGxleE51bWJlclR5cGUiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IkRvdWJsZUNvbXBsZXhOdW1iZXJUeXBlIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJSZWFsIiB0eXBlPSJ4czpkb3VibGUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkltYWdpbmFyeSIgdHlwZT0ieHM6ZG91YmxlIiBtaW5PY2N1cnM9IjAiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iRG91YmxlQ29tcGxleE51bWJlclR5cGUiIHR5cGU9InRuczpEb3VibGVDb21wbGV4TnVtYmVyVHlwZSIgLz4NCg0KICA8eHM6Y29tcGxleFR5cGUgbmFtZT0iQXhpc0luZm9ybWF0aW9uIj4NCiAgICA8eHM6c2VxdWVuY2U+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJFbmdpbmVlcmluZ1VuaXRzIiB0eXBlPSJ0bnM6RVVJbmZvcm1hdGlvbiIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkVVUmFuZ2UiIHR5cGU9InRuczpSYW5nZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlRpdGxlIiB0eXBlPSJ1YTpMb2NhbGl6ZWRUZXh0IiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iQXhpc1NjYWxlVHlwZSIgdHlwZT0idG5zOkF4aXNTY2FsZUVudW1lcmF0aW9uIiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJBeGlzU3RlcHMiIHR5cGU9InVhOkxpc3RPZkRvdWJsZSIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJBeGlzSW5mb3JtYXRpb24iIHR5cGU9InRuczpBeGlzSW5mb3JtYXRpb24iIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IlhWVHlwZSI+DQogICAgPHhzOnNlcXVlbmNlPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iWCIgdHlwZT0ieHM6ZG91YmxlIiBtaW5PY2N1cnM9IjAiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJWYWx1ZSIgdHlwZT0ieHM6ZmxvYXQiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJYVlR5cGUiIHR5cGU9InRuczpYVlR5cGUiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IlByb2dyYW1EaWFnbm9zdGljRGF0YVR5cGUiPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IkNyZWF0ZVNlc3Npb25JZCIgdHlwZT0idWE6Tm9kZUlkIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iQ3JlYXRlQ2xpZW50TmFtZSIgdHlwZT0ieHM6c3RyaW5nIiBtaW5PY2N1cnM9IjAiIG5pbGxhYmxlPSJ0cnVlIiAvPg0KICAgICAgPHhzOmVsZW1lbnQgbmFtZT0iSW52b2NhdGlvbkNyZWF0aW9uVGltZSIgdHlwZT0ieHM6ZGF0ZVRpbWUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ikxhc3RUcmFuc2l0aW9uVGltZSIgdHlwZT0ieHM6ZGF0ZVRpbWUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ikxhc3RNZXRob2RDYWxsIiB0eXBlPSJ4czpzdHJpbmciIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJMYXN0TWV0aG9kU2Vzc2lvbklkIiB0eXBlPSJ1YTpOb2RlSWQiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJMYXN0TWV0aG9kSW5wdXRBcmd1bWVudHMiIHR5cGU9InRuczpMaXN0T2ZBcmd1bWVudCIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ikxhc3RNZXRob2RPdXRwdXRBcmd1bWVudHMiIHR5cGU9InRuczpMaXN0T2ZBcmd1bWVudCIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ikxhc3RNZXRob2RDYWxsVGltZSIgdHlwZT0ieHM6ZGF0ZVRpbWUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ikxhc3RNZXRob2RSZXR1cm5TdGF0dXMiIHR5cGU9InRuczpTdGF0dXNSZXN1bHQiIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgPC94czpzZXF1ZW5jZT4NCiAgPC94czpjb21wbGV4VHlwZT4NCiAgPHhzOmVsZW1lbnQgbmFtZT0iUHJvZ3JhbURpYWdub3N0aWNEYXRhVHlwZSIgdHlwZT0idG5zOlByb2dyYW1EaWFnbm9zdGljRGF0YVR5cGUiIC8+DQoNCiAgPHhzOmNvbXBsZXhUeXBlIG5hbWU9IkFubm90YXRpb24iPg0KICAgIDx4czpzZXF1ZW5jZT4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9Ik1lc3NhZ2UiIHR5cGU9InhzOnN0cmluZyIgbWluT2NjdXJzPSIwIiBuaWxsYWJsZT0idHJ1ZSIgLz4NCiAgICAgIDx4czplbGVtZW50IG5hbWU9IlVzZXJOYW1lIiB0eXBlPSJ4czpzdHJpbmciIG1pbk9jY3Vycz0iMCIgbmlsbGFibGU9InRydWUiIC8+DQogICAgICA8eHM6ZWxlbWVudCBuYW1lPSJBbm5vdGF0aW9uVGltZSIgdHlwZT0ieHM6ZGF0ZVRpbWUiIG1pbk9jY3Vycz0iMCIgLz4NCiAgICA8L3hzOnNlcXVlbmNlPg0KICA8L3hzOmNvbXBsZXhUeXBlPg0KICA8eHM6ZWxlbWVudCBuYW1lPSJBbm5vdGF0aW9uIiB0eXBlPSJ0bnM6QW5ub3RhdGlvbiIgLz4NCg0KICA8eHM6c2ltcGxlVHlwZSAgbmFtZT0iRXhjZXB0aW9uRGV2aWF0aW9uRm9ybWF0Ij4NCiAgICA8eHM6cmVzdHJpY3Rpb24gYmFzZT0ieHM6c3RyaW5nIj4NCiAgICAgIDx4czplbnVtZXJhdGlvbiB2YWx1ZT0iQWJzb2x1dGVWYWx1ZV8wIiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJQZXJjZW50T2ZWYWx1ZV8xIiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJQZXJjZW50T2ZSYW5nZV8yIiAvPg0KICAgICAgPHhzOmVudW1lcmF0aW9uIHZhbHVlPSJQZXJjZW50T2ZFVVJhbmdlXzMiIC8+DQogICAgICA8eHM6ZW51bWVyYXRpb24gdmFsdWU9IlVua25vd25fNCIgLz4NCiAgICA8L3hzOnJlc3RyaWN0aW9uPg0KICA8L3hzOnNpbXBsZVR5cGU+DQogIDx4czplbGVtZW50IG5hbWU9IkV4Y2VwdGlvbkRldmlhdGlvbkZvcm1hdCIgdHlwZT0idG5zOkV4Y2VwdGlvbkRldmlhdGlvbkZvcm1hdCIgLz4NCg0KPC94czpzY2hlbWE+</ByteString>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -346,8 +333,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">http://opcfoundation.org/UA/2008/02/Types.xsd</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -360,8 +346,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='Argument']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -374,8 +359,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='EnumValueType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -388,8 +372,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='StatusResult']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -418,8 +401,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='UserTokenPolicy']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -448,8 +430,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ApplicationDescription']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -463,8 +444,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<Int32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">1</Int32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -477,8 +457,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='EndpointDescription']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -491,8 +470,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<Int32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">1</Int32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -505,8 +483,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<Int32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">2</Int32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -519,8 +496,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<Int32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">3</Int32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -533,8 +509,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='UserIdentityToken']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -547,8 +522,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<Int32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">1</Int32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -561,8 +535,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='AnonymousIdentityToken']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -575,8 +548,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='UserNameIdentityToken']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -589,8 +561,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='X509IdentityToken']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -603,8 +574,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='IssuedIdentityToken']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -617,8 +587,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='EndpointConfiguration']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -631,8 +600,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='BuildInfo']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -645,8 +613,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='SignedSoftwareCertificate']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -659,8 +626,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='AddNodesItem']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -673,8 +639,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='AddReferencesItem']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -687,8 +652,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='DeleteNodesItem']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -701,8 +665,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='DeleteReferencesItem']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -731,8 +694,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='RegisteredServer']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -754,8 +716,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -769,8 +730,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -784,8 +744,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ApplyChangesRequired</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -799,8 +758,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Certificate</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IsTrustedCertificate</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -814,8 +772,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Thumbprint</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IsTrustedCertificate</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -829,8 +786,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>0</Value><DisplayName><Locale>                </Locale><Text>None</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1</Value><DisplayName><Locale>                </Locale><Text>TrustedCertificates</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2</Value><DisplayName><Locale>                </Locale><Text>TrustedCrls</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4</Value><DisplayName><Locale>                </Locale><Text>IssuerCertificates</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>8</Value><DisplayName><Locale>                </Locale><Text>IssuerCrls</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>15</Value><DisplayName><Locale>                </Locale><Text>All</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -868,8 +824,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateGroupId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateTypeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Certificate</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IssuerCertificates</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>1</ValueRank><ArrayDimensions><UInt32>0</UInt32>              </ArrayDimensions>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>PrivateKeyFormat</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>PrivateKey</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -883,8 +838,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ApplyChangesRequired</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -932,8 +886,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -946,8 +899,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -960,8 +912,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -974,8 +925,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -988,8 +938,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1002,8 +951,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1016,8 +964,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1030,8 +977,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1044,8 +990,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ContentFilterElement']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1058,8 +1003,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1079,8 +1023,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ContentFilter']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1093,8 +1036,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1107,8 +1049,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1121,8 +1062,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='FilterOperand']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1135,8 +1075,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ApplyChangesRequired</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1149,8 +1088,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Certificate</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IsTrustedCertificate</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1163,8 +1101,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ElementOperand']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1177,8 +1114,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Thumbprint</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IsTrustedCertificate</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1191,8 +1127,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='LiteralOperand']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1205,8 +1140,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='AttributeOperand']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1219,8 +1153,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='TrustListDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1233,8 +1166,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='SimpleAttributeOperand']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1247,8 +1179,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">TrustListDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1310,8 +1241,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1339,8 +1269,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='RelativePathElement']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1353,8 +1282,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='RelativePath']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1367,8 +1295,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">RelativePathElement</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1381,8 +1308,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">RelativePath</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1396,8 +1322,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateGroupId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateTypeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubjectName</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>RegeneratePrivateKey</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Nonce</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1411,8 +1336,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateRequest</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1425,8 +1349,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='HistoryEvent']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1439,8 +1362,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateGroupId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateTypeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubjectName</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>RegeneratePrivateKey</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Nonce</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1453,8 +1375,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateRequest</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1474,8 +1395,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubscriptionId</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>LifetimeInHours</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1489,8 +1409,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>RevisedLifetimeInHours</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1503,8 +1422,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubscriptionId</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>LifetimeInHours</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1517,8 +1435,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>RevisedLifetimeInHours</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1531,8 +1448,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='OptionSet']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1545,8 +1461,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='Union']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1559,8 +1474,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">OptionSet</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1573,8 +1487,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">Union</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1588,8 +1501,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Certificates</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>1</ValueRank><ArrayDimensions><UInt32>0</UInt32>              </ArrayDimensions>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1602,8 +1514,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Certificates</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>1</ValueRank><ArrayDimensions><UInt32>0</UInt32>              </ArrayDimensions>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1811,8 +1722,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='MonitoringFilter']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1873,8 +1783,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='EventFilter']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -1911,8 +1820,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='AggregateConfiguration']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2474,8 +2382,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubscriptionId</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2488,8 +2395,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubscriptionId</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2511,8 +2417,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>State</Name><DataType><Identifier>i=852</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>EstimatedReturnTime</Name><DataType><Identifier>i=13</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SecondsTillShutdown</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Reason</Name><DataType><Identifier>i=21</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Restart</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2532,8 +2437,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>State</Name><DataType><Identifier>i=852</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>EstimatedReturnTime</Name><DataType><Identifier>i=13</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SecondsTillShutdown</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Reason</Name><DataType><Identifier>i=21</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Restart</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2546,8 +2450,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='DiscoveryConfiguration']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2560,8 +2463,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='MdnsDiscoveryConfiguration']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2574,8 +2476,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">DiscoveryConfiguration</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2588,8 +2489,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='HistoryEventFieldList']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2602,8 +2502,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">MdnsDiscoveryConfiguration</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2638,8 +2537,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubscriptionId</Name><DataType><Identifier>i=288</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The identifier for the suscription to refresh.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>MonitoredItemId</Name><DataType><Identifier>i=288</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The identifier for the monitored item to refresh.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2652,8 +2550,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='RedundantServerDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2666,8 +2563,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='SamplingIntervalDiagnosticsDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2680,8 +2576,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ServerDiagnosticsSummaryDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2694,8 +2589,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ServerStatusDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2708,8 +2602,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='SessionDiagnosticsDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2722,8 +2615,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='SessionSecurityDiagnosticsDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2736,8 +2628,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ServiceCounterDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2750,8 +2641,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='SubscriptionDiagnosticsDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2764,8 +2654,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ModelChangeStructureDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2778,8 +2667,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='SemanticChangeStructureDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2792,8 +2680,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='Range']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2806,8 +2693,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='EUInformation']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2820,8 +2706,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='Annotation']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2834,8 +2719,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ProgramDiagnosticDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2952,8 +2836,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">TimeZoneDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -2966,8 +2849,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='TimeZoneDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3132,8 +3014,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>EventId</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The identifier for the event to comment.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Comment</Name><DataType><Identifier>i=21</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The comment to add to the condition.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3232,8 +3113,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SelectedResponse</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The response to the dialog condition.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3320,8 +3200,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>EventId</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The identifier for the event to comment.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Comment</Name><DataType><Identifier>i=21</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The comment to add to the condition.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3335,8 +3214,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>EventId</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The identifier for the event to comment.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Comment</Name><DataType><Identifier>i=21</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The comment to add to the condition.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3501,8 +3379,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ShelvingTime</Name><DataType><Identifier>i=290</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>If not 0, this parameter specifies a fixed time for which the Alarm is to be shelved.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3564,8 +3441,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>DirectoryName</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3579,8 +3455,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>DirectoryNodeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3594,8 +3469,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileName</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>RequestFileOpen</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3609,8 +3483,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileNodeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3624,8 +3497,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ObjectToDelete</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3639,8 +3511,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ObjectToMoveOrCopy</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>TargetDirectory</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CreateCopy</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>NewName</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3654,8 +3525,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>NewNodeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3701,8 +3571,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3716,8 +3585,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3731,8 +3599,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3746,8 +3613,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3761,8 +3627,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3776,8 +3641,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3791,8 +3655,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3806,8 +3669,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3821,8 +3683,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3836,8 +3697,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>DirectoryName</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3851,8 +3711,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>DirectoryNodeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3866,8 +3725,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileName</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>RequestFileOpen</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3881,8 +3739,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileNodeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3896,8 +3753,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ObjectToDelete</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3911,8 +3767,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ObjectToMoveOrCopy</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>TargetDirectory</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CreateCopy</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>NewName</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -3926,8 +3781,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>NewNodeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4066,8 +3920,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4081,8 +3934,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4096,8 +3948,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4111,8 +3962,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4126,8 +3976,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4141,8 +3990,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4156,8 +4004,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4171,8 +4018,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4186,8 +4032,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4209,8 +4054,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4224,8 +4068,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4262,8 +4105,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateGroupId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>CertificateTypeId</Name><DataType><Identifier>i=17</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Certificate</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IssuerCertificates</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>1</ValueRank><ArrayDimensions><UInt32>0</UInt32>              </ArrayDimensions>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>PrivateKeyFormat</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>PrivateKey</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4276,8 +4118,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ApplyChangesRequired</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4323,8 +4164,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4338,8 +4178,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4353,8 +4192,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4368,8 +4206,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4383,8 +4220,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4398,8 +4234,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4413,8 +4248,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4428,8 +4262,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4443,8 +4276,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4466,8 +4298,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4481,8 +4312,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4536,8 +4366,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4551,8 +4380,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4566,8 +4394,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4581,8 +4408,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4596,8 +4422,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4611,8 +4436,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4626,8 +4450,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4641,8 +4464,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4656,8 +4478,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4679,8 +4500,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4694,8 +4514,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4749,8 +4568,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4764,8 +4582,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4779,8 +4596,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4794,8 +4610,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4809,8 +4624,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4824,8 +4638,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4839,8 +4652,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4854,8 +4666,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4869,8 +4680,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4892,8 +4702,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4907,8 +4716,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4962,8 +4770,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4977,8 +4784,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -4992,8 +4798,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5007,8 +4812,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5022,8 +4826,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5037,8 +4840,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5052,8 +4854,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5067,8 +4868,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5082,8 +4882,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5105,8 +4904,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5120,8 +4918,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5175,8 +4972,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5190,8 +4986,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5205,8 +5000,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5220,8 +5014,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5235,8 +5028,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5250,8 +5042,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5265,8 +5056,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5280,8 +5070,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5295,8 +5084,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5318,8 +5106,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5333,8 +5120,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5412,8 +5198,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5426,8 +5211,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5440,8 +5224,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5454,8 +5237,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5468,8 +5250,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5482,8 +5263,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5496,8 +5276,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5510,8 +5289,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5524,8 +5302,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5545,8 +5322,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5559,8 +5335,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5573,8 +5348,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5598,8 +5372,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ApplyChangesRequired</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5620,8 +5393,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Certificate</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IsTrustedCertificate</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5634,8 +5406,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Thumbprint</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IsTrustedCertificate</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5718,8 +5489,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5732,8 +5502,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5746,8 +5515,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5779,8 +5547,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5793,8 +5560,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5807,8 +5573,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5829,8 +5594,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5843,8 +5607,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5868,8 +5631,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5897,8 +5659,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Masks</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5911,8 +5672,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5933,8 +5693,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5947,8 +5706,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ApplyChangesRequired</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5961,8 +5719,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Certificate</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IsTrustedCertificate</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -5975,8 +5732,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Thumbprint</Name><DataType><Identifier>i=12</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>IsTrustedCertificate</Name><DataType><Identifier>i=1</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -6010,8 +5766,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7850,8 +7605,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">1</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7865,8 +7619,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">2</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7880,8 +7633,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">3</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7895,8 +7647,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">4</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7910,8 +7661,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">1</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7925,8 +7675,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">2</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7940,8 +7689,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">3</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7955,8 +7703,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">4</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7970,8 +7717,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">5</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -7985,8 +7731,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">6</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -8000,8 +7745,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">7</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -8015,8 +7759,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">8</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -8030,8 +7773,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<UInt32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">9</UInt32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -8384,8 +8126,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">http://opcfoundation.org/UA/</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -8398,8 +8139,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">1.03</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -8412,8 +8152,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<DateTime xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">2016-04-15T00:00:00Z</DateTime>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -8426,8 +8165,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<Boolean xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">false</Boolean>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -8574,8 +8312,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ShelvingTime</Name><DataType><Identifier>i=290</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>If not 0, this parameter specifies a fixed time for which the Alarm is to be shelved.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10060,8 +9797,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubscriptionId</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10075,8 +9811,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ServerHandles</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>1</ValueRank><ArrayDimensions><UInt32>0</UInt32>              </ArrayDimensions>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ClientHandles</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>1</ValueRank><ArrayDimensions><UInt32>0</UInt32>              </ArrayDimensions>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10089,8 +9824,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubscriptionId</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10103,8 +9837,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ServerHandles</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>1</ValueRank><ArrayDimensions><UInt32>0</UInt32>              </ArrayDimensions>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>ClientHandles</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>1</ValueRank><ArrayDimensions><UInt32>0</UInt32>              </ArrayDimensions>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10154,8 +9887,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<Int32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">2</Int32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10168,8 +9900,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<Int32 xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">1</Int32>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10299,8 +10030,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10314,8 +10044,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10329,8 +10058,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10344,8 +10072,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10359,8 +10086,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10374,8 +10100,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10389,8 +10114,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10404,8 +10128,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10419,8 +10142,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10506,8 +10228,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10521,8 +10242,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10536,8 +10256,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10551,8 +10270,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10566,8 +10284,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10581,8 +10298,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10596,8 +10312,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10611,8 +10326,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10626,8 +10340,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10713,8 +10426,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Mode</Name><DataType><Identifier>i=3</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10728,8 +10440,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10743,8 +10454,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10758,8 +10468,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Length</Name><DataType><Identifier>i=6</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10773,8 +10482,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10788,8 +10496,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>Numeric</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>String</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Guid</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Opaque</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10803,8 +10510,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Data</Name><DataType><Identifier>i=15</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10818,8 +10524,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10833,8 +10538,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>Invalid</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>None</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Sign</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>SignAndEncrypt</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10848,8 +10552,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10863,8 +10566,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>Anonymous</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>UserName</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Certificate</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>IssuedToken</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10878,8 +10580,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>Server</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Client</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>ClientAndServer</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>DiscoveryServer</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10893,8 +10594,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>FileHandle</Name><DataType><Identifier>i=7</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>Position</Name><DataType><Identifier>i=9</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10908,8 +10608,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>Issue</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Renew</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -10963,8 +10662,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>Equals</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>IsNull</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>GreaterThan</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>LessThan</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>GreaterThanOrEqual</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>LessThanOrEqual</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Like</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Not</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Between</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>InList</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>And</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Or</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Cast</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>InView</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>OfType</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>RelatedTo</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>BitwiseAnd</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>BitwiseOr</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11006,8 +10704,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>None</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Cold</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Warm</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Hot</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Transparent</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>HotAndMirrored</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11021,8 +10718,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>Running</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Failed</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>NoConfiguration</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Suspended</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Shutdown</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Test</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>CommunicationFault</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Unknown</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11050,8 +10746,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>AbsoluteValue</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>PercentOfValue</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>PercentOfRange</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>PercentOfEURange</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Unknown</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11151,8 +10846,7 @@ class VariableNodeLoader {
         sb.append("YW1lPSJTZWxlY3RDbGF1c2VEaWFnbm9zdGljSW5mb3MiIFR5cGVOYW1lPSJ1YTpEaWFnbm9zdGljSW5mbyIgTGVuZ3RoRmllbGQ9Ik5vT2ZTZWxlY3RDbGF1c2VEaWFnbm9zdGljSW5mb3MiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJXaGVyZUNsYXVzZVJlc3VsdCIgVHlwZU5hbWU9InRuczpDb250ZW50RmlsdGVyUmVzdWx0IiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IkFnZ3JlZ2F0ZUZpbHRlclJlc3VsdCIgQmFzZVR5cGU9InRuczpNb25pdG9yaW5nRmlsdGVyUmVzdWx0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJldmlzZWRTdGFydFRpbWUiIFR5cGVOYW1lPSJvcGM6RGF0ZVRpbWUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXZpc2VkUHJvY2Vzc2luZ0ludGVydmFsIiBUeXBlTmFtZT0ib3BjOkRvdWJsZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJldmlzZWRBZ2dyZWdhdGVDb25maWd1cmF0aW9uIiBUeXBlTmFtZT0idG5zOkFnZ3JlZ2F0ZUNvbmZpZ3VyYXRpb24iIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iTW9uaXRvcmluZ1BhcmFtZXRlcnMiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQ2xpZW50SGFuZGxlIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNhbXBsaW5nSW50ZXJ2YWwiIFR5cGVOYW1lPSJvcGM6RG91YmxlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRmlsdGVyIiBUeXBlTmFtZT0idWE6RXh0ZW5zaW9uT2JqZWN0IiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUXVldWVTaXplIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkRpc2NhcmRPbGRlc3QiIFR5cGVOYW1lPSJvcGM6Qm9vbGVhbiIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJNb25pdG9yZWRJdGVtQ3JlYXRlUmVxdWVzdCIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJJdGVtVG9Nb25pdG9yIiBUeXBlTmFtZT0idG5zOlJlYWRWYWx1ZUlkIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTW9uaXRvcmluZ01vZGUiIFR5cGVOYW1lPSJ0bnM6TW9uaXRvcmluZ01vZGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXF1ZXN0ZWRQYXJhbWV0ZXJzIiBUeXBlTmFtZT0idG5zOk1vbml0b3JpbmdQYXJhbWV0ZXJzIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9Ik1vbml0b3JlZEl0ZW1DcmVhdGVSZXN1bHQiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU3RhdHVzQ29kZSIgVHlwZU5hbWU9InVhOlN0YXR1c0NvZGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJNb25pdG9yZWRJdGVtSWQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmV2aXNlZFNhbXBsaW5nSW50ZXJ2YWwiIFR5cGVOYW1lPSJvcGM6RG91YmxlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmV2aXNlZFF1ZXVlU2l6ZSIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJGaWx0ZXJSZXN1bHQiIFR5cGVOYW1lPSJ1YTpFeHRlbnNpb25PYmplY3QiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iQ3JlYXRlTW9uaXRvcmVkSXRlbXNSZXF1ZXN0IiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlcXVlc3RIZWFkZXIiIFR5cGVOYW1lPSJ0bnM6UmVxdWVzdEhlYWRlciIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlN1YnNjcmlwdGlvbklkIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlRpbWVzdGFtcHNUb1JldHVybiIgVHlwZU5hbWU9InRuczpUaW1lc3RhbXBzVG9SZXR1cm4iIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mSXRlbXNUb0NyZWF0ZSIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ikl0ZW1zVG9DcmVhdGUiIFR5cGVOYW1lPSJ0bnM6TW9uaXRvcmVkSXRlbUNyZWF0ZVJlcXVlc3QiIExlbmd0aEZpZWxkPSJOb09mSXRlbXNUb0NyZWF0ZSIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJDcmVhdGVNb25pdG9yZWRJdGVtc1Jlc3BvbnNlIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlc3BvbnNlSGVhZGVyIiBUeXBlTmFtZT0idG5zOlJlc3BvbnNlSGVhZGVyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZlJlc3VsdHMiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXN1bHRzIiBUeXBlTmFtZT0idG5zOk1vbml0b3JlZEl0ZW1DcmVhdGVSZXN1bHQiIExlbmd0aEZpZWxkPSJOb09mUmVzdWx0cyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZEaWFnbm9zdGljSW5mb3MiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJEaWFnbm9zdGljSW5mb3MiIFR5cGVOYW1lPSJ1YTpEaWFnbm9zdGljSW5mbyIgTGVuZ3RoRmllbGQ9Ik5vT2ZEaWFnbm9zdGljSW5mb3MiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iTW9uaXRvcmVkSXRlbU1vZGlmeVJlcXVlc3QiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTW9uaXRvcmVkSXRlbUlkIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlcXVlc3RlZFBhcmFtZXRlcnMiIFR5cGVOYW1lPSJ0bnM6TW9uaXRvcmluZ1BhcmFtZXRlcnMiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iTW9uaXRvcmVkSXRlbU1vZGlmeVJlc3VsdCIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdGF0dXNDb2RlIiBUeXBlTmFtZT0idWE6U3RhdHVzQ29kZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJldmlzZWRTYW1wbGluZ0ludGVydmFsIiBUeXBlTmFtZT0ib3BjOkRvdWJsZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJldmlzZWRRdWV1ZVNpemUiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRmlsdGVyUmVzdWx0IiBUeXBlTmFtZT0idWE6RXh0ZW5zaW9uT2JqZWN0IiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9Ik1vZGlmeU1vbml0b3JlZEl0ZW1zUmVxdWVzdCIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXF1ZXN0SGVhZGVyIiBUeXBlTmFtZT0idG5zOlJlcXVlc3RIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdWJzY3JpcHRpb25JZCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJUaW1lc3RhbXBzVG9SZXR1cm4iIFR5cGVOYW1lPSJ0bnM6VGltZXN0YW1wc1RvUmV0dXJuIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZkl0ZW1zVG9Nb2RpZnkiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJJdGVtc1RvTW9kaWZ5IiBUeXBlTmFtZT0idG5zOk1vbml0b3JlZEl0ZW1Nb2RpZnlSZXF1ZXN0IiBMZW5ndGhGaWVsZD0iTm9PZkl0ZW1zVG9Nb2RpZnkiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iTW9kaWZ5TW9uaXRvcmVkSXRlbXNSZXNwb25zZSIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXNwb25zZUhlYWRlciIgVHlwZU5hbWU9InRuczpSZXNwb25zZUhlYWRlciIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZSZXN1bHRzIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVzdWx0cyIgVHlwZU5hbWU9InRuczpNb25pdG9yZWRJdGVtTW9kaWZ5UmVzdWx0IiBMZW5ndGhGaWVsZD0iTm9PZlJlc3VsdHMiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0idWE6RGlhZ25vc3RpY0luZm8iIExlbmd0aEZpZWxkPSJOb09mRGlhZ25vc3RpY0luZm9zIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlNldE1vbml0b3JpbmdNb2RlUmVxdWVzdCIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXF1ZXN0SGVhZGVyIiBUeXBlTmFtZT0idG5zOlJlcXVlc3RIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdWJzY3JpcHRpb25JZCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJNb25pdG9yaW5nTW9kZSIgVHlwZU5hbWU9InRuczpNb25pdG9yaW5nTW9kZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZNb25pdG9yZWRJdGVtSWRzIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTW9uaXRvcmVkSXRlbUlkcyIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIExlbmd0aEZpZWxkPSJOb09mTW9uaXRvcmVkSXRlbUlkcyIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJTZXRNb25pdG9yaW5nTW9kZVJlc3BvbnNlIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlc3BvbnNlSGVhZGVyIiBUeXBlTmFtZT0idG5zOlJlc3BvbnNlSGVhZGVyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZlJlc3VsdHMiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXN1bHRzIiBUeXBlTmFtZT0idWE6U3RhdHVzQ29kZSIgTGVuZ3RoRmllbGQ9Ik5vT2ZSZXN1bHRzIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZkRpYWdub3N0aWNJbmZvcyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkRpYWdub3N0aWNJbmZvcyIgVHlwZU5hbWU9InVhOkRpYWdub3N0aWNJbmZvIiBMZW5ndGhGaWVsZD0iTm9PZkRpYWdub3N0aWNJbmZvcyIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJTZXRUcmlnZ2VyaW5nUmVxdWVzdCIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXF1ZXN0SGVhZGVyIiBUeXBlTmFtZT0idG5zOlJlcXVlc3RIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdWJzY3JpcHRpb25JZCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJUcmlnZ2VyaW5nSXRlbUlkIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZMaW5rc1RvQWRkIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTGlua3NUb0FkZCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIExlbmd0aEZpZWxkPSJOb09mTGlua3NUb0FkZCIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZMaW5rc1RvUmVtb3ZlIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTGlua3NUb1JlbW92ZSIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIExlbmd0aEZpZWxkPSJOb09mTGlua3NUb1JlbW92ZSIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJTZXRUcmlnZ2VyaW5nUmVzcG9uc2UiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVzcG9uc2VIZWFkZXIiIFR5cGVOYW1lPSJ0bnM6UmVzcG9uc2VIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mQWRkUmVzdWx0cyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkFkZFJlc3VsdHMiIFR5cGVOYW1lPSJ1YTpTdGF0dXNDb2RlIiBMZW5ndGhGaWVsZD0iTm9PZkFkZFJlc3VsdHMiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mQWRkRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQWRkRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0idWE6RGlhZ25vc3RpY0luZm8iIExlbmd0aEZpZWxkPSJOb09mQWRkRGlhZ25vc3RpY0luZm9zIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZlJlbW92ZVJlc3VsdHMiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZW1vdmVSZXN1bHRzIiBUeXBlTmFtZT0idWE6U3RhdHVzQ29kZSIgTGVuZ3RoRmllbGQ9Ik5vT2ZSZW1vdmVSZXN1bHRzIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZlJlbW92ZURpYWdub3N0aWNJbmZvcyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlbW92ZURpYWdub3N0aWNJbmZvcyIgVHlwZU5hbWU9InVhOkRpYWdub3N0aWNJbmZvIiBMZW5ndGhGaWVsZD0iTm9PZlJlbW92ZURpYWdub3N0aWNJbmZvcyIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJEZWxldGVNb25pdG9yZWRJdGVtc1JlcXVlc3QiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVxdWVzdEhlYWRlciIgVHlwZU5hbWU9InRuczpSZXF1ZXN0SGVhZGVyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU3Vic2NyaXB0aW9uSWQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZk1vbml0b3JlZEl0ZW1JZHMiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJNb25pdG9yZWRJdGVtSWRzIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgTGVuZ3RoRmllbGQ9Ik5vT2ZNb25pdG9yZWRJdGVtSWRzIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IkRlbGV0ZU1vbml0b3JlZEl0ZW1zUmVzcG9uc2UiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVzcG9uc2VIZWFkZXIiIFR5cGVOYW1lPSJ0bnM6UmVzcG9uc2VIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mUmVzdWx0cyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlc3VsdHMiIFR5cGVOYW1lPSJ1YTpTdGF0dXNDb2RlIiBMZW5ndGhGaWVsZD0iTm9PZlJlc3VsdHMiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0idWE6RGlhZ25vc3RpY0luZm8iIExlbmd0aEZpZWxkPSJOb09mRGlhZ25vc3RpY0luZm9zIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IkNyZWF0ZVN1YnNjcmlwdGlvblJlcXVlc3QiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVxdWVzdEhlYWRlciIgVHlwZU5hbWU9InRuczpSZXF1ZXN0SGVhZGVyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVxdWVzdGVkUHVibGlzaGluZ0ludGVydmFsIiBUeXBlTmFtZT0ib3BjOkRvdWJsZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlcXVlc3RlZExpZmV0aW1lQ291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVxdWVzdGVkTWF4S2VlcEFsaXZlQ291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTWF4Tm90aWZpY2F0aW9uc1BlclB1Ymxpc2giIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUHVibGlzaGluZ0VuYWJsZWQiIFR5cGVOYW1lPSJvcGM6Qm9vbGVhbiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlByaW9yaXR5IiBUeXBlTmFtZT0ib3BjOkJ5dGUiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iQ3JlYXRlU3Vic2NyaXB0aW9uUmVzcG9uc2UiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVzcG9uc2VIZWFkZXIiIFR5cGVOYW1lPSJ0bnM6UmVzcG9uc2VIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdWJzY3JpcHRpb25JZCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXZpc2VkUHVibGlzaGluZ0ludGVydmFsIiBUeXBlTmFtZT0ib3BjOkRvdWJsZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJldmlzZWRMaWZldGltZUNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJldmlzZWRNYXhLZWVwQWxpdmVDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iTW9kaWZ5U3Vic2NyaXB0aW9uUmVxdWVzdCIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXF1ZXN0SGVhZGVyIiBUeXBlTmFtZT0idG5zOlJlcXVlc3RIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdWJzY3JpcHRpb25JZCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXF1ZXN0ZWRQdWJsaXNoaW5nSW50ZXJ2YWwiIFR5cGVOYW1lPSJvcGM6RG91YmxlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVxdWVzdGVkTGlmZXRpbWVDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXF1ZXN0ZWRNYXhLZWVwQWxpdmVDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJNYXhOb3RpZmljYXRpb25zUGVyUHVibGlzaCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJQcmlvcml0eSIgVHlwZU5hbWU9Im9wYzpCeXRlIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9Ik1vZGlmeVN1YnNjcmlwdGlvblJlc3BvbnNlIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlc3BvbnNlSGVhZGVyIiBUeXBlTmFtZT0idG5zOlJlc3BvbnNlSGVhZGVyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmV2aXNlZFB1Ymxpc2hpbmdJbnRlcnZhbCIgVHlwZU5hbWU9Im9wYzpEb3VibGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXZpc2VkTGlmZXRpbWVDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXZpc2VkTWF4S2VlcEFsaXZlQ291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlNldFB1Ymxpc2hpbmdNb2RlUmVxdWVzdCIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXF1ZXN0SGVhZGVyIiBUeXBlTmFtZT0idG5zOlJlcXVlc3RIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJQdWJsaXNoaW5nRW5hYmxlZCIgVHlwZU5hbWU9Im9wYzpCb29sZWFuIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZlN1YnNjcmlwdGlvbklkcyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlN1YnNjcmlwdGlvbklkcyIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIExlbmd0aEZpZWxkPSJOb09mU3Vic2NyaXB0aW9uSWRzIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlNldFB1Ymxpc2hpbmdNb2RlUmVzcG9uc2UiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVzcG9uc2VIZWFkZXIiIFR5cGVOYW1lPSJ0bnM6UmVzcG9uc2VIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mUmVzdWx0cyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlc3VsdHMiIFR5cGVOYW1lPSJ1YTpTdGF0dXNDb2RlIiBMZW5ndGhGaWVsZD0iTm9PZlJlc3VsdHMiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0idWE6RGlhZ25vc3RpY0luZm8iIExlbmd0aEZpZWxkPSJOb09mRGlhZ25vc3RpY0luZm9zIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9Ik5vdGlmaWNhdGlvbk1lc3NhZ2UiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU2VxdWVuY2VOdW1iZXIiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUHVibGlzaFRpbWUiIFR5cGVOYW1lPSJvcGM6RGF0ZVRpbWUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mTm90aWZpY2F0aW9uRGF0YSIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vdGlmaWNhdGlvbkRhdGEiIFR5cGVOYW1lPSJ1YTpFeHRlbnNpb25PYmplY3QiIExlbmd0aEZpZWxkPSJOb09mTm90aWZpY2F0aW9uRGF0YSIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJOb3RpZmljYXRpb25EYXRhIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJEYXRhQ2hhbmdlTm90aWZpY2F0aW9uIiBCYXNlVHlwZT0idG5zOk5vdGlmaWNhdGlvbkRhdGEiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZk1vbml0b3JlZEl0ZW1zIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTW9uaXRvcmVkSXRlbXMiIFR5cGVOYW1lPSJ0bnM6TW9uaXRvcmVkSXRlbU5vdGlmaWNhdGlvbiIgTGVuZ3RoRmllbGQ9Ik5vT2ZNb25pdG9yZWRJdGVtcyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZEaWFnbm9zdGljSW5mb3MiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJEaWFnbm9zdGljSW5mb3MiIFR5cGVOYW1lPSJ1YTpEaWFnbm9zdGljSW5mbyIgTGVuZ3RoRmllbGQ9Ik5vT2ZEaWFnbm9zdGljSW5mb3MiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iTW9uaXRvcmVkSXRlbU5vdGlmaWNhdGlvbiIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDbGllbnRIYW5kbGUiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iVmFsdWUiIFR5cGVOYW1lPSJ1YTpEYXRhVmFsdWUiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iRXZlbnROb3RpZmljYXRpb25MaXN0IiBCYXNlVHlwZT0idG5zOk5vdGlmaWNhdGlvbkRhdGEiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZkV2ZW50cyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkV2ZW50cyIgVHlwZU5hbWU9InRuczpFdmVudEZpZWxkTGlzdCIgTGVuZ3RoRmllbGQ9Ik5vT2ZFdmVudHMiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iRXZlbnRGaWVsZExpc3QiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQ2xpZW50SGFuZGxlIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZFdmVudEZpZWxkcyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkV2ZW50RmllbGRzIiBUeXBlTmFtZT0idWE6VmFyaWFudCIgTGVuZ3RoRmllbGQ9Ik5vT2ZFdmVudEZpZWxkcyIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJIaXN0b3J5RXZlbnRGaWVsZExpc3QiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZkV2ZW50RmllbGRzIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRXZlbnRGaWVsZHMiIFR5cGVOYW1lPSJ1YTpWYXJpYW50IiBMZW5ndGhGaWVsZD0iTm9PZkV2ZW50RmllbGRzIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlN0YXR1c0NoYW5nZU5vdGlmaWNhdGlvbiIgQmFzZVR5cGU9InRuczpOb3RpZmljYXRpb25EYXRhIj4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlN0YXR1cyIgVHlwZU5hbWU9InVhOlN0YXR1c0NvZGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJEaWFnbm9zdGljSW5mbyIgVHlwZU5hbWU9InVhOkRpYWdub3N0aWNJbmZvIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlN1YnNjcmlwdGlvbkFja25vd2xlZGdlbWVudCIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdWJzY3JpcHRpb25JZCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTZXF1ZW5jZU51bWJlciIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iUHVibGlzaFJlcXVlc3QiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVxdWVzdEhlYWRlciIgVHlwZU5hbWU9InRuczpSZXF1ZXN0SGVhZGVyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZlN1YnNjcmlwdGlvbkFja25vd2xlZGdlbWVudHMiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdWJzY3JpcHRpb25BY2tub3dsZWRnZW1lbnRzIiBUeXBlTmFtZT0idG5zOlN1YnNjcmlwdGlvbkFja25vd2xlZGdlbWVudCIgTGVuZ3RoRmllbGQ9Ik5vT2ZTdWJzY3JpcHRpb25BY2tub3dsZWRnZW1lbnRzIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlB1Ymxpc2hSZXNwb25zZSIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXNwb25zZUhlYWRlciIgVHlwZU5hbWU9InRuczpSZXNwb25zZUhlYWRlciIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlN1YnNjcmlwdGlvbklkIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZBdmFpbGFibGVTZXF1ZW5jZU51bWJlcnMiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJBdmFpbGFibGVTZXF1ZW5jZU51bWJlcnMiIFR5cGVOYW1lPSJvcGM6VUludDMyIiBMZW5ndGhGaWVsZD0iTm9PZkF2YWlsYWJsZVNlcXVlbmNlTnVtYmVycyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik1vcmVOb3RpZmljYXRpb25zIiBUeXBlTmFtZT0ib3BjOkJvb2xlYW4iIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb3RpZmljYXRpb25NZXNzYWdlIiBUeXBlTmFtZT0idG5zOk5vdGlmaWNhdGlvbk1lc3NhZ2UiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mUmVzdWx0cyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlc3VsdHMiIFR5cGVOYW1lPSJ1YTpTdGF0dXNDb2RlIiBMZW5ndGhGaWVsZD0iTm9PZlJlc3VsdHMiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRGlhZ25vc3RpY0luZm9zIiBUeXBlTmFtZT0idWE6RGlhZ25vc3RpY0luZm8iIExlbmd0aEZpZWxkPSJOb09mRGlhZ25vc3RpY0luZm9zIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlJlcHVibGlzaFJlcXVlc3QiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVxdWVzdEhlYWRlciIgVHlwZU5hbWU9InRuczpSZXF1ZXN0SGVhZGVyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU3Vic2NyaXB0aW9uSWQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmV0cmFuc21pdFNlcXVlbmNlTnVtYmVyIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJSZXB1Ymxpc2hSZXNwb25zZSIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXNwb25zZUhlYWRlciIgVHlwZU5hbWU9InRuczpSZXNwb25zZUhlYWRlciIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vdGlmaWNhdGlvbk1lc3NhZ2UiIFR5cGVOYW1lPSJ0bnM6Tm90aWZpY2F0aW9uTWVzc2FnZSIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJUcmFuc2ZlclJlc3VsdCIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdGF0dXNDb2RlIiBUeXBlTmFtZT0idWE6U3RhdHVzQ29kZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZBdmFpbGFibGVTZXF1ZW5jZU51bWJlcnMiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJBdmFpbGFibGVTZXF1ZW5jZU51bWJlcnMiIFR5cGVOYW1lPSJvcGM6VUludDMyIiBMZW5ndGhGaWVsZD0iTm9PZkF2YWlsYWJsZVNlcXVlbmNlTnVtYmVycyIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJUcmFuc2ZlclN1YnNjcmlwdGlvbnNSZXF1ZXN0IiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlcXVlc3RIZWFkZXIiIFR5cGVOYW1lPSJ0bnM6UmVxdWVzdEhlYWRlciIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZTdWJzY3JpcHRpb25JZHMiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdWJzY3JpcHRpb25JZHMiIFR5cGVOYW1lPSJvcGM6VUludDMyIiBMZW5ndGhGaWVsZD0iTm9PZlN1YnNjcmlwdGlvbklkcyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNlbmRJbml0aWFsVmFsdWVzIiBUeXBlTmFtZT0ib3BjOkJvb2xlYW4iIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iVHJhbnNmZXJTdWJzY3JpcHRpb25zUmVzcG9uc2UiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVzcG9uc2VIZWFkZXIiIFR5cGVOYW1lPSJ0bnM6UmVzcG9uc2VIZWFkZXIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mUmVzdWx0cyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlc3VsdHMiIFR5cGVOYW1lPSJ0bnM6VHJhbnNmZXJSZXN1bHQiIExlbmd0aEZpZWxkPSJOb09mUmVzdWx0cyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZEaWFnbm9zdGljSW5mb3MiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJEaWFnbm9zdGljSW5mb3MiIFR5cGVOYW1lPSJ1YTpEaWFnbm9zdGljSW5mbyIgTGVuZ3RoRmllbGQ9Ik5vT2ZEaWFnbm9zdGljSW5mb3MiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iRGVsZXRlU3Vic2NyaXB0aW9uc1JlcXVlc3QiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVxdWVzdEhlYWRlciIgVHlwZU5hbWU9InRuczpSZXF1ZXN0SGVhZGVyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZlN1YnNjcmlwdGlvbklkcyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlN1YnNjcmlwdGlvbklkcyIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIExlbmd0aEZpZWxkPSJOb09mU3Vic2NyaXB0aW9uSWRzIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IkRlbGV0ZVN1YnNjcmlwdGlvbnNSZXNwb25zZSIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZXNwb25zZUhlYWRlciIgVHlwZU5hbWU9InRuczpSZXNwb25zZUhlYWRlciIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZSZXN1bHRzIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVzdWx0cyIgVHlwZU5hbWU9InVhOlN0YXR1c0NvZGUiIExlbmd0aEZpZWxkPSJOb09mUmVzdWx0cyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZEaWFnbm9zdGljSW5mb3MiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJEaWFnbm9zdGljSW5mb3MiIFR5cGVOYW1lPSJ1YTpEaWFnbm9zdGljSW5mbyIgTGVuZ3RoRmllbGQ9Ik5vT2ZEaWFnbm9zdGljSW5mb3MiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iQnVpbGRJbmZvIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlByb2R1Y3RVcmkiIFR5cGVOYW1lPSJvcGM6U3RyaW5nIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTWFudWZhY3R1cmVyTmFtZSIgVHlwZU5hbWU9Im9wYzpTdHJpbmciIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJQcm9kdWN0TmFtZSIgVHlwZU5hbWU9Im9wYzpTdHJpbmciIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTb2Z0d2FyZVZlcnNpb24iIFR5cGVOYW1lPSJvcGM6U3RyaW5nIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQnVpbGROdW1iZXIiIFR5cGVOYW1lPSJvcGM6U3RyaW5nIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQnVpbGREYXRlIiBUeXBlTmFtZT0ib3BjOkRhdGVUaW1lIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOkVudW1lcmF0ZWRUeXBlIE5hbWU9IlJlZHVuZGFuY3lTdXBwb3J0IiBMZW5ndGhJbkJpdHM9IjMyIj4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJOb25lIiBWYWx1ZT0iMCIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJDb2xkIiBWYWx1ZT0iMSIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJXYXJtIiBWYWx1ZT0iMiIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJIb3QiIFZhbHVlPSIzIiAvPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9IlRyYW5zcGFyZW50IiBWYWx1ZT0iNCIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJIb3RBbmRNaXJyb3JlZCIgVmFsdWU9IjUiIC8+DQogIDwvb3BjOkVudW1lcmF0ZWRUeXBlPg0KDQogIDxvcGM6RW51bWVyYXRlZFR5cGUgTmFtZT0iU2VydmVyU3RhdGUiIExlbmd0aEluQml0cz0iMzIiPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9IlJ1bm5pbmciIFZhbHVlPSIwIiAvPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9IkZhaWxlZCIgVmFsdWU9IjEiIC8+DQogICAgPG9wYzpFbnVtZXJhdGVkVmFsdWUgTmFtZT0iTm9Db25maWd1cmF0aW9uIiBWYWx1ZT0iMiIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJTdXNwZW5kZWQiIFZhbHVlPSIzIiAvPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9IlNodXRkb3duIiBWYWx1ZT0iNCIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJUZXN0IiBWYWx1ZT0iNSIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJDb21tdW5pY2F0aW9uRmF1bHQiIFZhbHVlPSI2IiAvPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9IlVua25vd24iIFZhbHVlPSI3IiAvPg0KICA8L29wYzpFbnVtZXJhdGVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlJlZHVuZGFudFNlcnZlckRhdGFUeXBlIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNlcnZlcklkIiBUeXBlTmFtZT0ib3BjOlN0cmluZyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNlcnZpY2VMZXZlbCIgVHlwZU5hbWU9Im9wYzpCeXRlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU2VydmVyU3RhdGUiIFR5cGVOYW1lPSJ0bnM6U2VydmVyU3RhdGUiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iRW5kcG9pbnRVcmxMaXN0RGF0YVR5cGUiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZkVuZHBvaW50VXJsTGlzdCIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkVuZHBvaW50VXJsTGlzdCIgVHlwZU5hbWU9Im9wYzpTdHJpbmciIExlbmd0aEZpZWxkPSJOb09mRW5kcG9pbnRVcmxMaXN0IiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9Ik5ldHdvcmtHcm91cERhdGFUeXBlIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNlcnZlclVyaSIgVHlwZU5hbWU9Im9wYzpTdHJpbmciIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mTmV0d29ya1BhdGhzIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTmV0d29ya1BhdGhzIiBUeXBlTmFtZT0idG5zOkVuZHBvaW50VXJsTGlzdERhdGFUeXBlIiBMZW5ndGhGaWVsZD0iTm9PZk5ldHdvcmtQYXRocyIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJTYW1wbGluZ0ludGVydmFsRGlhZ25vc3RpY3NEYXRhVHlwZSIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTYW1wbGluZ0ludGVydmFsIiBUeXBlTmFtZT0ib3BjOkRvdWJsZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik1vbml0b3JlZEl0ZW1Db3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJNYXhNb25pdG9yZWRJdGVtQ291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRGlzYWJsZWRNb25pdG9yZWRJdGVtQ291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlNlcnZlckRpYWdub3N0aWNzU3VtbWFyeURhdGFUeXBlIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNlcnZlclZpZXdDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDdXJyZW50U2Vzc2lvbkNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkN1bXVsYXRlZFNlc3Npb25Db3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTZWN1cml0eVJlamVjdGVkU2Vzc2lvbkNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlamVjdGVkU2Vzc2lvbkNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNlc3Npb25UaW1lb3V0Q291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU2Vzc2lvbkFib3J0Q291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQ3VycmVudFN1YnNjcmlwdGlvbkNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkN1bXVsYXRlZFN1YnNjcmlwdGlvbkNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlB1Ymxpc2hpbmdJbnRlcnZhbENvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNlY3VyaXR5UmVqZWN0ZWRSZXF1ZXN0c0NvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlamVjdGVkUmVxdWVzdHNDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iU2VydmVyU3RhdHVzRGF0YVR5cGUiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU3RhcnRUaW1lIiBUeXBlTmFtZT0ib3BjOkRhdGVUaW1lIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQ3VycmVudFRpbWUiIFR5cGVOYW1lPSJvcGM6RGF0ZVRpbWUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTdGF0ZSIgVHlwZU5hbWU9InRuczpTZXJ2ZXJTdGF0ZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkJ1aWxkSW5mbyIgVHlwZU5hbWU9InRuczpCdWlsZEluZm8iIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTZWNvbmRzVGlsbFNodXRkb3duIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNodXRkb3duUmVhc29uIiBUeXBlTmFtZT0idWE6TG9jYWxpemVkVGV4dCIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJTZXNzaW9uRGlhZ25vc3RpY3NEYXRhVHlwZSIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTZXNzaW9uSWQiIFR5cGVOYW1lPSJ1YTpOb2RlSWQiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTZXNzaW9uTmFtZSIgVHlwZU5hbWU9Im9wYzpTdHJpbmciIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDbGllbnREZXNjcmlwdGlvbiIgVHlwZU5hbWU9InRuczpBcHBsaWNhdGlvbkRlc2NyaXB0aW9uIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU2VydmVyVXJpIiBUeXBlTmFtZT0ib3BjOlN0cmluZyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkVuZHBvaW50VXJsIiBUeXBlTmFtZT0ib3BjOlN0cmluZyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik5vT2ZMb2NhbGVJZHMiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJMb2NhbGVJZHMiIFR5cGVOYW1lPSJvcGM6U3RyaW5nIiBMZW5ndGhGaWVsZD0iTm9PZkxvY2FsZUlkcyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkFjdHVhbFNlc3Npb25UaW1lb3V0IiBUeXBlTmFtZT0ib3BjOkRvdWJsZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik1heFJlc3BvbnNlTWVzc2FnZVNpemUiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQ2xpZW50Q29ubmVjdGlvblRpbWUiIFR5cGVOYW1lPSJvcGM6RGF0ZVRpbWUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDbGllbnRMYXN0Q29udGFjdFRpbWUiIFR5cGVOYW1lPSJvcGM6RGF0ZVRpbWUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDdXJyZW50U3Vic2NyaXB0aW9uc0NvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkN1cnJlbnRNb25pdG9yZWRJdGVtc0NvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkN1cnJlbnRQdWJsaXNoUmVxdWVzdHNJblF1ZXVlIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlRvdGFsUmVxdWVzdENvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJVbmF1dGhvcml6ZWRSZXF1ZXN0Q291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVhZENvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJIaXN0b3J5UmVhZENvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJXcml0ZUNvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJIaXN0b3J5VXBkYXRlQ291bnQiIFR5cGVOYW1lPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkNhbGxDb3VudCIgVHlwZU5hbWU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQ3JlYXRlTW9uaXRvcmVkSXRlbXNDb3VudCIgVHlwZU5hbWU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTW9kaWZ5TW9uaXRvcmVkSXRlbXNDb3VudCIgVHlwZU5hbWU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU2V0TW9uaXRvcmluZ01vZGVDb3VudCIgVHlwZU5hbWU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU2V0VHJpZ2dlcmluZ0NvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJEZWxldGVNb25pdG9yZWRJdGVtc0NvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDcmVhdGVTdWJzY3JpcHRpb25Db3VudCIgVHlwZU5hbWU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTW9kaWZ5U3Vic2NyaXB0aW9uQ291bnQiIFR5cGVOYW1lPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlNldFB1Ymxpc2hpbmdNb2RlQ291bnQiIFR5cGVOYW1lPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlB1Ymxpc2hDb3VudCIgVHlwZU5hbWU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVwdWJsaXNoQ291bnQiIFR5cGVOYW1lPSJ0bnM6U2VydmljZUNv");
         sb.append("dW50ZXJEYXRhVHlwZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlRyYW5zZmVyU3Vic2NyaXB0aW9uc0NvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJEZWxldGVTdWJzY3JpcHRpb25zQ291bnQiIFR5cGVOYW1lPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkFkZE5vZGVzQ291bnQiIFR5cGVOYW1lPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkFkZFJlZmVyZW5jZXNDb3VudCIgVHlwZU5hbWU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRGVsZXRlTm9kZXNDb3VudCIgVHlwZU5hbWU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRGVsZXRlUmVmZXJlbmNlc0NvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJCcm93c2VDb3VudCIgVHlwZU5hbWU9InRuczpTZXJ2aWNlQ291bnRlckRhdGFUeXBlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQnJvd3NlTmV4dENvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJUcmFuc2xhdGVCcm93c2VQYXRoc1RvTm9kZUlkc0NvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJRdWVyeUZpcnN0Q291bnQiIFR5cGVOYW1lPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlF1ZXJ5TmV4dENvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZWdpc3Rlck5vZGVzQ291bnQiIFR5cGVOYW1lPSJ0bnM6U2VydmljZUNvdW50ZXJEYXRhVHlwZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlVucmVnaXN0ZXJOb2Rlc0NvdW50IiBUeXBlTmFtZT0idG5zOlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iU2Vzc2lvblNlY3VyaXR5RGlhZ25vc3RpY3NEYXRhVHlwZSIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTZXNzaW9uSWQiIFR5cGVOYW1lPSJ1YTpOb2RlSWQiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDbGllbnRVc2VySWRPZlNlc3Npb24iIFR5cGVOYW1lPSJvcGM6U3RyaW5nIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZkNsaWVudFVzZXJJZEhpc3RvcnkiIFR5cGVOYW1lPSJvcGM6SW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDbGllbnRVc2VySWRIaXN0b3J5IiBUeXBlTmFtZT0ib3BjOlN0cmluZyIgTGVuZ3RoRmllbGQ9Ik5vT2ZDbGllbnRVc2VySWRIaXN0b3J5IiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQXV0aGVudGljYXRpb25NZWNoYW5pc20iIFR5cGVOYW1lPSJvcGM6U3RyaW5nIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRW5jb2RpbmciIFR5cGVOYW1lPSJvcGM6U3RyaW5nIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iVHJhbnNwb3J0UHJvdG9jb2wiIFR5cGVOYW1lPSJvcGM6U3RyaW5nIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU2VjdXJpdHlNb2RlIiBUeXBlTmFtZT0idG5zOk1lc3NhZ2VTZWN1cml0eU1vZGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJTZWN1cml0eVBvbGljeVVyaSIgVHlwZU5hbWU9Im9wYzpTdHJpbmciIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDbGllbnRDZXJ0aWZpY2F0ZSIgVHlwZU5hbWU9Im9wYzpCeXRlU3RyaW5nIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlNlcnZpY2VDb3VudGVyRGF0YVR5cGUiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iVG90YWxDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJFcnJvckNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJTdGF0dXNSZXN1bHQiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU3RhdHVzQ29kZSIgVHlwZU5hbWU9InVhOlN0YXR1c0NvZGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJEaWFnbm9zdGljSW5mbyIgVHlwZU5hbWU9InVhOkRpYWdub3N0aWNJbmZvIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlN1YnNjcmlwdGlvbkRpYWdub3N0aWNzRGF0YVR5cGUiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU2Vzc2lvbklkIiBUeXBlTmFtZT0idWE6Tm9kZUlkIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iU3Vic2NyaXB0aW9uSWQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUHJpb3JpdHkiIFR5cGVOYW1lPSJvcGM6Qnl0ZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlB1Ymxpc2hpbmdJbnRlcnZhbCIgVHlwZU5hbWU9Im9wYzpEb3VibGUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJNYXhLZWVwQWxpdmVDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJNYXhMaWZldGltZUNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ik1heE5vdGlmaWNhdGlvbnNQZXJQdWJsaXNoIiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlB1Ymxpc2hpbmdFbmFibGVkIiBUeXBlTmFtZT0ib3BjOkJvb2xlYW4iIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJNb2RpZnlDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJFbmFibGVDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJEaXNhYmxlQ291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVwdWJsaXNoUmVxdWVzdENvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlcHVibGlzaE1lc3NhZ2VSZXF1ZXN0Q291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iUmVwdWJsaXNoTWVzc2FnZUNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlRyYW5zZmVyUmVxdWVzdENvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlRyYW5zZmVycmVkVG9BbHRDbGllbnRDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJUcmFuc2ZlcnJlZFRvU2FtZUNsaWVudENvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlB1Ymxpc2hSZXF1ZXN0Q291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRGF0YUNoYW5nZU5vdGlmaWNhdGlvbnNDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJFdmVudE5vdGlmaWNhdGlvbnNDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb3RpZmljYXRpb25zQ291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTGF0ZVB1Ymxpc2hSZXF1ZXN0Q291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQ3VycmVudEtlZXBBbGl2ZUNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkN1cnJlbnRMaWZldGltZUNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlVuYWNrbm93bGVkZ2VkTWVzc2FnZUNvdW50IiBUeXBlTmFtZT0ib3BjOlVJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkRpc2NhcmRlZE1lc3NhZ2VDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJNb25pdG9yZWRJdGVtQ291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRGlzYWJsZWRNb25pdG9yZWRJdGVtQ291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTW9uaXRvcmluZ1F1ZXVlT3ZlcmZsb3dDb3VudCIgVHlwZU5hbWU9Im9wYzpVSW50MzIiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOZXh0U2VxdWVuY2VOdW1iZXIiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRXZlbnRRdWV1ZU92ZXJGbG93Q291bnQiIFR5cGVOYW1lPSJvcGM6VUludDMyIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOkVudW1lcmF0ZWRUeXBlIE5hbWU9Ik1vZGVsQ2hhbmdlU3RydWN0dXJlVmVyYk1hc2siIExlbmd0aEluQml0cz0iMzIiPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9Ik5vZGVBZGRlZCIgVmFsdWU9IjEiIC8+DQogICAgPG9wYzpFbnVtZXJhdGVkVmFsdWUgTmFtZT0iTm9kZURlbGV0ZWQiIFZhbHVlPSIyIiAvPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9IlJlZmVyZW5jZUFkZGVkIiBWYWx1ZT0iNCIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJSZWZlcmVuY2VEZWxldGVkIiBWYWx1ZT0iOCIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJEYXRhVHlwZUNoYW5nZWQiIFZhbHVlPSIxNiIgLz4NCiAgPC9vcGM6RW51bWVyYXRlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJNb2RlbENoYW5nZVN0cnVjdHVyZURhdGFUeXBlIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkFmZmVjdGVkIiBUeXBlTmFtZT0idWE6Tm9kZUlkIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQWZmZWN0ZWRUeXBlIiBUeXBlTmFtZT0idWE6Tm9kZUlkIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iVmVyYiIgVHlwZU5hbWU9Im9wYzpCeXRlIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IlNlbWFudGljQ2hhbmdlU3RydWN0dXJlRGF0YVR5cGUiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQWZmZWN0ZWQiIFR5cGVOYW1lPSJ1YTpOb2RlSWQiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJBZmZlY3RlZFR5cGUiIFR5cGVOYW1lPSJ1YTpOb2RlSWQiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iUmFuZ2UiIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTG93IiBUeXBlTmFtZT0ib3BjOkRvdWJsZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkhpZ2giIFR5cGVOYW1lPSJvcGM6RG91YmxlIiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IkVVSW5mb3JtYXRpb24iIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTmFtZXNwYWNlVXJpIiBUeXBlTmFtZT0ib3BjOlN0cmluZyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlVuaXRJZCIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkRpc3BsYXlOYW1lIiBUeXBlTmFtZT0idWE6TG9jYWxpemVkVGV4dCIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkRlc2NyaXB0aW9uIiBUeXBlTmFtZT0idWE6TG9jYWxpemVkVGV4dCIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpFbnVtZXJhdGVkVHlwZSBOYW1lPSJBeGlzU2NhbGVFbnVtZXJhdGlvbiIgTGVuZ3RoSW5CaXRzPSIzMiI+DQogICAgPG9wYzpFbnVtZXJhdGVkVmFsdWUgTmFtZT0iTGluZWFyIiBWYWx1ZT0iMCIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJMb2ciIFZhbHVlPSIxIiAvPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9IkxuIiBWYWx1ZT0iMiIgLz4NCiAgPC9vcGM6RW51bWVyYXRlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJDb21wbGV4TnVtYmVyVHlwZSIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJSZWFsIiBUeXBlTmFtZT0ib3BjOkZsb2F0IiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iSW1hZ2luYXJ5IiBUeXBlTmFtZT0ib3BjOkZsb2F0IiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IkRvdWJsZUNvbXBsZXhOdW1iZXJUeXBlIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlJlYWwiIFR5cGVOYW1lPSJvcGM6RG91YmxlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iSW1hZ2luYXJ5IiBUeXBlTmFtZT0ib3BjOkRvdWJsZSIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpTdHJ1Y3R1cmVkVHlwZSBOYW1lPSJBeGlzSW5mb3JtYXRpb24iIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRW5naW5lZXJpbmdVbml0cyIgVHlwZU5hbWU9InRuczpFVUluZm9ybWF0aW9uIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iRVVSYW5nZSIgVHlwZU5hbWU9InRuczpSYW5nZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlRpdGxlIiBUeXBlTmFtZT0idWE6TG9jYWxpemVkVGV4dCIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IkF4aXNTY2FsZVR5cGUiIFR5cGVOYW1lPSJ0bnM6QXhpc1NjYWxlRW51bWVyYXRpb24iIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mQXhpc1N0ZXBzIiBUeXBlTmFtZT0ib3BjOkludDMyIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iQXhpc1N0ZXBzIiBUeXBlTmFtZT0ib3BjOkRvdWJsZSIgTGVuZ3RoRmllbGQ9Ik5vT2ZBeGlzU3RlcHMiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iWFZUeXBlIiBCYXNlVHlwZT0idWE6RXh0ZW5zaW9uT2JqZWN0Ij4NCiAgICA8b3BjOkZpZWxkIE5hbWU9IlgiIFR5cGVOYW1lPSJvcGM6RG91YmxlIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iVmFsdWUiIFR5cGVOYW1lPSJvcGM6RmxvYXQiIC8+DQogIDwvb3BjOlN0cnVjdHVyZWRUeXBlPg0KDQogIDxvcGM6U3RydWN0dXJlZFR5cGUgTmFtZT0iUHJvZ3JhbURpYWdub3N0aWNEYXRhVHlwZSIgQmFzZVR5cGU9InVhOkV4dGVuc2lvbk9iamVjdCI+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDcmVhdGVTZXNzaW9uSWQiIFR5cGVOYW1lPSJ1YTpOb2RlSWQiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJDcmVhdGVDbGllbnROYW1lIiBUeXBlTmFtZT0ib3BjOlN0cmluZyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ikludm9jYXRpb25DcmVhdGlvblRpbWUiIFR5cGVOYW1lPSJvcGM6RGF0ZVRpbWUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJMYXN0VHJhbnNpdGlvblRpbWUiIFR5cGVOYW1lPSJvcGM6RGF0ZVRpbWUiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJMYXN0TWV0aG9kQ2FsbCIgVHlwZU5hbWU9Im9wYzpTdHJpbmciIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJMYXN0TWV0aG9kU2Vzc2lvbklkIiBUeXBlTmFtZT0idWE6Tm9kZUlkIiAvPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTm9PZkxhc3RNZXRob2RJbnB1dEFyZ3VtZW50cyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ikxhc3RNZXRob2RJbnB1dEFyZ3VtZW50cyIgVHlwZU5hbWU9InRuczpBcmd1bWVudCIgTGVuZ3RoRmllbGQ9Ik5vT2ZMYXN0TWV0aG9kSW5wdXRBcmd1bWVudHMiIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJOb09mTGFzdE1ldGhvZE91dHB1dEFyZ3VtZW50cyIgVHlwZU5hbWU9Im9wYzpJbnQzMiIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ikxhc3RNZXRob2RPdXRwdXRBcmd1bWVudHMiIFR5cGVOYW1lPSJ0bnM6QXJndW1lbnQiIExlbmd0aEZpZWxkPSJOb09mTGFzdE1ldGhvZE91dHB1dEFyZ3VtZW50cyIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ikxhc3RNZXRob2RDYWxsVGltZSIgVHlwZU5hbWU9Im9wYzpEYXRlVGltZSIgLz4NCiAgICA8b3BjOkZpZWxkIE5hbWU9Ikxhc3RNZXRob2RSZXR1cm5TdGF0dXMiIFR5cGVOYW1lPSJ0bnM6U3RhdHVzUmVzdWx0IiAvPg0KICA8L29wYzpTdHJ1Y3R1cmVkVHlwZT4NCg0KICA8b3BjOlN0cnVjdHVyZWRUeXBlIE5hbWU9IkFubm90YXRpb24iIEJhc2VUeXBlPSJ1YTpFeHRlbnNpb25PYmplY3QiPg0KICAgIDxvcGM6RmllbGQgTmFtZT0iTWVzc2FnZSIgVHlwZU5hbWU9Im9wYzpTdHJpbmciIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJVc2VyTmFtZSIgVHlwZU5hbWU9Im9wYzpTdHJpbmciIC8+DQogICAgPG9wYzpGaWVsZCBOYW1lPSJBbm5vdGF0aW9uVGltZSIgVHlwZU5hbWU9Im9wYzpEYXRlVGltZSIgLz4NCiAgPC9vcGM6U3RydWN0dXJlZFR5cGU+DQoNCiAgPG9wYzpFbnVtZXJhdGVkVHlwZSBOYW1lPSJFeGNlcHRpb25EZXZpYXRpb25Gb3JtYXQiIExlbmd0aEluQml0cz0iMzIiPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9IkFic29sdXRlVmFsdWUiIFZhbHVlPSIwIiAvPg0KICAgIDxvcGM6RW51bWVyYXRlZFZhbHVlIE5hbWU9IlBlcmNlbnRPZlZhbHVlIiBWYWx1ZT0iMSIgLz4NCiAgICA8b3BjOkVudW1lcmF0ZWRWYWx1ZSBOYW1lPSJQZXJjZW50T2ZSYW5nZSIgVmFsdWU9IjIiIC8+DQogICAgPG9wYzpFbnVtZXJhdGVkVmFsdWUgTmFtZT0iUGVyY2VudE9mRVVSYW5nZSIgVmFsdWU9IjMiIC8+DQogICAgPG9wYzpFbnVtZXJhdGVkVmFsdWUgTmFtZT0iVW5rbm93biIgVmFsdWU9IjQiIC8+DQogIDwvb3BjOkVudW1lcmF0ZWRUeXBlPg0KDQo8L29wYzpUeXBlRGljdGlvbmFyeT4=</ByteString>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11172,8 +10866,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">http://opcfoundation.org/UA/</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11186,8 +10879,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">Argument</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11200,8 +10892,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">EnumValueType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11214,8 +10905,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">StatusResult</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11228,8 +10918,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">UserTokenPolicy</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11242,8 +10931,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ApplicationDescription</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11256,8 +10944,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">EndpointDescription</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11270,8 +10957,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">UserIdentityToken</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11284,8 +10970,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">AnonymousIdentityToken</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11298,8 +10983,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">UserNameIdentityToken</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11312,8 +10996,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">X509IdentityToken</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11326,8 +11009,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">IssuedIdentityToken</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11340,8 +11022,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">EndpointConfiguration</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11354,8 +11035,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">BuildInfo</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11368,8 +11048,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">SignedSoftwareCertificate</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11382,8 +11061,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">AddNodesItem</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11396,8 +11074,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">AddReferencesItem</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11410,8 +11087,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">DeleteNodesItem</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11424,8 +11100,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">DeleteReferencesItem</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11487,8 +11162,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>0</Value><DisplayName><Locale>                </Locale><Text>Unspecified</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1</Value><DisplayName><Locale>                </Locale><Text>Object</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2</Value><DisplayName><Locale>                </Locale><Text>Variable</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4</Value><DisplayName><Locale>                </Locale><Text>Method</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>8</Value><DisplayName><Locale>                </Locale><Text>ObjectType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>16</Value><DisplayName><Locale>                </Locale><Text>VariableType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>32</Value><DisplayName><Locale>                </Locale><Text>ReferenceType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>64</Value><DisplayName><Locale>                </Locale><Text>DataType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>128</Value><DisplayName><Locale>                </Locale><Text>View</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11501,8 +11175,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">RegisteredServer</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11516,8 +11189,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>0</Value><DisplayName><Locale>                </Locale><Text>None</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1</Value><DisplayName><Locale>                </Locale><Text>AccessLevel</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2</Value><DisplayName><Locale>                </Locale><Text>ArrayDimensions</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4</Value><DisplayName><Locale>                </Locale><Text>BrowseName</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>8</Value><DisplayName><Locale>                </Locale><Text>ContainsNoLoops</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>16</Value><DisplayName><Locale>                </Locale><Text>DataType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>32</Value><DisplayName><Locale>                </Locale><Text>Description</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>64</Value><DisplayName><Locale>                </Locale><Text>DisplayName</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>128</Value><DisplayName><Locale>                </Locale><Text>EventNotifier</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>256</Value><DisplayName><Locale>                </Locale><Text>Executable</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>512</Value><DisplayName><Locale>                </Locale><Text>Historizing</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1024</Value><DisplayName><Locale>                </Locale><Text>InverseName</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2048</Value><DisplayName><Locale>                </Locale><Text>IsAbstract</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4096</Value><DisplayName><Locale>                </Locale><Text>MinimumSamplingInterval</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>8192</Value><DisplayName><Locale>                </Locale><Text>NodeClass</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>16384</Value><DisplayName><Locale>                </Locale><Text>NodeId</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>32768</Value><DisplayName><Locale>                </Locale><Text>Symmetric</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>65536</Value><DisplayName><Locale>                </Locale><Text>UserAccessLevel</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>131072</Value><DisplayName><Locale>                </Locale><Text>UserExecutable</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>262144</Value><DisplayName><Locale>                </Locale><Text>UserWriteMask</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>524288</Value><DisplayName><Locale>                </Locale><Text>ValueRank</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1048576</Value><DisplayName><Locale>                </Locale><Text>WriteMask</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2097152</Value><DisplayName><Locale>                </Locale><Text>Value</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4194303</Value><DisplayName><Locale>                </Locale><Text>All</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1335396</Value><DisplayName><Locale>                </Locale><Text>BaseNode</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1335524</Value><DisplayName><Locale>                </Locale><Text>Object</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1337444</Value><DisplayName><Locale>                </Locale><Text>ObjectTypeOrDataType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4026999</Value><DisplayName><Locale>                </Locale><Text>Variable</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>3958902</Value><DisplayName><Locale>                </Locale><Text>VariableType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1466724</Value><DisplayName><Locale>                </Locale><Text>Method</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1371236</Value><DisplayName><Locale>                </Locale><Text>ReferenceType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1335532</Value><DisplayName><Locale>                </Locale><Text>View</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11531,8 +11203,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>0</Value><DisplayName><Locale>                </Locale><Text>None</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1</Value><DisplayName><Locale>                </Locale><Text>AccessLevel</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2</Value><DisplayName><Locale>                </Locale><Text>ArrayDimensions</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4</Value><DisplayName><Locale>                </Locale><Text>BrowseName</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>8</Value><DisplayName><Locale>                </Locale><Text>ContainsNoLoops</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>16</Value><DisplayName><Locale>                </Locale><Text>DataType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>32</Value><DisplayName><Locale>                </Locale><Text>Description</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>64</Value><DisplayName><Locale>                </Locale><Text>DisplayName</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>128</Value><DisplayName><Locale>                </Locale><Text>EventNotifier</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>256</Value><DisplayName><Locale>                </Locale><Text>Executable</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>512</Value><DisplayName><Locale>                </Locale><Text>Historizing</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1024</Value><DisplayName><Locale>                </Locale><Text>InverseName</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2048</Value><DisplayName><Locale>                </Locale><Text>IsAbstract</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4096</Value><DisplayName><Locale>                </Locale><Text>MinimumSamplingInterval</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>8192</Value><DisplayName><Locale>                </Locale><Text>NodeClass</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>16384</Value><DisplayName><Locale>                </Locale><Text>NodeId</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>32768</Value><DisplayName><Locale>                </Locale><Text>Symmetric</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>65536</Value><DisplayName><Locale>                </Locale><Text>UserAccessLevel</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>131072</Value><DisplayName><Locale>                </Locale><Text>UserExecutable</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>262144</Value><DisplayName><Locale>                </Locale><Text>UserWriteMask</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>524288</Value><DisplayName><Locale>                </Locale><Text>ValueRank</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1048576</Value><DisplayName><Locale>                </Locale><Text>WriteMask</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2097152</Value><DisplayName><Locale>                </Locale><Text>ValueForVariableType</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11546,8 +11217,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1</Value><DisplayName><Locale>                </Locale><Text>Insert</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2</Value><DisplayName><Locale>                </Locale><Text>Replace</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>3</Value><DisplayName><Locale>                </Locale><Text>Update</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4</Value><DisplayName><Locale>                </Locale><Text>Delete</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11561,8 +11231,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1</Value><DisplayName><Locale>                </Locale><Text>Insert</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2</Value><DisplayName><Locale>                </Locale><Text>Replace</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>3</Value><DisplayName><Locale>                </Locale><Text>Update</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4</Value><DisplayName><Locale>                </Locale><Text>Remove</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11715,8 +11384,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1</Value><DisplayName><Locale>                </Locale><Text>Read</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2</Value><DisplayName><Locale>                </Locale><Text>Write</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>4</Value><DisplayName><Locale>                </Locale><Text>EraseExisting</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>8</Value><DisplayName><Locale>                </Locale><Text>Append</Text>              </DisplayName>            </EnumValueType>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11753,8 +11421,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='EndpointUrlListDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11767,8 +11434,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='NetworkGroupDataType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11781,8 +11447,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">EndpointUrlListDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11795,8 +11460,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">NetworkGroupDataType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11868,8 +11532,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ContentFilterElement</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11925,8 +11588,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ContentFilter</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11955,8 +11617,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">FilterOperand</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -11993,8 +11654,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ElementOperand</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12039,8 +11699,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">LiteralOperand</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12077,8 +11736,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">AttributeOperand</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12099,8 +11757,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">SimpleAttributeOperand</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12170,8 +11827,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=297</Identifier>          </TypeId><Body><Argument><Name>SubscriptionId</Name><DataType><Identifier>i=288</Identifier>              </DataType><ValueRank>-1</ValueRank><ArrayDimensions/><Description><Locale>                </Locale><Text>The identifier for the suscription to refresh.</Text>              </Description>            </Argument>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12193,8 +11849,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfLocalizedText xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><LocalizedText><Locale>          </Locale><Text>Linear</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Log</Text>        </LocalizedText><LocalizedText><Locale>          </Locale><Text>Ln</Text>        </LocalizedText>      </ListOfLocalizedText>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12207,8 +11862,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='AxisInformation']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12221,8 +11875,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='XVType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12235,8 +11888,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">AxisInformation</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12249,8 +11901,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">XVType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12330,8 +11981,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">HistoryEvent</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12793,8 +12443,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">MonitoringFilter</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12844,8 +12493,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<ListOfExtensionObject xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>1</Value><DisplayName><Locale>                </Locale><Text>Mandatory</Text>              </DisplayName><Description><Locale>                </Locale><Text>The BrowseName must appear in all instances of the type.</Text>              </Description>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>2</Value><DisplayName><Locale>                </Locale><Text>Optional</Text>              </DisplayName><Description><Locale>                </Locale><Text>The BrowseName may appear in an instance of the type.</Text>              </Description>            </EnumValueType>          </Body>        </ExtensionObject><ExtensionObject><TypeId><Identifier>i=7616</Identifier>          </TypeId><Body><EnumValueType><Value>3</Value><DisplayName><Locale>                </Locale><Text>Constraint</Text>              </DisplayName><Description><Locale>                </Locale><Text>The modelling rule defines a constraint and the BrowseName is not used in an instance of the type.</Text>              </Description>            </EnumValueType>          </Body>        </ExtensionObject>      </ListOfExtensionObject>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12858,8 +12506,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">EventFilter</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12878,8 +12525,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">AggregateConfiguration</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12892,8 +12538,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ComplexNumberType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12906,8 +12551,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='DoubleComplexNumberType']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12920,8 +12564,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ComplexNumberType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12934,8 +12577,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">DoubleComplexNumberType</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12948,8 +12590,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">//xs:element[@name='ServerOnNetwork']</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12962,8 +12603,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">ServerOnNetwork</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -12976,8 +12616,7 @@ class VariableNodeLoader {
         StringBuilder sb = new StringBuilder();
         sb.append("<String xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">HistoryEventFieldList</String>");
         String xml = sb.toString();
-        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(context.getServer().getSerializationContext()).setInput(new StringReader(xml));
-        Object o = decoder.readVariantValue();
+        Object o = decoder.decodeVariantValue(xml);
         DataValue value = new DataValue(new Variant(o));
         node.setValue(value);
         this.nodeManager.addNode(node);
@@ -52,7 +52,7 @@ public class UaDataTypeNode extends UaNode implements DataTypeNode {
     }
 
     @Override
-    public synchronized Object getAttribute(AttributeId attributeId) {
+    public Object getAttribute(AttributeId attributeId) {
         if (attributeId == AttributeId.IsAbstract) {
             return isAbstract;
         } else {
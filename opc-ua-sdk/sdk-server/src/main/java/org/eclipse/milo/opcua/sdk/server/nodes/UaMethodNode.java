@@ -87,7 +87,7 @@ public class UaMethodNode extends UaNode implements MethodNode {
     }
 
     @Override
-    public synchronized Object getAttribute(AttributeId attributeId) {
+    public Object getAttribute(AttributeId attributeId) {
         switch (attributeId) {
             case Executable:
                 return executable;
@@ -10,11 +10,11 @@
 
 package org.eclipse.milo.opcua.sdk.server.nodes;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Predicate;
 
 import com.google.common.collect.ImmutableList;
@@ -48,22 +48,35 @@ import static org.eclipse.milo.opcua.sdk.core.util.StreamUtil.opt2stream;
 import static org.eclipse.milo.opcua.sdk.server.util.AttributeUtil.dv;
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
+/**
+ * The base class of the Nodes in a server's address space.
+ * <p>
+ * Each attribute value is immutable and is published through a volatile field, so attributes are read without
+ * locking. {@link #setAttribute(AttributeId, Object)} stores a value and notifies {@link AttributeObserver}s while
+ * holding the lock on the Node, so writes are serialized and the last notification observers see is of the current
+ * value. Observers are kept in a copy-on-write array, so firing an attribute change neither locks nor allocates.
+ */
 public abstract class UaNode implements UaServerNode {
 
-    private AttributeDelegate attributeDelegate;
-    private List<AttributeObserver> observers;
+    private static final AttributeObserver[] NO_OBSERVERS = new AttributeObserver[0];
+
+    private static final AtomicReferenceFieldUpdater<UaNode, AttributeObserver[]> OBSERVERS_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(UaNode.class, AttributeObserver[].class, "observers");
+
+    private volatile AttributeDelegate attributeDelegate;
+    private volatile AttributeObserver[] observers = NO_OBSERVERS;
 
     final AttributeFilterChain filterChain = new AttributeFilterChain();
 
     private final UaNodeContext context;
 
-    private NodeId nodeId;
-    private NodeClass nodeClass;
-    private QualifiedName browseName;
-    private LocalizedText displayName;
-    private LocalizedText description;
-    private UInteger writeMask;
-    private UInteger userWriteMask;
+    private volatile NodeId nodeId;
+    private volatile NodeClass nodeClass;
+    private volatile QualifiedName browseName;
+    private volatile LocalizedText displayName;
+    private volatile LocalizedText description;
+    private volatile UInteger writeMask;
+    private volatile UInteger userWriteMask;
 
     protected UaNode(
         UaNodeContext context,
@@ -173,7 +186,7 @@ public abstract class UaNode implements UaServerNode {
      * @param attributeId the {@link AttributeId} to get the value for.
      * @return the value for {@code attributeId}.
      */
-    public synchronized Object getAttribute(AttributeId attributeId) {
+    public Object getAttribute(AttributeId attributeId) {
         switch (attributeId) {
             case NodeId:
                 return nodeId;
@@ -208,7 +221,8 @@ public abstract class UaNode implements UaServerNode {
      * Direct write access to the field for {@code attributeId}, bypassing the {@link AttributeFilterChain}.
      * <p>
      * Setting an attribute value invokes {@link #fireAttributeChanged(AttributeId, Object)}, notifying any registered
-     * {@link AttributeObserver}s of the change.
+     * {@link AttributeObserver}s of the change. The value is stored and observers notified while holding the lock on
+     * this Node, so concurrent writes are notified in the order they were stored.
      *
      * @param attributeId the {@link AttributeId} to set the value for.
      * @param value       the value to set.
@@ -587,27 +601,67 @@ public abstract class UaNode implements UaServerNode {
         return Optional.ofNullable(node);
     }
 
-    public synchronized void addAttributeObserver(AttributeObserver observer) {
-        if (observers == null) {
-            observers = new LinkedList<>();
-        }
+    public void addAttributeObserver(AttributeObserver observer) {
+        while (true) {
+            AttributeObserver[] current = observers;
+            AttributeObserver[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = observer;
 
-        observers.add(observer);
+            if (OBSERVERS_UPDATER.compareAndSet(this, current, updated)) {
+                return;
+            }
+        }
     }
 
-    public synchronized void removeAttributeObserver(AttributeObserver observer) {
-        if (observers == null) return;
+    public void removeAttributeObserver(AttributeObserver observer) {
+        while (true) {
+            AttributeObserver[] current = observers;
+            AttributeObserver[] updated;
 
-        observers.remove(observer);
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].equals(observer)) {
+                    index = i;
+                    break;
+                }
+            }
+
+            if (index < 0) return;
+
+            if (current.length == 1) {
+                updated = NO_OBSERVERS;
+            } else {
+                updated = new AttributeObserver[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, index);
+                System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+            }
 
-        if (observers.isEmpty()) observers = null;
+            if (OBSERVERS_UPDATER.compareAndSet(this, current, updated)) {
+                return;
+            }
+        }
     }
 
-    public synchronized void fireAttributeChanged(AttributeId attributeId, Object attributeValue) {
-        if (observers == null) return;
+    /**
+     * @return {@code true} if any {@link AttributeObserver}s are registered with this Node.
+     */
+    public boolean hasAttributeObservers() {
+        return observers.length > 0;
+    }
 
-        List<AttributeObserver> toNotify = new ArrayList<>(observers);
-        toNotify.forEach(o -> o.attributeChanged(this, attributeId, attributeValue));
+    /**
+     * Notify the {@link AttributeObserver}s registered with this Node that an attribute changed.
+     * <p>
+     * Observers are notified on the calling thread; an observer added or removed concurrently may or may not be
+     * notified.
+     *
+     * @param attributeId    the {@link AttributeId} of the attribute that changed.
+     * @param attributeValue the new value.
+     */
+    public void fireAttributeChanged(AttributeId attributeId, Object attributeValue) {
+        for (AttributeObserver observer : observers) {
+            observer.attributeChanged(this, attributeId, attributeValue);
+        }
     }
 
     /**
@@ -624,7 +678,7 @@ public abstract class UaNode implements UaServerNode {
      *
      * @param attributeDelegate the {@link AttributeDelegate}.
      */
-    public synchronized void setAttributeDelegate(AttributeDelegate attributeDelegate) {
+    public void setAttributeDelegate(AttributeDelegate attributeDelegate) {
         this.attributeDelegate = attributeDelegate;
     }
 
@@ -634,7 +688,7 @@ public abstract class UaNode implements UaServerNode {
      * @return the current {@link AttributeDelegate} for this node.
      */
     @Nullable
-    public synchronized AttributeDelegate getAttributeDelegate() {
+    public AttributeDelegate getAttributeDelegate() {
         return attributeDelegate;
     }
 
@@ -644,7 +698,7 @@ public abstract class UaNode implements UaServerNode {
 
         if (delegate == null) {
             try {
-                Object attributeValue = getFilterChain().getAttribute(
+                Object attributeValue = filterChain.getAttribute(
                     context.getSession().orElse(null),
                     this,
                     attributeId
@@ -677,7 +731,7 @@ public abstract class UaNode implements UaServerNode {
 
         if (delegate == null) {
             try {
-                getFilterChain().setAttribute(
+                filterChain.setAttribute(
                     context.getSession().orElse(null),
                     this,
                     attributeId,
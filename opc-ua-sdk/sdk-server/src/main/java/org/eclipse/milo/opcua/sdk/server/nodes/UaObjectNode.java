@@ -52,7 +52,7 @@ import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.
 
 public class UaObjectNode extends UaNode implements ObjectNode {
 
-    private UByte eventNotifier = ubyte(0);
+    private volatile UByte eventNotifier = ubyte(0);
 
     public UaObjectNode(
         UaNodeContext context,
@@ -114,7 +114,7 @@ public class UaObjectNode extends UaNode implements ObjectNode {
     }
 
     @Override
-    public synchronized Object getAttribute(AttributeId attributeId) {
+    public Object getAttribute(AttributeId attributeId) {
         if (attributeId == AttributeId.EventNotifier) {
             return eventNotifier;
         } else {
@@ -40,7 +40,7 @@ import static org.eclipse.milo.opcua.sdk.core.util.StreamUtil.opt2stream;
 
 public class UaObjectTypeNode extends UaNode implements ObjectTypeNode {
 
-    private Boolean isAbstract;
+    private volatile Boolean isAbstract;
 
     public UaObjectTypeNode(
         UaNodeContext context,
@@ -69,7 +69,7 @@ public class UaObjectTypeNode extends UaNode implements ObjectTypeNode {
     }
 
     @Override
-    public synchronized Object getAttribute(AttributeId attributeId) {
+    public Object getAttribute(AttributeId attributeId) {
         if (attributeId == AttributeId.IsAbstract) {
             return isAbstract;
         } else {
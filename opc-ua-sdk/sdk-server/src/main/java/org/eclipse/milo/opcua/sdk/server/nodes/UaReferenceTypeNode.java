@@ -22,9 +22,9 @@ import org.jetbrains.annotations.Nullable;
 
 public class UaReferenceTypeNode extends UaNode implements ReferenceTypeNode {
 
-    private Boolean isAbstract;
-    private Boolean symmetric;
-    private LocalizedText inverseName;
+    private volatile Boolean isAbstract;
+    private volatile Boolean symmetric;
+    private volatile LocalizedText inverseName;
 
     public UaReferenceTypeNode(
         UaNodeContext context,
@@ -78,7 +78,7 @@ public class UaReferenceTypeNode extends UaNode implements ReferenceTypeNode {
     }
 
     @Override
-    public synchronized Object getAttribute(AttributeId attributeId) {
+    public Object getAttribute(AttributeId attributeId) {
         switch (attributeId) {
             case IsAbstract:
                 return isAbstract;
@@ -59,14 +59,14 @@ public class UaVariableNode extends UaNode implements VariableNode {
 
     private static final DataValue INITIAL_VALUE = new DataValue(new StatusCode(StatusCodes.Uncertain_InitialValue));
 
-    private DataValue value = INITIAL_VALUE;
-    private NodeId dataType = Identifiers.BaseDataType;
-    private Integer valueRank = ValueRanks.Scalar;
-    private UInteger[] arrayDimensions = null;
-    private UByte accessLevel = AccessLevel.toValue(AccessLevel.CurrentRead);
-    private UByte userAccessLevel = AccessLevel.toValue(AccessLevel.CurrentRead);
-    private Double minimumSamplingInterval = -1.0;
-    private Boolean historizing = false;
+    private volatile DataValue value = INITIAL_VALUE;
+    private volatile NodeId dataType = Identifiers.BaseDataType;
+    private volatile Integer valueRank = ValueRanks.Scalar;
+    private volatile UInteger[] arrayDimensions = null;
+    private volatile UByte accessLevel = AccessLevel.toValue(AccessLevel.CurrentRead);
+    private volatile UByte userAccessLevel = AccessLevel.toValue(AccessLevel.CurrentRead);
+    private volatile Double minimumSamplingInterval = -1.0;
+    private volatile Boolean historizing = false;
 
     public UaVariableNode(
         UaNodeContext context,
@@ -216,7 +216,7 @@ public class UaVariableNode extends UaNode implements VariableNode {
     }
 
     @Override
-    public synchronized Object getAttribute(AttributeId attributeId) {
+    public Object getAttribute(AttributeId attributeId) {
         switch (attributeId) {
             case Value:
                 // The value is being directly from the field/memory.
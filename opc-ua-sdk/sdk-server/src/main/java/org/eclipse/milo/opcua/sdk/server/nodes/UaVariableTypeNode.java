@@ -24,11 +24,11 @@ import org.jetbrains.annotations.Nullable;
 
 public class UaVariableTypeNode extends UaNode implements VariableTypeNode {
 
-    private DataValue value;
-    private NodeId dataType;
-    private Integer valueRank;
-    private UInteger[] arrayDimensions;
-    private Boolean isAbstract;
+    private volatile DataValue value;
+    private volatile NodeId dataType;
+    private volatile Integer valueRank;
+    private volatile UInteger[] arrayDimensions;
+    private volatile Boolean isAbstract;
 
     public UaVariableTypeNode(
         UaNodeContext context,
@@ -105,7 +105,7 @@ public class UaVariableTypeNode extends UaNode implements VariableTypeNode {
     }
 
     @Override
-    public synchronized Object getAttribute(AttributeId attributeId) {
+    public Object getAttribute(AttributeId attributeId) {
         switch (attributeId) {
             case Value:
                 return value;
@@ -23,8 +23,8 @@ import org.jetbrains.annotations.Nullable;
 
 public class UaViewNode extends UaNode implements ViewNode {
 
-    private Boolean containsNoLoops;
-    private UByte eventNotifier;
+    private volatile Boolean containsNoLoops;
+    private volatile UByte eventNotifier;
 
     public UaViewNode(
         UaNodeContext context,
@@ -65,7 +65,7 @@ public class UaViewNode extends UaNode implements ViewNode {
     }
 
     @Override
-    public synchronized Object getAttribute(AttributeId attributeId) {
+    public Object getAttribute(AttributeId attributeId) {
         switch (attributeId) {
             case ContainsNoLoops:
                 return containsNoLoops;
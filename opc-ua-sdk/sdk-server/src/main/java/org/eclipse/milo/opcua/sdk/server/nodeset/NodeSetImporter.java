@@ -0,0 +1,535 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.nodeset;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.xml.stream.XMLStreamException;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.ObjectTypeManager;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.VariableTypeManager;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaDataTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaReferenceTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaViewNode;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaXmlStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports the Nodes and References of a NodeSet2 XML document, e.g. a companion specification or device model, into
+ * a {@link UaNodeManager}, typically from within a {@link org.eclipse.milo.opcua.sdk.server.api.ManagedNamespace}:
+ *
+ * <pre>{@code
+ * new NodeSetImporter(getServer(), getNodeContext(), getNodeManager()).importNodes(inputStream);
+ * }</pre>
+ * <p>
+ * The document is parsed as a stream and Nodes are created in batches on an {@link ExecutorService}, with at most
+ * {@link #setParallelism(int) parallelism} batches parsed ahead of the ones being created, so neither the document
+ * nor its parsed Nodes are held in memory beyond the Nodes created from them. The References of each Node are added
+ * as declared once the Node is created; after all Nodes are created, the inverse of each declared Reference is added
+ * unless it was declared too.
+ * <p>
+ * Object and Variable Nodes are created with the constructor registered for their type definition with the
+ * {@link ObjectTypeManager} or {@link VariableTypeManager}, if there is one, and as plain Nodes otherwise. Variable
+ * and VariableType values are decoded with {@link OpcUaXmlStreamDecoder}; a value that can't be decoded is logged
+ * and left null.
+ */
+public class NodeSetImporter {
+
+    /**
+     * Groups of References bigger than this are indexed with a {@link GroupIndex} to check whether they contain an
+     * inverse Reference, rather than searched.
+     */
+    private static final int LINEAR_SEARCH_LIMIT = 32;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private int batchSize = 1024;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private final UaNodeContext context;
+    private final UaNodeManager nodeManager;
+    private final ObjectTypeManager objectTypeManager;
+    private final VariableTypeManager variableTypeManager;
+    private final SerializationContext serializationContext;
+    private final ExecutorService executor;
+
+    /**
+     * Create a {@link NodeSetImporter} that uses the type managers, serialization context and executor of
+     * {@code server}.
+     *
+     * @param server      the {@link OpcUaServer}.
+     * @param context     the {@link UaNodeContext} to create Nodes with.
+     * @param nodeManager the {@link UaNodeManager} to add Nodes and References to.
+     */
+    public NodeSetImporter(OpcUaServer server, UaNodeContext context, UaNodeManager nodeManager) {
+        this(
+            context,
+            nodeManager,
+            server.getObjectTypeManager(),
+            server.getVariableTypeManager(),
+            server.getSerializationContext(),
+            server.getExecutorService()
+        );
+    }
+
+    /**
+     * @param context              the {@link UaNodeContext} to create Nodes with.
+     * @param nodeManager          the {@link UaNodeManager} to add Nodes and References to.
+     * @param objectTypeManager    the {@link ObjectTypeManager} to look up Object Node constructors in.
+     * @param variableTypeManager  the {@link VariableTypeManager} to look up Variable Node constructors in.
+     * @param serializationContext the {@link SerializationContext} to decode values with.
+     * @param executor             the {@link ExecutorService} to create Nodes on.
+     */
+    public NodeSetImporter(
+        UaNodeContext context,
+        UaNodeManager nodeManager,
+        ObjectTypeManager objectTypeManager,
+        VariableTypeManager variableTypeManager,
+        SerializationContext serializationContext,
+        ExecutorService executor
+    ) {
+
+        this.context = context;
+        this.nodeManager = nodeManager;
+        this.objectTypeManager = objectTypeManager;
+        this.variableTypeManager = variableTypeManager;
+        this.serializationContext = serializationContext;
+        this.executor = executor;
+    }
+
+    /**
+     * @param batchSize the number of Nodes to create per task. Defaults to 1024.
+     * @return this {@link NodeSetImporter}.
+     */
+    public NodeSetImporter setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize: " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @param parallelism the maximum number of batches parsed and not yet created. Defaults to the number of
+     *                    available processors.
+     * @return this {@link NodeSetImporter}.
+     */
+    public NodeSetImporter setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism: " + parallelism);
+        }
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Import the Nodes and References in a NodeSet2 XML document.
+     * <p>
+     * The namespace URIs in the document are added to the Server's {@link NamespaceTable} if not present, and the
+     * namespace indices in the document translated to the Server's. This doesn't close {@code inputStream}.
+     *
+     * @param inputStream the NodeSet2 XML document.
+     * @return the number of Nodes imported.
+     * @throws UaException if the document can't be parsed or a Node can't be created; the Nodes and References
+     *                     imported up to then are not removed.
+     */
+    public int importNodes(InputStream inputStream) throws UaException {
+        long startTime = System.nanoTime();
+
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        List<List<NodeId>> batches = new ArrayList<>();
+        int count = 0;
+
+        try (NodeSetReader reader = new NodeSetReader(inputStream, context.getNamespaceTable())) {
+            List<NodeSetReader.NodeElement> batch = new ArrayList<>(batchSize);
+
+            NodeSetReader.NodeElement node;
+
+            while ((node = reader.next()) != null && failure.get() == null) {
+                batch.add(node);
+
+                if (batch.size() == batchSize) {
+                    batches.add(nodeIds(batch));
+                    futures.add(submit(permits, failure, createNodes(batch)));
+                    count += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+
+            if (!batch.isEmpty() && failure.get() == null) {
+                batches.add(nodeIds(batch));
+                futures.add(submit(permits, failure, createNodes(batch)));
+                count += batch.size();
+            }
+        } catch (XMLStreamException e) {
+            await(futures);
+
+            throw new UaException(StatusCodes.Bad_DecodingError, e);
+        }
+
+        await(futures);
+
+        // inverse References are added once every declared Reference has been, so each can be checked for
+        ConcurrentMap<GroupKey, GroupIndex> groups = new ConcurrentHashMap<>();
+
+        futures.clear();
+        for (List<NodeId> nodeIds : batches) {
+            futures.add(submit(permits, failure, () -> addInverseReferences(nodeIds, groups)));
+        }
+
+        await(futures);
+
+        logger.debug(
+            "Imported {} nodes in {}ms.",
+            count, (System.nanoTime() - startTime) / 1_000_000
+        );
+
+        return count;
+    }
+
+    private CompletableFuture<Void> submit(Semaphore permits, AtomicReference<Throwable> failure, Runnable task)
+        throws UaException {
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new UaException(StatusCodes.Bad_UnexpectedError, e);
+        }
+
+        CompletableFuture<Void> future = CompletableFuture.runAsync(task, executor);
+
+        future.whenComplete((v, ex) -> {
+            if (ex != null) {
+                failure.compareAndSet(null, ex);
+            }
+
+            permits.release();
+        });
+
+        return future;
+    }
+
+    private static void await(List<CompletableFuture<Void>> futures) throws UaException {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new UaException(StatusCodes.Bad_UnexpectedError, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof UaException) {
+                throw (UaException) cause;
+            } else {
+                throw new UaException(StatusCodes.Bad_InternalError, cause);
+            }
+        }
+    }
+
+    private static List<NodeId> nodeIds(List<NodeSetReader.NodeElement> batch) {
+        List<NodeId> nodeIds = new ArrayList<>(batch.size());
+
+        for (NodeSetReader.NodeElement node : batch) {
+            nodeIds.add(node.nodeId);
+        }
+
+        return nodeIds;
+    }
+
+    private Runnable createNodes(List<NodeSetReader.NodeElement> batch) {
+        return () -> {
+            OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(serializationContext);
+
+            for (NodeSetReader.NodeElement element : batch) {
+                nodeManager.addNode(newNode(element, decoder));
+
+                for (Reference reference : element.references) {
+                    nodeManager.addReference(reference);
+                }
+            }
+        };
+    }
+
+    /**
+     * Add the inverse of each Reference of the Nodes identified by {@code nodeIds}, unless its source Node has it
+     * already.
+     * <p>
+     * Each inverse is derived from exactly one declared Reference, and only inverses are added, so checking the
+     * declared References is enough and {@code groups} never needs updating.
+     */
+    private void addInverseReferences(List<NodeId> nodeIds, ConcurrentMap<GroupKey, GroupIndex> groups) {
+        NamespaceTable namespaceTable = context.getNamespaceTable();
+
+        for (NodeId nodeId : nodeIds) {
+            for (Reference reference : nodeManager.getReferences(nodeId)) {
+                Optional<Reference> inverse = reference.invert(namespaceTable);
+
+                if (inverse.isPresent() && !contains(inverse.get(), groups)) {
+                    nodeManager.addReference(inverse.get());
+                }
+            }
+        }
+    }
+
+    private boolean contains(Reference reference, ConcurrentMap<GroupKey, GroupIndex> groups) {
+        List<Reference> group = nodeManager.getReferenceStore().get(
+            reference.getSourceNodeId(),
+            reference.getDirection(),
+            reference.getReferenceTypeId()::equals
+        );
+
+        if (group.size() <= LINEAR_SEARCH_LIMIT) {
+            return group.contains(reference);
+        } else {
+            return groups.computeIfAbsent(new GroupKey(reference), k -> new GroupIndex(group)).contains(reference);
+        }
+    }
+
+    private UaNode newNode(NodeSetReader.NodeElement e, OpcUaXmlStreamDecoder decoder) {
+        switch (e.nodeClass) {
+            case Object: {
+                Optional<ObjectTypeManager.ObjectNodeConstructor> constructor =
+                    typeDefinition(e).flatMap(objectTypeManager::getNodeFactory);
+
+                if (constructor.isPresent()) {
+                    UaObjectNode node = constructor.get().apply(
+                        context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask
+                    );
+                    node.setEventNotifier(e.eventNotifier);
+                    return node;
+                } else {
+                    return new UaObjectNode(
+                        context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask,
+                        e.eventNotifier
+                    );
+                }
+            }
+
+            case Variable: {
+                Optional<VariableTypeManager.VariableNodeConstructor> constructor =
+                    typeDefinition(e).flatMap(variableTypeManager::getNodeFactory);
+
+                DataValue value = value(e, decoder);
+
+                if (constructor.isPresent()) {
+                    UaVariableNode node = constructor.get().apply(
+                        context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask
+                    );
+                    node.setValue(value);
+                    node.setDataType(e.dataType);
+                    node.setValueRank(e.valueRank);
+                    node.setArrayDimensions(e.arrayDimensions);
+                    node.setAccessLevel(e.accessLevel);
+                    node.setUserAccessLevel(e.userAccessLevel);
+                    node.setMinimumSamplingInterval(e.minimumSamplingInterval);
+                    node.setHistorizing(e.historizing);
+                    return node;
+                } else {
+                    return new UaVariableNode(
+                        context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask,
+                        value, e.dataType, e.valueRank, e.arrayDimensions, e.accessLevel, e.userAccessLevel,
+                        e.minimumSamplingInterval, e.historizing
+                    );
+                }
+            }
+
+            case Method:
+                return new UaMethodNode(
+                    context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask,
+                    e.executable, e.userExecutable
+                );
+
+            case ObjectType:
+                return new UaObjectTypeNode(
+                    context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask,
+                    e.isAbstract
+                );
+
+            case VariableType:
+                return new UaVariableTypeNode(
+                    context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask,
+                    value(e, decoder), e.dataType, e.valueRank, e.arrayDimensions, e.isAbstract
+                );
+
+            case ReferenceType:
+                return new UaReferenceTypeNode(
+                    context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask,
+                    e.isAbstract, e.symmetric, e.inverseName
+                );
+
+            case DataType:
+                return new UaDataTypeNode(
+                    context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask,
+                    e.isAbstract
+                );
+
+            case View:
+                return new UaViewNode(
+                    context, e.nodeId, e.browseName, e.displayName, e.description, e.writeMask, e.userWriteMask,
+                    e.containsNoLoops, e.eventNotifier
+                );
+
+            default:
+                throw new IllegalStateException("unsupported NodeClass: " + e.nodeClass);
+        }
+    }
+
+    private DataValue value(NodeSetReader.NodeElement e, OpcUaXmlStreamDecoder decoder) {
+        if (e.valueXml == null) {
+            return new DataValue(Variant.NULL_VALUE);
+        }
+
+        try {
+            return new DataValue(new Variant(decoder.decodeVariantValue(e.valueXml)));
+        } catch (Exception ex) {
+            logger.warn("Error decoding value of {}: {}", e.nodeId, e.valueXml, ex);
+
+            return new DataValue(Variant.NULL_VALUE);
+        }
+    }
+
+    private Optional<NodeId> typeDefinition(NodeSetReader.NodeElement e) {
+        for (Reference reference : e.references) {
+            if (Reference.HAS_TYPE_DEFINITION_PREDICATE.test(reference)) {
+                return reference.getTargetNodeId().toNodeId(context.getNamespaceTable());
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Identifies the References of a Node with the same reference type and direction.
+     */
+    private static final class GroupKey {
+
+        private final NodeId nodeId;
+        private final NodeId referenceTypeId;
+        private final Reference.Direction direction;
+
+        GroupKey(Reference reference) {
+            this.nodeId = reference.getSourceNodeId();
+            this.referenceTypeId = reference.getReferenceTypeId();
+            this.direction = reference.getDirection();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            GroupKey groupKey = (GroupKey) o;
+            return nodeId.equals(groupKey.nodeId) &&
+                referenceTypeId.equals(groupKey.referenceTypeId) &&
+                direction == groupKey.direction;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(nodeId, referenceTypeId, direction);
+        }
+
+    }
+
+    /**
+     * An open-addressing hash index of the positions of the References in a group, which reads the group in place
+     * rather than copying it: one {@code int} per slot, at a load factor of at most 1/2, instead of a hash entry per
+     * Reference.
+     * <p>
+     * The group must not change once indexed; the {@link List}s the {@link
+     * org.eclipse.milo.opcua.sdk.server.api.ReferenceStore} returns are immutable snapshots.
+     */
+    private static final class GroupIndex {
+
+        private final List<Reference> group;
+
+        /**
+         * Position in {@link #group} plus one by slot; 0 for an empty slot.
+         */
+        private final int[] slots;
+        private final int mask;
+
+        GroupIndex(List<Reference> group) {
+            this.group = group;
+
+            slots = new int[Integer.highestOneBit(Math.max(2 * group.size() - 1, 1)) << 1];
+            mask = slots.length - 1;
+
+            for (int i = 0; i < group.size(); i++) {
+                int slot = slot(group.get(i));
+
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+
+                slots[slot] = i + 1;
+            }
+        }
+
+        boolean contains(Reference reference) {
+            int slot = slot(reference);
+            int position;
+
+            while ((position = slots[slot]) != 0) {
+                if (group.get(position - 1).equals(reference)) {
+                    return true;
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            return false;
+        }
+
+        private int slot(Reference reference) {
+            int h = reference.hashCode() * 0x9E3779B9;
+
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+    }
+
+}
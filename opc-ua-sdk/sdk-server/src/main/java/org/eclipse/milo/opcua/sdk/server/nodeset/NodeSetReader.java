@@ -0,0 +1,517 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.nodeset;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.eclipse.milo.opcua.stack.core.util.Namespaces;
+import org.eclipse.milo.opcua.stack.core.util.SecureXmlUtil;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Reads the Node elements of a NodeSet2 XML document one at a time, without holding the document in memory.
+ * <p>
+ * NodeIds, BrowseNames and Reference targets are translated from the namespace indices of the document to those of
+ * the Server, registering each URI in the document's NamespaceUris with the {@link NamespaceTable}, and aliases are
+ * resolved. Variable and VariableType values are returned as XML, to be decoded by the caller, with the namespace
+ * indices of the NodeIds, ExpandedNodeIds and QualifiedNames in them translated the same way.
+ */
+class NodeSetReader implements AutoCloseable {
+
+    /**
+     * The namespace index of a NodeId or ExpandedNodeId in its text form, e.g. {@code ns=1;i=42}.
+     */
+    private static final Pattern NAMESPACE_INDEX = Pattern.compile("((?:svr=\\d+;)?ns=)(\\d+)(;.*)", Pattern.DOTALL);
+
+    private final Map<String, String> aliases = new HashMap<>();
+
+    /**
+     * Server namespace index by document namespace index; index 0 is always namespace 0.
+     */
+    private UShort[] namespaceIndices = new UShort[]{ushort(0)};
+
+    private final XMLStreamReader reader;
+    private final NamespaceTable namespaceTable;
+
+    NodeSetReader(InputStream inputStream, NamespaceTable namespaceTable) throws XMLStreamException {
+        this.reader = SecureXmlUtil.SHARED_XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+        this.namespaceTable = namespaceTable;
+
+        if (reader.nextTag() != XMLStreamConstants.START_ELEMENT || !"UANodeSet".equals(reader.getLocalName())) {
+            throw new XMLStreamException("expected UANodeSet", reader.getLocation());
+        }
+    }
+
+    /**
+     * Read the next Node element, reading and applying the NamespaceUris and Aliases elements before it.
+     *
+     * @return the next Node element, or {@code null} if there are no more.
+     */
+    NodeElement next() throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String name = reader.getLocalName();
+
+            switch (name) {
+                case "NamespaceUris":
+                    readNamespaceUris();
+                    break;
+                case "Aliases":
+                    readAliases();
+                    break;
+                case "UAObject":
+                    return readNode(NodeClass.Object);
+                case "UAVariable":
+                    return readNode(NodeClass.Variable);
+                case "UAMethod":
+                    return readNode(NodeClass.Method);
+                case "UAObjectType":
+                    return readNode(NodeClass.ObjectType);
+                case "UAVariableType":
+                    return readNode(NodeClass.VariableType);
+                case "UAReferenceType":
+                    return readNode(NodeClass.ReferenceType);
+                case "UADataType":
+                    return readNode(NodeClass.DataType);
+                case "UAView":
+                    return readNode(NodeClass.View);
+                default:
+                    // ServerUris, Models, Extensions
+                    skipElement();
+                    break;
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        reader.close();
+    }
+
+    private void readNamespaceUris() throws XMLStreamException {
+        List<UShort> indices = new ArrayList<>();
+        indices.add(ushort(0));
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            indices.add(namespaceTable.addUri(reader.getElementText().trim()));
+        }
+
+        namespaceIndices = indices.toArray(new UShort[0]);
+    }
+
+    private void readAliases() throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String alias = reader.getAttributeValue(null, "Alias");
+
+            aliases.put(alias, reader.getElementText().trim());
+        }
+    }
+
+    private NodeElement readNode(NodeClass nodeClass) throws XMLStreamException {
+        NodeElement node = new NodeElement(nodeClass);
+
+        node.nodeId = nodeId(requiredAttribute("NodeId"));
+        node.browseName = browseName(requiredAttribute("BrowseName"));
+        node.writeMask = uint(longAttribute("WriteMask", 0L));
+        node.userWriteMask = uint(longAttribute("UserWriteMask", 0L));
+        node.eventNotifier = ubyte(longAttribute("EventNotifier", 0L));
+        node.dataType = nodeId(attribute("DataType", "i=24"));
+        node.valueRank = (int) longAttribute("ValueRank", -1L);
+        node.arrayDimensions = arrayDimensions(attribute("ArrayDimensions", ""));
+        node.accessLevel = ubyte(longAttribute("AccessLevel", 1L));
+        node.userAccessLevel = ubyte(longAttribute("UserAccessLevel", 1L));
+        node.minimumSamplingInterval = doubleAttribute("MinimumSamplingInterval", 0.0);
+        node.historizing = Boolean.valueOf(attribute("Historizing", "false"));
+        node.executable = Boolean.valueOf(attribute("Executable", "true"));
+        node.userExecutable = Boolean.valueOf(attribute("UserExecutable", "true"));
+        node.isAbstract = Boolean.valueOf(attribute("IsAbstract", "false"));
+        node.symmetric = Boolean.valueOf(attribute("Symmetric", "false"));
+        node.containsNoLoops = Boolean.valueOf(attribute("ContainsNoLoops", "false"));
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+                case "DisplayName":
+                    LocalizedText displayName = localizedText();
+                    if (node.displayName == null) {
+                        node.displayName = displayName;
+                    }
+                    break;
+                case "Description":
+                    LocalizedText description = localizedText();
+                    if (node.description == null) {
+                        node.description = description;
+                    }
+                    break;
+                case "InverseName":
+                    LocalizedText inverseName = localizedText();
+                    if (node.inverseName == null) {
+                        node.inverseName = inverseName;
+                    }
+                    break;
+                case "References":
+                    readReferences(node);
+                    break;
+                case "Value":
+                    node.valueXml = readValue();
+                    break;
+                default:
+                    // Definition, RolePermissions, Documentation, Extensions, ...
+                    skipElement();
+                    break;
+            }
+        }
+
+        if (node.displayName == null) {
+            node.displayName = LocalizedText.english(node.browseName.getName());
+        }
+        if (node.description == null) {
+            node.description = LocalizedText.NULL_VALUE;
+        }
+        if (node.inverseName == null) {
+            node.inverseName = LocalizedText.NULL_VALUE;
+        }
+
+        return node;
+    }
+
+    private void readReferences(NodeElement node) throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            NodeId referenceTypeId = nodeId(requiredAttribute("ReferenceType"));
+            boolean forward = Boolean.parseBoolean(attribute("IsForward", "true"));
+            NodeId targetNodeId = nodeId(reader.getElementText().trim());
+
+            node.references.add(new Reference(node.nodeId, referenceTypeId, targetNodeId.expanded(), forward));
+        }
+    }
+
+    private LocalizedText localizedText() throws XMLStreamException {
+        String locale = reader.getAttributeValue(null, "Locale");
+        String text = reader.getElementText();
+
+        return new LocalizedText(locale, text);
+    }
+
+    /**
+     * Read the contents of a Value element as a standalone XML document, in the form
+     * {@link org.eclipse.milo.opcua.stack.core.serialization.OpcUaXmlStreamDecoder#decodeVariantValue(String)}
+     * expects: unprefixed, with the namespace declared on the root element.
+     */
+    private String readValue() throws XMLStreamException {
+        String xml = null;
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            StringBuilder sb = new StringBuilder();
+            writeElement(sb, null);
+
+            if (xml == null) {
+                xml = sb.toString();
+            }
+        }
+
+        return xml;
+    }
+
+    /**
+     * Write the element the reader is positioned on, and its contents, to {@code sb}, leaving the reader on its end
+     * tag.
+     */
+    private void writeElement(StringBuilder sb, String parentNamespace) throws XMLStreamException {
+        String localName = reader.getLocalName();
+        String namespace = reader.getNamespaceURI();
+
+        sb.append('<').append(localName);
+
+        if (namespace != null && !namespace.equals(parentNamespace)) {
+            sb.append(" xmlns=\"");
+            escape(sb, namespace);
+            sb.append('"');
+        }
+
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String attributeNamespace = reader.getAttributeNamespace(i);
+
+            if (attributeNamespace == null || attributeNamespace.isEmpty()) {
+                sb.append(' ').append(reader.getAttributeLocalName(i)).append("=\"");
+                escape(sb, reader.getAttributeValue(i));
+                sb.append('"');
+            }
+        }
+
+        sb.append('>');
+
+        StringBuilder text = new StringBuilder();
+        boolean children = false;
+
+        while (true) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                children = true;
+                writeText(sb, text);
+                writeElement(sb, namespace);
+            } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA ||
+                event == XMLStreamConstants.SPACE) {
+
+                text.append(reader.getText());
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (children) {
+                    writeText(sb, text);
+                } else {
+                    escape(sb, translateValueText(localName, namespace, text.toString()));
+                }
+                break;
+            }
+        }
+
+        sb.append("</").append(localName).append('>');
+    }
+
+    /**
+     * Translate the namespace index in the text of a value element that holds one: the Identifier of a NodeId or
+     * ExpandedNodeId, e.g. an ExtensionObject's TypeId or an Argument's DataType, or the NamespaceIndex of a
+     * QualifiedName. ExpandedNodeIds with a namespace URI are left as they are.
+     */
+    private String translateValueText(String localName, String namespace, String text) throws XMLStreamException {
+        if (!Namespaces.OPC_UA_XSD.equals(namespace)) {
+            return text;
+        }
+
+        switch (localName) {
+            case "Identifier": {
+                Matcher matcher = NAMESPACE_INDEX.matcher(text.trim());
+
+                if (matcher.matches()) {
+                    return matcher.group(1) + namespaceIndex(matcher.group(2)) + matcher.group(3);
+                } else {
+                    return text;
+                }
+            }
+            case "NamespaceIndex":
+                return namespaceIndex(text.trim()).toString();
+            default:
+                return text;
+        }
+    }
+
+    /**
+     * Write text between elements and clear {@code text}, unless it's whitespace.
+     */
+    private static void writeText(StringBuilder sb, StringBuilder text) {
+        if (!text.toString().trim().isEmpty()) {
+            escape(sb, text);
+        }
+
+        text.setLength(0);
+    }
+
+    private static void escape(StringBuilder sb, CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            switch (c) {
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                default:
+                    sb.append(c);
+                    break;
+            }
+        }
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+
+        while (depth > 0) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private String attribute(String name, String defaultValue) {
+        String value = reader.getAttributeValue(null, name);
+
+        return value != null ? value : defaultValue;
+    }
+
+    private String requiredAttribute(String name) throws XMLStreamException {
+        String value = reader.getAttributeValue(null, name);
+
+        if (value == null) {
+            throw new XMLStreamException("missing attribute: " + name, reader.getLocation());
+        }
+
+        return value;
+    }
+
+    private long longAttribute(String name, long defaultValue) throws XMLStreamException {
+        String value = reader.getAttributeValue(null, name);
+
+        try {
+            return value != null ? Long.parseLong(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new XMLStreamException("invalid " + name + ": " + value, reader.getLocation(), e);
+        }
+    }
+
+    private double doubleAttribute(String name, double defaultValue) throws XMLStreamException {
+        String value = reader.getAttributeValue(null, name);
+
+        try {
+            return value != null ? Double.parseDouble(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new XMLStreamException("invalid " + name + ": " + value, reader.getLocation(), e);
+        }
+    }
+
+    /**
+     * Parse a NodeId or alias and translate its namespace index to the Server's.
+     */
+    private NodeId nodeId(String s) throws XMLStreamException {
+        String alias = aliases.get(s);
+
+        NodeId nodeId = NodeId.parseOrNull(alias != null ? alias : s);
+
+        if (nodeId == null) {
+            throw new XMLStreamException("invalid NodeId: " + s, reader.getLocation());
+        }
+
+        return nodeId.withNamespaceIndex(namespaceIndex(nodeId.getNamespaceIndex().intValue()));
+    }
+
+    /**
+     * Parse a BrowseName, e.g. {@code 1:Name}, and translate its namespace index to the Server's.
+     */
+    private QualifiedName browseName(String s) throws XMLStreamException {
+        int colon = s.indexOf(':');
+
+        if (colon > 0) {
+            try {
+                int index = Integer.parseInt(s.substring(0, colon));
+
+                return new QualifiedName(namespaceIndex(index), s.substring(colon + 1));
+            } catch (NumberFormatException ignored) {
+                // not an index, the colon is part of the name
+            }
+        }
+
+        return new QualifiedName(0, s);
+    }
+
+    private UShort namespaceIndex(String s) throws XMLStreamException {
+        try {
+            return namespaceIndex(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            throw new XMLStreamException("invalid namespace index: " + s, reader.getLocation(), e);
+        }
+    }
+
+    private UShort namespaceIndex(int index) throws XMLStreamException {
+        if (index < 0 || index >= namespaceIndices.length) {
+            throw new XMLStreamException("namespace index not in NamespaceUris: " + index, reader.getLocation());
+        }
+
+        return namespaceIndices[index];
+    }
+
+    private UInteger[] arrayDimensions(String s) throws XMLStreamException {
+        if (s.trim().isEmpty()) {
+            return null;
+        }
+
+        String[] ss = s.split(",");
+        UInteger[] dimensions = new UInteger[ss.length];
+
+        try {
+            for (int i = 0; i < ss.length; i++) {
+                dimensions[i] = uint(Long.parseLong(ss[i].trim()));
+            }
+        } catch (NumberFormatException e) {
+            throw new XMLStreamException("invalid ArrayDimensions: " + s, reader.getLocation(), e);
+        }
+
+        return dimensions;
+    }
+
+    /**
+     * The attributes, References and XML-encoded value of a Node element.
+     */
+    static final class NodeElement {
+
+        final List<Reference> references = new ArrayList<>();
+
+        final NodeClass nodeClass;
+
+        NodeId nodeId;
+        QualifiedName browseName;
+        LocalizedText displayName;
+        LocalizedText description;
+        UInteger writeMask;
+        UInteger userWriteMask;
+        UByte eventNotifier;
+        String valueXml;
+        NodeId dataType;
+        Integer valueRank;
+        UInteger[] arrayDimensions;
+        UByte accessLevel;
+        UByte userAccessLevel;
+        Double minimumSamplingInterval;
+        Boolean historizing;
+        Boolean executable;
+        Boolean userExecutable;
+        Boolean isAbstract;
+        Boolean symmetric;
+        LocalizedText inverseName;
+        Boolean containsNoLoops;
+
+        NodeElement(NodeClass nodeClass) {
+            this.nodeClass = nodeClass;
+        }
+
+    }
+
+}
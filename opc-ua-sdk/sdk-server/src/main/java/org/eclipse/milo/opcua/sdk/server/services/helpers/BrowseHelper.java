@@ -10,11 +10,14 @@
 
 package org.eclipse.milo.opcua.sdk.server.services.helpers;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 
 import com.google.common.collect.Lists;
@@ -56,7 +59,6 @@ import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
 import org.slf4j.LoggerFactory;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.stream.Collectors.toList;
 import static org.eclipse.milo.opcua.sdk.server.util.UaEnumUtil.browseResultMasks;
 import static org.eclipse.milo.opcua.sdk.server.util.UaEnumUtil.nodeClasses;
 import static org.eclipse.milo.opcua.stack.core.util.ConversionUtil.l;
@@ -141,7 +143,6 @@ public class BrowseHelper {
 
         private final Session session;
 
-        private final AccessContext context;
         private final OpcUaServer server;
         private final ViewDescription view;
         private final UInteger maxReferencesPerNode;
@@ -155,7 +156,6 @@ public class BrowseHelper {
             BrowseDescription browseDescription
         ) {
 
-            this.context = context;
             this.server = server;
             this.view = view;
             this.browseDescription = browseDescription;
@@ -174,10 +174,7 @@ public class BrowseHelper {
                     return;
                 }
 
-                BrowseContext browseContext = new BrowseContext(
-                    server,
-                    context.getSession().orElse(null)
-                );
+                BrowseContext browseContext = new BrowseContext(server, session);
 
                 server.getAddressSpaceManager().browse(browseContext, view, browseDescription.getNodeId());
 
@@ -199,48 +196,423 @@ public class BrowseHelper {
         }
 
         private CompletableFuture<BrowseResult> browse(List<Reference> references) {
-            List<CompletableFuture<ReferenceDescription>> fs = references.stream()
-                .filter(this::directionFilter)
-                .filter(this::referenceTypeFilter)
-                .map(this::referenceDescription)
-                .collect(toList());
-
-            return FutureUtils.sequence(fs).thenApply(referenceDescriptions -> {
-                int max = maxReferencesPerNode.longValue() == 0 ?
-                    Integer.MAX_VALUE :
-                    Ints.saturatedCast(maxReferencesPerNode.longValue());
-
-                return browseResult(
-                    max,
-                    referenceDescriptions
-                        .stream()
-                        .filter(this::nodeClassFilter)
-                        .collect(toList())
+            int max = maxReferencesPerNode.longValue() == 0 ?
+                Integer.MAX_VALUE :
+                Ints.saturatedCast(maxReferencesPerNode.longValue());
+
+            Pager pager = new Pager(server, session, browseDescription);
+
+            return pager.page(references, 0, max).thenApply(page -> {
+                if (page.next >= 0) {
+                    if (session.getBrowseContinuationPoints().size() >
+                        server.getConfig().getLimits().getMaxBrowseContinuationPoints().intValue()) {
+
+                        return new BrowseResult(BAD_NO_CONTINUATION_POINTS, null, new ReferenceDescription[0]);
+                    } else {
+                        BrowseContinuationPoint c = new BrowseContinuationPoint(
+                            references, page.next, max, browseDescription);
+                        session.getBrowseContinuationPoints().put(c.identifier, c);
+
+                        return new BrowseResult(
+                            StatusCode.GOOD, c.identifier, page.references.toArray(new ReferenceDescription[0]));
+                    }
+                } else {
+                    return new BrowseResult(
+                        StatusCode.GOOD, null, page.references.toArray(new ReferenceDescription[0]));
+                }
+            });
+        }
+
+    }
+
+    private static class BrowseNext implements Runnable {
+
+        private final Session session;
+
+        private final OpcUaServer server;
+        private final ServiceRequest service;
+
+        private BrowseNext(OpcUaServer server, ServiceRequest service) {
+            this.server = server;
+            this.service = service;
+
+            session = service.attr(ServiceAttributes.SESSION_KEY).get();
+        }
+
+        @Override
+        public void run() {
+            BrowseNextRequest request = (BrowseNextRequest) service.getRequest();
+
+            List<ByteString> continuationPoints = l(request.getContinuationPoints());
+
+            if (continuationPoints.isEmpty()) {
+                service.setServiceFault(StatusCodes.Bad_NothingToDo);
+                return;
+            }
+
+            List<CompletableFuture<BrowseResult>> results = Lists.newArrayList();
+
+            for (ByteString bs : continuationPoints) {
+                if (request.getReleaseContinuationPoints()) {
+                    results.add(completedFuture(release(bs)));
+                } else {
+                    results.add(references(bs));
+                }
+            }
+
+            FutureUtils.sequence(results).thenAccept(rs -> {
+                ResponseHeader header = service.createResponseHeader();
+
+                BrowseNextResponse response = new BrowseNextResponse(
+                    header,
+                    rs.toArray(new BrowseResult[0]),
+                    new DiagnosticInfo[0]
                 );
+
+                service.setResponse(response);
             });
         }
 
-        private BrowseResult browseResult(int max, List<ReferenceDescription> references) {
-            if (references.size() > max) {
-                if (session.getBrowseContinuationPoints().size() >
-                    server.getConfig().getLimits().getMaxBrowseContinuationPoints().intValue()) {
+        private BrowseResult release(ByteString bs) {
+            BrowseContinuationPoint c = session.getBrowseContinuationPoints().remove(bs);
 
-                    return new BrowseResult(BAD_NO_CONTINUATION_POINTS, null, new ReferenceDescription[0]);
+            return c != null ?
+                new BrowseResult(StatusCode.GOOD, null, null) :
+                new BrowseResult(BAD_CONTINUATION_POINT_INVALID, null, null);
+        }
+
+        private CompletableFuture<BrowseResult> references(ByteString bs) {
+            BrowseContinuationPoint c = session.getBrowseContinuationPoints().remove(bs);
+
+            if (c != null) {
+                Pager pager = new Pager(server, session, c.browseDescription);
+
+                return pager.page(c.references, c.position, c.max).handle((page, ex) -> {
+                    if (page == null) {
+                        LoggerFactory.getLogger(BrowseHelper.class).warn(
+                            "failed to browse next: {}", c.browseDescription.getNodeId(), ex);
+
+                        return new BrowseResult(
+                            new StatusCode(StatusCodes.Bad_NodeIdUnknown),
+                            null,
+                            new ReferenceDescription[0]
+                        );
+                    } else if (page.next >= 0) {
+                        BrowseContinuationPoint next = new BrowseContinuationPoint(
+                            c.references, page.next, c.max, c.browseDescription, c.identifier);
+                        session.getBrowseContinuationPoints().put(next.identifier, next);
+
+                        return new BrowseResult(
+                            StatusCode.GOOD,
+                            next.identifier,
+                            page.references.toArray(new ReferenceDescription[0]));
+                    } else {
+                        return new BrowseResult(
+                            StatusCode.GOOD,
+                            null,
+                            page.references.toArray(new ReferenceDescription[0]));
+                    }
+                });
+            } else {
+                return completedFuture(new BrowseResult(BAD_CONTINUATION_POINT_INVALID, null, null));
+            }
+        }
+
+    }
+
+    /**
+     * Builds one page of {@link ReferenceDescription}s at a time from the References of a browsed Node.
+     * <p>
+     * References are filtered by direction and reference type before anything is read, and only the targets of the
+     * References that could end up on the page are read, in one read per batch, so the cost of a page doesn't depend
+     * on how many References the Node has beyond it.
+     */
+    private static class Pager {
+
+        /**
+         * The fewest References resolved per batch when a node class mask may reject some of them.
+         */
+        private static final int MIN_BATCH_SIZE = 64;
+
+        private final Map<NodeId, Boolean> subtypes = new ConcurrentHashMap<>();
+
+        private final OpcUaServer server;
+        private final Session session;
+        private final BrowseDescription browseDescription;
+
+        private final NodeId referenceTypeId;
+        private final boolean includeSubtypes;
+        private final long nodeClassMask;
+        private final EnumSet<NodeClass> nodeClasses;
+        private final EnumSet<BrowseResultMask> masks;
+        private final boolean readAttributes;
+
+        private Pager(OpcUaServer server, Session session, BrowseDescription browseDescription) {
+            this.server = server;
+            this.session = session;
+            this.browseDescription = browseDescription;
+
+            referenceTypeId = browseDescription.getReferenceTypeId();
+            includeSubtypes = browseDescription.getIncludeSubtypes();
+            nodeClassMask = browseDescription.getNodeClassMask().longValue();
+            nodeClasses = nodeClassMask == 0L ? EnumSet.allOf(NodeClass.class) : nodeClasses(nodeClassMask);
+            masks = browseResultMasks(browseDescription.getResultMask().longValue());
+
+            readAttributes = nodeClassMask != 0L ||
+                masks.contains(BrowseResultMask.BrowseName) ||
+                masks.contains(BrowseResultMask.DisplayName) ||
+                masks.contains(BrowseResultMask.NodeClass) ||
+                masks.contains(BrowseResultMask.TypeDefinition);
+        }
+
+        /**
+         * Build the page of at most {@code max} {@link ReferenceDescription}s starting at {@code position}.
+         *
+         * @param references the References of the browsed Node.
+         * @param position   the index in {@code references} to start at.
+         * @param max        the maximum number of {@link ReferenceDescription}s on the page.
+         * @return the {@link Page}.
+         */
+        CompletableFuture<Page> page(List<Reference> references, int position, int max) {
+            return fill(references, position, max, new ArrayList<>());
+        }
+
+        private CompletableFuture<Page> fill(
+            List<Reference> references,
+            int position,
+            int max,
+            List<ReferenceDescription> page
+        ) {
+
+            while (true) {
+                int needed = max - page.size();
+                int batchSize = nodeClassMask == 0L ? needed : Math.max(needed, MIN_BATCH_SIZE);
+
+                List<Reference> batch = new ArrayList<>();
+                List<Integer> indices = new ArrayList<>();
+
+                int scanned = collect(references, position, batchSize, batch, indices);
+
+                if (batch.isEmpty()) {
+                    return completedFuture(new Page(page, -1));
+                }
+
+                CompletableFuture<List<ReferenceDescription>> described = describe(batch);
+
+                if (described.isDone() && !described.isCompletedExceptionally()) {
+                    // resolved synchronously; loop rather than recurse so that
+                    // skipping many rejected References can't overflow the stack
+                    position = accept(described.join(), indices, scanned, max, page);
+
+                    if (page.size() == max) {
+                        return next(references, position, scanned).thenApply(next -> new Page(page, next));
+                    }
                 } else {
-                    List<ReferenceDescription> subList = references.subList(0, max);
-                    List<ReferenceDescription> current = Lists.newArrayList(subList);
-                    subList.clear();
+                    return described.thenCompose(descriptions -> {
+                        int next = accept(descriptions, indices, scanned, max, page);
+
+                        if (page.size() == max) {
+                            return next(references, next, scanned).thenApply(n -> new Page(page, n));
+                        } else {
+                            return fill(references, next, max, page);
+                        }
+                    });
+                }
+            }
+        }
 
-                    BrowseContinuationPoint c = new BrowseContinuationPoint(references, max);
-                    session.getBrowseContinuationPoints().put(c.identifier, c);
+        /**
+         * Add the References in {@code references}, starting at {@code position}, that pass the direction and
+         * reference type filters to {@code batch} until it has {@code batchSize} References.
+         *
+         * @return the index in {@code references} after the last one added.
+         */
+        private int collect(
+            List<Reference> references,
+            int position,
+            int batchSize,
+            List<Reference> batch,
+            List<Integer> indices
+        ) {
 
-                    return new BrowseResult(
-                        StatusCode.GOOD, c.identifier, current.toArray(new ReferenceDescription[0]));
+            int end = position;
+            while (end < references.size() && batch.size() < batchSize) {
+                Reference reference = references.get(end);
+                if (directionFilter(reference) && referenceTypeFilter(reference)) {
+                    batch.add(reference);
+                    indices.add(end);
                 }
+                end++;
+            }
+            return end;
+        }
+
+        /**
+         * Add the accepted {@code descriptions} to {@code page} until it's full.
+         *
+         * @return the index in the References to continue from. If {@code page} was filled this is the index of the
+         * next accepted Reference in the batch, or {@code scanned} if the rest of the batch was rejected.
+         */
+        private static int accept(
+            List<ReferenceDescription> descriptions,
+            List<Integer> indices,
+            int scanned,
+            int max,
+            List<ReferenceDescription> page
+        ) {
+
+            for (int i = 0; i < descriptions.size(); i++) {
+                ReferenceDescription description = descriptions.get(i);
+
+                if (description != null) {
+                    if (page.size() == max) {
+                        return indices.get(i);
+                    }
+
+                    page.add(description);
+                }
+            }
+
+            return scanned;
+        }
+
+        /**
+         * Find where the page after a full page starts.
+         *
+         * @param position the index returned by {@link #accept}.
+         * @param scanned  the index after the last Reference of the batch that filled the page.
+         * @return the index of the next Reference that will be accepted, or -1 if there isn't one and no continuation
+         * point is needed.
+         */
+        private CompletableFuture<Integer> next(List<Reference> references, int position, int scanned) {
+            if (position < scanned) {
+                // an accepted Reference was left over from the batch
+                return completedFuture(position);
+            } else if (nodeClassMask == 0L) {
+                return completedFuture(nextMatch(references, position));
             } else {
-                return new BrowseResult(
-                    StatusCode.GOOD, null, references.toArray(new ReferenceDescription[0]));
+                return nextAccepted(references, position);
+            }
+        }
+
+        /**
+         * @return the index of the next Reference at or after {@code position} that passes the direction and
+         * reference type filters, or -1 if there isn't one.
+         */
+        private int nextMatch(List<Reference> references, int position) {
+            for (int i = position; i < references.size(); i++) {
+                Reference reference = references.get(i);
+
+                if (directionFilter(reference) && referenceTypeFilter(reference)) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * Find the next Reference at or after {@code position} whose target's NodeClass passes the node class mask,
+         * reading only the NodeClass of each target.
+         *
+         * @return the index of the Reference, or -1 if there isn't one.
+         */
+        private CompletableFuture<Integer> nextAccepted(List<Reference> references, int position) {
+            while (true) {
+                List<Reference> batch = new ArrayList<>();
+                List<Integer> indices = new ArrayList<>();
+
+                int scanned = collect(references, position, MIN_BATCH_SIZE, batch, indices);
+
+                if (batch.isEmpty()) {
+                    return completedFuture(-1);
+                }
+
+                CompletableFuture<List<NodeClass>> read = readNodeClasses(batch);
+
+                if (read.isDone() && !read.isCompletedExceptionally()) {
+                    int accepted = firstAccepted(read.join(), indices);
+
+                    if (accepted >= 0) {
+                        return completedFuture(accepted);
+                    }
+
+                    position = scanned;
+                } else {
+                    return read.thenCompose(nodeClasses -> {
+                        int accepted = firstAccepted(nodeClasses, indices);
+
+                        return accepted >= 0 ?
+                            completedFuture(accepted) :
+                            nextAccepted(references, scanned);
+                    });
+                }
+            }
+        }
+
+        private int firstAccepted(List<NodeClass> targetNodeClasses, List<Integer> indices) {
+            for (int i = 0; i < targetNodeClasses.size(); i++) {
+                if (nodeClasses.contains(targetNodeClasses.get(i))) {
+                    return indices.get(i);
+                }
+            }
+
+            return -1;
+        }
+
+        /**
+         * @return the NodeClass of the target of each of {@code references}, or {@link NodeClass#Unspecified} where
+         * the target isn't local or its NodeClass couldn't be read.
+         */
+        private CompletableFuture<List<NodeClass>> readNodeClasses(List<Reference> references) {
+            List<NodeId> nodeIds = new ArrayList<>(references.size());
+            List<ReadValueId> readValueIds = new ArrayList<>(references.size());
+
+            for (Reference reference : references) {
+                NodeId nodeId = reference.getTargetNodeId().toNodeId(server.getNamespaceTable()).orElse(null);
+
+                if (nodeId != null) {
+                    readValueIds.add(
+                        new ReadValueId(nodeId, AttributeId.NodeClass.uid(), null, QualifiedName.NULL_VALUE));
+                }
+
+                nodeIds.add(nodeId);
+            }
+
+            if (readValueIds.isEmpty()) {
+                return completedFuture(Collections.nCopies(references.size(), NodeClass.Unspecified));
             }
+
+            ReadContext context = new ReadContext(server, null);
+
+            server.getAddressSpaceManager().read(
+                context,
+                0.0,
+                TimestampsToReturn.Neither,
+                readValueIds
+            );
+
+            return context.getFuture().thenApply(values -> {
+                List<NodeClass> targetNodeClasses = new ArrayList<>(references.size());
+
+                int valueIndex = 0;
+
+                for (NodeId nodeId : nodeIds) {
+                    NodeClass nodeClass = NodeClass.Unspecified;
+
+                    if (nodeId != null) {
+                        DataValue value = values.get(valueIndex++);
+
+                        if (value.getStatusCode() == null || value.getStatusCode().isGood()) {
+                            nodeClass = (NodeClass) value.getValue().getValue();
+                        }
+                    }
+
+                    targetNodeClasses.add(nodeClass);
+                }
+
+                return targetNodeClasses;
+            });
         }
 
         private boolean directionFilter(Reference reference) {
@@ -256,142 +628,175 @@ public class BrowseHelper {
         }
 
         private boolean referenceTypeFilter(Reference reference) {
-            NodeId referenceTypeId = browseDescription.getReferenceTypeId();
+            if (referenceTypeId == null || referenceTypeId.isNull()) {
+                return true;
+            }
 
-            boolean includeAny = referenceTypeId == null || referenceTypeId.isNull();
-            boolean includeSubtypes = browseDescription.getIncludeSubtypes();
+            NodeId typeId = reference.getReferenceTypeId();
 
-            return includeAny || reference.getReferenceTypeId().equals(referenceTypeId) ||
-                (includeSubtypes && reference.subtypeOf(referenceTypeId, server.getReferenceTypes()));
+            if (typeId.equals(referenceTypeId)) {
+                return true;
+            } else if (includeSubtypes) {
+                return subtypes.computeIfAbsent(
+                    typeId,
+                    id -> reference.subtypeOf(referenceTypeId, server.getReferenceTypes())
+                );
+            } else {
+                return false;
+            }
         }
 
-        private boolean nodeClassFilter(ReferenceDescription referenceDescription) {
-            long mask = browseDescription.getNodeClassMask().longValue();
+        /**
+         * Describe each of {@code references}, reading the attributes of all their local targets in one read.
+         *
+         * @return a {@link ReferenceDescription} for each of {@code references}, or {@code null} where the target's
+         * NodeClass is rejected by the node class mask.
+         */
+        private CompletableFuture<List<ReferenceDescription>> describe(List<Reference> references) {
+            if (!readAttributes) {
+                List<ReferenceDescription> descriptions = new ArrayList<>(references.size());
+                for (Reference reference : references) {
+                    descriptions.add(referenceDescription(reference, BrowseAttributes.NONE, ExpandedNodeId.NULL_VALUE));
+                }
+                return completedFuture(descriptions);
+            }
 
-            EnumSet<NodeClass> nodeClasses = (mask == 0L) ?
-                EnumSet.allOf(NodeClass.class) : nodeClasses(mask);
+            List<NodeId> nodeIds = new ArrayList<>(references.size());
+            List<ReadValueId> readValueIds = new ArrayList<>(references.size() * 3);
 
-            return nodeClasses.contains(referenceDescription.getNodeClass());
-        }
+            for (Reference reference : references) {
+                NodeId nodeId = reference.getTargetNodeId().toNodeId(server.getNamespaceTable()).orElse(null);
 
-        private CompletableFuture<ReferenceDescription> referenceDescription(Reference reference) {
-            EnumSet<BrowseResultMask> masks = browseResultMasks(browseDescription.getResultMask().longValue());
+                if (nodeId != null) {
+                    readValueIds.add(
+                        new ReadValueId(nodeId, AttributeId.BrowseName.uid(), null, QualifiedName.NULL_VALUE));
+                    readValueIds.add(
+                        new ReadValueId(nodeId, AttributeId.DisplayName.uid(), null, QualifiedName.NULL_VALUE));
+                    readValueIds.add(
+                        new ReadValueId(nodeId, AttributeId.NodeClass.uid(), null, QualifiedName.NULL_VALUE));
+                } else {
+                    LoggerFactory.getLogger(BrowseHelper.class).warn(
+                        "reference target not local: {} -> {}",
+                        reference.getSourceNodeId(),
+                        reference.getTargetNodeId()
+                    );
+                }
 
-            ExpandedNodeId targetNodeId = reference.getTargetNodeId();
+                nodeIds.add(nodeId);
+            }
 
-            NodeId referenceTypeId = masks.contains(BrowseResultMask.ReferenceTypeId) ?
-                reference.getReferenceTypeId() : NodeId.NULL_VALUE;
+            CompletableFuture<List<DataValue>> valuesFuture;
 
-            boolean forward = masks.contains(BrowseResultMask.IsForward) && reference.isForward();
+            if (readValueIds.isEmpty()) {
+                valuesFuture = completedFuture(Collections.emptyList());
+            } else {
+                ReadContext context = new ReadContext(server, null);
 
-            return targetNodeId.toNodeId(server.getNamespaceTable()).map(nodeId -> {
-                CompletableFuture<BrowseAttributes> attributesFuture = browseAttributes(nodeId);
+                server.getAddressSpaceManager().read(
+                    context,
+                    0.0,
+                    TimestampsToReturn.Neither,
+                    readValueIds
+                );
+
+                valuesFuture = context.getFuture();
+            }
+
+            return valuesFuture.thenCompose(values -> {
+                List<CompletableFuture<ReferenceDescription>> fs = new ArrayList<>(references.size());
+
+                int valueIndex = 0;
 
-                CompletableFuture<ReferenceDescription> referenceFuture = attributesFuture.thenCompose(attributes -> {
-                    if (masks.contains(BrowseResultMask.TypeDefinition) &&
+                for (int i = 0; i < references.size(); i++) {
+                    Reference reference = references.get(i);
+                    NodeId nodeId = nodeIds.get(i);
+
+                    BrowseAttributes attributes;
+                    if (nodeId != null) {
+                        attributes = browseAttributes(values, valueIndex);
+                        valueIndex += 3;
+                    } else {
+                        attributes = BrowseAttributes.NONE;
+                    }
+
+                    if (!nodeClasses.contains(attributes.getNodeClass())) {
+                        fs.add(completedFuture(null));
+                    } else if (nodeId != null &&
+                        masks.contains(BrowseResultMask.TypeDefinition) &&
                         (attributes.nodeClass == NodeClass.Object || attributes.nodeClass == NodeClass.Variable)) {
 
                         // If this is an Object or Variable then we
                         // need to browse for the TypeDefinitionId...
-                        return getTypeDefinition(nodeId).thenApply(
-                            typeDefinition ->
-                                new ReferenceDescription(
-                                    referenceTypeId,
-                                    forward,
-                                    targetNodeId,
-                                    masks.contains(BrowseResultMask.BrowseName) ?
-                                        attributes.getBrowseName() : QualifiedName.NULL_VALUE,
-                                    masks.contains(BrowseResultMask.DisplayName) ?
-                                        attributes.getDisplayName() : LocalizedText.NULL_VALUE,
-                                    masks.contains(BrowseResultMask.NodeClass) ?
-                                        attributes.getNodeClass() : NodeClass.Unspecified,
-                                    typeDefinition
-                                )
+                        fs.add(
+                            getTypeDefinition(nodeId)
+                                .thenApply(typeDefinition ->
+                                    referenceDescription(reference, attributes, typeDefinition))
+                                .whenComplete((r, ex) -> {
+                                    if (ex != null) {
+                                        LoggerFactory.getLogger(BrowseHelper.class).warn(
+                                            "failed to get browse attributes for: {}",
+                                            reference.getSourceNodeId(), ex
+                                        );
+                                    }
+                                })
                         );
                     } else {
                         // Not an Object or Variable; we're done.
-                        return completedFuture(new ReferenceDescription(
-                            referenceTypeId,
-                            forward,
-                            targetNodeId,
-                            masks.contains(BrowseResultMask.BrowseName) ?
-                                attributes.getBrowseName() : QualifiedName.NULL_VALUE,
-                            masks.contains(BrowseResultMask.DisplayName) ?
-                                attributes.getDisplayName() : LocalizedText.NULL_VALUE,
-                            masks.contains(BrowseResultMask.NodeClass) ?
-                                attributes.getNodeClass() : NodeClass.Unspecified,
-                            ExpandedNodeId.NULL_VALUE
-                        ));
+                        fs.add(completedFuture(
+                            referenceDescription(reference, attributes, ExpandedNodeId.NULL_VALUE)));
                     }
-                });
-
-                return referenceFuture.whenComplete((r, ex) -> {
-                    if (ex != null) {
-                        LoggerFactory.getLogger(BrowseHelper.class).warn(
-                            "failed to get browse attributes for: {}",
-                            reference.getSourceNodeId(), ex
-                        );
-                    }
-                });
-            }).orElseGet(() -> {
-                LoggerFactory.getLogger(BrowseHelper.class).warn(
-                    "reference target not local: {} -> {}",
-                    reference.getSourceNodeId(),
-                    targetNodeId
-                );
+                }
 
-                return completedFuture(
-                    new ReferenceDescription(
-                        referenceTypeId,
-                        forward,
-                        targetNodeId,
-                        QualifiedName.NULL_VALUE,
-                        LocalizedText.NULL_VALUE,
-                        NodeClass.Unspecified,
-                        ExpandedNodeId.NULL_VALUE
-                    )
-                );
+                return FutureUtils.sequence(fs);
             });
         }
 
-        private CompletableFuture<BrowseAttributes> browseAttributes(NodeId nodeId) {
-            List<ReadValueId> readValueIds = Lists.newArrayList();
+        private ReferenceDescription referenceDescription(
+            Reference reference,
+            BrowseAttributes attributes,
+            ExpandedNodeId typeDefinition
+        ) {
 
-            readValueIds.add(new ReadValueId(nodeId, AttributeId.BrowseName.uid(), null, QualifiedName.NULL_VALUE));
-            readValueIds.add(new ReadValueId(nodeId, AttributeId.DisplayName.uid(), null, QualifiedName.NULL_VALUE));
-            readValueIds.add(new ReadValueId(nodeId, AttributeId.NodeClass.uid(), null, QualifiedName.NULL_VALUE));
+            NodeId referenceTypeId = masks.contains(BrowseResultMask.ReferenceTypeId) ?
+                reference.getReferenceTypeId() : NodeId.NULL_VALUE;
 
-            ReadContext context = new ReadContext(server, null);
+            boolean forward = masks.contains(BrowseResultMask.IsForward) && reference.isForward();
 
-            server.getAddressSpaceManager().read(
-                context,
-                0.0,
-                TimestampsToReturn.Neither,
-                readValueIds
+            return new ReferenceDescription(
+                referenceTypeId,
+                forward,
+                reference.getTargetNodeId(),
+                masks.contains(BrowseResultMask.BrowseName) ?
+                    attributes.getBrowseName() : QualifiedName.NULL_VALUE,
+                masks.contains(BrowseResultMask.DisplayName) ?
+                    attributes.getDisplayName() : LocalizedText.NULL_VALUE,
+                masks.contains(BrowseResultMask.NodeClass) ?
+                    attributes.getNodeClass() : NodeClass.Unspecified,
+                typeDefinition
             );
+        }
 
-            return context.getFuture().thenApply(values -> {
-                QualifiedName browseName = QualifiedName.NULL_VALUE;
-                LocalizedText displayName = LocalizedText.NULL_VALUE;
-                NodeClass nodeClass = NodeClass.Unspecified;
+        private static BrowseAttributes browseAttributes(List<DataValue> values, int index) {
+            QualifiedName browseName = QualifiedName.NULL_VALUE;
+            LocalizedText displayName = LocalizedText.NULL_VALUE;
+            NodeClass nodeClass = NodeClass.Unspecified;
 
-                DataValue value0 = values.get(0);
-                if (value0.getStatusCode() == null || value0.getStatusCode().isGood()) {
-                    browseName = (QualifiedName) value0.getValue().getValue();
-                }
+            DataValue value0 = values.get(index);
+            if (value0.getStatusCode() == null || value0.getStatusCode().isGood()) {
+                browseName = (QualifiedName) value0.getValue().getValue();
+            }
 
-                DataValue value1 = values.get(1);
-                if (value1.getStatusCode() == null || value1.getStatusCode().isGood()) {
-                    displayName = (LocalizedText) value1.getValue().getValue();
-                }
+            DataValue value1 = values.get(index + 1);
+            if (value1.getStatusCode() == null || value1.getStatusCode().isGood()) {
+                displayName = (LocalizedText) value1.getValue().getValue();
+            }
 
-                DataValue value2 = values.get(2);
-                if (value2.getStatusCode() == null || value2.getStatusCode().isGood()) {
-                    nodeClass = (NodeClass) value2.getValue().getValue();
-                }
+            DataValue value2 = values.get(index + 2);
+            if (value2.getStatusCode() == null || value2.getStatusCode().isGood()) {
+                nodeClass = (NodeClass) value2.getValue().getValue();
+            }
 
-                return new BrowseAttributes(browseName, displayName, nodeClass);
-            });
+            return new BrowseAttributes(browseName, displayName, nodeClass);
         }
 
         private CompletableFuture<ExpandedNodeId> getTypeDefinition(NodeId nodeId) {
@@ -405,10 +810,7 @@ public class BrowseHelper {
                 LoggerFactory.getLogger(BrowseHelper.class)
                     .trace("No managed TypeDefinition for nodeId={}, browsing...", nodeId);
 
-                BrowseContext browseContext = new BrowseContext(
-                    server,
-                    context.getSession().orElse(null)
-                );
+                BrowseContext browseContext = new BrowseContext(server, session);
 
                 server.getAddressSpaceManager().browse(browseContext, nodeId);
 
@@ -423,120 +825,87 @@ public class BrowseHelper {
                             .orElse(ExpandedNodeId.NULL_VALUE)
                 );
             });
-
         }
 
     }
 
-    private static class BrowseNext implements Runnable {
-
-        private final Session session;
-
-        private final OpcUaServer server;
-        private final ServiceRequest service;
-
-        private BrowseNext(OpcUaServer server, ServiceRequest service) {
-            this.server = server;
-            this.service = service;
-
-            session = service.attr(ServiceAttributes.SESSION_KEY).get();
-        }
-
-        @Override
-        public void run() {
-            BrowseNextRequest request = (BrowseNextRequest) service.getRequest();
-
-            List<ByteString> continuationPoints = l(request.getContinuationPoints());
-
-            if (continuationPoints.isEmpty()) {
-                service.setServiceFault(StatusCodes.Bad_NothingToDo);
-                return;
-            }
-
-            List<BrowseResult> results = Lists.newArrayList();
-
-            for (ByteString bs : continuationPoints) {
-                if (request.getReleaseContinuationPoints()) {
-                    results.add(release(bs));
-                } else {
-                    results.add(references(bs));
-                }
-            }
-
-            ResponseHeader header = service.createResponseHeader();
-
-            BrowseNextResponse response = new BrowseNextResponse(
-                header,
-                results.toArray(new BrowseResult[0]),
-                new DiagnosticInfo[0]
-            );
+    private static class Page {
 
-            service.setResponse(response);
-        }
-
-        private BrowseResult release(ByteString bs) {
-            BrowseContinuationPoint c = session.getBrowseContinuationPoints().remove(bs);
-
-            return c != null ?
-                new BrowseResult(StatusCode.GOOD, null, null) :
-                new BrowseResult(BAD_CONTINUATION_POINT_INVALID, null, null);
-        }
-
-        private BrowseResult references(ByteString bs) {
-            BrowseContinuationPoint c = session.getBrowseContinuationPoints().remove(bs);
-
-            if (c != null) {
-                int max = c.max;
-                List<ReferenceDescription> references = c.references;
-
-                if (references.size() > max) {
-                    List<ReferenceDescription> subList = references.subList(0, max);
-                    List<ReferenceDescription> current = Lists.newArrayList(subList);
-                    subList.clear();
+        private final List<ReferenceDescription> references;
 
-                    session.getBrowseContinuationPoints().put(c.identifier, c);
+        /**
+         * The index of the first Reference of the next page, or -1 if this is the last page.
+         */
+        private final int next;
 
-                    return new BrowseResult(
-                        StatusCode.GOOD,
-                        c.identifier,
-                        current.toArray(new ReferenceDescription[0]));
-                } else {
-                    return new BrowseResult(
-                        StatusCode.GOOD,
-                        null,
-                        references.toArray(new ReferenceDescription[0]));
-                }
-            } else {
-                return new BrowseResult(BAD_CONTINUATION_POINT_INVALID, null, null);
-            }
+        private Page(List<ReferenceDescription> references, int next) {
+            this.references = references;
+            this.next = next;
         }
 
     }
 
+    /**
+     * A cursor into the References of a browsed Node.
+     * <p>
+     * Rather than the remaining {@link ReferenceDescription}s, a continuation point holds the References the Node had
+     * when it was browsed and the position of the next page in them; each page is described as it's requested.
+     */
     public static class BrowseContinuationPoint {
 
-        private final List<ReferenceDescription> references;
+        private final List<Reference> references;
+        private final int position;
         private final int max;
+        private final BrowseDescription browseDescription;
         private final ByteString identifier;
 
-        public BrowseContinuationPoint(List<ReferenceDescription> references, int max) {
-            this(references, max, generateId());
+        public BrowseContinuationPoint(
+            List<Reference> references,
+            int position,
+            int max,
+            BrowseDescription browseDescription
+        ) {
+
+            this(references, position, max, browseDescription, generateId());
         }
 
-        public BrowseContinuationPoint(List<ReferenceDescription> references, int max, ByteString identifier) {
-            this.references = Collections.synchronizedList(references);
+        public BrowseContinuationPoint(
+            List<Reference> references,
+            int position,
+            int max,
+            BrowseDescription browseDescription,
+            ByteString identifier
+        ) {
+
+            this.references = references;
+            this.position = position;
             this.max = max;
+            this.browseDescription = browseDescription;
             this.identifier = identifier;
         }
 
-        public List<ReferenceDescription> getReferences() {
+        /**
+         * @return the References of the browsed Node, unfiltered.
+         */
+        public List<Reference> getReferences() {
             return references;
         }
 
+        /**
+         * @return the index in {@link #getReferences()} the next page starts at.
+         */
+        public int getPosition() {
+            return position;
+        }
+
         public int getMax() {
             return max;
         }
 
+        public BrowseDescription getBrowseDescription() {
+            return browseDescription;
+        }
+
         public ByteString getIdentifier() {
             return identifier;
         }
@@ -549,6 +918,9 @@ public class BrowseHelper {
 
     private static class BrowseAttributes {
 
+        static final BrowseAttributes NONE =
+            new BrowseAttributes(QualifiedName.NULL_VALUE, LocalizedText.NULL_VALUE, NodeClass.Unspecified);
+
         private final QualifiedName browseName;
         private final LocalizedText displayName;
         private final NodeClass nodeClass;
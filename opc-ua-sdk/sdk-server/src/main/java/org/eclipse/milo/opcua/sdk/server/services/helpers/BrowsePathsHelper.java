@@ -13,11 +13,15 @@ package org.eclipse.milo.opcua.sdk.server.services.helpers;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
 import org.eclipse.milo.opcua.sdk.server.api.AccessContext;
+import org.eclipse.milo.opcua.sdk.server.api.BrowsePathCache;
 import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.ReadContext;
 import org.eclipse.milo.opcua.sdk.server.api.services.ViewServices.BrowseContext;
 import org.eclipse.milo.opcua.sdk.server.services.ServiceAttributes;
@@ -42,6 +46,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.TranslateBrowsePathsToNodeIdsRequest;
 import org.eclipse.milo.opcua.stack.core.types.structured.TranslateBrowsePathsToNodeIdsResponse;
 import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
+import org.jetbrains.annotations.Nullable;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Lists.newArrayListWithCapacity;
@@ -84,8 +89,10 @@ public class BrowsePathsHelper {
 
         List<CompletableFuture<BrowsePathResult>> futures = newArrayListWithCapacity(browsePaths.size());
 
+        Batch batch = new Batch(server.getConfig().getLimits().getMaxCachedBrowsePaths().intValue());
+
         for (BrowsePath browsePath : browsePaths) {
-            futures.add(translate(browsePath));
+            futures.add(translate(browsePath, batch));
         }
 
         sequence(futures).thenAcceptAsync(results -> {
@@ -101,7 +108,7 @@ public class BrowsePathsHelper {
         }, server.getExecutorService());
     }
 
-    private CompletableFuture<BrowsePathResult> translate(BrowsePath browsePath) {
+    private CompletableFuture<BrowsePathResult> translate(BrowsePath browsePath, Batch batch) {
         CompletableFuture<BrowsePathResult> future = new CompletableFuture<>();
 
         NodeId startingNode = browsePath.getStartingNode();
@@ -127,7 +134,22 @@ public class BrowsePathsHelper {
             return future;
         }
 
-        follow(startingNode, relativePathElements).whenComplete((targets, ex) -> {
+        BrowsePathCache cache = batch.cache;
+
+        if (cache != null) {
+            BrowsePathResult cached = cache.get(startingNode, relativePathElements);
+
+            if (cached != null) {
+                future.complete(cached);
+
+                return future;
+            }
+        }
+
+        long version = cache != null ? cache.getVersion() : 0L;
+        Set<NodeId> browsed = cache != null ? ConcurrentHashMap.newKeySet() : null;
+
+        follow(startingNode, relativePathElements, batch, browsed).whenComplete((targets, ex) -> {
             if (targets != null) {
                 BrowsePathResult result;
 
@@ -143,6 +165,15 @@ public class BrowsePathsHelper {
                     );
                 }
 
+                if (cache != null) {
+                    // the targets aren't browsed, but the result no longer holds once one of them is removed
+                    for (BrowsePathTarget target : targets) {
+                        target.getTargetId().toNodeId(server.getNamespaceTable()).ifPresent(browsed::add);
+                    }
+
+                    cache.put(startingNode, relativePathElements, result, browsed, version, batch.maxCachedBrowsePaths);
+                }
+
                 future.complete(result);
             } else {
                 StatusCode statusCode = UaException.extractStatusCode(ex)
@@ -153,6 +184,16 @@ public class BrowsePathsHelper {
                     new BrowsePathTarget[0]
                 );
 
+                // a path that matched nothing stays that way until a browsed Node's References change, but other
+                // failures, e.g. a browse that failed, may be transient
+                boolean noMatch = UaException.extractStatusCode(ex)
+                    .map(s -> s.getValue() == StatusCodes.Bad_NoMatch)
+                    .orElse(false);
+
+                if (cache != null && noMatch) {
+                    cache.put(startingNode, relativePathElements, result, browsed, version, batch.maxCachedBrowsePaths);
+                }
+
                 future.complete(result);
             }
         });
@@ -162,13 +203,15 @@ public class BrowsePathsHelper {
 
     private CompletableFuture<List<BrowsePathTarget>> follow(
         NodeId nodeId,
-        List<RelativePathElement> elements
+        List<RelativePathElement> elements,
+        Batch batch,
+        @Nullable Set<NodeId> browsed
     ) {
 
         if (elements.isEmpty()) {
             return completedFuture(Collections.emptyList());
         } else if (elements.size() == 1) {
-            return target(nodeId, elements.get(0)).thenApply(targets ->
+            return target(nodeId, elements.get(0), batch, browsed).thenApply(targets ->
                 targets.stream()
                     .map(n -> new BrowsePathTarget(n, UInteger.MAX))
                     .collect(toList())
@@ -176,7 +219,7 @@ public class BrowsePathsHelper {
         } else {
             RelativePathElement e = elements.get(0);
 
-            return next(nodeId, e).thenCompose(nextExId -> {
+            return next(nodeId, e, batch, browsed).thenCompose(nextExId -> {
                 if (nextExId.isNull()) {
                     // There was no match for the target name
                     return failedUaFuture(StatusCodes.Bad_NoMatch);
@@ -187,7 +230,7 @@ public class BrowsePathsHelper {
                 Optional<NodeId> nextId = nextExId.toNodeId(server.getNamespaceTable());
 
                 if (nextId.isPresent()) {
-                    return follow(nextId.get(), nextElements);
+                    return follow(nextId.get(), nextElements, batch, browsed);
                 } else {
                     UInteger remaining = nextElements.isEmpty() ?
                         UInteger.MAX : uint(nextElements.size());
@@ -202,7 +245,13 @@ public class BrowsePathsHelper {
         }
     }
 
-    private CompletableFuture<ExpandedNodeId> next(NodeId nodeId, RelativePathElement element) {
+    private CompletableFuture<ExpandedNodeId> next(
+        NodeId nodeId,
+        RelativePathElement element,
+        Batch batch,
+        @Nullable Set<NodeId> browsed
+    ) {
+
         NodeId referenceTypeId = element.getReferenceTypeId();
         boolean includeSubtypes = element.getIncludeSubtypes();
         QualifiedName targetName = element.getTargetName();
@@ -211,14 +260,7 @@ public class BrowsePathsHelper {
             return failedUaFuture(StatusCodes.Bad_BrowseNameInvalid);
         }
 
-        BrowseContext browseContext = new BrowseContext(
-            server,
-            context.getSession().orElse(null)
-        );
-
-        server.getAddressSpaceManager().browse(browseContext, nodeId);
-
-        CompletableFuture<List<Reference>> future = browseContext.getFuture();
+        CompletableFuture<List<Reference>> future = batch.browse(nodeId, browsed);
 
         return future.thenCompose(references -> {
             List<ExpandedNodeId> targetNodeIds = references.stream()
@@ -237,11 +279,11 @@ public class BrowsePathsHelper {
             if (targetNodeIds.isEmpty()) {
                 return failedUaFuture(StatusCodes.Bad_NoMatch);
             } else {
-                return readTargetBrowseNames(targetNodeIds).thenApply(browseNames -> {
+                return batch.readBrowseNames(targetNodeIds).thenApply(browseNames -> {
                     for (int i = 0; i < targetNodeIds.size(); i++) {
                         ExpandedNodeId targetNodeId = targetNodeIds.get(i);
                         QualifiedName browseName = browseNames.get(i);
-                        if (browseName.equals(targetName)) {
+                        if (targetName.equals(browseName)) {
                             return targetNodeId;
                         }
                     }
@@ -252,7 +294,13 @@ public class BrowsePathsHelper {
         });
     }
 
-    private CompletableFuture<List<ExpandedNodeId>> target(NodeId nodeId, RelativePathElement element) {
+    private CompletableFuture<List<ExpandedNodeId>> target(
+        NodeId nodeId,
+        RelativePathElement element,
+        Batch batch,
+        @Nullable Set<NodeId> browsed
+    ) {
+
         NodeId referenceTypeId = element.getReferenceTypeId();
         boolean includeSubtypes = element.getIncludeSubtypes();
         QualifiedName targetName = element.getTargetName();
@@ -261,14 +309,7 @@ public class BrowsePathsHelper {
             return failedUaFuture(StatusCodes.Bad_BrowseNameInvalid);
         }
 
-        BrowseContext browseContext = new BrowseContext(
-            server,
-            context.getSession().orElse(null)
-        );
-
-        server.getAddressSpaceManager().browse(browseContext, nodeId);
-
-        CompletableFuture<List<Reference>> future = browseContext.getFuture();
+        CompletableFuture<List<Reference>> future = batch.browse(nodeId, browsed);
 
         return future.thenCompose(references -> {
             List<ExpandedNodeId> targetNodeIds = references.stream()
@@ -287,7 +328,7 @@ public class BrowsePathsHelper {
             if (targetNodeIds.isEmpty()) {
                 return failedUaFuture(StatusCodes.Bad_NoMatch);
             } else {
-                return readTargetBrowseNames(targetNodeIds).thenApply(browseNames -> {
+                return batch.readBrowseNames(targetNodeIds).thenApply(browseNames -> {
                     List<ExpandedNodeId> targets = newArrayList();
 
                     for (int i = 0; i < targetNodeIds.size(); i++) {
@@ -304,46 +345,148 @@ public class BrowsePathsHelper {
         });
     }
 
-    private CompletableFuture<List<QualifiedName>> readTargetBrowseNames(List<ExpandedNodeId> targetNodeIds) {
-        List<CompletableFuture<List<DataValue>>> futures = newArrayListWithCapacity(targetNodeIds.size());
-
-        for (ExpandedNodeId xni : targetNodeIds) {
-            CompletableFuture<List<DataValue>> future = xni.toNodeId(server.getNamespaceTable())
-                .map(nodeId -> {
-                    ReadValueId readValueId = new ReadValueId(
-                        nodeId,
-                        AttributeId.BrowseName.uid(),
-                        null,
-                        QualifiedName.NULL_VALUE
-                    );
+    private boolean matchesTarget(QualifiedName browseName, QualifiedName targetName) {
+        return targetName == null ||
+            targetName.equals(QualifiedName.NULL_VALUE) ||
+            targetName.equals(browseName);
+    }
+
+
+    /**
+     * State shared by the BrowsePaths of one request.
+     * <p>
+     * Each Node is browsed, and each target's BrowseName read, at most once per request, so BrowsePaths that share a
+     * prefix share its resolution.
+     */
+    private final class Batch {
+
+        private final ConcurrentMap<NodeId, CompletableFuture<List<Reference>>> browses =
+            new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<ExpandedNodeId, CompletableFuture<QualifiedName>> browseNames =
+            new ConcurrentHashMap<>();
+
+        @Nullable
+        final BrowsePathCache cache;
+
+        final int maxCachedBrowsePaths;
+
+        Batch(int maxCachedBrowsePaths) {
+            this.maxCachedBrowsePaths = maxCachedBrowsePaths;
+
+            cache = maxCachedBrowsePaths > 0 ? server.getAddressSpaceManager().getBrowsePathCache() : null;
+        }
+
+        /**
+         * Browse the Node identified by {@code nodeId}, or get the result of browsing it earlier in this request.
+         *
+         * @param nodeId  the {@link NodeId} of the Node to browse.
+         * @param browsed the {@link NodeId}s browsed for the BrowsePath being translated, or {@code null}.
+         * @return the References of the Node.
+         */
+        CompletableFuture<List<Reference>> browse(NodeId nodeId, @Nullable Set<NodeId> browsed) {
+            if (browsed != null) {
+                browsed.add(nodeId);
+            }
+
+            CompletableFuture<List<Reference>> future = browses.get(nodeId);
+
+            if (future == null) {
+                CompletableFuture<List<Reference>> pending = new CompletableFuture<>();
 
-                    ReadContext context = new ReadContext(server, null);
+                future = browses.putIfAbsent(nodeId, pending);
 
-                    server.getAddressSpaceManager().read(
-                        context,
-                        0.0,
-                        TimestampsToReturn.Neither,
-                        newArrayList(readValueId)
+                if (future == null) {
+                    future = pending;
+
+                    BrowseContext browseContext = new BrowseContext(
+                        server,
+                        context.getSession().orElse(null)
                     );
 
-                    return context.getFuture();
-                })
-                .orElse(completedFuture(newArrayList(new DataValue(StatusCodes.Bad_NodeIdUnknown))));
+                    server.getAddressSpaceManager().browse(browseContext, nodeId);
+
+                    browseContext.getFuture().whenComplete((references, ex) -> {
+                        if (references != null) {
+                            pending.complete(references);
+                        } else {
+                            pending.completeExceptionally(ex);
+                        }
+                    });
+                }
+            }
 
-            futures.add(future);
+            return future;
         }
 
-        return sequence(futures).thenApply(values ->
-            values.stream().map(l -> {
-                DataValue v = l.get(0);
-                return (QualifiedName) v.getValue().getValue();
-            }).collect(toList()));
-    }
+        /**
+         * Read the BrowseNames of {@code targetNodeIds}, in one read for those not read earlier in this request.
+         *
+         * @param targetNodeIds the {@link ExpandedNodeId}s of the Nodes to read.
+         * @return the BrowseNames, in the order of {@code targetNodeIds}; {@code null} for non-local Nodes.
+         */
+        CompletableFuture<List<QualifiedName>> readBrowseNames(List<ExpandedNodeId> targetNodeIds) {
+            List<CompletableFuture<QualifiedName>> futures = newArrayListWithCapacity(targetNodeIds.size());
+
+            List<ReadValueId> readValueIds = newArrayList();
+            List<CompletableFuture<QualifiedName>> pendingReads = newArrayList();
+
+            for (ExpandedNodeId xni : targetNodeIds) {
+                CompletableFuture<QualifiedName> future = browseNames.get(xni);
+
+                if (future == null) {
+                    CompletableFuture<QualifiedName> pending = new CompletableFuture<>();
+
+                    future = browseNames.putIfAbsent(xni, pending);
+
+                    if (future == null) {
+                        future = pending;
+
+                        Optional<NodeId> nodeId = xni.toNodeId(server.getNamespaceTable());
+
+                        if (nodeId.isPresent()) {
+                            readValueIds.add(new ReadValueId(
+                                nodeId.get(),
+                                AttributeId.BrowseName.uid(),
+                                null,
+                                QualifiedName.NULL_VALUE
+                            ));
+
+                            pendingReads.add(pending);
+                        } else {
+                            pending.complete(null);
+                        }
+                    }
+                }
+
+                futures.add(future);
+            }
+
+            if (!readValueIds.isEmpty()) {
+                ReadContext context = new ReadContext(server, null);
+
+                server.getAddressSpaceManager().read(
+                    context,
+                    0.0,
+                    TimestampsToReturn.Neither,
+                    readValueIds
+                );
+
+                context.getFuture().whenComplete((values, ex) -> {
+                    for (int i = 0; i < pendingReads.size(); i++) {
+                        if (values != null) {
+                            DataValue v = values.get(i);
+                            pendingReads.get(i).complete((QualifiedName) v.getValue().getValue());
+                        } else {
+                            pendingReads.get(i).completeExceptionally(ex);
+                        }
+                    }
+                });
+            }
+
+            return sequence(futures);
+        }
 
-    private boolean matchesTarget(QualifiedName browseName, QualifiedName targetName) {
-        return targetName == null ||
-            targetName.equals(QualifiedName.NULL_VALUE) ||
-            targetName.equals(browseName);
     }
 
 }
@@ -0,0 +1,585 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaDataTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaReferenceTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaViewNode;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * A read-only view of a snapshot written by {@link NodeSnapshotWriter}, usually memory-mapped from a file.
+ * <p>
+ * Opening a snapshot reads only its trailer; Nodes and References are decoded from the mapped buffer on demand, one
+ * record at a time, after a lookup in the index of the snapshot. The snapshot itself lives outside the heap, so a
+ * very large address space can be served without loading it first and with little heap besides the Nodes currently
+ * materialized.
+ * <p>
+ * The namespace URIs of the snapshot are added to the Server's {@link NamespaceTable} when it's opened, and the
+ * namespace indices of NodeIds, BrowseNames and local ExpandedNodeIds read from the snapshot are translated to the
+ * Server's. NodeIds nested in attribute values, e.g. in the Value of a Variable, are read as written.
+ * <p>
+ * A {@link NodeSnapshot} is safe to use from multiple threads.
+ *
+ * @see SnapshotNodeManager
+ */
+public final class NodeSnapshot {
+
+    private final ByteBuffer buffer;
+    private final ByteBuffer littleEndian;
+    private final SerializationContext serializationContext;
+
+    private final String[] namespaceUris;
+
+    /**
+     * Server namespace index by snapshot namespace index, or -1 if the snapshot has no URI for an index.
+     */
+    private final int[] toServerIndex;
+
+    /**
+     * Snapshot namespace index by Server namespace index, or -1 if the snapshot has no such namespace.
+     */
+    private final int[] toSnapshotIndex;
+
+    private final boolean identity;
+
+    private final int nodeCount;
+    private final int tableSize;
+    private final int indexOffset;
+
+    private NodeSnapshot(
+        ByteBuffer buffer,
+        NamespaceTable namespaceTable,
+        SerializationContext serializationContext
+    ) throws IOException {
+
+        this.buffer = buffer.duplicate();
+        this.buffer.clear();
+        this.littleEndian = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.serializationContext = serializationContext;
+
+        int limit = littleEndian.limit();
+
+        if (limit < NodeSnapshotWriter.TRAILER_LENGTH) {
+            throw new IOException("not a node snapshot");
+        }
+
+        byte[] magic = new byte[NodeSnapshotWriter.MAGIC.length];
+        for (int i = 0; i < magic.length; i++) {
+            magic[i] = littleEndian.get(limit - magic.length + i);
+        }
+        if (!Arrays.equals(magic, NodeSnapshotWriter.MAGIC)) {
+            throw new IOException("not a node snapshot");
+        }
+
+        int version = littleEndian.getInt(limit - NodeSnapshotWriter.TRAILER_LENGTH + 4);
+        if (version != NodeSnapshotWriter.VERSION) {
+            throw new IOException("unsupported node snapshot version: " + version);
+        }
+
+        int trailerOffset = littleEndian.getInt(limit - NodeSnapshotWriter.TRAILER_LENGTH);
+
+        try {
+            OpcUaBinaryStreamDecoder decoder = decoder(trailerOffset);
+
+            int namespaceCount = decoder.readInt32();
+            int[] indices = new int[namespaceCount];
+            String[] uris = new String[namespaceCount];
+            int maxIndex = -1;
+
+            for (int i = 0; i < namespaceCount; i++) {
+                indices[i] = decoder.readUInt16().intValue();
+                uris[i] = decoder.readString();
+                maxIndex = Math.max(maxIndex, indices[i]);
+            }
+
+            namespaceUris = new String[maxIndex + 1];
+            toServerIndex = new int[maxIndex + 1];
+            Arrays.fill(toServerIndex, -1);
+
+            boolean identity = true;
+            int maxServerIndex = -1;
+
+            for (int i = 0; i < namespaceCount; i++) {
+                int serverIndex = namespaceTable.addUri(uris[i]).intValue();
+
+                namespaceUris[indices[i]] = uris[i];
+                toServerIndex[indices[i]] = serverIndex;
+
+                identity &= serverIndex == indices[i];
+                maxServerIndex = Math.max(maxServerIndex, serverIndex);
+            }
+
+            toSnapshotIndex = new int[maxServerIndex + 1];
+            Arrays.fill(toSnapshotIndex, -1);
+
+            for (int i = 0; i < toServerIndex.length; i++) {
+                if (toServerIndex[i] >= 0) {
+                    toSnapshotIndex[toServerIndex[i]] = i;
+                }
+            }
+
+            this.identity = identity;
+
+            nodeCount = decoder.readInt32();
+            tableSize = decoder.readInt32();
+            indexOffset = decoder.readInt32();
+        } catch (UaSerializationException | IndexOutOfBoundsException e) {
+            throw new IOException("corrupt node snapshot", e);
+        }
+    }
+
+    /**
+     * Memory-map the snapshot at {@code path}.
+     * <p>
+     * The mapping stays valid until the {@link NodeSnapshot} is garbage collected.
+     *
+     * @param path                 the {@link Path} of a snapshot written by {@link NodeSnapshotWriter}.
+     * @param namespaceTable       the Server's {@link NamespaceTable}; the snapshot's namespace URIs are added to it.
+     * @param serializationContext the {@link SerializationContext} to decode attribute values with.
+     * @return a {@link NodeSnapshot} of the file at {@code path}.
+     * @throws IOException if the file can't be mapped or isn't a snapshot.
+     */
+    public static NodeSnapshot open(
+        Path path,
+        NamespaceTable namespaceTable,
+        SerializationContext serializationContext
+    ) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+
+            return new NodeSnapshot(buffer, namespaceTable, serializationContext);
+        }
+    }
+
+    /**
+     * Read a snapshot from {@code buffer}, e.g. one loaded from a classpath resource.
+     *
+     * @param buffer               a {@link ByteBuffer} holding a snapshot written by {@link NodeSnapshotWriter},
+     *                             from index 0 to its capacity.
+     * @param namespaceTable       the Server's {@link NamespaceTable}; the snapshot's namespace URIs are added to it.
+     * @param serializationContext the {@link SerializationContext} to decode attribute values with.
+     * @return a {@link NodeSnapshot} of {@code buffer}.
+     * @throws IOException if {@code buffer} doesn't hold a snapshot.
+     */
+    public static NodeSnapshot wrap(
+        ByteBuffer buffer,
+        NamespaceTable namespaceTable,
+        SerializationContext serializationContext
+    ) throws IOException {
+
+        return new NodeSnapshot(buffer, namespaceTable, serializationContext);
+    }
+
+    /**
+     * @return the number of Nodes in this snapshot.
+     */
+    public int size() {
+        return nodeCount;
+    }
+
+    /**
+     * @return the namespace URIs of this snapshot, by the namespace index they were written with.
+     */
+    public String[] getNamespaceUris() {
+        return namespaceUris.clone();
+    }
+
+    /**
+     * @param nodeId a {@link NodeId} indexed in the Server's {@link NamespaceTable}.
+     * @return {@code true} if this snapshot has a Node identified by {@code nodeId}.
+     */
+    public boolean contains(NodeId nodeId) {
+        return find(nodeId) >= 0;
+    }
+
+    /**
+     * Materialize the Node identified by {@code nodeId}.
+     *
+     * @param nodeId  a {@link NodeId} indexed in the Server's {@link NamespaceTable}.
+     * @param context the {@link UaNodeContext} to create the Node with.
+     * @return the Node identified by {@code nodeId}, or empty if this snapshot has no such Node.
+     */
+    public Optional<UaNode> getNode(NodeId nodeId, UaNodeContext context) {
+        int offset = find(nodeId);
+
+        return offset >= 0 ? Optional.of(readRecord(offset).newNode(context)) : Optional.empty();
+    }
+
+    /**
+     * @param nodeId a {@link NodeId} indexed in the Server's {@link NamespaceTable}.
+     * @return the References of the Node identified by {@code nodeId}, or an empty List if this snapshot has no such
+     * Node.
+     */
+    public List<Reference> getReferences(NodeId nodeId) {
+        int offset = find(nodeId);
+
+        return offset >= 0 ? readReferences(offset) : Collections.emptyList();
+    }
+
+    /**
+     * Materialize every Node in this snapshot and call {@code consumer} with it and its References, in the order they
+     * were written.
+     *
+     * @param context  the {@link UaNodeContext} to create the Nodes with.
+     * @param consumer the {@link BiConsumer} to call.
+     */
+    public void forEach(UaNodeContext context, BiConsumer<UaNode, List<Reference>> consumer) {
+        forEachRecord((record, references) -> consumer.accept(record.newNode(context), references));
+    }
+
+    /**
+     * @return the {@link NodeId}s of every Node in this snapshot, indexed in the Server's {@link NamespaceTable}.
+     */
+    public List<NodeId> getNodeIds() {
+        List<NodeId> nodeIds = new ArrayList<>(nodeCount);
+
+        for (int offset = 0; offset < indexOffset; offset = nextOffset(offset)) {
+            nodeIds.add(remap(decoder(offset + 4).readNodeId()));
+        }
+
+        return nodeIds;
+    }
+
+    /**
+     * @return the offset of the record of the Node identified by {@code nodeId}, or -1 if there is none.
+     */
+    int find(NodeId nodeId) {
+        int serverIndex = nodeId.getNamespaceIndex().intValue();
+        int snapshotIndex = serverIndex < toSnapshotIndex.length ? toSnapshotIndex[serverIndex] : -1;
+
+        if (snapshotIndex < 0 || tableSize == 0) {
+            return -1;
+        }
+
+        NodeId key = identity ? nodeId : nodeId.withNamespaceIndex(ushort(snapshotIndex));
+
+        int hash = hash(snapshotIndex, nodeId.getIdentifier());
+        int mask = tableSize - 1;
+
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = indexOffset + slot * 8;
+            int offset = littleEndian.getInt(entry + 4) - 1;
+
+            if (offset < 0) {
+                return -1;
+            } else if (littleEndian.getInt(entry) == hash && key.equals(decoder(offset + 4).readNodeId())) {
+                return offset;
+            }
+        }
+    }
+
+    int nextOffset(int offset) {
+        return offset + littleEndian.getInt(offset);
+    }
+
+    /**
+     * Call {@code consumer} with every record in this snapshot and its References, decoding each in one pass.
+     */
+    private void forEachRecord(BiConsumer<NodeRecord, List<Reference>> consumer) {
+        for (int offset = 0; offset < indexOffset; offset = nextOffset(offset)) {
+            OpcUaBinaryStreamDecoder decoder = decoder(offset + 4);
+
+            NodeRecord record = readRecord(decoder);
+
+            consumer.accept(record, readReferences(decoder, record.nodeId));
+        }
+    }
+
+    NodeRecord readRecord(int offset) {
+        return readRecord(decoder(offset + 4));
+    }
+
+    private NodeRecord readRecord(OpcUaBinaryStreamDecoder decoder) {
+        NodeRecord r = new NodeRecord();
+        r.nodeId = remap(decoder.readNodeId());
+        r.nodeClass = NodeClass.from(decoder.readByte().intValue());
+
+        decoder.readInt32(); // attributesLength
+
+        r.browseName = remap(decoder.readQualifiedName());
+        r.displayName = decoder.readLocalizedText();
+        r.description = decoder.readLocalizedText();
+        r.writeMask = decoder.readUInt32();
+        r.userWriteMask = decoder.readUInt32();
+
+        switch (r.nodeClass) {
+            case Object:
+                r.eventNotifier = decoder.readByte();
+                break;
+
+            case Variable:
+                readValueAttributes(decoder, r);
+                r.accessLevel = decoder.readByte();
+                r.userAccessLevel = decoder.readByte();
+                r.minimumSamplingInterval = decoder.readDouble();
+                r.historizing = decoder.readBoolean();
+                break;
+
+            case Method:
+                r.executable = decoder.readBoolean();
+                r.userExecutable = decoder.readBoolean();
+                break;
+
+            case ObjectType:
+            case DataType:
+                r.isAbstract = decoder.readBoolean();
+                break;
+
+            case VariableType:
+                readValueAttributes(decoder, r);
+                r.isAbstract = decoder.readBoolean();
+                break;
+
+            case ReferenceType:
+                r.isAbstract = decoder.readBoolean();
+                r.symmetric = decoder.readBoolean();
+                r.inverseName = decoder.readLocalizedText();
+                break;
+
+            case View:
+                r.containsNoLoops = decoder.readBoolean();
+                r.eventNotifier = decoder.readByte();
+                break;
+
+            default:
+                throw new IllegalStateException("unsupported NodeClass: " + r.nodeClass);
+        }
+
+        return r;
+    }
+
+    List<Reference> readReferences(int offset) {
+        ByteBuf buf = wrap(offset + 4);
+        OpcUaBinaryStreamDecoder decoder = new OpcUaBinaryStreamDecoder(serializationContext).setBuffer(buf);
+
+        NodeId sourceNodeId = remap(decoder.readNodeId());
+        decoder.readByte();
+
+        int attributesLength = decoder.readInt32();
+        buf.skipBytes(attributesLength);
+
+        return readReferences(decoder, sourceNodeId);
+    }
+
+    private List<Reference> readReferences(OpcUaBinaryStreamDecoder decoder, NodeId sourceNodeId) {
+        int referenceCount = decoder.readInt32();
+
+        if (referenceCount == 0) {
+            return Collections.emptyList();
+        }
+
+        Reference[] references = new Reference[referenceCount];
+
+        for (int i = 0; i < referenceCount; i++) {
+            NodeId referenceTypeId = remap(decoder.readNodeId());
+            boolean forward = decoder.readBoolean();
+            ExpandedNodeId targetNodeId = remap(decoder.readExpandedNodeId());
+
+            references[i] = new Reference(sourceNodeId, referenceTypeId, targetNodeId, forward);
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(references));
+    }
+
+    private void readValueAttributes(OpcUaBinaryStreamDecoder decoder, NodeRecord r) {
+        r.value = decoder.readDataValue();
+        r.dataType = remap(decoder.readNodeId());
+        r.valueRank = decoder.readInt32();
+        r.arrayDimensions = decoder.readUInt32Array("ArrayDimensions");
+    }
+
+    private OpcUaBinaryStreamDecoder decoder(int offset) {
+        return new OpcUaBinaryStreamDecoder(serializationContext).setBuffer(wrap(offset));
+    }
+
+    private ByteBuf wrap(int offset) {
+        return Unpooled.wrappedBuffer(buffer.duplicate()).readerIndex(offset);
+    }
+
+    private int toServerIndex(int snapshotIndex) {
+        if (identity || snapshotIndex >= toServerIndex.length || toServerIndex[snapshotIndex] < 0) {
+            return snapshotIndex;
+        } else {
+            return toServerIndex[snapshotIndex];
+        }
+    }
+
+    private NodeId remap(NodeId nodeId) {
+        int index = nodeId.getNamespaceIndex().intValue();
+        int serverIndex = toServerIndex(index);
+
+        return serverIndex == index ? nodeId : nodeId.withNamespaceIndex(ushort(serverIndex));
+    }
+
+    private QualifiedName remap(QualifiedName name) {
+        int index = name.getNamespaceIndex().intValue();
+        int serverIndex = toServerIndex(index);
+
+        return serverIndex == index ? name : name.withNamespaceIndex(ushort(serverIndex));
+    }
+
+    private ExpandedNodeId remap(ExpandedNodeId nodeId) {
+        if (!nodeId.isLocal() || nodeId.getNamespaceUri() != null) {
+            return nodeId;
+        }
+
+        int index = nodeId.getNamespaceIndex().intValue();
+        int serverIndex = toServerIndex(index);
+
+        if (serverIndex == index) {
+            return nodeId;
+        } else {
+            return new ExpandedNodeId(ushort(serverIndex), null, nodeId.getIdentifier(), nodeId.getServerIndex());
+        }
+    }
+
+    static int hash(int namespaceIndex, Object identifier) {
+        return 31 * namespaceIndex + identifier.hashCode();
+    }
+
+    static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    static int tableSizeFor(int count) {
+        // keep the load factor at or below 0.5, so that a lookup for an absent NodeId ends quickly
+        long minSize = Math.max(count * 2L, 2L);
+
+        return (int) Math.min(Long.highestOneBit(minSize - 1) << 1, 1 << 30);
+    }
+
+    /**
+     * The decoded attributes of a Node record.
+     */
+    static final class NodeRecord {
+
+        NodeId nodeId;
+        NodeClass nodeClass;
+        QualifiedName browseName;
+        LocalizedText displayName;
+        LocalizedText description;
+        UInteger writeMask;
+        UInteger userWriteMask;
+
+        DataValue value;
+        NodeId dataType;
+        Integer valueRank;
+        UInteger[] arrayDimensions;
+        UByte accessLevel;
+        UByte userAccessLevel;
+        Double minimumSamplingInterval;
+        Boolean historizing;
+
+        UByte eventNotifier;
+        Boolean executable;
+        Boolean userExecutable;
+        Boolean isAbstract;
+        Boolean symmetric;
+        LocalizedText inverseName;
+        Boolean containsNoLoops;
+
+        UaNode newNode(UaNodeContext context) {
+            switch (nodeClass) {
+                case Object:
+                    return new UaObjectNode(
+                        context, nodeId, browseName, displayName, description, writeMask, userWriteMask,
+                        eventNotifier
+                    );
+
+                case Variable:
+                    return new UaVariableNode(
+                        context, nodeId, browseName, displayName, description, writeMask, userWriteMask,
+                        value, dataType, valueRank, arrayDimensions, accessLevel, userAccessLevel,
+                        minimumSamplingInterval, historizing
+                    );
+
+                case Method:
+                    return new UaMethodNode(
+                        context, nodeId, browseName, displayName, description, writeMask, userWriteMask,
+                        executable, userExecutable
+                    );
+
+                case ObjectType:
+                    return new UaObjectTypeNode(
+                        context, nodeId, browseName, displayName, description, writeMask, userWriteMask,
+                        isAbstract
+                    );
+
+                case VariableType:
+                    return new UaVariableTypeNode(
+                        context, nodeId, browseName, displayName, description, writeMask, userWriteMask,
+                        value, dataType, valueRank, arrayDimensions, isAbstract
+                    );
+
+                case ReferenceType:
+                    return new UaReferenceTypeNode(
+                        context, nodeId, browseName, displayName, description, writeMask, userWriteMask,
+                        isAbstract, symmetric, inverseName
+                    );
+
+                case DataType:
+                    return new UaDataTypeNode(
+                        context, nodeId, browseName, displayName, description, writeMask, userWriteMask,
+                        isAbstract
+                    );
+
+                case View:
+                    return new UaViewNode(
+                        context, nodeId, browseName, displayName, description, writeMask, userWriteMask,
+                        containsNoLoops, eventNotifier
+                    );
+
+                default:
+                    throw new IllegalStateException("unsupported NodeClass: " + nodeClass);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.core.ValueRanks;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+
+/**
+ * Writes Nodes and their References to a snapshot that a {@link NodeSnapshot} can memory-map.
+ * <p>
+ * A snapshot is a sequence of Node records, encoded with the OPC UA binary encoding, followed by an open-addressing
+ * index from NodeId hash to record offset, the namespace URIs the NodeIds in the records were written with, and a
+ * fixed-size trailer:
+ * <pre>
+ * record:  Int32 recordLength, NodeId, Byte nodeClass, Int32 attributesLength, attributes,
+ *          Int32 referenceCount, (NodeId referenceTypeId, Boolean forward, ExpandedNodeId target)*
+ * index:   (Int32 hash, Int32 offset + 1)*, 0 marking an empty slot
+ * trailer: Int32 namespaceCount, (UInt16 index, String uri)*, Int32 nodeCount, Int32 tableSize, Int32 indexOffset,
+ *          Int32 trailerOffset, Int32 version, Byte[8] magic
+ * </pre>
+ * Records are written one at a time, so writing a snapshot doesn't need more than one encoded record in memory
+ * besides the index. A snapshot is limited to 2 GiB.
+ * <p>
+ * Attributes are read with {@link UaNode#getAttribute(AttributeId)}, i.e. without going through the filter chain of
+ * a Node; a {@code null} attribute that can't be encoded as {@code null} is written as the default its Node class
+ * has.
+ */
+public class NodeSnapshotWriter {
+
+    static final byte[] MAGIC = {'M', 'I', 'L', 'O', 'S', 'N', 'A', 'P'};
+
+    static final int VERSION = 1;
+
+    /**
+     * The length of the fixed-size end of the trailer: trailerOffset, version and magic.
+     */
+    static final int TRAILER_LENGTH = 16;
+
+    private final NamespaceTable namespaceTable;
+    private final SerializationContext serializationContext;
+
+    /**
+     * @param namespaceTable       the {@link NamespaceTable} the NodeIds of the Nodes to write are indexed in.
+     * @param serializationContext the {@link SerializationContext} to encode attribute values with.
+     */
+    public NodeSnapshotWriter(NamespaceTable namespaceTable, SerializationContext serializationContext) {
+        this.namespaceTable = namespaceTable;
+        this.serializationContext = serializationContext;
+    }
+
+    /**
+     * Write a snapshot of {@code nodes} to the file at {@code path}, replacing it if it exists.
+     *
+     * @param path       the {@link Path} of the file to write.
+     * @param nodes      the Nodes to write.
+     * @param references a function from the {@link NodeId} of each Node to the References to write for it.
+     * @throws IOException if the file can't be written or the snapshot would exceed 2 GiB.
+     */
+    public void write(
+        Path path,
+        Collection<? extends UaNode> nodes,
+        Function<NodeId, List<Reference>> references
+    ) throws IOException {
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            write(out, nodes, references);
+        }
+    }
+
+    /**
+     * Write a snapshot of {@code nodes} to {@code out}.
+     *
+     * @param out        the {@link OutputStream} to write to; it's not closed.
+     * @param nodes      the Nodes to write.
+     * @param references a function from the {@link NodeId} of each Node to the References to write for it.
+     * @throws IOException if writing to {@code out} fails or the snapshot would exceed 2 GiB.
+     */
+    public void write(
+        OutputStream out,
+        Collection<? extends UaNode> nodes,
+        Function<NodeId, List<Reference>> references
+    ) throws IOException {
+
+        ByteBuf buffer = Unpooled.buffer();
+
+        try {
+            OpcUaBinaryStreamEncoder encoder = new OpcUaBinaryStreamEncoder(serializationContext).setBuffer(buffer);
+
+            int[] hashes = new int[nodes.size()];
+            int[] offsets = new int[nodes.size()];
+            int count = 0;
+            long position = 0L;
+
+            for (UaNode node : nodes) {
+                if (count == hashes.length) {
+                    throw new IllegalArgumentException("nodes changed size while being written");
+                }
+
+                NodeId nodeId = node.getNodeId();
+
+                hashes[count] = NodeSnapshot.hash(nodeId.getNamespaceIndex().intValue(), nodeId.getIdentifier());
+                offsets[count] = (int) position;
+                count++;
+
+                writeRecord(encoder, buffer, node, references.apply(nodeId));
+
+                position = flush(buffer, out, position);
+            }
+
+            int tableSize = NodeSnapshot.tableSizeFor(count);
+            int[] table = new int[tableSize * 2];
+
+            for (int i = 0; i < count; i++) {
+                int mask = tableSize - 1;
+                int slot = NodeSnapshot.spread(hashes[i]) & mask;
+
+                while (table[slot * 2 + 1] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+
+                table[slot * 2] = hashes[i];
+                table[slot * 2 + 1] = offsets[i] + 1;
+            }
+
+            int indexOffset = (int) position;
+
+            for (int entry : table) {
+                buffer.writeIntLE(entry);
+
+                if (buffer.readableBytes() >= 8192) {
+                    position = flush(buffer, out, position);
+                }
+            }
+            position = flush(buffer, out, position);
+
+            int trailerOffset = (int) position;
+
+            Map<UShort, String> namespaces = new TreeMap<>();
+            namespaceTable.update(namespaces::putAll);
+
+            encoder.writeInt32(namespaces.size());
+            for (Map.Entry<UShort, String> e : namespaces.entrySet()) {
+                encoder.writeUInt16(e.getKey());
+                encoder.writeString(e.getValue());
+            }
+            encoder.writeInt32(count);
+            encoder.writeInt32(tableSize);
+            encoder.writeInt32(indexOffset);
+
+            encoder.writeInt32(trailerOffset);
+            encoder.writeInt32(VERSION);
+            buffer.writeBytes(MAGIC);
+
+            flush(buffer, out, position);
+
+            out.flush();
+        } catch (UaSerializationException e) {
+            throw new IOException("encoding node snapshot failed", e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static long flush(ByteBuf buffer, OutputStream out, long position) throws IOException {
+        int length = buffer.readableBytes();
+
+        if (position + length > Integer.MAX_VALUE) {
+            throw new IOException("node snapshot exceeds 2 GiB");
+        }
+
+        buffer.readBytes(out, length);
+        buffer.clear();
+
+        return position + length;
+    }
+
+    private static void writeRecord(
+        OpcUaBinaryStreamEncoder encoder,
+        ByteBuf buffer,
+        UaNode node,
+        List<Reference> references
+    ) {
+
+        int recordStart = buffer.writerIndex();
+        buffer.writeIntLE(0);
+
+        NodeClass nodeClass = node.getNodeClass();
+
+        encoder.writeNodeId(node.getNodeId());
+        encoder.writeByte(UByte.valueOf(nodeClass.getValue()));
+
+        int attributesStart = buffer.writerIndex();
+        buffer.writeIntLE(0);
+
+        encoder.writeQualifiedName((QualifiedName) node.getAttribute(AttributeId.BrowseName));
+        encoder.writeLocalizedText((LocalizedText) node.getAttribute(AttributeId.DisplayName));
+        encoder.writeLocalizedText((LocalizedText) node.getAttribute(AttributeId.Description));
+        encoder.writeUInt32((UInteger) node.getAttribute(AttributeId.WriteMask));
+        encoder.writeUInt32((UInteger) node.getAttribute(AttributeId.UserWriteMask));
+
+        switch (nodeClass) {
+            case Object:
+                encoder.writeByte((UByte) node.getAttribute(AttributeId.EventNotifier));
+                break;
+
+            case Variable:
+                writeValueAttributes(encoder, node);
+                encoder.writeByte((UByte) node.getAttribute(AttributeId.AccessLevel));
+                encoder.writeByte((UByte) node.getAttribute(AttributeId.UserAccessLevel));
+                Double minimumSamplingInterval = (Double) node.getAttribute(AttributeId.MinimumSamplingInterval);
+                encoder.writeDouble(minimumSamplingInterval != null ? minimumSamplingInterval : -1.0);
+                encoder.writeBoolean((Boolean) node.getAttribute(AttributeId.Historizing));
+                break;
+
+            case Method:
+                encoder.writeBoolean((Boolean) node.getAttribute(AttributeId.Executable));
+                encoder.writeBoolean((Boolean) node.getAttribute(AttributeId.UserExecutable));
+                break;
+
+            case ObjectType:
+            case DataType:
+                encoder.writeBoolean((Boolean) node.getAttribute(AttributeId.IsAbstract));
+                break;
+
+            case VariableType:
+                writeValueAttributes(encoder, node);
+                encoder.writeBoolean((Boolean) node.getAttribute(AttributeId.IsAbstract));
+                break;
+
+            case ReferenceType:
+                encoder.writeBoolean((Boolean) node.getAttribute(AttributeId.IsAbstract));
+                encoder.writeBoolean((Boolean) node.getAttribute(AttributeId.Symmetric));
+                encoder.writeLocalizedText((LocalizedText) node.getAttribute(AttributeId.InverseName));
+                break;
+
+            case View:
+                encoder.writeBoolean((Boolean) node.getAttribute(AttributeId.ContainsNoLoops));
+                encoder.writeByte((UByte) node.getAttribute(AttributeId.EventNotifier));
+                break;
+
+            default:
+                throw new IllegalArgumentException("unsupported NodeClass: " + nodeClass);
+        }
+
+        buffer.setIntLE(attributesStart, buffer.writerIndex() - attributesStart - 4);
+
+        encoder.writeInt32(references.size());
+
+        for (Reference reference : references) {
+            encoder.writeNodeId(reference.getReferenceTypeId());
+            encoder.writeBoolean(reference.isForward());
+            encoder.writeExpandedNodeId(reference.getTargetNodeId());
+        }
+
+        buffer.setIntLE(recordStart, buffer.writerIndex() - recordStart);
+    }
+
+    private static void writeValueAttributes(OpcUaBinaryStreamEncoder encoder, UaNode node) {
+        Integer valueRank = (Integer) node.getAttribute(AttributeId.ValueRank);
+
+        encoder.writeDataValue((DataValue) node.getAttribute(AttributeId.Value));
+        encoder.writeNodeId((NodeId) node.getAttribute(AttributeId.DataType));
+        encoder.writeInt32(valueRank != null ? valueRank : ValueRanks.Scalar);
+        encoder.writeUInt32Array("ArrayDimensions", (UInteger[]) node.getAttribute(AttributeId.ArrayDimensions));
+    }
+
+}
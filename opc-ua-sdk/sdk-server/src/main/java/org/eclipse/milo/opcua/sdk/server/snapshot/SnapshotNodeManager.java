@@ -0,0 +1,487 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.nodes.AttributeObserver;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.delegates.AttributeDelegate;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilterChain;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+
+/**
+ * A {@link UaNodeManager} that serves the Nodes and References of a {@link NodeSnapshot} without loading them, with
+ * the Nodes and References added to it at runtime layered on top.
+ * <p>
+ * {@link #getNode(NodeId)} materializes a Node from the snapshot on every call, unless a Node with the same NodeId
+ * was added, removed or promoted since. Materialized Variable and Object Nodes are promoted to Nodes held on the heap,
+ * which {@link #getNode(NodeId)} returns from then on, when an attribute is set on them, their
+ * {@link AttributeFilterChain} is got, or an {@link AttributeObserver} or {@link AttributeDelegate} is set, so that
+ * writes, filters and subscriptions work as with a {@link UaNodeManager}. When several views of the same Node are
+ * promoted, the first one is held and the others route what is set on them to it. Nodes of other classes are
+ * read-only as materialized; add a Node to replace one.
+ * <p>
+ * References from the snapshot can be removed, and References added, as with a {@link UaNodeManager}.
+ *
+ * @see org.eclipse.milo.opcua.sdk.server.api.ManagedNamespace#ManagedNamespace(OpcUaServer, String, UaNodeManager)
+ */
+public class SnapshotNodeManager extends UaNodeManager {
+
+    private final Object lock = new Object();
+
+    /**
+     * NodeIds of snapshot Nodes that were replaced, removed or promoted.
+     */
+    private final Set<NodeId> hidden = ConcurrentHashMap.newKeySet();
+
+    /**
+     * References in the snapshot that were removed.
+     */
+    private final Set<Reference> removedReferences = ConcurrentHashMap.newKeySet();
+
+    private final NodeSnapshot snapshot;
+    private final UaNodeContext nodeContext;
+
+    /**
+     * @param server   the {@link OpcUaServer} the Nodes in {@code snapshot} belong to.
+     * @param snapshot the {@link NodeSnapshot} to serve Nodes and References from.
+     */
+    public SnapshotNodeManager(OpcUaServer server, NodeSnapshot snapshot) {
+        this.snapshot = snapshot;
+
+        nodeContext = new UaNodeContext() {
+            @Override
+            public OpcUaServer getServer() {
+                return server;
+            }
+
+            @Override
+            public NodeManager<UaNode> getNodeManager() {
+                return SnapshotNodeManager.this;
+            }
+        };
+    }
+
+    /**
+     * @return the {@link NodeSnapshot} this {@link SnapshotNodeManager} serves Nodes and References from.
+     */
+    public NodeSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Every Node in the snapshot is materialized.
+     */
+    @Override
+    public List<UaNode> getNodes() {
+        List<UaNode> nodes = new ArrayList<>(getNodeMap().values());
+
+        snapshot.forEach(nodeContext, (node, references) -> {
+            if (!hidden.contains(node.getNodeId())) {
+                nodes.add(node);
+            }
+        });
+
+        return nodes;
+    }
+
+    @Override
+    public List<NodeId> getNodeIds() {
+        List<NodeId> nodeIds = new ArrayList<>(getNodeMap().keySet());
+
+        for (NodeId nodeId : snapshot.getNodeIds()) {
+            if (!hidden.contains(nodeId)) {
+                nodeIds.add(nodeId);
+            }
+        }
+
+        return nodeIds;
+    }
+
+    @Override
+    public boolean containsNode(NodeId nodeId) {
+        return getNodeMap().containsKey(nodeId) || (!hidden.contains(nodeId) && snapshot.contains(nodeId));
+    }
+
+    @Override
+    public Optional<UaNode> addNode(UaNode node) {
+        NodeId nodeId = node.getNodeId();
+
+        synchronized (lock) {
+            UaNode previous = getNodeMap().put(nodeId, node);
+
+            if (hide(nodeId) && previous == null) {
+                previous = materialize(nodeId);
+            }
+
+            return Optional.ofNullable(previous);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A Node in the snapshot is materialized as a new Node.
+     */
+    @Override
+    public Optional<UaNode> getNode(NodeId nodeId) {
+        UaNode node = getNodeMap().get(nodeId);
+
+        if (node == null && !hidden.contains(nodeId)) {
+            node = materialize(nodeId);
+        }
+
+        return Optional.ofNullable(node);
+    }
+
+    @Override
+    public Optional<UaNode> removeNode(NodeId nodeId) {
+        UaNode removed;
+
+        synchronized (lock) {
+            // hide the snapshot Node first so there's no moment it shows through
+            boolean wasVisible = hide(nodeId);
+
+            removed = getNodeMap().remove(nodeId);
+
+            if (removed == null && wasVisible) {
+                removed = materialize(nodeId);
+            }
+        }
+
+        if (removed != null) {
+            fireNodeRemoved(nodeId);
+        }
+
+        return Optional.ofNullable(removed);
+    }
+
+    @Override
+    public void addReference(Reference reference) {
+        if (!removedReferences.remove(reference)) {
+            super.addReference(reference);
+        } else {
+            fireReferenceAdded(reference);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The References are added one at a time, so that References removed from the snapshot are restored.
+     */
+    @Override
+    public void addReferences(Reference reference, NamespaceTable namespaceTable) {
+        addReference(reference);
+
+        reference.invert(namespaceTable).ifPresent(this::addReference);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The References are removed one at a time, so that References in the snapshot are hidden.
+     */
+    @Override
+    public void removeReferences(Reference reference, NamespaceTable namespaceTable) {
+        removeReference(reference);
+
+        reference.invert(namespaceTable).ifPresent(this::removeReference);
+    }
+
+    @Override
+    public void removeReference(Reference reference) {
+        if (getReferenceStore().remove(reference)) {
+            fireReferenceRemoved(reference);
+        } else if (snapshot.getReferences(reference.getSourceNodeId()).contains(reference)) {
+            if (removedReferences.add(reference)) {
+                fireReferenceRemoved(reference);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * References in the snapshot come first.
+     */
+    @Override
+    public List<Reference> getReferences(NodeId nodeId) {
+        List<Reference> added = super.getReferences(nodeId);
+        List<Reference> references = snapshot.getReferences(nodeId);
+
+        if (removedReferences.isEmpty() && added.isEmpty()) {
+            return references;
+        }
+
+        List<Reference> merged = new ArrayList<>(references.size() + added.size());
+
+        for (Reference reference : references) {
+            if (!removedReferences.contains(reference)) {
+                merged.add(reference);
+            }
+        }
+        merged.addAll(added);
+
+        return merged;
+    }
+
+    @Override
+    public List<Reference> getReferences(
+        NodeId nodeId,
+        Reference.Direction direction,
+        Predicate<NodeId> referenceTypeFilter
+    ) {
+
+        List<Reference> added = super.getReferences(nodeId, direction, referenceTypeFilter);
+        List<Reference> references = snapshot.getReferences(nodeId);
+
+        List<Reference> merged = new ArrayList<>(references.size() + added.size());
+
+        for (Reference reference : references) {
+            if (reference.getDirection() == direction &&
+                referenceTypeFilter.test(reference.getReferenceTypeId()) &&
+                !removedReferences.contains(reference)) {
+
+                merged.add(reference);
+            }
+        }
+        merged.addAll(added);
+
+        return merged;
+    }
+
+    /**
+     * Hide the snapshot Node identified by {@code nodeId}, if there is one.
+     *
+     * @return {@code true} if the snapshot has a Node identified by {@code nodeId} and it wasn't hidden already.
+     */
+    private boolean hide(NodeId nodeId) {
+        return !hidden.contains(nodeId) && snapshot.contains(nodeId) && hidden.add(nodeId);
+    }
+
+    private UaNode materialize(NodeId nodeId) {
+        int offset = snapshot.find(nodeId);
+
+        if (offset < 0) {
+            return null;
+        }
+
+        NodeSnapshot.NodeRecord r = snapshot.readRecord(offset);
+
+        switch (r.nodeClass) {
+            case Variable:
+                return new VariableView(r);
+            case Object:
+                return new ObjectView(r);
+            default:
+                return r.newNode(nodeContext);
+        }
+    }
+
+    /**
+     * Hold {@code view} on the heap in place of the snapshot Node it was materialized from, unless that Node was
+     * replaced, removed or promoted since.
+     *
+     * @return the Node held in place of the snapshot Node: {@code view}, or another view of the same snapshot Node
+     * that was promoted first. {@code view} itself if the snapshot Node was replaced or removed, leaving it detached.
+     */
+    private UaNode promote(UaNode view) {
+        NodeId nodeId = view.getNodeId();
+
+        synchronized (lock) {
+            if (hidden.contains(nodeId)) {
+                UaNode current = getNodeMap().get(nodeId);
+
+                return current instanceof VariableView || current instanceof ObjectView ? current : view;
+            }
+
+            // hide the snapshot Node only once the view is in the map so there's no moment neither shows through
+            UaNode winner = getNodeMap().putIfAbsent(nodeId, view);
+            hidden.add(nodeId);
+
+            return winner != null ? winner : view;
+        }
+    }
+
+    /**
+     * A {@link UaVariableNode} materialized from the snapshot.
+     */
+    private final class VariableView extends UaVariableNode {
+
+        /**
+         * The Node held in place of the snapshot Node once this view was promoted; either this view or the view that
+         * was promoted first, which attributes, observers, delegates and filters are routed to.
+         */
+        private UaNode promoted;
+
+        VariableView(NodeSnapshot.NodeRecord r) {
+            super(
+                nodeContext,
+                r.nodeId,
+                r.browseName,
+                r.displayName,
+                r.description,
+                r.writeMask,
+                r.userWriteMask,
+                r.value,
+                r.dataType,
+                r.valueRank,
+                r.arrayDimensions,
+                r.accessLevel,
+                r.userAccessLevel,
+                r.minimumSamplingInterval,
+                r.historizing
+            );
+        }
+
+        @Override
+        public synchronized void setAttribute(AttributeId attributeId, Object value) {
+            UaNode node = promoteOnce();
+
+            super.setAttribute(attributeId, value);
+
+            if (node != this) {
+                node.setAttribute(attributeId, value);
+            }
+        }
+
+        @Override
+        public synchronized void addAttributeObserver(AttributeObserver observer) {
+            UaNode node = promoteOnce();
+
+            if (node != this) {
+                node.addAttributeObserver(observer);
+            } else {
+                super.addAttributeObserver(observer);
+            }
+        }
+
+        @Override
+        public synchronized void setAttributeDelegate(AttributeDelegate attributeDelegate) {
+            UaNode node = promoteOnce();
+
+            if (node != this) {
+                node.setAttributeDelegate(attributeDelegate);
+            } else {
+                super.setAttributeDelegate(attributeDelegate);
+            }
+        }
+
+        @Override
+        public synchronized AttributeFilterChain getFilterChain() {
+            UaNode node = promoteOnce();
+
+            return node != this ? node.getFilterChain() : super.getFilterChain();
+        }
+
+        private UaNode promoteOnce() {
+            if (promoted == null) {
+                promoted = promote(this);
+            }
+
+            return promoted;
+        }
+
+    }
+
+    /**
+     * A {@link UaObjectNode} materialized from the snapshot.
+     */
+    private final class ObjectView extends UaObjectNode {
+
+        /**
+         * The Node held in place of the snapshot Node once this view was promoted; either this view or the view that
+         * was promoted first, which attributes, observers, delegates and filters are routed to.
+         */
+        private UaNode promoted;
+
+        ObjectView(NodeSnapshot.NodeRecord r) {
+            super(
+                nodeContext,
+                r.nodeId,
+                r.browseName,
+                r.displayName,
+                r.description,
+                r.writeMask,
+                r.userWriteMask,
+                r.eventNotifier
+            );
+        }
+
+        @Override
+        public synchronized void setAttribute(AttributeId attributeId, Object value) {
+            UaNode node = promoteOnce();
+
+            super.setAttribute(attributeId, value);
+
+            if (node != this) {
+                node.setAttribute(attributeId, value);
+            }
+        }
+
+        @Override
+        public synchronized void addAttributeObserver(AttributeObserver observer) {
+            UaNode node = promoteOnce();
+
+            if (node != this) {
+                node.addAttributeObserver(observer);
+            } else {
+                super.addAttributeObserver(observer);
+            }
+        }
+
+        @Override
+        public synchronized void setAttributeDelegate(AttributeDelegate attributeDelegate) {
+            UaNode node = promoteOnce();
+
+            if (node != this) {
+                node.setAttributeDelegate(attributeDelegate);
+            } else {
+                super.setAttributeDelegate(attributeDelegate);
+            }
+        }
+
+        @Override
+        public synchronized AttributeFilterChain getFilterChain() {
+            UaNode node = promoteOnce();
+
+            return node != this ? node.getFilterChain() : super.getFilterChain();
+        }
+
+        private UaNode promoteOnce() {
+            if (promoted == null) {
+                promoted = promote(this);
+            }
+
+            return promoted;
+        }
+
+    }
+
+}
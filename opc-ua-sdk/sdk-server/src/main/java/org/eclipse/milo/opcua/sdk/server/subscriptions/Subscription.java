@@ -369,7 +369,7 @@ public class Subscription {
 
         NotificationMessage notificationMessage = new NotificationMessage(
             sequenceNumber,
-            DateTime.now(),
+            new DateTime(subscriptionManager.getServer().nowUtcTime()),
             new ExtensionObject[0]
         );
 
@@ -400,7 +400,7 @@ public class Subscription {
 
         NotificationMessage notificationMessage = new NotificationMessage(
             sequenceNumber,
-            DateTime.now(),
+            new DateTime(subscriptionManager.getServer().nowUtcTime()),
             new ExtensionObject[]{ExtensionObject.encode(serializationContext, statusChange)}
         );
 
@@ -541,7 +541,7 @@ public class Subscription {
 
         NotificationMessage notificationMessage = new NotificationMessage(
             sequenceNumber,
-            DateTime.now(),
+            new DateTime(subscriptionManager.getServer().nowUtcTime()),
             notificationData.toArray(new ExtensionObject[0])
         );
 
@@ -49,6 +49,12 @@ public class SubscriptionModel extends AbstractLifecycle {
     private final ScheduledExecutorService scheduler;
     private final ExecutionQueue executionQueue;
 
+    /**
+     * If {@code true} sampling reads are started on {@link #executor} (virtual threads) instead of on
+     * {@link #scheduler}, so a blocking read can't stall the scheduler.
+     */
+    private final boolean sampleOnExecutor;
+
     private final OpcUaServer server;
     private final AttributeServices attributeServices;
 
@@ -61,6 +67,8 @@ public class SubscriptionModel extends AbstractLifecycle {
         scheduler = server.getScheduledExecutorService();
 
         executionQueue = new ExecutionQueue(executor);
+
+        sampleOnExecutor = server.getConfig().isVirtualThreadsEnabled();
     }
 
     @Override
@@ -130,7 +138,7 @@ public class SubscriptionModel extends AbstractLifecycle {
         schedule.forEach(ScheduledUpdate::cancel);
         schedule.clear();
         schedule.addAll(updates);
-        schedule.forEach(scheduler::execute);
+        schedule.forEach(sampleOnExecutor ? executor::execute : scheduler::execute);
     }
 
     private class ScheduledUpdate implements Runnable {
@@ -195,7 +203,11 @@ public class SubscriptionModel extends AbstractLifecycle {
                 }
 
                 if (!cancelled) {
-                    scheduler.schedule(this, samplingInterval, TimeUnit.MILLISECONDS);
+                    if (sampleOnExecutor) {
+                        scheduler.schedule(() -> executor.execute(this), samplingInterval, TimeUnit.MILLISECONDS);
+                    } else {
+                        scheduler.schedule(this, samplingInterval, TimeUnit.MILLISECONDS);
+                    }
                 }
             }, executor);
         }
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilters;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class CompactNodeManagerTest {
+
+    private final CompactNodeManager nodeManager = new CompactNodeManager();
+
+    private final UaNodeContext context = new UaNodeContext() {
+        @Override
+        public OpcUaServer getServer() {
+            return null;
+        }
+
+        @Override
+        public NodeManager<UaNode> getNodeManager() {
+            return nodeManager;
+        }
+    };
+
+    @Test
+    public void testVariableIsHeldAsRow() {
+        NodeId nodeId = new NodeId(1, "variable");
+
+        UaVariableNode node = variableNode(nodeId);
+        node.setValue(new DataValue(new Variant(42)));
+        node.setDataType(Identifiers.Int32);
+
+        nodeManager.addCompactNode(node);
+
+        assertTrue(nodeManager.containsNode(nodeId));
+        assertEquals(nodeManager.getCompactNodeCount(), 1);
+
+        UaVariableNode view = (UaVariableNode) nodeManager.get(nodeId);
+
+        assertNotSame(view, node);
+        assertSame(nodeManager.get(nodeId), view);
+        assertEquals(view.getNodeId(), nodeId);
+        assertEquals(view.getBrowseName(), node.getBrowseName());
+        assertEquals(view.getDisplayName(), node.getDisplayName());
+        assertEquals(view.getDataType(), Identifiers.Int32);
+        assertEquals(view.getValue().getValue(), new Variant(42));
+
+        view.setValue(new DataValue(new Variant(43)));
+
+        UaVariableNode removed = (UaVariableNode) nodeManager.removeNode(nodeId).orElseThrow(AssertionError::new);
+        assertSame(removed, view);
+        assertEquals(removed.getValue().getValue(), new Variant(43));
+        assertEquals(nodeManager.getCompactNodeCount(), 0);
+
+        // a detached view can be added back as a row
+        nodeManager.addNode(removed);
+        assertEquals(nodeManager.getCompactNodeCount(), 1);
+        assertSame(nodeManager.get(nodeId), removed);
+    }
+
+    @Test
+    public void testObjectIsHeldAsRow() {
+        NodeId nodeId = new NodeId(1, "object");
+
+        UaObjectNode node = new UaObjectNode(
+            context,
+            nodeId,
+            new QualifiedName(1, "object"),
+            LocalizedText.english("object")
+        );
+        node.setEventNotifier(ubyte(1));
+
+        nodeManager.addCompactNode(node);
+
+        UaObjectNode view = (UaObjectNode) nodeManager.get(nodeId);
+
+        assertNotSame(view, node);
+        assertEquals(view.getEventNotifier(), ubyte(1));
+
+        assertTrue(nodeManager.removeNode(nodeId).isPresent());
+        assertFalse(nodeManager.containsNode(nodeId));
+    }
+
+    @Test
+    public void testAddedNodeIsHeldAsIs() {
+        NodeId nodeId = new NodeId(1, "plain");
+
+        UaVariableNode node = variableNode(nodeId);
+
+        nodeManager.addNode(node);
+
+        assertSame(nodeManager.get(nodeId), node);
+        assertEquals(nodeManager.getCompactNodeCount(), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testCustomizedNodeIsRejected() {
+        UaVariableNode node = variableNode(new NodeId(1, "filtered"));
+        node.getFilterChain().addLast(AttributeFilters.getValue(ctx -> new DataValue(new Variant("filtered"))));
+
+        nodeManager.addCompactNode(node);
+    }
+
+    @Test
+    public void testObserverPromotesView() {
+        NodeId nodeId = new NodeId(1, "observed");
+
+        nodeManager.addCompactNode(variableNode(nodeId));
+
+        UaNode view = nodeManager.get(nodeId);
+        view.addAttributeObserver((node, attributeId, value) -> {});
+
+        assertSame(nodeManager.get(nodeId), view);
+        assertEquals(nodeManager.getCompactNodeCount(), 0);
+    }
+
+    @Test
+    public void testFilterPromotesView() {
+        NodeId nodeId = new NodeId(1, "filtered");
+
+        nodeManager.addCompactNode(variableNode(nodeId));
+
+        UaVariableNode view = (UaVariableNode) nodeManager.get(nodeId);
+        view.getFilterChain().addLast(AttributeFilters.getValue(ctx -> new DataValue(new Variant("filtered"))));
+
+        assertSame(nodeManager.get(nodeId), view);
+        assertEquals(nodeManager.getCompactNodeCount(), 0);
+        assertEquals(view.getValue().getValue(), new Variant("filtered"));
+    }
+
+    @Test
+    public void testAddAndRemoveMany() {
+        CompactNodeManager nodeManager = new CompactNodeManager();
+
+        for (int i = 0; i < 10000; i++) {
+            nodeManager.addCompactNode(variableNode(new NodeId(2, i)));
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            assertTrue(nodeManager.removeNode(new NodeId(2, i)).isPresent());
+        }
+
+        assertEquals(nodeManager.getCompactNodeCount(), 5000);
+
+        for (int i = 0; i < 10000; i++) {
+            NodeId nodeId = new NodeId(2, i);
+
+            assertEquals(nodeManager.containsNode(nodeId), i % 2 != 0);
+
+            if (i % 2 != 0) {
+                assertEquals(nodeManager.get(nodeId).getNodeId(), nodeId);
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentReadersShareOneView() throws Exception {
+        CompactNodeManager nodeManager = new CompactNodeManager();
+
+        int nodeCount = 1000;
+        for (int i = 0; i < nodeCount; i++) {
+            nodeManager.addCompactNode(variableNode(new NodeId(2, i)));
+        }
+
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+
+        try {
+            List<Future<UaNode[]>> futures = new ArrayList<>();
+
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+
+                    UaNode[] views = new UaNode[nodeCount];
+                    for (int i = 0; i < nodeCount; i++) {
+                        views[i] = nodeManager.get(new NodeId(2, i));
+                        ((UaVariableNode) views[i]).setValue(new DataValue(new Variant(i)));
+                    }
+                    return views;
+                }));
+            }
+
+            UaNode[] first = futures.get(0).get();
+
+            for (Future<UaNode[]> future : futures) {
+                UaNode[] views = future.get();
+
+                for (int i = 0; i < nodeCount; i++) {
+                    assertSame(views[i], first[i]);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(nodeManager.getCompactNodeCount(), nodeCount);
+    }
+
+    private UaVariableNode variableNode(NodeId nodeId) {
+        return new UaVariableNode(
+            context,
+            nodeId,
+            new QualifiedName(1, nodeId.getIdentifier().toString()),
+            LocalizedText.english(nodeId.getIdentifier().toString())
+        );
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+import org.eclipse.milo.opcua.sdk.server.api.SimpleAddressSpaceFilter.KeySpace;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class AddressSpaceRoutesTest {
+
+    private final AddressSpaceFragment ns1 = fragment(SimpleAddressSpaceFilter.create(KeySpace.namespace(ushort(1))));
+
+    private final AddressSpaceFragment ns2Foo = fragment(
+        SimpleAddressSpaceFilter.create(KeySpace.stringPrefix(ushort(2), "foo"))
+    );
+
+    private final AddressSpaceFragment ns2FooBar = fragment(
+        SimpleAddressSpaceFilter.create(KeySpace.stringPrefix(ushort(2), "foo.bar"))
+    );
+
+    private final AddressSpaceFragment ns2Range = fragment(
+        SimpleAddressSpaceFilter.create(
+            KeySpace.numericRange(ushort(2), uint(100), uint(199)),
+            KeySpace.numericRange(ushort(2), uint(300), uint(399))
+        )
+    );
+
+    private final AddressSpaceFragment ns2Overlap = fragment(
+        SimpleAddressSpaceFilter.create(KeySpace.numericRange(ushort(2), uint(150), uint(249)))
+    );
+
+    private final AddressSpaceFragment odd = fragment(
+        SimpleAddressSpaceFilter.create(nodeId -> nodeId.getIdentifier().toString().endsWith("1"))
+    );
+
+    @Test
+    public void testRoutedByNodeId() {
+        AddressSpaceRoutes routes = new AddressSpaceRoutes(
+            Arrays.asList(ns1, ns2FooBar, ns2Foo, ns2Range, ns2Overlap)
+        );
+
+        assertSame(find(routes, new NodeId(1, "anything")), ns1);
+        assertSame(find(routes, new NodeId(2, "foo.bar.baz")), ns2FooBar);
+        assertSame(find(routes, new NodeId(2, "foo.baz")), ns2Foo);
+        assertSame(find(routes, new NodeId(2, 100)), ns2Range);
+        assertSame(find(routes, new NodeId(2, 199)), ns2Range);
+        assertSame(find(routes, new NodeId(2, 200)), ns2Overlap);
+        assertSame(find(routes, new NodeId(2, 399)), ns2Range);
+
+        assertSame(find(routes, new NodeId(2, "foo")), ns2Foo);
+        assertSame(find(routes, new NodeId(2, "foo.bar")), ns2FooBar);
+        assertSame(find(routes, new NodeId(2, "foo.ba")), ns2Foo);
+
+        assertNull(find(routes, new NodeId(2, "bar")));
+        assertNull(find(routes, new NodeId(2, "fo")));
+        assertNull(find(routes, new NodeId(2, "")));
+        assertNull(find(routes, new NodeId(2, 99)));
+        assertNull(find(routes, new NodeId(2, 250)));
+        assertNull(find(routes, new NodeId(2, 400)));
+        assertNull(find(routes, new NodeId(3, "foo")));
+    }
+
+    @Test
+    public void testRegistrationOrderIsKept() {
+        // a longer prefix registered later loses to a shorter one registered first
+        AddressSpaceRoutes routes = new AddressSpaceRoutes(Arrays.asList(ns2Foo, ns2FooBar));
+        assertSame(find(routes, new NodeId(2, "foo.bar.baz")), ns2Foo);
+
+        // overlapping ranges route to the fragment registered first
+        routes = new AddressSpaceRoutes(Arrays.asList(ns2Overlap, ns2Range));
+        assertSame(find(routes, new NodeId(2, 150)), ns2Overlap);
+        assertSame(find(routes, new NodeId(2, 149)), ns2Range);
+
+        // fragments that only have a predicate are tested, in order, before a routed fragment behind them
+        routes = new AddressSpaceRoutes(Arrays.asList(ns1, odd, ns2Foo));
+        assertSame(find(routes, new NodeId(1, "foo1")), ns1);
+        assertSame(find(routes, new NodeId(2, "foo1")), odd);
+        assertSame(find(routes, new NodeId(2, "foo2")), ns2Foo);
+        assertSame(find(routes, new NodeId(3, "foo1")), odd);
+        assertNull(find(routes, new NodeId(3, "foo2")));
+    }
+
+    @Test
+    public void testUnroutableOperationTestsEveryFragment() {
+        AddressSpaceRoutes routes = new AddressSpaceRoutes(Arrays.asList(ns1, ns2Foo, odd));
+
+        assertSame(routes.find(null, asx -> asx == ns2Foo || asx == odd), ns2Foo);
+        assertNull(routes.find(null, asx -> false));
+    }
+
+    private static AddressSpaceFragment find(AddressSpaceRoutes routes, NodeId nodeId) {
+        return routes.find(nodeId, asx -> asx.getFilter().filterBrowse(null, nodeId));
+    }
+
+    private static AddressSpaceFragment fragment(AddressSpaceFilter filter) {
+        return (AddressSpaceFragment) Proxy.newProxyInstance(
+            AddressSpaceRoutesTest.class.getClassLoader(),
+            new Class<?>[]{AddressSpaceFragment.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getFilter":
+                        return filter;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return filter.toString();
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePathResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowsePathTarget;
+import org.eclipse.milo.opcua.stack.core.types.structured.RelativePathElement;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class BrowsePathCacheTest {
+
+    private final NodeId root = new NodeId(1, "Root");
+    private final NodeId child = new NodeId(1, "Child");
+
+    private final List<RelativePathElement> elements = Arrays.asList(
+        new RelativePathElement(Identifiers.HasComponent, false, false, new QualifiedName(1, "Child")),
+        new RelativePathElement(Identifiers.HasComponent, false, false, new QualifiedName(1, "Leaf"))
+    );
+
+    private final BrowsePathResult result = new BrowsePathResult(StatusCode.GOOD, new BrowsePathTarget[0]);
+
+    @Test
+    public void testPutGet() {
+        BrowsePathCache cache = new BrowsePathCache();
+
+        assertNull(cache.get(root, elements));
+
+        cache.put(root, elements, result, Arrays.asList(root, child), cache.getVersion(), 10);
+
+        assertSame(cache.get(root, elements), result);
+        assertNull(cache.get(child, elements));
+    }
+
+    @Test
+    public void testInvalidatedByReferenceChange() {
+        BrowsePathCache cache = new BrowsePathCache();
+
+        UaNodeManager nodeManager = new UaNodeManager();
+        nodeManager.addReferenceListener(cache);
+
+        cache.put(root, elements, result, Arrays.asList(root, child), cache.getVersion(), 10);
+
+        // a change to a Node that wasn't browsed leaves the result cached
+        nodeManager.addReference(new Reference(
+            new NodeId(1, "Other"),
+            Identifiers.HasComponent,
+            root.expanded(),
+            Reference.Direction.FORWARD
+        ));
+        assertSame(cache.get(root, elements), result);
+
+        Reference reference = new Reference(
+            child,
+            Identifiers.HasComponent,
+            new NodeId(1, "Leaf").expanded(),
+            Reference.Direction.FORWARD
+        );
+
+        nodeManager.addReference(reference);
+        assertNull(cache.get(root, elements));
+
+        cache.put(root, elements, result, Arrays.asList(root, child), cache.getVersion(), 10);
+
+        nodeManager.removeReference(reference);
+        assertNull(cache.get(root, elements));
+        assertEquals(cache.size(), 0);
+
+        nodeManager.removeReferenceListener(cache);
+    }
+
+    @Test
+    public void testInvalidatedByNodeRemoval() {
+        BrowsePathCache cache = new BrowsePathCache();
+
+        UaNodeManager nodeManager = new UaNodeManager();
+        nodeManager.addReferenceListener(cache);
+
+        UaNodeContext context = new UaNodeContext() {
+            @Override
+            public OpcUaServer getServer() {
+                return null;
+            }
+
+            @Override
+            public NodeManager<UaNode> getNodeManager() {
+                return nodeManager;
+            }
+        };
+
+        NodeId leaf = new NodeId(1, "Leaf");
+        NodeId other = new NodeId(1, "Other");
+
+        nodeManager.addNode(
+            new UaObjectNode(context, leaf, new QualifiedName(1, "Leaf"), LocalizedText.english("Leaf"))
+        );
+        nodeManager.addNode(
+            new UaObjectNode(context, other, new QualifiedName(1, "Other"), LocalizedText.english("Other"))
+        );
+
+        // the path targets leaf
+        cache.put(root, elements, result, Arrays.asList(root, child, leaf), cache.getVersion(), 10);
+
+        nodeManager.removeNode(other);
+        assertSame(cache.get(root, elements), result);
+
+        nodeManager.removeNode(leaf);
+        assertNull(cache.get(root, elements));
+        assertEquals(cache.size(), 0);
+
+        nodeManager.removeReferenceListener(cache);
+    }
+
+    @Test
+    public void testNotCachedAfterConcurrentInvalidation() {
+        BrowsePathCache cache = new BrowsePathCache();
+
+        long version = cache.getVersion();
+
+        // a Reference changed while the path was being resolved
+        cache.invalidate(child);
+
+        cache.put(root, elements, result, Arrays.asList(root, child), version, 10);
+
+        assertNull(cache.get(root, elements));
+    }
+
+    @Test
+    public void testMaxSize() {
+        BrowsePathCache cache = new BrowsePathCache();
+
+        cache.put(root, elements, result, Collections.singletonList(root), cache.getVersion(), 1);
+        cache.put(child, elements, result, Collections.singletonList(child), cache.getVersion(), 1);
+
+        assertEquals(cache.size(), 1);
+        assertNull(cache.get(child, elements));
+
+        cache.invalidateAll();
+
+        assertEquals(cache.size(), 0);
+    }
+
+}
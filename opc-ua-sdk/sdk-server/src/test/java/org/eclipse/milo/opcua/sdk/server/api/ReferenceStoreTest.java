@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.api;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ReferenceStoreTest {
+
+    private final NodeId source = new NodeId(1, "source");
+
+    private final Reference organizes1 = new Reference(
+        source, Identifiers.Organizes, new NodeId(1, "target1").expanded(), true);
+    private final Reference organizes2 = new Reference(
+        source, Identifiers.Organizes, new NodeId(1, "target2").expanded(), true);
+    private final Reference hasComponent = new Reference(
+        source, Identifiers.HasComponent, new NodeId(1, "target3").expanded(), true);
+    private final Reference inverseOrganizes = new Reference(
+        source, Identifiers.Organizes, Identifiers.ObjectsFolder.expanded(), false);
+
+    @Test
+    public void testAddAndGet() {
+        ReferenceStore store = new ReferenceStore();
+
+        store.add(organizes1);
+        store.add(hasComponent);
+        store.add(organizes2);
+        store.add(inverseOrganizes);
+
+        assertEquals(store.get(source), Arrays.asList(organizes1, organizes2, hasComponent, inverseOrganizes));
+
+        assertEquals(
+            store.get(source, Reference.Direction.FORWARD, Identifiers.Organizes::equals),
+            Arrays.asList(organizes1, organizes2)
+        );
+        assertEquals(
+            store.get(source, Reference.Direction.FORWARD, id -> true),
+            Arrays.asList(organizes1, organizes2, hasComponent)
+        );
+        assertEquals(
+            store.get(source, Reference.Direction.INVERSE, id -> true),
+            Arrays.asList(inverseOrganizes)
+        );
+
+        assertTrue(store.get(new NodeId(1, "unknown")).isEmpty());
+    }
+
+    @Test
+    public void testSnapshotIsNotAffectedByWrites() {
+        ReferenceStore store = new ReferenceStore();
+
+        store.add(organizes1);
+
+        List<Reference> snapshot = store.get(source);
+
+        store.add(organizes2);
+        store.remove(organizes1);
+
+        assertEquals(snapshot, Arrays.asList(organizes1));
+        assertEquals(store.get(source), Arrays.asList(organizes2));
+    }
+
+    @Test
+    public void testRemoveOneOccurrence() {
+        ReferenceStore store = new ReferenceStore();
+
+        store.add(organizes1);
+        store.add(organizes1);
+
+        assertTrue(store.remove(organizes1));
+        assertEquals(store.get(source), Arrays.asList(organizes1));
+
+        assertTrue(store.remove(organizes1));
+        assertFalse(store.remove(organizes1));
+        assertFalse(store.contains(source));
+    }
+
+    @Test
+    public void testAddAndRemovePair() {
+        ReferenceStore store = new ReferenceStore();
+
+        Reference inverse = new Reference(
+            new NodeId(1, "target1"), Identifiers.Organizes, source.expanded(), false);
+
+        store.add(organizes1, inverse);
+
+        assertEquals(store.get(source), Arrays.asList(organizes1));
+        assertEquals(store.get(new NodeId(1, "target1")), Arrays.asList(inverse));
+
+        store.remove(inverse);
+
+        assertEquals(store.remove(organizes1, inverse), Arrays.asList(organizes1));
+        assertFalse(store.contains(source));
+        assertTrue(store.remove(organizes1, inverse).isEmpty());
+    }
+
+}
@@ -10,6 +10,10 @@
 
 package org.eclipse.milo.opcua.sdk.server.nodes;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.eclipse.milo.opcua.sdk.core.Reference;
 import org.eclipse.milo.opcua.sdk.server.ObjectTypeManager;
 import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
@@ -175,4 +179,88 @@ public class UaNodeTest {
         assertEquals(0, nodeManager.getReferences(nodeId).size());
     }
 
+    @Test
+    public void testAttributeObservers() throws InterruptedException {
+        UaNodeManager nodeManager = new UaNodeManager();
+
+        UaNodeContext nodeContext = new UaNodeContext() {
+            @Override
+            public OpcUaServer getServer() {
+                return server;
+            }
+
+            @Override
+            public NodeManager<UaNode> getNodeManager() {
+                return nodeManager;
+            }
+        };
+
+        UaObjectNode objectNode = new UaObjectNode(
+            nodeContext,
+            new NodeId(1, "TestObserved"),
+            new QualifiedName(1, "TestObserved"),
+            LocalizedText.english("TestObserved")
+        );
+
+        assertFalse(objectNode.hasAttributeObservers());
+
+        List<Object> changes = new CopyOnWriteArrayList<>();
+        AttributeObserver observer = (node, attributeId, value) -> changes.add(value);
+
+        // the same observer added twice is notified twice, until removed once
+        objectNode.addAttributeObserver(observer);
+        objectNode.addAttributeObserver(observer);
+        objectNode.setDisplayName(LocalizedText.english("a"));
+        assertEquals(changes.size(), 2);
+
+        objectNode.removeAttributeObserver(observer);
+        objectNode.setDisplayName(LocalizedText.english("b"));
+        assertEquals(changes.size(), 3);
+        assertTrue(objectNode.hasAttributeObservers());
+
+        objectNode.removeAttributeObserver(observer);
+        objectNode.setDisplayName(LocalizedText.english("c"));
+        assertEquals(changes.size(), 3);
+        assertFalse(objectNode.hasAttributeObservers());
+
+        // concurrent adds and removes are not lost
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    AttributeObserver o = (node, attributeId, value) -> {};
+                    objectNode.addAttributeObserver(o);
+                    objectNode.setDescription(LocalizedText.english(String.valueOf(j)));
+                    objectNode.removeAttributeObserver(o);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertFalse(objectNode.hasAttributeObservers());
+        assertEquals(objectNode.getDisplayName(), LocalizedText.english("c"));
+
+        // concurrent writes are notified in the order they were stored, so the last notification is of the current value
+        AtomicReference<Object> lastNotified = new AtomicReference<>();
+        objectNode.addAttributeObserver((node, attributeId, value) -> lastNotified.set(value));
+
+        for (int i = 0; i < threads.length; i++) {
+            int t = i;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    objectNode.setDisplayName(LocalizedText.english(t + "-" + j));
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(lastNotified.get(), objectNode.getDisplayName());
+    }
+
 }
@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.nodeset;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.ObjectTypeManager;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.VariableTypeManager;
+import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.model.ObjectTypeInitializer;
+import org.eclipse.milo.opcua.sdk.server.model.VariableTypeInitializer;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.objects.FolderTypeNode;
+import org.eclipse.milo.opcua.sdk.server.model.nodes.variables.BaseDataVariableTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectTypeNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.structured.Argument;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class NodeSetImporterTest {
+
+    private static final String NODE_SET = "" +
+        "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n" +
+        "<UANodeSet xmlns=\"http://opcfoundation.org/UA/2011/03/UANodeSet.xsd\"\n" +
+        "           xmlns:uax=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">\n" +
+        "  <NamespaceUris>\n" +
+        "    <Uri>urn:eclipse:milo:test:nodeset</Uri>\n" +
+        "  </NamespaceUris>\n" +
+        "  <Aliases>\n" +
+        "    <Alias Alias=\"Int32\">i=6</Alias>\n" +
+        "    <Alias Alias=\"Organizes\">i=35</Alias>\n" +
+        "    <Alias Alias=\"HasComponent\">i=47</Alias>\n" +
+        "    <Alias Alias=\"HasTypeDefinition\">i=40</Alias>\n" +
+        "    <Alias Alias=\"HasSubtype\">i=45</Alias>\n" +
+        "  </Aliases>\n" +
+        "  <UAObjectType NodeId=\"ns=1;i=1000\" BrowseName=\"1:DeviceType\" IsAbstract=\"true\">\n" +
+        "    <DisplayName>DeviceType</DisplayName>\n" +
+        "    <References>\n" +
+        "      <Reference ReferenceType=\"HasSubtype\" IsForward=\"false\">i=58</Reference>\n" +
+        "    </References>\n" +
+        "  </UAObjectType>\n" +
+        "  <UAObject NodeId=\"ns=1;i=5001\" BrowseName=\"1:Devices\">\n" +
+        "    <DisplayName Locale=\"en\">Devices</DisplayName>\n" +
+        "    <References>\n" +
+        "      <Reference ReferenceType=\"HasTypeDefinition\">i=61</Reference>\n" +
+        "      <Reference ReferenceType=\"Organizes\" IsForward=\"false\">i=85</Reference>\n" +
+        "      <Reference ReferenceType=\"HasComponent\">ns=1;i=6001</Reference>\n" +
+        "    </References>\n" +
+        "  </UAObject>\n" +
+        "  <UAVariable NodeId=\"ns=1;i=6001\" BrowseName=\"1:Count\" DataType=\"Int32\" AccessLevel=\"3\">\n" +
+        "    <DisplayName>Count</DisplayName>\n" +
+        "    <References>\n" +
+        "      <Reference ReferenceType=\"HasTypeDefinition\">i=63</Reference>\n" +
+        "      <Reference ReferenceType=\"HasComponent\" IsForward=\"false\">ns=1;i=5001</Reference>\n" +
+        "    </References>\n" +
+        "    <Value>\n" +
+        "      <uax:Int32>42</uax:Int32>\n" +
+        "    </Value>\n" +
+        "  </UAVariable>\n" +
+        "  <UAMethod NodeId=\"ns=1;i=7001\" BrowseName=\"1:Reset\" ParentNodeId=\"ns=1;i=5001\">\n" +
+        "    <DisplayName>Reset</DisplayName>\n" +
+        "    <References>\n" +
+        "      <Reference ReferenceType=\"HasComponent\" IsForward=\"false\">ns=1;i=5001</Reference>\n" +
+        "    </References>\n" +
+        "  </UAMethod>\n" +
+        "</UANodeSet>\n";
+
+    private final NamespaceTable namespaceTable = new NamespaceTable();
+
+    private final SerializationContext serializationContext = new SerializationContext() {
+        @Override
+        public EncodingLimits getEncodingLimits() {
+            return EncodingLimits.DEFAULT;
+        }
+
+        @Override
+        public NamespaceTable getNamespaceTable() {
+            return namespaceTable;
+        }
+
+        @Override
+        public DataTypeManager getDataTypeManager() {
+            return OpcUaDataTypeManager.getInstance();
+        }
+    };
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterClass
+    public void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testImportNodes() throws UaException {
+        // shift the document's namespace to index 2
+        namespaceTable.addUri("urn:eclipse:milo:test:other");
+
+        UaNodeManager nodeManager = new UaNodeManager();
+
+        int count = importer(nodeManager).importNodes(
+            new ByteArrayInputStream(NODE_SET.getBytes(StandardCharsets.UTF_8))
+        );
+
+        assertEquals(count, 4);
+        assertEquals(namespaceTable.getIndex("urn:eclipse:milo:test:nodeset").intValue(), 2);
+
+        NodeId deviceTypeId = new NodeId(2, 1000);
+        NodeId devicesId = new NodeId(2, 5001);
+        NodeId countId = new NodeId(2, 6001);
+        NodeId resetId = new NodeId(2, 7001);
+
+        UaObjectTypeNode deviceType = (UaObjectTypeNode) nodeManager.get(deviceTypeId);
+        assertEquals(deviceType.getBrowseName(), new QualifiedName(2, "DeviceType"));
+        assertEquals(deviceType.getIsAbstract(), Boolean.TRUE);
+
+        assertTrue(nodeManager.get(devicesId) instanceof FolderTypeNode);
+        assertEquals(nodeManager.get(devicesId).getDisplayName(), LocalizedText.english("Devices"));
+
+        BaseDataVariableTypeNode countNode = (BaseDataVariableTypeNode) nodeManager.get(countId);
+        assertEquals(countNode.getDataType(), Identifiers.Int32);
+        assertEquals(countNode.getValue().getValue(), new Variant(42));
+        assertEquals(countNode.getAccessLevel().intValue(), 3);
+
+        assertTrue(nodeManager.get(resetId) instanceof UaMethodNode);
+
+        // declared on both ends, added once; declared on one end, inverse added
+        assertEquals(
+            nodeManager.getReferences(devicesId),
+            Arrays.asList(
+                new Reference(devicesId, Identifiers.HasTypeDefinition, Identifiers.FolderType.expanded(), true),
+                new Reference(devicesId, Identifiers.Organizes, Identifiers.ObjectsFolder.expanded(), false),
+                new Reference(devicesId, Identifiers.HasComponent, countId.expanded(), true),
+                new Reference(devicesId, Identifiers.HasComponent, resetId.expanded(), true)
+            )
+        );
+        assertEquals(
+            nodeManager.getReferences(Identifiers.ObjectsFolder),
+            Collections.singletonList(
+                new Reference(Identifiers.ObjectsFolder, Identifiers.Organizes, devicesId.expanded(), true)
+            )
+        );
+        assertEquals(
+            nodeManager.getReferences(Identifiers.BaseObjectType),
+            Collections.singletonList(
+                new Reference(Identifiers.BaseObjectType, Identifiers.HasSubtype, deviceTypeId.expanded(), true)
+            )
+        );
+    }
+
+    @Test
+    public void testValueNamespaceIndicesAreTranslated() throws UaException {
+        // the document's namespaces are registered in the opposite order
+        UShort indexB = namespaceTable.addUri("urn:eclipse:milo:test:values:b");
+
+        String nodeSet = "" +
+            "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n" +
+            "<UANodeSet xmlns=\"http://opcfoundation.org/UA/2011/03/UANodeSet.xsd\"\n" +
+            "           xmlns:uax=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">\n" +
+            "  <NamespaceUris>\n" +
+            "    <Uri>urn:eclipse:milo:test:values:a</Uri>\n" +
+            "    <Uri>urn:eclipse:milo:test:values:b</Uri>\n" +
+            "  </NamespaceUris>\n" +
+            "  <UAVariable NodeId=\"ns=1;i=1\" BrowseName=\"1:NodeIdValue\" DataType=\"i=17\">\n" +
+            "    <Value>\n" +
+            "      <uax:NodeId><uax:Identifier>ns=2;i=42</uax:Identifier></uax:NodeId>\n" +
+            "    </Value>\n" +
+            "  </UAVariable>\n" +
+            "  <UAVariable NodeId=\"ns=1;i=2\" BrowseName=\"1:QualifiedNameValue\" DataType=\"i=20\">\n" +
+            "    <Value>\n" +
+            "      <uax:QualifiedName>\n" +
+            "        <uax:NamespaceIndex>1</uax:NamespaceIndex>\n" +
+            "        <uax:Name>Speed</uax:Name>\n" +
+            "      </uax:QualifiedName>\n" +
+            "    </Value>\n" +
+            "  </UAVariable>\n" +
+            "  <UAVariable NodeId=\"ns=1;i=3\" BrowseName=\"1:InputArguments\" DataType=\"i=296\">\n" +
+            "    <Value>\n" +
+            "      <uax:ExtensionObject>\n" +
+            "        <uax:TypeId><uax:Identifier>i=297</uax:Identifier></uax:TypeId>\n" +
+            "        <uax:Body>\n" +
+            "          <uax:Argument>\n" +
+            "            <uax:Name>Setpoint</uax:Name>\n" +
+            "            <uax:DataType><uax:Identifier>ns=2;i=3001</uax:Identifier></uax:DataType>\n" +
+            "            <uax:ValueRank>-1</uax:ValueRank>\n" +
+            "            <uax:ArrayDimensions />\n" +
+            "            <uax:Description />\n" +
+            "          </uax:Argument>\n" +
+            "        </uax:Body>\n" +
+            "      </uax:ExtensionObject>\n" +
+            "    </Value>\n" +
+            "  </UAVariable>\n" +
+            "  <UAVariable NodeId=\"ns=1;i=4\" BrowseName=\"1:StructureValue\" DataType=\"i=22\">\n" +
+            "    <Value>\n" +
+            "      <uax:ExtensionObject>\n" +
+            "        <uax:TypeId><uax:Identifier>ns=1;i=5005</uax:Identifier></uax:TypeId>\n" +
+            "        <uax:Body><uax:ByteString>AAEC</uax:ByteString></uax:Body>\n" +
+            "      </uax:ExtensionObject>\n" +
+            "    </Value>\n" +
+            "  </UAVariable>\n" +
+            "</UANodeSet>\n";
+
+        UaNodeManager nodeManager = new UaNodeManager();
+
+        importer(nodeManager).importNodes(new ByteArrayInputStream(nodeSet.getBytes(StandardCharsets.UTF_8)));
+
+        UShort indexA = namespaceTable.getIndex("urn:eclipse:milo:test:values:a");
+        assertEquals(indexA.intValue(), indexB.intValue() + 1);
+
+        assertEquals(
+            ((UaVariableNode) nodeManager.get(new NodeId(indexA, 1))).getValue().getValue(),
+            new Variant(new NodeId(indexB, 42))
+        );
+        assertEquals(
+            ((UaVariableNode) nodeManager.get(new NodeId(indexA, 2))).getValue().getValue(),
+            new Variant(new QualifiedName(indexA, "Speed"))
+        );
+
+        ExtensionObject argumentValue = (ExtensionObject)
+            ((UaVariableNode) nodeManager.get(new NodeId(indexA, 3))).getValue().getValue().getValue();
+        Argument argument = (Argument) argumentValue.decode(serializationContext);
+        assertEquals(argument.getName(), "Setpoint");
+        assertEquals(argument.getDataType(), new NodeId(indexB, 3001));
+
+        ExtensionObject structureValue = (ExtensionObject)
+            ((UaVariableNode) nodeManager.get(new NodeId(indexA, 4))).getValue().getValue().getValue();
+        assertEquals(structureValue.getEncodingId(), new NodeId(indexA, 5005));
+    }
+
+    @Test
+    public void testInverseReferencesOfWideFolder() throws UaException {
+        // more children than NodeSetImporter.LINEAR_SEARCH_LIMIT; even children declare the Reference on both ends,
+        // odd children only on their own end, and the last ten only on the folder's end
+        int children = 50;
+
+        StringBuilder nodeSet = new StringBuilder();
+        nodeSet.append("<UANodeSet xmlns=\"http://opcfoundation.org/UA/2011/03/UANodeSet.xsd\">\n");
+        nodeSet.append("  <NamespaceUris><Uri>urn:eclipse:milo:test:wide</Uri></NamespaceUris>\n");
+        nodeSet.append("  <UAObject NodeId=\"ns=1;i=1\" BrowseName=\"1:Folder\">\n");
+        nodeSet.append("    <References>\n");
+        for (int i = 0; i < children; i++) {
+            if (i % 2 == 0 || i >= children - 10) {
+                nodeSet.append("      <Reference ReferenceType=\"i=47\">ns=1;i=").append(100 + i)
+                    .append("</Reference>\n");
+            }
+        }
+        nodeSet.append("    </References>\n");
+        nodeSet.append("  </UAObject>\n");
+        for (int i = 0; i < children; i++) {
+            nodeSet.append("  <UAVariable NodeId=\"ns=1;i=").append(100 + i).append("\" BrowseName=\"1:V\">\n");
+            if (i < children - 10) {
+                nodeSet.append("    <References>\n");
+                nodeSet.append("      <Reference ReferenceType=\"i=47\" IsForward=\"false\">ns=1;i=1</Reference>\n");
+                nodeSet.append("    </References>\n");
+            }
+            nodeSet.append("  </UAVariable>\n");
+        }
+        nodeSet.append("</UANodeSet>\n");
+
+        UaNodeManager nodeManager = new UaNodeManager();
+
+        importer(nodeManager).importNodes(
+            new ByteArrayInputStream(nodeSet.toString().getBytes(StandardCharsets.UTF_8))
+        );
+
+        UShort index = namespaceTable.getIndex("urn:eclipse:milo:test:wide");
+        NodeId folderId = new NodeId(index, 1);
+
+        List<Reference> components = nodeManager.getReferences(folderId);
+        assertEquals(components.size(), children);
+        assertEquals(new HashSet<>(components).size(), children);
+
+        for (int i = 0; i < children; i++) {
+            NodeId childId = new NodeId(index, 100 + i);
+
+            assertTrue(components.contains(
+                new Reference(folderId, Identifiers.HasComponent, childId.expanded(), true)
+            ));
+            assertEquals(
+                nodeManager.getReferences(childId),
+                Collections.singletonList(
+                    new Reference(childId, Identifiers.HasComponent, folderId.expanded(), false)
+                )
+            );
+        }
+    }
+
+    @Test
+    public void testMalformedDocument() {
+        try {
+            importer(new UaNodeManager()).importNodes(
+                new ByteArrayInputStream("<UANodeSet><UAObject NodeId=\"i=1\">".getBytes(StandardCharsets.UTF_8))
+            );
+
+            fail("expected UaException");
+        } catch (UaException e) {
+            assertEquals(e.getStatusCode().getValue(), StatusCodes.Bad_DecodingError);
+        }
+    }
+
+    private NodeSetImporter importer(UaNodeManager nodeManager) {
+        UaNodeContext context = new UaNodeContext() {
+            @Override
+            public OpcUaServer getServer() {
+                return null;
+            }
+
+            @Override
+            public NodeManager<UaNode> getNodeManager() {
+                return nodeManager;
+            }
+
+            @Override
+            public NamespaceTable getNamespaceTable() {
+                return namespaceTable;
+            }
+        };
+
+        ObjectTypeManager objectTypeManager = new ObjectTypeManager();
+        ObjectTypeInitializer.initialize(namespaceTable, objectTypeManager);
+
+        VariableTypeManager variableTypeManager = new VariableTypeManager();
+        VariableTypeInitializer.initialize(namespaceTable, variableTypeManager);
+
+        return new NodeSetImporter(
+            context,
+            nodeManager,
+            objectTypeManager,
+            variableTypeManager,
+            serializationContext,
+            executor
+        ).setBatchSize(1);
+    }
+
+}
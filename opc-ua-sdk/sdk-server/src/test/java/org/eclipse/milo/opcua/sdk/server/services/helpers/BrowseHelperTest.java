@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.services.helpers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.Session;
+import org.eclipse.milo.opcua.sdk.server.api.AccessContext;
+import org.eclipse.milo.opcua.sdk.server.api.AddressSpaceManager;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfig;
+import org.eclipse.milo.opcua.sdk.server.api.config.OpcUaServerConfigLimits;
+import org.eclipse.milo.opcua.sdk.server.api.services.AttributeServices.ReadContext;
+import org.eclipse.milo.opcua.sdk.server.api.services.ViewServices.BrowseContext;
+import org.eclipse.milo.opcua.sdk.server.services.ServiceAttributes;
+import org.eclipse.milo.opcua.sdk.server.services.helpers.BrowseHelper.BrowseContinuationPoint;
+import org.eclipse.milo.opcua.stack.core.AttributeId;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.BrowseDirection;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.NodeClass;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseNextRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseNextResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseResult;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadValueId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReferenceDescription;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.core.types.structured.ViewDescription;
+import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class BrowseHelperTest {
+
+    private final NodeId source = new NodeId(1, "Source");
+
+    private final ExecutorService executor = MoreExecutors.newDirectExecutorService();
+    private final BrowseHelper browseHelper = new BrowseHelper(executor);
+
+    private final List<Reference> references = new ArrayList<>();
+    private final Map<NodeId, NodeClass> nodeClasses = new HashMap<>();
+    private final Map<ByteString, BrowseContinuationPoint> continuationPoints = new ConcurrentHashMap<>();
+
+    private OpcUaServer server;
+    private Session session;
+
+    @BeforeMethod
+    public void setup() {
+        references.clear();
+        nodeClasses.clear();
+        continuationPoints.clear();
+
+        server = Mockito.mock(OpcUaServer.class);
+        session = Mockito.mock(Session.class);
+
+        OpcUaServerConfig config = Mockito.mock(OpcUaServerConfig.class);
+        Mockito.when(config.getLimits()).thenReturn(new OpcUaServerConfigLimits() {});
+
+        AddressSpaceManager addressSpaceManager = Mockito.mock(AddressSpaceManager.class);
+
+        Mockito.doAnswer(invocation -> {
+            BrowseContext context = invocation.getArgument(0);
+            context.success(new ArrayList<>(references));
+            return null;
+        }).when(addressSpaceManager).browse(
+            Mockito.any(BrowseContext.class), Mockito.any(ViewDescription.class), Mockito.any(NodeId.class));
+
+        Mockito.doAnswer(invocation -> {
+            ReadContext context = invocation.getArgument(0);
+            List<ReadValueId> readValueIds = invocation.getArgument(3);
+            List<DataValue> values = new ArrayList<>();
+            for (ReadValueId readValueId : readValueIds) {
+                values.add(read(readValueId));
+            }
+            context.success(values);
+            return null;
+        }).when(addressSpaceManager).read(
+            Mockito.any(ReadContext.class), Mockito.anyDouble(), Mockito.any(), Mockito.anyList());
+
+        Mockito.when(server.getConfig()).thenReturn(config);
+        Mockito.when(server.getAddressSpaceManager()).thenReturn(addressSpaceManager);
+        Mockito.when(server.getNamespaceTable()).thenReturn(new NamespaceTable());
+        Mockito.when(server.getExecutorService()).thenReturn(executor);
+        Mockito.when(session.getBrowseContinuationPoints()).thenReturn(continuationPoints);
+    }
+
+    @Test
+    public void testMaxReferencesPerNode() {
+        for (int i = 0; i < 5; i++) {
+            addReference("Target" + i, NodeClass.Object);
+        }
+
+        BrowseResult result = browse(2, NodeClass.Unspecified);
+        assertTargets(result, "Target0", "Target1");
+        assertNotNull(result.getContinuationPoint().bytes());
+
+        result = browseNext(result.getContinuationPoint(), false);
+        assertTargets(result, "Target2", "Target3");
+        assertNotNull(result.getContinuationPoint().bytes());
+
+        result = browseNext(result.getContinuationPoint(), false);
+        assertTargets(result, "Target4");
+        assertNull(result.getContinuationPoint());
+        assertTrue(continuationPoints.isEmpty());
+    }
+
+    @Test
+    public void testNoContinuationPointWhenLastPageIsFull() {
+        for (int i = 0; i < 4; i++) {
+            addReference("Target" + i, NodeClass.Object);
+        }
+
+        BrowseResult result = browse(2, NodeClass.Unspecified);
+        assertTargets(result, "Target0", "Target1");
+
+        result = browseNext(result.getContinuationPoint(), false);
+        assertTargets(result, "Target2", "Target3");
+        assertNull(result.getContinuationPoint());
+        assertTrue(continuationPoints.isEmpty());
+    }
+
+    @Test
+    public void testNodeClassMaskAcrossPages() {
+        addReference("Variable0", NodeClass.Variable);
+        addReference("Object1", NodeClass.Object);
+        addReference("Variable2", NodeClass.Variable);
+        // more rejected References than are described in one batch
+        for (int i = 3; i < 100; i++) {
+            addReference("Object" + i, NodeClass.Object);
+        }
+        addReference("Variable100", NodeClass.Variable);
+        addReference("Object101", NodeClass.Object);
+
+        BrowseResult result = browse(2, NodeClass.Variable);
+        assertTargets(result, "Variable0", "Variable2");
+        assertNotNull(result.getContinuationPoint().bytes());
+
+        result = browseNext(result.getContinuationPoint(), false);
+        assertTargets(result, "Variable100");
+        assertNull(result.getContinuationPoint());
+        assertTrue(continuationPoints.isEmpty());
+    }
+
+    @Test
+    public void testNoContinuationPointWhenRemainingReferencesAreRejected() {
+        addReference("Variable0", NodeClass.Variable);
+        addReference("Object1", NodeClass.Object);
+        addReference("Variable2", NodeClass.Variable);
+        for (int i = 3; i < 100; i++) {
+            addReference("Object" + i, NodeClass.Object);
+        }
+
+        BrowseResult result = browse(2, NodeClass.Variable);
+        assertTargets(result, "Variable0", "Variable2");
+        assertNull(result.getContinuationPoint());
+        assertTrue(continuationPoints.isEmpty());
+    }
+
+    @Test
+    public void testReleaseContinuationPoints() {
+        for (int i = 0; i < 3; i++) {
+            addReference("Target" + i, NodeClass.Object);
+        }
+
+        BrowseResult result = browse(1, NodeClass.Unspecified);
+        ByteString continuationPoint = result.getContinuationPoint();
+        assertNotNull(continuationPoint.bytes());
+        assertEquals(continuationPoints.size(), 1);
+
+        BrowseResult released = browseNext(continuationPoint, true);
+        assertTrue(released.getStatusCode().isGood());
+        assertNull(released.getReferences());
+        assertTrue(continuationPoints.isEmpty());
+
+        BrowseResult invalid = browseNext(continuationPoint, false);
+        assertEquals(invalid.getStatusCode().getValue(), StatusCodes.Bad_ContinuationPointInvalid);
+    }
+
+    private void addReference(String target, NodeClass nodeClass) {
+        NodeId targetNodeId = new NodeId(1, target);
+
+        references.add(new Reference(
+            source,
+            Identifiers.HasComponent,
+            targetNodeId.expanded(),
+            Reference.Direction.FORWARD
+        ));
+
+        nodeClasses.put(targetNodeId, nodeClass);
+    }
+
+    private DataValue read(ReadValueId readValueId) {
+        NodeId nodeId = readValueId.getNodeId();
+
+        if (readValueId.getAttributeId().equals(AttributeId.NodeClass.uid())) {
+            return new DataValue(new Variant(nodeClasses.get(nodeId)));
+        } else if (readValueId.getAttributeId().equals(AttributeId.BrowseName.uid())) {
+            return new DataValue(new Variant(new QualifiedName(1, nodeId.getIdentifier().toString())));
+        } else {
+            return new DataValue(new Variant(LocalizedText.english(nodeId.getIdentifier().toString())));
+        }
+    }
+
+    private BrowseResult browse(int maxReferencesPerNode, NodeClass nodeClass) {
+        AccessContext context = Mockito.mock(AccessContext.class);
+        Mockito.when(context.getSession()).thenReturn(Optional.of(session));
+
+        BrowseDescription browseDescription = new BrowseDescription(
+            source,
+            BrowseDirection.Forward,
+            NodeId.NULL_VALUE,
+            true,
+            uint(nodeClass.getValue()),
+            uint(0)
+        );
+
+        return browseHelper.browse(
+            context,
+            server,
+            new ViewDescription(NodeId.NULL_VALUE, DateTime.MIN_VALUE, uint(0)),
+            uint(maxReferencesPerNode),
+            browseDescription
+        ).join();
+    }
+
+    private BrowseResult browseNext(ByteString continuationPoint, boolean release) {
+        RequestHeader header = new RequestHeader(
+            NodeId.NULL_VALUE,
+            DateTime.now(),
+            uint(0),
+            uint(0),
+            null,
+            uint(0),
+            null
+        );
+
+        BrowseNextRequest request = new BrowseNextRequest(header, release, new ByteString[]{continuationPoint});
+
+        ServiceRequest service = new ServiceRequest(null, request, null, 0L, null, null);
+        service.attr(ServiceAttributes.SERVER_KEY).set(server);
+        service.attr(ServiceAttributes.SESSION_KEY).set(session);
+
+        browseHelper.browseNext(service);
+
+        BrowseNextResponse response = (BrowseNextResponse) service.getFuture().join();
+        assertEquals(response.getResults().length, 1);
+
+        return response.getResults()[0];
+    }
+
+    private static void assertTargets(BrowseResult result, String... targets) {
+        assertTrue(result.getStatusCode().isGood());
+
+        ReferenceDescription[] references = result.getReferences();
+        assertEquals(references.length, targets.length);
+
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(references[i].getNodeId().getIdentifier(), targets[i]);
+        }
+    }
+
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.sdk.server.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.milo.opcua.sdk.core.Reference;
+import org.eclipse.milo.opcua.sdk.server.OpcUaServer;
+import org.eclipse.milo.opcua.sdk.server.UaNodeManager;
+import org.eclipse.milo.opcua.sdk.server.api.NodeManager;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaMethodNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaNodeContext;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaObjectNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.UaVariableNode;
+import org.eclipse.milo.opcua.sdk.server.nodes.filters.AttributeFilters;
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.DataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDataTypeManager;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class SnapshotNodeManagerTest {
+
+    private static final String NAMESPACE_URI = "urn:eclipse:milo:test:snapshot";
+
+    private final SerializationContext serializationContext = new SerializationContext() {
+        private final NamespaceTable namespaceTable = new NamespaceTable();
+
+        @Override
+        public EncodingLimits getEncodingLimits() {
+            return EncodingLimits.DEFAULT;
+        }
+
+        @Override
+        public NamespaceTable getNamespaceTable() {
+            return namespaceTable;
+        }
+
+        @Override
+        public DataTypeManager getDataTypeManager() {
+            return OpcUaDataTypeManager.getInstance();
+        }
+    };
+
+    private final UaNodeManager sourceNodeManager = new UaNodeManager();
+
+    private final UaNodeContext context = new UaNodeContext() {
+        @Override
+        public OpcUaServer getServer() {
+            return null;
+        }
+
+        @Override
+        public NodeManager<UaNode> getNodeManager() {
+            return sourceNodeManager;
+        }
+    };
+
+    private final NodeId folderId = new NodeId(1, "folder");
+    private final NodeId variableId = new NodeId(1, "variable");
+    private final NodeId methodId = new NodeId(1, 42);
+
+    @Test
+    public void testNodesAndReferencesAreRead() throws IOException {
+        NamespaceTable namespaceTable = new NamespaceTable();
+        namespaceTable.addUri(NAMESPACE_URI);
+
+        SnapshotNodeManager nodeManager = new SnapshotNodeManager(null, snapshot(namespaceTable));
+
+        assertEquals(nodeManager.getSnapshot().size(), 3);
+        assertTrue(nodeManager.containsNode(variableId));
+        assertFalse(nodeManager.containsNode(new NodeId(1, "unknown")));
+
+        UaVariableNode variable = (UaVariableNode) nodeManager.get(variableId);
+        assertEquals(variable.getBrowseName(), new QualifiedName(1, "variable"));
+        assertEquals(variable.getDataType(), Identifiers.Int32);
+        assertEquals(variable.getValue().getValue(), new Variant(42));
+
+        UaMethodNode method = (UaMethodNode) nodeManager.get(methodId);
+        assertEquals(method.isExecutable(), Boolean.TRUE);
+
+        assertEquals(
+            nodeManager.getReferences(folderId),
+            Arrays.asList(
+                new Reference(folderId, Identifiers.Organizes, variableId.expanded(), true),
+                new Reference(folderId, Identifiers.HasComponent, methodId.expanded(), true)
+            )
+        );
+        assertEquals(
+            nodeManager.getReferences(variableId, Reference.Direction.INVERSE, Identifiers.Organizes::equals),
+            Collections.singletonList(
+                new Reference(variableId, Identifiers.Organizes, folderId.expanded(), false)
+            )
+        );
+    }
+
+    @Test
+    public void testNamespaceIndicesAreTranslated() throws IOException {
+        NamespaceTable namespaceTable = new NamespaceTable();
+        namespaceTable.addUri("urn:eclipse:milo:test:other");
+
+        NodeSnapshot snapshot = snapshot(namespaceTable);
+        SnapshotNodeManager nodeManager = new SnapshotNodeManager(null, snapshot);
+
+        assertEquals(namespaceTable.getIndex(NAMESPACE_URI).intValue(), 2);
+
+        NodeId variableId = new NodeId(2, "variable");
+
+        assertFalse(nodeManager.containsNode(this.variableId));
+        assertTrue(nodeManager.containsNode(variableId));
+        assertEquals(nodeManager.get(variableId).getNodeId(), variableId);
+        assertEquals(nodeManager.get(variableId).getBrowseName(), new QualifiedName(2, "variable"));
+
+        List<Reference> references = nodeManager.getReferences(variableId);
+        assertEquals(references.size(), 1);
+        assertEquals(references.get(0).getTargetNodeId(), new NodeId(2, "folder").expanded());
+    }
+
+    @Test
+    public void testWritePromotesView() throws IOException {
+        NamespaceTable namespaceTable = new NamespaceTable();
+        namespaceTable.addUri(NAMESPACE_URI);
+
+        SnapshotNodeManager nodeManager = new SnapshotNodeManager(null, snapshot(namespaceTable));
+
+        UaVariableNode view = (UaVariableNode) nodeManager.get(variableId);
+        assertNotSame(nodeManager.get(variableId), view);
+
+        view.setValue(new DataValue(new Variant(43)));
+
+        assertSame(nodeManager.get(variableId), view);
+        assertEquals(nodeManager.getNodeIds().size(), 3);
+    }
+
+    @Test
+    public void testFilterPromotesView() throws IOException {
+        NamespaceTable namespaceTable = new NamespaceTable();
+        namespaceTable.addUri(NAMESPACE_URI);
+
+        SnapshotNodeManager nodeManager = new SnapshotNodeManager(null, snapshot(namespaceTable));
+
+        UaVariableNode view = (UaVariableNode) nodeManager.get(variableId);
+        view.getFilterChain().addLast(AttributeFilters.getValue(ctx -> new DataValue(new Variant("filtered"))));
+
+        assertSame(nodeManager.get(variableId), view);
+        assertEquals(view.getValue().getValue(), new Variant("filtered"));
+    }
+
+    @Test
+    public void testLaterPromotedViewsRouteToFirst() throws IOException {
+        NamespaceTable namespaceTable = new NamespaceTable();
+        namespaceTable.addUri(NAMESPACE_URI);
+
+        SnapshotNodeManager nodeManager = new SnapshotNodeManager(null, snapshot(namespaceTable));
+
+        UaVariableNode first = (UaVariableNode) nodeManager.get(variableId);
+        UaVariableNode second = (UaVariableNode) nodeManager.get(variableId);
+
+        first.setValue(new DataValue(new Variant(43)));
+        second.setValue(new DataValue(new Variant(44)));
+
+        assertSame(nodeManager.get(variableId), first);
+        assertEquals(first.getValue().getValue(), new Variant(44));
+
+        List<Object> changes = new ArrayList<>();
+        second.addAttributeObserver((node, attributeId, value) -> changes.add(value));
+
+        first.setValue(new DataValue(new Variant(45)));
+        assertEquals(changes.size(), 1);
+    }
+
+    @Test
+    public void testChangesAreLayeredOnSnapshot() throws IOException {
+        NamespaceTable namespaceTable = new NamespaceTable();
+        namespaceTable.addUri(NAMESPACE_URI);
+
+        SnapshotNodeManager nodeManager = new SnapshotNodeManager(null, snapshot(namespaceTable));
+
+        assertTrue(nodeManager.removeNode(methodId).isPresent());
+        assertFalse(nodeManager.containsNode(methodId));
+        assertFalse(nodeManager.removeNode(methodId).isPresent());
+
+        Reference organizes = new Reference(folderId, Identifiers.Organizes, variableId.expanded(), true);
+        Reference hasComponent = new Reference(folderId, Identifiers.HasComponent, methodId.expanded(), true);
+
+        nodeManager.removeReference(organizes);
+        nodeManager.removeReference(hasComponent);
+        assertTrue(nodeManager.getReferences(folderId).isEmpty());
+
+        nodeManager.addReference(organizes);
+        assertEquals(nodeManager.getReferences(folderId), Collections.singletonList(organizes));
+
+        UaObjectNode folder = new UaObjectNode(
+            context,
+            folderId,
+            new QualifiedName(1, "replaced"),
+            LocalizedText.english("replaced")
+        );
+
+        assertTrue(nodeManager.addNode(folder).isPresent());
+        assertSame(nodeManager.get(folderId), folder);
+        assertEquals(nodeManager.getNodes().size(), 2);
+    }
+
+    private NodeSnapshot snapshot(NamespaceTable serverNamespaceTable) throws IOException {
+        NamespaceTable namespaceTable = new NamespaceTable();
+        namespaceTable.addUri(NAMESPACE_URI);
+
+        UaObjectNode folder = new UaObjectNode(
+            context,
+            folderId,
+            new QualifiedName(1, "folder"),
+            LocalizedText.english("folder")
+        );
+
+        UaVariableNode variable = new UaVariableNode(
+            context,
+            variableId,
+            new QualifiedName(1, "variable"),
+            LocalizedText.english("variable")
+        );
+        variable.setDataType(Identifiers.Int32);
+        variable.setValue(new DataValue(new Variant(42)));
+
+        UaMethodNode method = new UaMethodNode(
+            context,
+            methodId,
+            new QualifiedName(1, "method"),
+            LocalizedText.english("method"),
+            LocalizedText.NULL_VALUE,
+            null,
+            null,
+            true,
+            true
+        );
+
+        UaNodeManager references = new UaNodeManager();
+        references.addReferences(
+            new Reference(folderId, Identifiers.Organizes, variableId.expanded(), true),
+            namespaceTable
+        );
+        references.addReferences(
+            new Reference(folderId, Identifiers.HasComponent, methodId.expanded(), true),
+            namespaceTable
+        );
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        new NodeSnapshotWriter(namespaceTable, serializationContext).write(
+            out,
+            Arrays.asList(folder, variable, method),
+            references::getReferences
+        );
+
+        return NodeSnapshot.wrap(ByteBuffer.wrap(out.toByteArray()), serverNamespaceTable, serializationContext);
+    }
+
+}
@@ -11,16 +11,17 @@
 package org.eclipse.milo.opcua.binaryschema;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Iterators;
-import com.google.common.collect.PeekingIterator;
 import org.eclipse.milo.opcua.stack.core.BuiltinDataType;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaSerializationException;
@@ -165,26 +166,60 @@ public abstract class AbstractCodec<StructureT, MemberT> implements OpcUaBinaryD
             .build();
     }
 
-    private final Map<String, FieldType> fields = new HashMap<>();
-    private final Map<String, FieldType> lengthFields = new HashMap<>();
-
     private final StructuredType structuredType;
 
+    /**
+     * The fields of {@link #structuredType}, in order, with their readers, writers, and the fields they refer to
+     * resolved once when the codec is created.
+     */
+    private final BoundField[] boundFields;
+
+    /**
+     * The names of the fields that are members of the structure, i.e. all fields except length fields, in order.
+     */
+    private final List<String> memberNames;
+
     protected AbstractCodec(StructuredType structuredType) {
         this.structuredType = structuredType;
 
-        structuredType.getField().forEach(
-            field ->
-                fields.put(field.getName(), field)
-        );
+        List<FieldType> fieldTypes = structuredType.getField();
+
+        Map<String, BoundField> fieldsByName = new HashMap<>();
+
+        boundFields = new BoundField[fieldTypes.size()];
+
+        for (int i = 0; i < fieldTypes.size(); i++) {
+            BoundField field = new BoundField(i, fieldTypes.get(i));
+
+            boundFields[i] = field;
+            fieldsByName.put(field.name, field);
+        }
 
-        structuredType.getField().forEach(field -> {
-            String lengthField = field.getLengthField();
+        for (BoundField field : boundFields) {
+            if (field.lengthFieldName != null) {
+                field.lengthField = fieldsByName.get(field.lengthFieldName);
 
-            if (lengthField != null) {
-                lengthFields.put(lengthField, fields.get(lengthField));
+                if (field.lengthField != null) {
+                    field.lengthField.isLengthField = true;
+                }
+            }
+            if (field.switchFieldName != null) {
+                field.switchField = fieldsByName.get(field.switchFieldName);
             }
-        });
+        }
+
+        List<String> names = new ArrayList<>();
+
+        for (BoundField field : boundFields) {
+            if (field.isLengthField) {
+                field.memberIndex = -1;
+            } else {
+                field.memberIndex = names.size();
+                names.add(field.name);
+            }
+        }
+
+        memberNames = Collections.unmodifiableList(names);
     }
 
     @Override
@@ -193,45 +228,29 @@ public abstract class AbstractCodec<StructureT, MemberT> implements OpcUaBinaryD
         OpcUaBinaryStreamDecoder decoder
     ) throws UaSerializationException {
 
-        LinkedHashMap<String, MemberT> members = new LinkedHashMap<>();
-
-        PeekingIterator<FieldType> fieldIterator = Iterators
-            .peekingIterator(structuredType.getField().iterator());
-
-        while (fieldIterator.hasNext()) {
-            FieldType field = fieldIterator.next();
-            String fieldName = field.getName();
-            String typeName = field.getTypeName().getLocalPart();
-            String typeNamespace = field.getTypeName().getNamespaceURI();
+        Object[] values = new Object[boundFields.length];
 
-            if (fieldIsAbsent(field, members)) {
+        for (BoundField field : boundFields) {
+            if (fieldIsAbsent(field, values)) {
                 continue;
             }
 
-            boolean typeNamespaceIsUa =
-                Namespaces.OPC_UA.equals(typeNamespace) ||
-                    Namespaces.OPC_UA_BSD.equals(typeNamespace);
-
-            if (fieldIsScalar(field)) {
-                if (typeNamespaceIsUa && READERS.containsKey(typeName)) {
-                    Object value = READERS.get(typeName).apply(decoder);
-
-                    members.put(fieldName, opcUaToMemberTypeScalar(fieldName, value, typeName));
-                } else {
-                    Object value = context.decode(typeNamespace, typeName, decoder);
+            if (field.scalar) {
+                Object value = field.reader != null ?
+                    field.reader.apply(decoder) :
+                    context.decode(field.typeNamespace, field.typeName, decoder);
 
-                    members.put(fieldName, opcUaToMemberTypeScalar(fieldName, value, typeName));
-                }
+                values[field.index] = opcUaToMemberTypeScalar(field.name, value, field.typeName);
             } else {
-                if (field.isIsLengthInBytes()) {
+                if (field.lengthInBytes) {
                     throw new UaSerializationException(
                         StatusCodes.Bad_DecodingError,
                         "IsLengthInBytes=true not supported");
                 }
 
-                int length = fieldLength(field, members);
+                int length = fieldLength(field, values);
 
-                if ("Bit".equals(typeName) && typeNamespaceIsUa) {
+                if (field.bitArray) {
                     BigInteger bitAccumulation = BigInteger.valueOf(0L);
 
                     for (int i = 0; i < length; i++) {
@@ -240,35 +259,39 @@ public abstract class AbstractCodec<StructureT, MemberT> implements OpcUaBinaryD
                         bitAccumulation = bitAccumulation.or(bitValue.shiftLeft(i));
                     }
 
-                    members.put(fieldName, opcUaToMemberTypeArray(fieldName, bitAccumulation.intValue(), typeName));
+                    values[field.index] = opcUaToMemberTypeArray(
+                        field.name,
+                        bitAccumulation.intValue(),
+                        field.typeName
+                    );
                 } else {
-                    Object[] values = null;
+                    Object[] array = null;
 
                     if (length >= 0) {
-                        values = new Object[length];
+                        array = new Object[length];
 
-                        if (typeNamespaceIsUa && READERS.containsKey(typeName)) {
+                        if (field.reader != null) {
                             for (int i = 0; i < length; i++) {
-                                Object value = READERS.get(typeName).apply(decoder);
-
-                                values[i] = value;
+                                array[i] = field.reader.apply(decoder);
                             }
                         } else {
                             for (int i = 0; i < length; i++) {
-                                Object value = context.decode(typeNamespace, typeName, decoder);
-
-                                values[i] = value;
+                                array[i] = context.decode(field.typeNamespace, field.typeName, decoder);
                             }
                         }
                     }
 
-                    members.put(fieldName, opcUaToMemberTypeArray(fieldName, values, typeName));
+                    values[field.index] = opcUaToMemberTypeArray(field.name, array, field.typeName);
                 }
             }
         }
 
-        for (String lengthField : lengthFields.keySet()) {
-            members.remove(lengthField);
+        List<MemberT> members = new ArrayList<>(memberNames.size());
+
+        for (BoundField field : boundFields) {
+            if (!field.isLengthField) {
+                members.add(member(values[field.index]));
+            }
         }
 
         return createStructure(structuredType.getName(), members);
@@ -281,93 +304,89 @@ public abstract class AbstractCodec<StructureT, MemberT> implements OpcUaBinaryD
         StructureT structure
     ) throws UaSerializationException {
 
-        LinkedHashMap<String, MemberT> members = new LinkedHashMap<>(getMembers(structure));
+        List<MemberT> members = getMemberList(structure);
 
-        PeekingIterator<FieldType> fieldIterator = Iterators
-            .peekingIterator(structuredType.getField().iterator());
+        Object[] values = new Object[boundFields.length];
 
-        while (fieldIterator.hasNext()) {
-            FieldType field = fieldIterator.next();
+        for (BoundField field : boundFields) {
+            if (!field.isLengthField) {
+                values[field.index] = members.get(field.memberIndex);
+            }
+        }
 
-            if (fieldIsAbsent(field, members)) {
+        for (BoundField field : boundFields) {
+            if (fieldIsAbsent(field, values)) {
                 continue;
             }
 
-            if (lengthFields.containsKey(field.getName())) {
+            if (field.isLengthField) {
                 // let arrays encode their own length field so the
                 // structure representation isn't required to include it
                 continue;
             }
 
-            encodeField(context, encoder, members, field);
+            encodeField(context, encoder, values, field);
         }
     }
 
     private void encodeField(
         SerializationContext context,
         OpcUaBinaryStreamEncoder encoder,
-        LinkedHashMap<String, MemberT> members,
-        FieldType field
+        Object[] values,
+        BoundField field
     ) {
 
-        String typeName = field.getTypeName().getLocalPart();
-        String typeNamespace = field.getTypeName().getNamespaceURI();
-
-        MemberT member = members.get(field.getName());
+        MemberT member = member(values[field.index]);
 
-        boolean typeNamespaceIsUa =
-            Namespaces.OPC_UA.equals(typeNamespace) ||
-                Namespaces.OPC_UA_BSD.equals(typeNamespace);
+        if (field.scalar) {
+            Object scalarValue = memberTypeToOpcUaScalar(member, field.typeName);
 
-        if (fieldIsScalar(field)) {
-            Object scalarValue = memberTypeToOpcUaScalar(member, typeName);
-
-            if (typeNamespaceIsUa && WRITERS.containsKey(typeName)) {
-                WRITERS.get(typeName).accept(encoder, scalarValue);
+            if (field.writer != null) {
+                field.writer.accept(encoder, scalarValue);
             } else {
-                context.encode(typeNamespace, typeName, scalarValue, encoder);
+                context.encode(field.typeNamespace, field.typeName, scalarValue, encoder);
             }
         } else {
-            if (field.isIsLengthInBytes()) {
+            if (field.lengthInBytes) {
                 throw new UaSerializationException(
                     StatusCodes.Bad_EncodingError,
                     "IsLengthInBytes=true not supported");
             }
 
-            if ("Bit".equals(typeName) && typeNamespaceIsUa) {
-                int length = fieldLength(field, members);
+            if (field.bitArray) {
+                int length = fieldLength(field, values);
 
-                Number number = (Number) memberTypeToOpcUaArray(member, typeName);
+                Number number = (Number) memberTypeToOpcUaArray(member, field.typeName);
                 BigInteger bi = BigInteger.valueOf(number.longValue());
 
                 for (int i = 0; i < length; i++) {
                     encoder.writeBit(bi.shiftRight(i).and(BigInteger.ONE).intValue());
                 }
             } else {
-                Object[] valueArray = (Object[]) memberTypeToOpcUaArray(member, typeName);
+                Object[] valueArray = (Object[]) memberTypeToOpcUaArray(member, field.typeName);
 
-                FieldType lengthField = fields.get(field.getLengthField());
+                BoundField lengthField = field.lengthField;
 
                 if (lengthField != null) {
                     int length = valueArray.length;
 
-                    members.put(lengthField.getName(), opcUaToMemberTypeScalar(
-                        lengthField.getName(),
+                    values[lengthField.index] = opcUaToMemberTypeScalar(
+                        lengthField.name,
                         length,
-                        lengthField.getTypeName().getLocalPart()
-                    ));
+                        lengthField.typeName
+                    );
 
-                    encodeField(context, encoder, members, lengthField);
+                    encodeField(context, encoder, values, lengthField);
                 }
 
                 if (valueArray != null) {
-                    if (typeNamespaceIsUa && WRITERS.containsKey(typeName)) {
+                    if (field.writer != null) {
                         for (Object value : valueArray) {
-                            WRITERS.get(typeName).accept(encoder, value);
+                            field.writer.accept(encoder, value);
                         }
                     } else {
                         for (Object value : valueArray) {
-                            context.encode(typeNamespace, typeName, value, encoder);
+                            context.encode(field.typeNamespace, field.typeName, value, encoder);
                         }
                     }
                 }
@@ -375,6 +394,63 @@ public abstract class AbstractCodec<StructureT, MemberT> implements OpcUaBinaryD
         }
     }
 
+    /**
+     * Get the names of the members of structures created by this codec, in order.
+     * <p>
+     * These are the names of all fields of the {@link StructuredType} except length fields.
+     *
+     * @return the names of the members of structures created by this codec, in order.
+     */
+    protected final List<String> getMemberNames() {
+        return memberNames;
+    }
+
+    /**
+     * Create a structure from its members.
+     * <p>
+     * The default implementation collects the non-null members into a {@link LinkedHashMap} and calls
+     * {@link #createStructure(String, LinkedHashMap)}.
+     *
+     * @param name    the name of the structure.
+     * @param members the members of the structure, in the order of {@link #getMemberNames()}. Optional fields that
+     *                are absent have a {@code null} member.
+     * @return a structure of type {@link StructureT}.
+     */
+    protected StructureT createStructure(String name, List<MemberT> members) {
+        LinkedHashMap<String, MemberT> memberMap = new LinkedHashMap<>();
+
+        for (int i = 0; i < members.size(); i++) {
+            MemberT member = members.get(i);
+
+            if (member != null) {
+                memberMap.put(memberNames.get(i), member);
+            }
+        }
+
+        return createStructure(name, memberMap);
+    }
+
+    /**
+     * Get the members of {@code value}.
+     * <p>
+     * The default implementation looks up each of {@link #getMemberNames()} in the map returned by
+     * {@link #getMembers(Object)}.
+     *
+     * @param value the structure to get the members of.
+     * @return the members of {@code value}, in the order of {@link #getMemberNames()}, {@code null} if absent.
+     */
+    protected List<MemberT> getMemberList(StructureT value) {
+        Map<String, MemberT> memberMap = getMembers(value);
+
+        List<MemberT> members = new ArrayList<>(memberNames.size());
+
+        for (String memberName : memberNames) {
+            members.add(memberMap.get(memberName));
+        }
+
+        return members;
+    }
+
     protected abstract StructureT createStructure(String name, LinkedHashMap<String, MemberT> members);
 
     protected abstract Map<String, MemberT> getMembers(StructureT value);
@@ -403,52 +479,45 @@ public abstract class AbstractCodec<StructureT, MemberT> implements OpcUaBinaryD
 
     protected abstract Object memberTypeToOpcUaArray(MemberT member, String typeName);
 
-    private int fieldLength(FieldType field, LinkedHashMap<String, MemberT> members) {
+    private int fieldLength(BoundField field, Object[] values) {
         int length = 1;
 
-        if (field.getLength() != null) {
-            length = field.getLength().intValue();
-        } else if (field.getLengthField() != null) {
-            MemberT lengthMember = members.get(field.getLengthField());
+        if (field.fixedLength != null) {
+            length = field.fixedLength;
+        } else if (field.lengthFieldName != null) {
+            MemberT lengthMember = field.lengthField != null ? member(values[field.lengthField.index]) : null;
 
             if (lengthMember != null) {
-                String lengthTypeName = structuredType.getField().stream()
-                    .filter(f -> f.getName().equals(field.getLengthField()))
-                    .findFirst()
-                    .map(f -> f.getTypeName().getLocalPart())
-                    .orElse("Int32");
-
-                length = ((Number) memberTypeToOpcUaScalar(lengthMember, lengthTypeName)).intValue();
+                length = ((Number) memberTypeToOpcUaScalar(lengthMember, field.lengthField.typeName)).intValue();
             }
         }
 
         return length;
     }
 
-    private boolean fieldIsAbsent(FieldType field, Map<String, MemberT> members) {
-        if (field.getSwitchField() == null) {
+    private boolean fieldIsAbsent(BoundField field, Object[] values) {
+        if (field.switchFieldName == null) {
             return false;
         } else {
-            MemberT controlField = members.get(field.getSwitchField());
+            MemberT controlField = null;
+            String controlTypeName = "Int32";
 
-            String controlTypeName = structuredType.getField().stream()
-                .filter(f -> f.getName().equals(field.getSwitchField()))
-                .findFirst()
-                .map(f -> f.getTypeName().getLocalPart())
-                .orElse("Int32");
+            if (field.switchField != null) {
+                controlField = member(values[field.switchField.index]);
+                controlTypeName = field.switchField.typeName;
+            }
 
             long controlValue = ((Number) memberTypeToOpcUaScalar(controlField, controlTypeName)).longValue();
 
-            long switchValue = field.getSwitchValue() != null ?
-                field.getSwitchValue() : 1L;
-
-            SwitchOperand switchOperand = field.getSwitchOperand() != null ?
-                field.getSwitchOperand() : SwitchOperand.EQUALS;
-
-            return !compareToSwitchValue(controlValue, switchOperand, switchValue);
+            return !compareToSwitchValue(controlValue, field.switchOperand, field.switchValue);
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private MemberT member(Object value) {
+        return (MemberT) value;
+    }
+
     private static boolean compareToSwitchValue(long controlValue, SwitchOperand switchOperand, long switchValue) {
         switch (switchOperand) {
             case EQUALS:
@@ -470,8 +539,68 @@ public abstract class AbstractCodec<StructureT, MemberT> implements OpcUaBinaryD
         }
     }
 
-    private static boolean fieldIsScalar(FieldType field) {
-        return field.getLengthField() == null && field.getLength() == null;
+    /**
+     * A {@link FieldType} with everything needed to decode or encode it looked up ahead of time.
+     */
+    private static final class BoundField {
+
+        final int index;
+        final String name;
+        final String typeName;
+        final String typeNamespace;
+
+        final boolean scalar;
+        final boolean bitArray;
+        final boolean lengthInBytes;
+
+        @Nullable final Integer fixedLength;
+        @Nullable final String lengthFieldName;
+        @Nullable final String switchFieldName;
+
+        final long switchValue;
+        final SwitchOperand switchOperand;
+
+        /**
+         * The reader for a builtin type, or {@code null} if the type is decoded by the {@link SerializationContext}.
+         */
+        @Nullable final Function<OpcUaBinaryStreamDecoder, Object> reader;
+
+        /**
+         * The writer for a builtin type, or {@code null} if the type is encoded by the {@link SerializationContext}.
+         */
+        @Nullable final BiConsumer<OpcUaBinaryStreamEncoder, Object> writer;
+
+        @Nullable BoundField lengthField;
+        @Nullable BoundField switchField;
+
+        boolean isLengthField;
+        int memberIndex;
+
+        BoundField(int index, FieldType field) {
+            this.index = index;
+            this.name = field.getName();
+            this.typeName = field.getTypeName().getLocalPart();
+            this.typeNamespace = field.getTypeName().getNamespaceURI();
+
+            boolean typeNamespaceIsUa =
+                Namespaces.OPC_UA.equals(typeNamespace) ||
+                    Namespaces.OPC_UA_BSD.equals(typeNamespace);
+
+            this.scalar = field.getLengthField() == null && field.getLength() == null;
+            this.bitArray = !scalar && typeNamespaceIsUa && "Bit".equals(typeName);
+            this.lengthInBytes = field.isIsLengthInBytes();
+
+            this.fixedLength = field.getLength() != null ? field.getLength().intValue() : null;
+            this.lengthFieldName = field.getLengthField();
+            this.switchFieldName = field.getSwitchField();
+
+            this.switchValue = field.getSwitchValue() != null ? field.getSwitchValue() : 1L;
+            this.switchOperand = field.getSwitchOperand() != null ? field.getSwitchOperand() : SwitchOperand.EQUALS;
+
+            this.reader = typeNamespaceIsUa ? READERS.get(typeName) : null;
+            this.writer = typeNamespaceIsUa ? WRITERS.get(typeName) : null;
+        }
+
     }
 
 }
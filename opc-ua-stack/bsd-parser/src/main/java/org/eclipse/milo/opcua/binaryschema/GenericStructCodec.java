@@ -12,17 +12,31 @@ package org.eclipse.milo.opcua.binaryschema;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.google.common.collect.ImmutableMap;
 import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
 import org.opcfoundation.opcua.binaryschema.StructuredType;
 
 public class GenericStructCodec extends AbstractCodec<Struct, Struct.Member> {
 
+    /**
+     * Member indices shared by every {@link Struct} this codec decodes.
+     */
+    private final ImmutableMap<String, Integer> memberIndices;
+
     public GenericStructCodec(StructuredType structuredType) {
         super(structuredType);
+
+        ImmutableMap.Builder<String, Integer> indices = ImmutableMap.builder();
+        List<String> memberNames = getMemberNames();
+        for (int i = 0; i < memberNames.size(); i++) {
+            indices.put(memberNames.get(i), i);
+        }
+        memberIndices = indices.build();
     }
 
     @Override
@@ -35,11 +49,25 @@ public class GenericStructCodec extends AbstractCodec<Struct, Struct.Member> {
         return new Struct(name, members);
     }
 
+    @Override
+    protected Struct createStructure(String name, List<Struct.Member> members) {
+        return new Struct(name, memberIndices, members.toArray(new Struct.Member[0]));
+    }
+
     @Override
     protected Map<String, Struct.Member> getMembers(Struct value) {
         return value.getMembers();
     }
 
+    @Override
+    protected List<Struct.Member> getMemberList(Struct value) {
+        if (value.getMemberIndices() == memberIndices) {
+            return Arrays.asList(value.getMemberArray());
+        } else {
+            return super.getMemberList(value);
+        }
+    }
+
     @Override
     protected Struct.Member opcUaToMemberTypeScalar(String name, Object value, String typeName) {
         return new Struct.Member(name, value);
@@ -24,7 +24,18 @@ import org.jetbrains.annotations.Nullable;
 public class Struct {
 
     private final String name;
-    private final ImmutableMap<String, Member> members;
+
+    /**
+     * Index of each member name into {@link #memberArray}; shared by all Structs decoded by the same codec.
+     */
+    private final ImmutableMap<String, Integer> memberIndices;
+
+    /**
+     * The members, in order; {@code null} entries are optional members that are absent.
+     */
+    private final Member[] memberArray;
+
+    private volatile ImmutableMap<String, Member> members;
 
     public Struct(@NotNull String name, @NotNull Map<String, Member> members) {
         this(name, ImmutableMap.copyOf(members));
@@ -36,6 +47,21 @@ public class Struct {
 
         this.name = name;
         this.members = members;
+
+        ImmutableMap.Builder<String, Integer> indices = ImmutableMap.builder();
+        int index = 0;
+        for (String memberName : members.keySet()) {
+            indices.put(memberName, index++);
+        }
+
+        this.memberIndices = indices.build();
+        this.memberArray = members.values().toArray(new Member[0]);
+    }
+
+    Struct(String name, ImmutableMap<String, Integer> memberIndices, Member[] memberArray) {
+        this.name = name;
+        this.memberIndices = memberIndices;
+        this.memberArray = memberArray;
     }
 
     @NotNull
@@ -45,17 +71,80 @@ public class Struct {
 
     @NotNull
     public ImmutableMap<String, Member> getMembers() {
-        return members;
+        ImmutableMap<String, Member> m = members;
+
+        if (m == null) {
+            ImmutableMap.Builder<String, Member> builder = ImmutableMap.builder();
+
+            for (Member member : memberArray) {
+                if (member != null) {
+                    builder.put(member.getName(), member);
+                }
+            }
+
+            members = m = builder.build();
+        }
+
+        return m;
     }
 
     @Nullable
     public Member getMember(String name) {
-        return members.get(name);
+        Integer index = memberIndices.get(name);
+
+        return index != null ? memberArray[index] : null;
     }
 
     @NotNull
     public Optional<Member> getMemberSafe(String name) {
-        return Optional.ofNullable(members.get(name));
+        return Optional.ofNullable(getMember(name));
+    }
+
+    /**
+     * Get the number of members this Struct has, not counting optional members that are absent.
+     * <p>
+     * This is the number of members a codec encodes, and the same for a Struct built with a {@link Builder} as for
+     * the Struct decoded from its encoding.
+     *
+     * @return the number of members this Struct has.
+     */
+    public int getMemberCount() {
+        return getMembers().size();
+    }
+
+    /**
+     * Get the index of the member named {@code name}, for use with {@link #getMember(int)}.
+     * <p>
+     * Structs decoded by the same codec share their member indices, so an index can be looked up once and then used
+     * to access the member of each decoded value.
+     *
+     * @param name the name of the member.
+     * @return the index of the member named {@code name}, or -1 if there is no such member.
+     */
+    public int getMemberIndex(String name) {
+        Integer index = memberIndices.get(name);
+
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Get the member at {@code index}.
+     *
+     * @param index the index of the member, as returned by {@link #getMemberIndex(String)}.
+     * @return the member at {@code index}, or {@code null} if it's an optional member that is absent.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    @Nullable
+    public Member getMember(int index) {
+        return memberArray[index];
+    }
+
+    ImmutableMap<String, Integer> getMemberIndices() {
+        return memberIndices;
+    }
+
+    Member[] getMemberArray() {
+        return memberArray;
     }
 
     @Override
@@ -64,19 +153,19 @@ public class Struct {
         if (o == null || getClass() != o.getClass()) return false;
         Struct that = (Struct) o;
         return Objects.equals(name, that.name) &&
-            Objects.equals(members, that.members);
+            Objects.equals(getMembers(), that.getMembers());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, members);
+        return Objects.hash(name, getMembers());
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
             .add("name", name)
-            .add("members", members)
+            .add("members", getMembers())
             .toString();
     }
 
@@ -39,7 +39,7 @@ public abstract class BsdParserTest {
 
     private final Table<String, String, OpcUaBinaryDataTypeCodec<?>> codecTable = HashBasedTable.create();
 
-    private final SerializationContext context = new SerializationContext() {
+    protected final SerializationContext context = new SerializationContext() {
 
         private final NamespaceTable namespaceTable = new NamespaceTable();
 
@@ -10,11 +10,19 @@
 
 package org.eclipse.milo.opcua.binaryschema;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.eclipse.milo.opcua.binaryschema.parser.BsdParser;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
 import org.eclipse.milo.opcua.stack.core.serialization.codecs.OpcUaBinaryDataTypeCodec;
 import org.eclipse.milo.opcua.stack.core.types.structured.Range;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
 public class GenericBsdParserTest extends BsdParserTest {
 
     @Override
@@ -76,6 +84,33 @@ public class GenericBsdParserTest extends BsdParserTest {
         assertRoundTrip("Optionals", optionals, codec);
     }
 
+    @Test
+    public void testIndexedMemberAccess() {
+        Struct optionals = Struct.builder("Optionals")
+            .addMember("OptionalInt32Specified", 1)
+            .addMember("OptionalStringSpecified", 0)
+            .addMember("Reserved1", 0)
+            .addMember("OptionalInt32", 42)
+            .build();
+
+        OpcUaBinaryDataTypeCodec<Object> codec = getCodec("Optionals");
+
+        ByteBuf buffer = Unpooled.buffer();
+        codec.encode(context, new OpcUaBinaryStreamEncoder(context).setBuffer(buffer), optionals);
+        Struct decoded = (Struct) codec.decode(context, new OpcUaBinaryStreamDecoder(context).setBuffer(buffer));
+
+        assertEquals(decoded.getMemberCount(), 4);
+        assertEquals(decoded.getMemberCount(), optionals.getMemberCount());
+
+        Struct.Member optionalInt32 = decoded.getMember(decoded.getMemberIndex("OptionalInt32"));
+        assertNotNull(optionalInt32);
+        assertEquals(optionalInt32.getValue(), 42);
+        assertNull(decoded.getMember(decoded.getMemberIndex("OptionalString")));
+        assertEquals(decoded.getMemberIndex("NoSuchMember"), -1);
+
+        assertRoundTrip("Optionals", decoded, codec);
+    }
+
     @Test
     public void testArrayContainer() {
         Struct arrayContainer = Struct.builder("ArrayContainer")
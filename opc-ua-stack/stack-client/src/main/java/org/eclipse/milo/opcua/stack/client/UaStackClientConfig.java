@@ -24,6 +24,8 @@ import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.EndpointDescription;
 
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
 public interface UaStackClientConfig {
 
     /**
@@ -111,6 +113,14 @@ public interface UaStackClientConfig {
      */
     UInteger getChannelLifetime();
 
+    /**
+     * @return the maximum time, in milliseconds, that an encoded request may be held before the channel it was
+     * written to is flushed. A delay of 0 coalesces only the requests written within the same event loop turn.
+     */
+    default UInteger getMaxFlushDelay() {
+        return uint(0);
+    }
+
     static UaStackClientConfigBuilder builder() {
         return new UaStackClientConfigBuilder();
     }
@@ -140,6 +150,7 @@ public interface UaStackClientConfig {
         builder.setConnectTimeout(config.getConnectTimeout());
         builder.setAcknowledgeTimeout(config.getAcknowledgeTimeout());
         builder.setRequestTimeout(config.getRequestTimeout());
+        builder.setMaxFlushDelay(config.getMaxFlushDelay());
 
         return builder;
     }
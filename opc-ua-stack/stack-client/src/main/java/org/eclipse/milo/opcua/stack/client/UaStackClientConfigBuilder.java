@@ -46,6 +46,7 @@ public class UaStackClientConfigBuilder {
     private UInteger acknowledgeTimeout = uint(5_000);
     private UInteger requestTimeout = uint(60_000);
     private UInteger channelLifetime = uint(60 * 60 * 1000);
+    private UInteger maxFlushDelay = uint(0);
 
     public UaStackClientConfigBuilder setEndpoint(EndpointDescription endpoint) {
         this.endpoint = endpoint;
@@ -117,6 +118,11 @@ public class UaStackClientConfigBuilder {
         return this;
     }
 
+    public UaStackClientConfigBuilder setMaxFlushDelay(UInteger maxFlushDelay) {
+        this.maxFlushDelay = maxFlushDelay;
+        return this;
+    }
+
     public UaStackClientConfig build() {
         Preconditions.checkNotNull(endpoint, "endpoint must be non-null");
 
@@ -147,7 +153,8 @@ public class UaStackClientConfigBuilder {
             connectTimeout,
             acknowledgeTimeout,
             requestTimeout,
-            channelLifetime
+            channelLifetime,
+            maxFlushDelay
         );
     }
 
@@ -168,6 +175,7 @@ public class UaStackClientConfigBuilder {
         private final UInteger acknowledgeTimeout;
         private final UInteger requestTimeout;
         private final UInteger channelLifetime;
+        private final UInteger maxFlushDelay;
 
         UaStackClientConfigImpl(
             EndpointDescription endpoint,
@@ -183,7 +191,8 @@ public class UaStackClientConfigBuilder {
             UInteger connectTimeout,
             UInteger acknowledgeTimeout,
             UInteger requestTimeout,
-            UInteger channelLifetime
+            UInteger channelLifetime,
+            UInteger maxFlushDelay
         ) {
 
             this.endpoint = endpoint;
@@ -200,6 +209,7 @@ public class UaStackClientConfigBuilder {
             this.acknowledgeTimeout = acknowledgeTimeout;
             this.requestTimeout = requestTimeout;
             this.channelLifetime = channelLifetime;
+            this.maxFlushDelay = maxFlushDelay;
         }
 
         @Override
@@ -280,6 +290,11 @@ public class UaStackClientConfigBuilder {
             return requestTimeout;
         }
 
+        @Override
+        public UInteger getMaxFlushDelay() {
+            return maxFlushDelay;
+        }
+
     }
 
 }
@@ -36,6 +36,7 @@ import org.eclipse.milo.opcua.stack.core.UaServiceFaultException;
 import org.eclipse.milo.opcua.stack.core.channel.ChannelSecurity;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder.EncodedMessage;
+import org.eclipse.milo.opcua.stack.core.channel.FlushCoalescer;
 import org.eclipse.milo.opcua.stack.core.channel.MessageAbortException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageDecodeException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageEncodeException;
@@ -79,6 +80,8 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UaTransportRequ
     private final Map<Long, UaTransportRequest> pending = Maps.newConcurrentMap();
     private final LongSequence requestIdSequence = new LongSequence(1L, UInteger.MAX_VALUE);
 
+    private FlushCoalescer flushCoalescer;
+
     private ScheduledFuture renewFuture;
     private Timeout secureChannelTimeout;
     private final int maxChunkCount;
@@ -125,6 +128,12 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UaTransportRequ
 
     @Override
     public void handlerAdded(ChannelHandlerContext ctx) {
+        flushCoalescer = new FlushCoalescer(
+            ctx,
+            config.getMaxFlushDelay().longValue(),
+            serializationQueue.getParameters().getLocalSendBufferSize()
+        );
+
         SecurityTokenRequestType requestType = secureChannel.getChannelId() == 0 ?
             SecurityTokenRequestType.Issue : SecurityTokenRequestType.Renew;
 
@@ -359,7 +368,7 @@ public class UascClientMessageHandler extends ByteToMessageCodec<UaTransportRequ
                     chunkComposite.writerIndex(chunkComposite.writerIndex() + chunk.readableBytes());
                 }
 
-                ctx.writeAndFlush(chunkComposite, ctx.voidPromise());
+                flushCoalescer.write(chunkComposite);
             } catch (MessageEncodeException e) {
                 logger.error("Error encoding {}: {}", request.getRequest(), e.getMessage(), e);
                 request.getFuture().completeExceptionally(e);
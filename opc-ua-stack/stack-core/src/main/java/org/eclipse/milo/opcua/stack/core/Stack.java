@@ -10,6 +10,7 @@
 
 package org.eclipse.milo.opcua.stack.core;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -23,6 +24,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timeout;
 import org.eclipse.milo.opcua.stack.core.util.ManifestUtil;
+import org.eclipse.milo.opcua.stack.core.util.VirtualThreads;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.LoggerFactory;
 
@@ -59,6 +61,7 @@ public final class Stack {
 
     private static NioEventLoopGroup EVENT_LOOP;
     private static ExecutorService EXECUTOR_SERVICE;
+    private static ExecutorService VIRTUAL_THREAD_EXECUTOR_SERVICE;
     private static ScheduledExecutorService SCHEDULED_EXECUTOR_SERVICE;
     private static HashedWheelTimer WHEEL_TIMER;
 
@@ -127,6 +130,31 @@ public final class Stack {
         return EXECUTOR_SERVICE;
     }
 
+    /**
+     * Get a shared {@link ExecutorService} that starts a new virtual thread for each task.
+     * <p>
+     * Requires a runtime that supports virtual threads (JDK 21+); see {@link VirtualThreads#isSupported()}.
+     *
+     * @return a shared {@link ExecutorService} that starts a new virtual thread for each task.
+     * @throws UnsupportedOperationException if the current runtime does not support virtual threads.
+     */
+    public static synchronized ExecutorService sharedVirtualThreadExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR_SERVICE == null) {
+            VIRTUAL_THREAD_EXECUTOR_SERVICE = VirtualThreads.newVirtualThreadExecutor("milo-shared-virtual-thread-");
+        }
+
+        return VIRTUAL_THREAD_EXECUTOR_SERVICE;
+    }
+
+    /**
+     * @param executor the {@link Executor} to check.
+     * @return {@code true} if {@code executor} is the shared virtual thread executor returned by
+     *     {@link #sharedVirtualThreadExecutor()}.
+     */
+    public static synchronized boolean isSharedVirtualThreadExecutor(Executor executor) {
+        return executor != null && executor == VIRTUAL_THREAD_EXECUTOR_SERVICE;
+    }
+
     /**
      * @return a shared {@link ScheduledExecutorService}.
      */
@@ -222,6 +250,10 @@ public final class Stack {
             EXECUTOR_SERVICE.shutdown();
         }
 
+        if (VIRTUAL_THREAD_EXECUTOR_SERVICE != null) {
+            VIRTUAL_THREAD_EXECUTOR_SERVICE.shutdown();
+        }
+
         if (SCHEDULED_EXECUTOR_SERVICE != null) {
             try {
                 SCHEDULED_EXECUTOR_SERVICE.awaitTermination(timeout, unit);
@@ -242,6 +274,16 @@ public final class Stack {
             EXECUTOR_SERVICE = null;
         }
 
+        if (VIRTUAL_THREAD_EXECUTOR_SERVICE != null) {
+            try {
+                VIRTUAL_THREAD_EXECUTOR_SERVICE.awaitTermination(timeout, unit);
+            } catch (InterruptedException e) {
+                LoggerFactory.getLogger(Stack.class)
+                    .warn("Interrupted awaiting virtual thread executor service shutdown.", e);
+            }
+            VIRTUAL_THREAD_EXECUTOR_SERVICE = null;
+        }
+
         if (WHEEL_TIMER != null) {
             WHEEL_TIMER.stop().forEach(Timeout::cancel);
             WHEEL_TIMER = null;
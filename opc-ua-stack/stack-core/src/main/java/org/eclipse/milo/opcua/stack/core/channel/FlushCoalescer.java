@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+
+/**
+ * Coalesces flushes of encoded messages written to a {@link ChannelHandlerContext}.
+ * <p>
+ * Messages are written on the channel's event loop but not flushed immediately. Instead, a single flush is scheduled
+ * to run after every write submitted within the same event loop turn, or after {@code maxFlushDelay} milliseconds
+ * have elapsed, whichever is configured. Writes are flushed early if the bytes pending exceed
+ * {@code maxPendingBytes}.
+ * <p>
+ * All state is confined to the event loop; {@link #write(ByteBuf)} may be called from any thread.
+ */
+public class FlushCoalescer {
+
+    private long pendingBytes = 0L;
+    private boolean flushScheduled = false;
+
+    private final Runnable flushTask = this::flushNow;
+
+    private final ChannelHandlerContext ctx;
+    private final long maxFlushDelay;
+    private final long maxPendingBytes;
+
+    /**
+     * @param ctx             the {@link ChannelHandlerContext} to write to.
+     * @param maxFlushDelay   the maximum time, in milliseconds, a written message may wait before being flushed. A
+     *                        delay of 0 flushes at the end of the current event loop turn.
+     * @param maxPendingBytes the number of pending bytes at which writes are flushed immediately.
+     */
+    public FlushCoalescer(ChannelHandlerContext ctx, long maxFlushDelay, long maxPendingBytes) {
+        this.ctx = ctx;
+        this.maxFlushDelay = maxFlushDelay;
+        this.maxPendingBytes = maxPendingBytes;
+    }
+
+    /**
+     * Write {@code buffer} to the channel and schedule a flush if one is not already pending.
+     *
+     * @param buffer the buffer to write. Ownership is transferred to the channel.
+     */
+    public void write(ByteBuf buffer) {
+        EventExecutor executor = ctx.executor();
+
+        if (executor.inEventLoop()) {
+            write0(buffer);
+        } else {
+            executor.execute(() -> write0(buffer));
+        }
+    }
+
+    /**
+     * Flush any pending writes immediately.
+     */
+    public void flush() {
+        EventExecutor executor = ctx.executor();
+
+        if (executor.inEventLoop()) {
+            flushNow();
+        } else {
+            executor.execute(flushTask);
+        }
+    }
+
+    private void write0(ByteBuf buffer) {
+        pendingBytes += buffer.readableBytes();
+
+        ctx.write(buffer, ctx.voidPromise());
+
+        if (pendingBytes >= maxPendingBytes) {
+            flushNow();
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+
+            if (maxFlushDelay > 0) {
+                ctx.executor().schedule(flushTask, maxFlushDelay, TimeUnit.MILLISECONDS);
+            } else {
+                // Runs after any writes already queued on the event loop.
+                ctx.executor().execute(flushTask);
+            }
+        }
+    }
+
+    private void flushNow() {
+        flushScheduled = false;
+
+        if (pendingBytes > 0) {
+            pendingBytes = 0L;
+
+            ctx.flush();
+        }
+    }
+
+}
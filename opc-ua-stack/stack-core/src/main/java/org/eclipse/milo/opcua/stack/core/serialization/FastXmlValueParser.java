@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.xml.bind.DatatypeConverter;
+
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.util.Namespaces;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ulong;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Parses the small set of XML value shapes found in the namespace 0 Variable values directly from a String, without
+ * building a DOM: scalar built-in values, LocalizedText, ExtensionObjects whose body is a plain element tree, and
+ * ListOf arrays of these.
+ * <p>
+ * Any other shape, and any construct this parser doesn't handle (comments, CDATA, processing instructions,
+ * attributes, prefixed names, non-predefined entities), makes {@link #parse(String)} return {@link #UNSUPPORTED} so
+ * the caller can fall back to the DOM-based {@link OpcUaXmlStreamDecoder}. Values that are parsed are equal to the
+ * values the DOM-based decoder produces for the same input.
+ */
+final class FastXmlValueParser {
+
+    /**
+     * Returned by {@link #parse(String)} when the input isn't one of the supported shapes.
+     */
+    static final Object UNSUPPORTED = new Object();
+
+    private static final String NAMESPACE_DECLARATION = "xmlns=\"" + Namespaces.OPC_UA_XSD + "\"";
+
+    private final String xml;
+
+    private int position;
+
+    /**
+     * {@code true} if the last start tag read was an empty-element tag, i.e. {@code <Name/>}.
+     */
+    private boolean emptyElement;
+
+    private FastXmlValueParser(String xml) {
+        this.xml = xml;
+    }
+
+    /**
+     * Parse the Variant value encoded by {@code xml}.
+     *
+     * @param xml the XML-encoded value, a single element in the OPC UA Types namespace.
+     * @return the decoded value, or {@link #UNSUPPORTED} if {@code xml} isn't one of the supported shapes or can't be
+     *     decoded, in which case the DOM-based decoder should be used instead.
+     */
+    static Object parse(String xml) {
+        try {
+            Object value = new FastXmlValueParser(xml).parseDocument();
+
+            return value != null ? value : UNSUPPORTED;
+        } catch (RuntimeException e) {
+            // Leave reporting malformed values to the DOM-based decoder.
+            return UNSUPPORTED;
+        }
+    }
+
+    @Nullable
+    private Object parseDocument() {
+        skipWhitespace();
+
+        String name = startTag(true);
+        if (name == null) return null;
+
+        Object value = name.startsWith("ListOf") ?
+            parseList(name, name.substring(6)) :
+            parseValue(name);
+
+        skipWhitespace();
+
+        return position == xml.length() ? value : null;
+    }
+
+    @Nullable
+    private Object parseList(String listName, String type) {
+        Class<?> elementClass = elementClass(type);
+        if (elementClass == null) return null;
+
+        List<Object> values = new ArrayList<>();
+
+        if (!emptyElement) {
+            while (true) {
+                skipWhitespace();
+
+                if (xml.startsWith("</", position)) {
+                    if (!endTag(listName)) return null;
+                    break;
+                }
+
+                if (!type.equals(startTag(false))) return null;
+
+                Object value = parseValue(type);
+                if (value == null) return null;
+
+                values.add(value);
+            }
+        }
+
+        Object[] array = (Object[]) Array.newInstance(elementClass, values.size());
+
+        return values.toArray(array);
+    }
+
+    /**
+     * Parse the content and end tag of a value element whose start tag has just been read.
+     */
+    @Nullable
+    private Object parseValue(String type) {
+        switch (type) {
+            case "LocalizedText":
+                return parseLocalizedText();
+            case "ExtensionObject":
+                return parseExtensionObject();
+            default:
+                break;
+        }
+
+        if (elementClass(type) == null) return null;
+
+        String text = textContent(type);
+        if (text == null) return null;
+
+        // Conversions match those in OpcUaXmlStreamDecoder.
+        switch (type) {
+            case "Boolean":
+                return DatatypeConverter.parseBoolean(text);
+            case "SByte":
+                return DatatypeConverter.parseByte(text);
+            case "Int16":
+                return DatatypeConverter.parseShort(text);
+            case "Int32":
+                return DatatypeConverter.parseInt(text);
+            case "Int64":
+                return DatatypeConverter.parseLong(text);
+            case "Byte":
+                return ubyte(DatatypeConverter.parseShort(text));
+            case "UInt16":
+                return ushort(DatatypeConverter.parseInt(text));
+            case "UInt32":
+                return uint(DatatypeConverter.parseLong(text));
+            case "UInt64":
+                return ulong(DatatypeConverter.parseInteger(text));
+            case "Float":
+                return DatatypeConverter.parseFloat(text);
+            case "Double":
+                return DatatypeConverter.parseDouble(text);
+            case "String":
+                return text;
+            case "DateTime":
+                return new DateTime(DatatypeConverter.parseDateTime(text).getTime());
+            case "Guid":
+                return UUID.fromString(text);
+            case "ByteString":
+                return ByteString.of(DatatypeConverter.parseBase64Binary(text));
+            default:
+                return null;
+        }
+    }
+
+    @Nullable
+    private LocalizedText parseLocalizedText() {
+        String locale = null;
+        String text = null;
+
+        if (!emptyElement) {
+            while (true) {
+                skipWhitespace();
+
+                if (xml.startsWith("</", position)) {
+                    if (!endTag("LocalizedText")) return null;
+                    break;
+                }
+
+                String name = startTag(false);
+
+                if ("Locale".equals(name)) {
+                    locale = textContent(name);
+                    if (locale == null) return null;
+                } else if ("Text".equals(name)) {
+                    text = textContent(name);
+                    if (text == null) return null;
+                } else {
+                    return null;
+                }
+            }
+        }
+
+        return new LocalizedText(locale, text);
+    }
+
+    @Nullable
+    private ExtensionObject parseExtensionObject() {
+        NodeId typeId = NodeId.NULL_VALUE;
+        XmlElement body = new XmlElement("");
+
+        if (!emptyElement) {
+            while (true) {
+                skipWhitespace();
+
+                if (xml.startsWith("</", position)) {
+                    if (!endTag("ExtensionObject")) return null;
+                    break;
+                }
+
+                String name = startTag(false);
+
+                if ("TypeId".equals(name)) {
+                    typeId = parseTypeId();
+                    if (typeId == null) return null;
+                } else if ("Body".equals(name)) {
+                    body = parseBody();
+                    if (body == null) return null;
+                } else {
+                    return null;
+                }
+            }
+        }
+
+        return new ExtensionObject(body, typeId);
+    }
+
+    @Nullable
+    private NodeId parseTypeId() {
+        if (emptyElement) return NodeId.NULL_VALUE;
+
+        // The DOM-based decoder reads the first child, so it must be the Identifier element.
+        if (!"Identifier".equals(startTag(false))) return null;
+
+        String identifier = textContent("Identifier");
+        if (identifier == null) return null;
+
+        skipWhitespace();
+        if (!endTag("TypeId")) return null;
+
+        return NodeId.parseSafe(identifier).orElse(null);
+    }
+
+    /**
+     * Parse the first child of a Body element into an {@link XmlElement} identical to the one produced by serializing
+     * the equivalent DOM node, which is only possible when the child is written in the serializer's canonical form.
+     */
+    @Nullable
+    private XmlElement parseBody() {
+        if (emptyElement) return null;
+
+        int start = position;
+
+        String name = startTag(false);
+        if (name == null || !isCanonicalTag(start, name, emptyElement ? 3 : 2)) return null;
+
+        int nameEnd = start + 1 + name.length();
+
+        if (!skipCanonicalElement(name)) return null;
+
+        int end = position;
+
+        skipWhitespace();
+        if (!endTag("Body")) return null;
+
+        String fragment = "<" + name + " " + NAMESPACE_DECLARATION + xml.substring(nameEnd, end);
+
+        return new XmlElement(fragment);
+    }
+
+    /**
+     * Skip the content and end tag of an element whose start tag has just been read, succeeding only if the element
+     * and its descendants contain nothing but tags without whitespace or attributes and printable ASCII text that
+     * needs no escaping, and no element has a separate start and end tag without content between them.
+     */
+    private boolean skipCanonicalElement(String name) {
+        if (emptyElement) return true;
+
+        int contentStart = position;
+
+        while (true) {
+            while (position < xml.length() && xml.charAt(position) != '<') {
+                char c = xml.charAt(position++);
+
+                if (c == '&' || c == '>' || (c < 0x20 && c != '\n' && c != '\t') || c > 0x7E) {
+                    return false;
+                }
+            }
+            if (position == xml.length()) return false;
+
+            int tagStart = position;
+
+            if (xml.startsWith("</", position)) {
+                return position > contentStart && endTag(name) && isCanonicalTag(tagStart, name, 3);
+            }
+
+            String child = startTag(false);
+            if (child == null || !isCanonicalTag(tagStart, child, emptyElement ? 3 : 2)) return false;
+            if (!skipCanonicalElement(child)) return false;
+        }
+    }
+
+    private boolean isCanonicalTag(int tagStart, String name, int markupLength) {
+        return position - tagStart == name.length() + markupLength;
+    }
+
+    /**
+     * Read the text content and end tag of an element whose start tag has just been read.
+     *
+     * @return the text content, or {@code null} if the element has child elements or content this parser doesn't
+     *     handle.
+     */
+    @Nullable
+    private String textContent(String name) {
+        if (emptyElement) return "";
+
+        int start = position;
+        int end = xml.indexOf('<', start);
+        if (end < 0) return null;
+
+        position = end;
+        if (!endTag(name)) return null;
+
+        String text = xml.substring(start, end);
+
+        if (text.indexOf('\r') >= 0 || text.contains("]]>")) {
+            // line ending normalization and malformed content are left to the DOM-based decoder
+            return null;
+        }
+
+        return text.indexOf('&') >= 0 ? unescape(text) : text;
+    }
+
+    /**
+     * Read a start tag, returning its name, or {@code null} if there isn't one or it has attributes. The root
+     * element must, and only may, declare the OPC UA Types namespace as the default namespace.
+     */
+    @Nullable
+    private String startTag(boolean root) {
+        if (position >= xml.length() || xml.charAt(position) != '<') return null;
+
+        int nameStart = ++position;
+        while (position < xml.length() && isNameChar(xml.charAt(position))) {
+            position++;
+        }
+        if (position == nameStart) return null;
+
+        String name = xml.substring(nameStart, position);
+
+        if (root) {
+            int whitespaceStart = position;
+            skipWhitespace();
+
+            if (position == whitespaceStart || !xml.startsWith(NAMESPACE_DECLARATION, position)) return null;
+
+            position += NAMESPACE_DECLARATION.length();
+        }
+
+        skipWhitespace();
+
+        if (xml.startsWith("/>", position)) {
+            position += 2;
+            emptyElement = true;
+        } else if (xml.startsWith(">", position)) {
+            position += 1;
+            emptyElement = false;
+        } else {
+            return null;
+        }
+
+        return name;
+    }
+
+    private boolean endTag(String name) {
+        if (!xml.startsWith("</", position) || !xml.startsWith(name, position + 2)) return false;
+
+        int end = position + 2 + name.length();
+        while (end < xml.length() && isWhitespace(xml.charAt(end))) {
+            end++;
+        }
+        if (end >= xml.length() || xml.charAt(end) != '>') return false;
+
+        position = end + 1;
+
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (position < xml.length() && isWhitespace(xml.charAt(position))) {
+            position++;
+        }
+    }
+
+    @Nullable
+    private static String unescape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+
+            if (c != '&') {
+                sb.append(c);
+                i++;
+                continue;
+            }
+
+            int semicolon = text.indexOf(';', i);
+            if (semicolon < 0) return null;
+
+            String entity = text.substring(i + 1, semicolon);
+
+            switch (entity) {
+                case "lt":
+                    sb.append('<');
+                    break;
+                case "gt":
+                    sb.append('>');
+                    break;
+                case "amp":
+                    sb.append('&');
+                    break;
+                case "quot":
+                    sb.append('"');
+                    break;
+                case "apos":
+                    sb.append('\'');
+                    break;
+                default:
+                    if (entity.startsWith("#x")) {
+                        sb.appendCodePoint(Integer.parseInt(entity.substring(2), 16));
+                    } else if (entity.startsWith("#")) {
+                        sb.appendCodePoint(Integer.parseInt(entity.substring(1)));
+                    } else {
+                        return null;
+                    }
+            }
+
+            i = semicolon + 1;
+        }
+
+        return sb.toString();
+    }
+
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ||
+            c == '_' || c == '-' || c == '.';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\t' || c == '\r';
+    }
+
+    /**
+     * Get the class of the values of a supported built-in type, or {@code null} if the type isn't supported.
+     */
+    @Nullable
+    private static Class<?> elementClass(String type) {
+        switch (type) {
+            case "Boolean":
+                return Boolean.class;
+            case "SByte":
+                return Byte.class;
+            case "Int16":
+                return Short.class;
+            case "Int32":
+                return Integer.class;
+            case "Int64":
+                return Long.class;
+            case "Byte":
+                return UByte.class;
+            case "UInt16":
+                return UShort.class;
+            case "UInt32":
+                return UInteger.class;
+            case "UInt64":
+                return ULong.class;
+            case "Float":
+                return Float.class;
+            case "Double":
+                return Double.class;
+            case "String":
+                return String.class;
+            case "DateTime":
+                return DateTime.class;
+            case "Guid":
+                return UUID.class;
+            case "ByteString":
+                return ByteString.class;
+            case "LocalizedText":
+                return LocalizedText.class;
+            case "ExtensionObject":
+                return ExtensionObject.class;
+            default:
+                return null;
+        }
+    }
+
+}
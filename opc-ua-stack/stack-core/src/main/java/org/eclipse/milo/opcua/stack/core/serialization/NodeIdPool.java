@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * A fixed-size pool of decoded numeric and short String {@link NodeId}s, so that the ids decoded over and over from
+ * requests (e.g. the NodeIds of ReadValueIds) are shared instead of allocated each time.
+ * <p>
+ * The pool is direct-mapped: each id hashes to a single slot, and an id that doesn't match the {@link NodeId} in its
+ * slot replaces it. Slots are read and written without synchronization, which is safe because {@link NodeId} is
+ * immutable; a racing lookup at worst allocates a {@link NodeId} that an identical lookup already stored.
+ */
+final class NodeIdPool {
+
+    /**
+     * The pool shared by decoders with NodeId interning enabled.
+     */
+    static final NodeIdPool SHARED = new NodeIdPool(8192);
+
+    /**
+     * String identifiers longer than this are never pooled.
+     */
+    static final int MAX_STRING_LENGTH = 64;
+
+    /**
+     * Every NodeId that can be written in the two-byte encoding, i.e. namespace 0 and an identifier below 256.
+     */
+    private static final NodeId[] TWO_BYTE_NODE_IDS = new NodeId[256];
+
+    static {
+        for (int i = 0; i < TWO_BYTE_NODE_IDS.length; i++) {
+            TWO_BYTE_NODE_IDS[i] = new NodeId(UShort.MIN, uint(i));
+        }
+    }
+
+    private final NodeId[] slots;
+    private final int mask;
+
+    /**
+     * @param size the number of slots, rounded up to a power of two.
+     */
+    NodeIdPool(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+
+        slots = new NodeId[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Get the pre-allocated {@link NodeId} in namespace 0 with numeric identifier {@code identifier}.
+     *
+     * @param identifier an identifier between 0 and 255.
+     * @return the {@link NodeId} in namespace 0 with numeric identifier {@code identifier}.
+     */
+    static NodeId twoByte(int identifier) {
+        return TWO_BYTE_NODE_IDS[identifier];
+    }
+
+    /**
+     * Get a {@link NodeId} with a numeric identifier, from the pool if it holds one.
+     *
+     * @param namespaceIndex the namespace index.
+     * @param identifier     the identifier, as an unsigned 32-bit value.
+     * @return a {@link NodeId} with {@code namespaceIndex} and {@code identifier}.
+     */
+    NodeId numeric(int namespaceIndex, long identifier) {
+        int slot = spread(31 * namespaceIndex + Long.hashCode(identifier)) & mask;
+
+        NodeId nodeId = slots[slot];
+
+        if (nodeId != null &&
+            nodeId.getNamespaceIndex().intValue() == namespaceIndex &&
+            nodeId.getIdentifier() instanceof UInteger &&
+            ((UInteger) nodeId.getIdentifier()).longValue() == identifier) {
+
+            return nodeId;
+        }
+
+        nodeId = new NodeId(ushort(namespaceIndex), uint(identifier));
+        slots[slot] = nodeId;
+
+        return nodeId;
+    }
+
+    /**
+     * Get a {@link NodeId} with a String identifier, from the pool if it holds one.
+     *
+     * @param namespaceIndex the namespace index.
+     * @param identifier     the identifier; {@code null} is treated as the empty String, as by {@link NodeId}.
+     * @return a {@link NodeId} with {@code namespaceIndex} and {@code identifier}.
+     */
+    NodeId string(UShort namespaceIndex, String identifier) {
+        if (identifier == null || identifier.length() > MAX_STRING_LENGTH) {
+            return new NodeId(namespaceIndex, identifier);
+        }
+
+        int slot = spread(31 * namespaceIndex.intValue() + identifier.hashCode()) & mask;
+
+        NodeId nodeId = slots[slot];
+
+        if (nodeId != null &&
+            nodeId.getNamespaceIndex().equals(namespaceIndex) &&
+            identifier.equals(nodeId.getIdentifier())) {
+
+            return nodeId;
+        }
+
+        nodeId = new NodeId(namespaceIndex, identifier);
+        slots[slot] = nodeId;
+
+        return nodeId;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+}
@@ -54,6 +54,27 @@ import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.
 
 public class OpcUaBinaryStreamDecoder implements UaDecoder {
 
+    /**
+     * System property that, when set to {@code true}, makes new decoders decode Variant arrays of Boolean, SByte,
+     * Int16, Int32, Int64, Float, and Double as primitive arrays by default.
+     *
+     * @see #setPrimitiveArraysEnabled(boolean)
+     */
+    public static final String PRIMITIVE_ARRAYS_PROPERTY =
+        OpcUaBinaryStreamDecoder.class.getName() + ".primitiveArrays";
+
+    private static final boolean PRIMITIVE_ARRAYS_DEFAULT = getBooleanProperty(PRIMITIVE_ARRAYS_PROPERTY);
+
+    /**
+     * System property that, when set to {@code true}, enables NodeId interning for new decoders.
+     *
+     * @see #setNodeIdInterningEnabled(boolean)
+     */
+    public static final String INTERN_NODE_IDS_PROPERTY =
+        OpcUaBinaryStreamDecoder.class.getName() + ".internNodeIds";
+
+    private static final boolean INTERN_NODE_IDS_DEFAULT = getBooleanProperty(INTERN_NODE_IDS_PROPERTY);
+
     private static final Charset CHARSET_UTF8 = StandardCharsets.UTF_8;
     private static final Charset CHARSET_UTF16 = StandardCharsets.UTF_16;
 
@@ -64,6 +85,10 @@ public class OpcUaBinaryStreamDecoder implements UaDecoder {
 
     private final AtomicInteger depth = new AtomicInteger(0);
 
+    private boolean primitiveArraysEnabled = PRIMITIVE_ARRAYS_DEFAULT;
+
+    private NodeIdPool nodeIdPool = INTERN_NODE_IDS_DEFAULT ? NodeIdPool.SHARED : null;
+
     private final SerializationContext context;
 
     public OpcUaBinaryStreamDecoder(SerializationContext context) {
@@ -75,6 +100,46 @@ public class OpcUaBinaryStreamDecoder implements UaDecoder {
         return this;
     }
 
+    /**
+     * Set whether Variant arrays of Boolean, SByte, Int16, Int32, Int64, Float, and Double are decoded as primitive
+     * arrays (e.g. {@code double[]}) instead of boxed arrays (e.g. {@code Double[]}).
+     * <p>
+     * Primitive arrays are read in bulk and avoid allocating an object per element, but code that expects the boxed
+     * array types must be prepared for them before enabling this.
+     *
+     * @param primitiveArraysEnabled {@code true} to decode Variant arrays as primitive arrays.
+     * @return this {@link OpcUaBinaryStreamDecoder}.
+     * @see #PRIMITIVE_ARRAYS_PROPERTY
+     */
+    public OpcUaBinaryStreamDecoder setPrimitiveArraysEnabled(boolean primitiveArraysEnabled) {
+        this.primitiveArraysEnabled = primitiveArraysEnabled;
+        return this;
+    }
+
+    public boolean isPrimitiveArraysEnabled() {
+        return primitiveArraysEnabled;
+    }
+
+    /**
+     * Set whether NodeIds with numeric identifiers, or String identifiers of up to 64 characters, are taken from a
+     * pool shared by all decoders instead of being allocated each time one is decoded.
+     * <p>
+     * Interning reduces allocation when the same NodeIds are decoded repeatedly, e.g. by servers handling many Read or
+     * Publish requests for the same Nodes. NodeIds in namespace 0 with identifiers below 256 are always shared.
+     *
+     * @param nodeIdInterningEnabled {@code true} to intern decoded NodeIds.
+     * @return this {@link OpcUaBinaryStreamDecoder}.
+     * @see #INTERN_NODE_IDS_PROPERTY
+     */
+    public OpcUaBinaryStreamDecoder setNodeIdInterningEnabled(boolean nodeIdInterningEnabled) {
+        this.nodeIdPool = nodeIdInterningEnabled ? NodeIdPool.SHARED : null;
+        return this;
+    }
+
+    public boolean isNodeIdInterningEnabled() {
+        return nodeIdPool != null;
+    }
+
     public <T> T[] readArray(Supplier<T> read, Class<T> clazz) throws UaSerializationException {
         int length = readInt32();
 
@@ -220,10 +285,10 @@ public class OpcUaBinaryStreamDecoder implements UaDecoder {
 
         Variant value = ((mask & 0x01) != 0) ? readVariant() : Variant.NULL_VALUE;
         StatusCode status = ((mask & 0x02) != 0) ? readStatusCode() : StatusCode.GOOD;
-        DateTime sourceTime = ((mask & 0x04) != 0) ? readDateTime() : DateTime.MIN_VALUE;
-        UShort sourcePicoseconds = ((mask & 0x10) != 0) ? readUInt16() : null;
-        DateTime serverTime = ((mask & 0x08) != 0) ? readDateTime() : DateTime.MIN_VALUE;
-        UShort serverPicoseconds = ((mask & 0x20) != 0) ? readUInt16() : null;
+        long sourceTime = ((mask & 0x04) != 0) ? buffer.readLongLE() : 0L;
+        int sourcePicoseconds = ((mask & 0x10) != 0) ? buffer.readUnsignedShortLE() : -1;
+        long serverTime = ((mask & 0x08) != 0) ? buffer.readLongLE() : 0L;
+        int serverPicoseconds = ((mask & 0x20) != 0) ? buffer.readUnsignedShortLE() : -1;
 
         return new DataValue(value, status, sourceTime, sourcePicoseconds, serverTime, serverPicoseconds);
     }
@@ -329,16 +394,31 @@ public class OpcUaBinaryStreamDecoder implements UaDecoder {
 
         if (format == 0x00) {
             /* Two-byte format */
-            return new NodeId(UShort.MIN, uint(buffer.readUnsignedByte()));
+            return NodeIdPool.twoByte(buffer.readUnsignedByte());
         } else if (format == 0x01) {
             /* Four-byte format */
-            return new NodeId(ushort(buffer.readUnsignedByte()), uint(buffer.readUnsignedShortLE()));
+            int namespaceIndex = buffer.readUnsignedByte();
+            int identifier = buffer.readUnsignedShortLE();
+
+            return nodeIdPool != null ?
+                nodeIdPool.numeric(namespaceIndex, identifier) :
+                new NodeId(ushort(namespaceIndex), uint(identifier));
         } else if (format == 0x02) {
             /* Numeric format */
-            return new NodeId(readUInt16(), readUInt32());
+            int namespaceIndex = buffer.readUnsignedShortLE();
+            long identifier = buffer.readUnsignedIntLE();
+
+            return nodeIdPool != null ?
+                nodeIdPool.numeric(namespaceIndex, identifier) :
+                new NodeId(ushort(namespaceIndex), uint(identifier));
         } else if (format == 0x03) {
             /* String format */
-            return new NodeId(readUInt16(), readString());
+            UShort namespaceIndex = readUInt16();
+            String identifier = readString();
+
+            return nodeIdPool != null ?
+                nodeIdPool.string(namespaceIndex, identifier) :
+                new NodeId(namespaceIndex, identifier);
         } else if (format == 0x04) {
             /* Guid format */
             return new NodeId(readUInt16(), readGuid());
@@ -399,12 +479,17 @@ public class OpcUaBinaryStreamDecoder implements UaDecoder {
                     } else {
                         checkArrayLength(length);
 
-                        Object flatArray = Array.newInstance(backingClass, length);
+                        Object flatArray = primitiveArraysEnabled ?
+                            PrimitiveArrays.read(buffer, typeId, length) : null;
 
-                        for (int i = 0; i < length; i++) {
-                            Object element = decodeBuiltinType(typeId);
+                        if (flatArray == null) {
+                            flatArray = Array.newInstance(backingClass, length);
 
-                            Array.set(flatArray, i, element);
+                            for (int i = 0; i < length; i++) {
+                                Object element = decodeBuiltinType(typeId);
+
+                                Array.set(flatArray, i, element);
+                            }
                         }
 
                         int[] dimensions = dimensionsEncoded ? decodeDimensions() : new int[]{length};
@@ -423,6 +508,20 @@ public class OpcUaBinaryStreamDecoder implements UaDecoder {
         }
     }
 
+    /**
+     * Read a boolean system property.
+     *
+     * @param property the name of the property.
+     * @return {@code true} if the property is set to {@code true}.
+     */
+    private static boolean getBooleanProperty(String property) {
+        try {
+            return Boolean.parseBoolean(System.getProperty(property));
+        } catch (SecurityException e) {
+            return false;
+        }
+    }
+
     @Nullable
     private String readLengthPrefixedString(Charset charset) {
         int length = readInt32();
@@ -41,8 +41,7 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
 import org.eclipse.milo.opcua.stack.core.types.enumerated.IdType;
 import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
-import org.eclipse.milo.opcua.stack.core.util.TypeUtil;
-import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.LoggerFactory;
 
 public class OpcUaBinaryStreamEncoder implements UaEncoder {
@@ -292,27 +291,19 @@ public class OpcUaBinaryStreamEncoder implements UaEncoder {
                 mask |= 0x02;
             }
 
-            if (value.getSourceTime() != null &&
-                !DateTime.MIN_VALUE.equals(value.getSourceTime())) {
-
+            if (DataValue.isEncodedUtcTime(value.getSourceUtcTime())) {
                 mask |= 0x04;
             }
 
-            if (value.getServerTime() != null &&
-                !DateTime.MIN_VALUE.equals(value.getServerTime())) {
-
+            if (DataValue.isEncodedUtcTime(value.getServerUtcTime())) {
                 mask |= 0x08;
             }
 
-            if (value.getSourcePicoseconds() != null &&
-                value.getSourcePicoseconds().intValue() != 0) {
-
+            if (value.getSourcePicosecondsValue() != 0) {
                 mask |= 0x10;
             }
 
-            if (value.getServerPicoseconds() != null &&
-                value.getServerPicoseconds().intValue() != 0) {
-
+            if (value.getServerPicosecondsValue() != 0) {
                 mask |= 0x20;
             }
 
@@ -330,18 +321,18 @@ public class OpcUaBinaryStreamEncoder implements UaEncoder {
 
             // SourceTimestamp and SourcePicoseconds
             if ((mask & 0x04) == 0x04) {
-                writeDateTime(value.getSourceTime());
+                buffer.writeLongLE(value.getSourceUtcTime());
             }
             if ((mask & 0x10) == 0x10) {
-                writeUInt16(value.getSourcePicoseconds());
+                buffer.writeShortLE(value.getSourcePicosecondsValue());
             }
 
             // ServerTimestamp and ServerPicoseconds
             if ((mask & 0x08) == 0x08) {
-                writeDateTime(value.getServerTime());
+                buffer.writeLongLE(value.getServerUtcTime());
             }
             if ((mask & 0x20) == 0x20) {
-                writeUInt16(value.getServerPicoseconds());
+                buffer.writeShortLE(value.getServerPicosecondsValue());
             }
         }
     }
@@ -580,171 +571,64 @@ public class OpcUaBinaryStreamEncoder implements UaEncoder {
         if (value == null) {
             buffer.writeByte(0);
         } else {
-            boolean structure = false;
-            boolean enumeration = false;
-            Class<?> valueClass = getClass(value);
-
-            if (UaStructure.class.isAssignableFrom(valueClass)) {
-                valueClass = ExtensionObject.class;
-                structure = true;
-            } else if (UaEnumeration.class.isAssignableFrom(valueClass)) {
-                valueClass = Integer.class;
-                enumeration = true;
-            }
+            VariantEncodingDispatch.Entry entry = VariantEncodingDispatch.get(value.getClass());
 
-            int typeId = TypeUtil.getBuiltinTypeId(valueClass);
+            int typeId = entry.typeId;
 
             if (typeId == -1) {
                 LoggerFactory.getLogger(getClass())
-                    .warn("Not a built-in type: {}", valueClass);
+                    .warn("Not a built-in type: {}", entry.elementClass);
             }
 
-            if (value.getClass().isArray()) {
-                int[] dimensions = ArrayUtil.getDimensions(value);
-
-                if (dimensions.length == 1) {
-                    buffer.writeByte(typeId | 0x80);
+            if (entry.dimensions == 0) {
+                buffer.writeByte(typeId);
 
-                    int length = Array.getLength(value);
-                    buffer.writeIntLE(length);
+                entry.writer.write(this, value);
+            } else if (entry.dimensions == 1) {
+                buffer.writeByte(typeId | 0x80);
 
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(value, i);
+                if (entry.primitiveArray) {
+                    buffer.writeIntLE(Array.getLength(value));
 
-                        writeValue(o, typeId, structure, enumeration);
-                    }
+                    PrimitiveArrays.write(buffer, value);
                 } else {
-                    buffer.writeByte(typeId | 0xC0);
-
-                    Object flattened = ArrayUtil.flatten(value);
-                    int length = Array.getLength(flattened);
-                    buffer.writeIntLE(length);
-
-                    for (int i = 0; i < length; i++) {
-                        Object o = Array.get(flattened, i);
+                    Object[] array = (Object[]) value;
+                    buffer.writeIntLE(array.length);
 
-                        writeValue(o, typeId, structure, enumeration);
-                    }
-
-                    writeInt32(dimensions.length);
-                    for (int dimension : dimensions) {
-                        writeInt32(dimension);
+                    for (Object o : array) {
+                        entry.writer.write(this, o);
                     }
                 }
             } else {
-                buffer.writeByte(typeId);
+                int[] dimensions = ArrayUtil.getDimensions(value);
 
-                writeValue(value, typeId, structure, enumeration);
-            }
-        }
-    }
+                buffer.writeByte(typeId | 0xC0);
 
-    // endregion
+                Object flattened = ArrayUtil.flatten(value);
+                int length = Array.getLength(flattened);
+                buffer.writeIntLE(length);
 
-    private void writeValue(Object value, int typeId, boolean structure, boolean enumeration) {
-        if (structure) {
-            UaStructure struct = (UaStructure) value;
+                for (int i = 0; i < length; i++) {
+                    Object o = Array.get(flattened, i);
 
-            ExtensionObject extensionObject = ExtensionObject.encode(context, struct);
+                    entry.writer.write(this, o);
+                }
 
-            writeBuiltinType(typeId, extensionObject);
-        } else if (enumeration) {
-            writeBuiltinType(typeId, ((UaEnumeration) value).getValue());
-        } else {
-            writeBuiltinType(typeId, value);
+                writeInt32(dimensions.length);
+                for (int dimension : dimensions) {
+                    writeInt32(dimension);
+                }
+            }
         }
     }
 
-    private void writeBuiltinType(int typeId, Object value) throws UaSerializationException {
-        switch (typeId) {
-            case 1:
-                writeBoolean(null, (Boolean) value);
-                break;
-            case 2:
-                writeSByte((Byte) value);
-                break;
-            case 3:
-                writeByte((UByte) value);
-                break;
-            case 4:
-                writeInt16((Short) value);
-                break;
-            case 5:
-                writeUInt16((UShort) value);
-                break;
-            case 6:
-                writeInt32((Integer) value);
-                break;
-            case 7:
-                writeUInt32((UInteger) value);
-                break;
-            case 8:
-                writeInt64((Long) value);
-                break;
-            case 9:
-                writeUInt64((ULong) value);
-                break;
-            case 10:
-                writeFloat((Float) value);
-                break;
-            case 11:
-                writeDouble((Double) value);
-                break;
-            case 12:
-                writeString((String) value);
-                break;
-            case 13:
-                writeDateTime((DateTime) value);
-                break;
-            case 14:
-                writeGuid((UUID) value);
-                break;
-            case 15:
-                writeByteString((ByteString) value);
-                break;
-            case 16:
-                writeXmlElement((XmlElement) value);
-                break;
-            case 17:
-                writeNodeId((NodeId) value);
-                break;
-            case 18:
-                writeExpandedNodeId((ExpandedNodeId) value);
-                break;
-            case 19:
-                writeStatusCode((StatusCode) value);
-                break;
-            case 20:
-                writeQualifiedName((QualifiedName) value);
-                break;
-            case 21:
-                writeLocalizedText((LocalizedText) value);
-                break;
-            case 22:
-                writeExtensionObject((ExtensionObject) value);
-                break;
-            case 23:
-                writeDataValue((DataValue) value);
-                break;
-            case 24:
-                writeVariant((Variant) value);
-                break;
-            case 25:
-                writeDiagnosticInfo((DiagnosticInfo) value);
-                break;
-            default:
-                throw new UaSerializationException(
-                    StatusCodes.Bad_EncodingError,
-                    "unknown builtin type: " + typeId);
-        }
-    }
+    // endregion
 
-    private Class<?> getClass(@NotNull Object o) {
-        if (o.getClass().isArray()) {
-            return ArrayUtil.getType(o);
-        } else {
-            return o.getClass();
-        }
+    /**
+     * Encode {@code structure} as an {@link ExtensionObject} and write it.
+     */
+    void writeStructureAsExtensionObject(UaStructure structure) throws UaSerializationException {
+        writeExtensionObject(ExtensionObject.encode(context, structure));
     }
 
     private void writeLengthPrefixedString(String value, Charset charset) throws UaSerializationException {
@@ -1085,6 +969,63 @@ public class OpcUaBinaryStreamEncoder implements UaEncoder {
         writeArray(field, value, this::writeDataValue);
     }
 
+    /**
+     * Write an array of Int32 values without boxing.
+     *
+     * @param field the name of the field being written.
+     * @param value the values to write, or {@code null}.
+     */
+    public void writeInt32Array(String field, int[] value) throws UaSerializationException {
+        writePrimitiveArray(value, value != null ? value.length : -1);
+    }
+
+    /**
+     * Write an array of Int64 values without boxing.
+     *
+     * @param field the name of the field being written.
+     * @param value the values to write, or {@code null}.
+     */
+    public void writeInt64Array(String field, long[] value) throws UaSerializationException {
+        writePrimitiveArray(value, value != null ? value.length : -1);
+    }
+
+    /**
+     * Write an array of Float values without boxing.
+     *
+     * @param field the name of the field being written.
+     * @param value the values to write, or {@code null}.
+     */
+    public void writeFloatArray(String field, float[] value) throws UaSerializationException {
+        writePrimitiveArray(value, value != null ? value.length : -1);
+    }
+
+    /**
+     * Write an array of Double values without boxing.
+     *
+     * @param field the name of the field being written.
+     * @param value the values to write, or {@code null}.
+     */
+    public void writeDoubleArray(String field, double[] value) throws UaSerializationException {
+        writePrimitiveArray(value, value != null ? value.length : -1);
+    }
+
+    private void writePrimitiveArray(@Nullable Object array, int length) throws UaSerializationException {
+        if (array == null) {
+            buffer.writeIntLE(-1);
+        } else {
+            if (length > context.getEncodingLimits().getMaxMessageSize()) {
+                throw new UaSerializationException(
+                    StatusCodes.Bad_EncodingLimitsExceeded,
+                    "array length exceeds max message size"
+                );
+            }
+
+            buffer.writeIntLE(length);
+
+            PrimitiveArrays.write(buffer, array);
+        }
+    }
+
     @Override
     public void writeVariantArray(String field, Variant[] value) throws UaSerializationException {
         writeArray(field, value, this::writeVariant);
@@ -0,0 +1,1367 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import io.netty.buffer.ByteBuf;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.DataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.GenericDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDefaultBinaryEncoding;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
+import org.eclipse.milo.opcua.stack.core.util.TypeUtil;
+import org.jetbrains.annotations.Nullable;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
+/**
+ * Reads the reversible form of the OPC UA JSON encoding (Part 6, section 5.4) directly from a {@link ByteBuf},
+ * without building an intermediate document.
+ * <p>
+ * The decoder reads forward only. Object members are expected in the order the type's codec reads them, which is the
+ * order {@link OpcUaJsonStreamEncoder} writes them in; a member that isn't found ahead of the current position is
+ * treated as omitted and read as {@code null}, and members that aren't read are skipped.
+ */
+public class OpcUaJsonStreamDecoder implements UaDecoder {
+
+    private static final long DATE_TIME_MIN_EPOCH_SECOND = -11644473600L; // 1601-01-01T00:00:00Z
+
+    /**
+     * {@code objectScope[depth]} is {@code true} if the value being read at {@code depth} is an object member,
+     * {@code false} if it's an array element. Depth 0 is the top level.
+     */
+    private boolean[] objectScope = new boolean[16];
+
+    /**
+     * {@code nonEmpty[depth]} is {@code true} once a member or element of the object or array at {@code depth} has
+     * been read.
+     */
+    private boolean[] nonEmpty = new boolean[16];
+
+    private int depth = 0;
+
+    private ByteBuf buffer;
+
+    private final SerializationContext context;
+
+    public OpcUaJsonStreamDecoder(SerializationContext context) {
+        this.context = context;
+    }
+
+    public OpcUaJsonStreamDecoder setBuffer(ByteBuf buffer) {
+        this.buffer = buffer;
+        this.depth = 0;
+        return this;
+    }
+
+    @Override
+    public Boolean readBoolean(String field) throws UaSerializationException {
+        return seekValue(field) ? parseBoolean() : null;
+    }
+
+    @Override
+    public Byte readSByte(String field) throws UaSerializationException {
+        return seekValue(field) ? (byte) parseInteger(Byte.MIN_VALUE, Byte.MAX_VALUE) : null;
+    }
+
+    @Override
+    public Short readInt16(String field) throws UaSerializationException {
+        return seekValue(field) ? (short) parseInteger(Short.MIN_VALUE, Short.MAX_VALUE) : null;
+    }
+
+    @Override
+    public Integer readInt32(String field) throws UaSerializationException {
+        return seekValue(field) ? (int) parseInteger(Integer.MIN_VALUE, Integer.MAX_VALUE) : null;
+    }
+
+    @Override
+    public Long readInt64(String field) throws UaSerializationException {
+        return seekValue(field) ? parseInteger(Long.MIN_VALUE, Long.MAX_VALUE) : null;
+    }
+
+    @Override
+    public UByte readByte(String field) throws UaSerializationException {
+        return seekValue(field) ? ubyte(parseInteger(0, UByte.MAX_VALUE)) : null;
+    }
+
+    @Override
+    public UShort readUInt16(String field) throws UaSerializationException {
+        return seekValue(field) ? ushort((int) parseInteger(0, UShort.MAX_VALUE)) : null;
+    }
+
+    @Override
+    public UInteger readUInt32(String field) throws UaSerializationException {
+        return seekValue(field) ? uint(parseInteger(0, UInteger.MAX_VALUE)) : null;
+    }
+
+    @Override
+    public ULong readUInt64(String field) throws UaSerializationException {
+        return seekValue(field) ? parseUInt64() : null;
+    }
+
+    @Override
+    public Float readFloat(String field) throws UaSerializationException {
+        return seekValue(field) ? (float) parseDouble() : null;
+    }
+
+    @Override
+    public Double readDouble(String field) throws UaSerializationException {
+        return seekValue(field) ? parseDouble() : null;
+    }
+
+    @Override
+    public String readString(String field) throws UaSerializationException {
+        return seekValue(field) ? parseString() : null;
+    }
+
+    @Override
+    public DateTime readDateTime(String field) throws UaSerializationException {
+        return seekValue(field) ? parseDateTime() : null;
+    }
+
+    @Override
+    public UUID readGuid(String field) throws UaSerializationException {
+        return seekValue(field) ? parseGuid() : null;
+    }
+
+    @Override
+    public ByteString readByteString(String field) throws UaSerializationException {
+        return seekValue(field) ? parseByteString() : ByteString.NULL_VALUE;
+    }
+
+    @Override
+    public XmlElement readXmlElement(String field) throws UaSerializationException {
+        return seekValue(field) ? new XmlElement(parseString()) : new XmlElement(null);
+    }
+
+    @Override
+    public NodeId readNodeId(String field) throws UaSerializationException {
+        return seekValue(field) ? parseNodeId() : null;
+    }
+
+    @Override
+    public ExpandedNodeId readExpandedNodeId(String field) throws UaSerializationException {
+        return seekValue(field) ? parseExpandedNodeId() : null;
+    }
+
+    @Override
+    public StatusCode readStatusCode(String field) throws UaSerializationException {
+        return seekValue(field) ? parseStatusCode() : null;
+    }
+
+    @Override
+    public QualifiedName readQualifiedName(String field) throws UaSerializationException {
+        return seekValue(field) ? parseQualifiedName() : null;
+    }
+
+    @Override
+    public LocalizedText readLocalizedText(String field) throws UaSerializationException {
+        return seekValue(field) ? parseLocalizedText() : null;
+    }
+
+    @Override
+    public ExtensionObject readExtensionObject(String field) throws UaSerializationException {
+        return seekValue(field) ? parseExtensionObject() : null;
+    }
+
+    @Override
+    public DataValue readDataValue(String field) throws UaSerializationException {
+        return seekValue(field) ? parseDataValue() : null;
+    }
+
+    @Override
+    public Variant readVariant(String field) throws UaSerializationException {
+        return seekValue(field) ? parseVariant() : Variant.NULL_VALUE;
+    }
+
+    @Override
+    public DiagnosticInfo readDiagnosticInfo(String field) throws UaSerializationException {
+        return seekValue(field) ? parseDiagnosticInfo() : null;
+    }
+
+    /**
+     * Read a message written by {@link OpcUaJsonStreamEncoder#writeMessage(String, UaMessage)}.
+     */
+    @Override
+    public UaMessage readMessage(String field) throws UaSerializationException {
+        if (!seekValue(field)) return null;
+
+        beginObject();
+        NodeId dataTypeId = readNodeId("TypeId");
+
+        if (dataTypeId == null) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "message TypeId missing");
+        }
+
+        Object message = readStruct("Body", dataTypeId);
+        endObject();
+
+        if (message instanceof UaMessage) {
+            return (UaMessage) message;
+        } else {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "not a message: " + dataTypeId);
+        }
+    }
+
+    @Override
+    public <T extends Enum<?> & UaEnumeration> T readEnum(
+        String field,
+        Class<T> enumType
+    ) throws UaSerializationException {
+
+        return seekValue(field) ? parseEnum(enumType) : null;
+    }
+
+    @Override
+    public Object readStruct(String field, NodeId dataTypeId) throws UaSerializationException {
+        return readStruct(field, getCodec(dataTypeId));
+    }
+
+    @Override
+    public Object readStruct(String field, ExpandedNodeId dataTypeId) throws UaSerializationException {
+        return readStruct(field, toNodeId(dataTypeId));
+    }
+
+    @Override
+    public Object readStruct(String field, DataTypeCodec codec) throws UaSerializationException {
+        GenericDataTypeCodec<?> genericCodec = GenericDataTypeCodec.unwrap(codec);
+
+        if (genericCodec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                new IllegalArgumentException("codec: " + codec)
+            );
+        }
+
+        return seekValue(field) ? parseStruct(genericCodec) : null;
+    }
+
+    @Override
+    public Boolean[] readBooleanArray(String field) throws UaSerializationException {
+        return readArray(field, this::readBoolean, Boolean.class);
+    }
+
+    @Override
+    public Byte[] readSByteArray(String field) throws UaSerializationException {
+        return readArray(field, this::readSByte, Byte.class);
+    }
+
+    @Override
+    public Short[] readInt16Array(String field) throws UaSerializationException {
+        return readArray(field, this::readInt16, Short.class);
+    }
+
+    @Override
+    public Integer[] readInt32Array(String field) throws UaSerializationException {
+        return readArray(field, this::readInt32, Integer.class);
+    }
+
+    @Override
+    public Long[] readInt64Array(String field) throws UaSerializationException {
+        return readArray(field, this::readInt64, Long.class);
+    }
+
+    @Override
+    public UByte[] readByteArray(String field) throws UaSerializationException {
+        return readArray(field, this::readByte, UByte.class);
+    }
+
+    @Override
+    public UShort[] readUInt16Array(String field) throws UaSerializationException {
+        return readArray(field, this::readUInt16, UShort.class);
+    }
+
+    @Override
+    public UInteger[] readUInt32Array(String field) throws UaSerializationException {
+        return readArray(field, this::readUInt32, UInteger.class);
+    }
+
+    @Override
+    public ULong[] readUInt64Array(String field) throws UaSerializationException {
+        return readArray(field, this::readUInt64, ULong.class);
+    }
+
+    @Override
+    public Float[] readFloatArray(String field) throws UaSerializationException {
+        return readArray(field, this::readFloat, Float.class);
+    }
+
+    @Override
+    public Double[] readDoubleArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDouble, Double.class);
+    }
+
+    @Override
+    public String[] readStringArray(String field) throws UaSerializationException {
+        return readArray(field, this::readString, String.class);
+    }
+
+    @Override
+    public DateTime[] readDateTimeArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDateTime, DateTime.class);
+    }
+
+    @Override
+    public UUID[] readGuidArray(String field) throws UaSerializationException {
+        return readArray(field, this::readGuid, UUID.class);
+    }
+
+    @Override
+    public ByteString[] readByteStringArray(String field) throws UaSerializationException {
+        return readArray(field, this::readByteString, ByteString.class);
+    }
+
+    @Override
+    public XmlElement[] readXmlElementArray(String field) throws UaSerializationException {
+        return readArray(field, this::readXmlElement, XmlElement.class);
+    }
+
+    @Override
+    public NodeId[] readNodeIdArray(String field) throws UaSerializationException {
+        return readArray(field, this::readNodeId, NodeId.class);
+    }
+
+    @Override
+    public ExpandedNodeId[] readExpandedNodeIdArray(String field) throws UaSerializationException {
+        return readArray(field, this::readExpandedNodeId, ExpandedNodeId.class);
+    }
+
+    @Override
+    public StatusCode[] readStatusCodeArray(String field) throws UaSerializationException {
+        return readArray(field, this::readStatusCode, StatusCode.class);
+    }
+
+    @Override
+    public QualifiedName[] readQualifiedNameArray(String field) throws UaSerializationException {
+        return readArray(field, this::readQualifiedName, QualifiedName.class);
+    }
+
+    @Override
+    public LocalizedText[] readLocalizedTextArray(String field) throws UaSerializationException {
+        return readArray(field, this::readLocalizedText, LocalizedText.class);
+    }
+
+    @Override
+    public ExtensionObject[] readExtensionObjectArray(String field) throws UaSerializationException {
+        return readArray(field, this::readExtensionObject, ExtensionObject.class);
+    }
+
+    @Override
+    public DataValue[] readDataValueArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDataValue, DataValue.class);
+    }
+
+    @Override
+    public Variant[] readVariantArray(String field) throws UaSerializationException {
+        return readArray(field, this::readVariant, Variant.class);
+    }
+
+    @Override
+    public DiagnosticInfo[] readDiagnosticInfoArray(String field) throws UaSerializationException {
+        return readArray(field, this::readDiagnosticInfo, DiagnosticInfo.class);
+    }
+
+    @Override
+    public <T extends Enum<?> & UaEnumeration> Object[] readEnumArray(
+        String field,
+        Class<T> enumType
+    ) throws UaSerializationException {
+
+        return readArray(field, f -> readEnum(f, enumType), enumType);
+    }
+
+    @Override
+    public Object[] readStructArray(String field, NodeId dataTypeId) throws UaSerializationException {
+        DataTypeCodec codec = getCodec(dataTypeId);
+
+        return readArray(field, f -> readStruct(f, codec), Object.class);
+    }
+
+    @Override
+    public Object[] readStructArray(String field, ExpandedNodeId dataTypeId) throws UaSerializationException {
+        return readStructArray(field, toNodeId(dataTypeId));
+    }
+
+    @Override
+    public <T> T[] readArray(
+        String field,
+        Function<String, T> decoder,
+        Class<T> clazz
+    ) throws UaSerializationException {
+
+        if (!seekValue(field)) return null;
+
+        List<T> values = new ArrayList<>();
+
+        beginArray();
+        while (hasNextElement()) {
+            checkArrayLength(values.size() + 1);
+
+            values.add(decoder.apply(field));
+        }
+        endArray();
+
+        @SuppressWarnings("unchecked")
+        T[] array = (T[]) Array.newInstance(clazz, values.size());
+
+        return values.toArray(array);
+    }
+
+    private boolean parseBoolean() throws UaSerializationException {
+        if (peek() == 't') {
+            expectLiteral("true");
+            return true;
+        } else {
+            expectLiteral("false");
+            return false;
+        }
+    }
+
+    /**
+     * Parse an integer in the range [{@code min}, {@code max}]; it may be quoted, as Int64 and UInt64 values are.
+     */
+    private long parseInteger(long min, long max) throws UaSerializationException {
+        boolean quoted = peek() == '"';
+        if (quoted) buffer.skipBytes(1);
+
+        int start = buffer.readerIndex();
+        boolean negative = buffer.isReadable() && buffer.getByte(start) == '-';
+        if (negative) buffer.skipBytes(1);
+
+        long value = 0;
+        int digitCount = 0;
+
+        while (buffer.isReadable()) {
+            int b = buffer.getByte(buffer.readerIndex());
+            if (b < '0' || b > '9') break;
+
+            value = value * 10 + (b - '0');
+            digitCount++;
+            buffer.skipBytes(1);
+        }
+
+        if (digitCount == 0 || digitCount > 18 || isNumberContinuation()) {
+            // not a plain integer, or one that may have overflowed; take the slow path
+            buffer.readerIndex(start);
+            String token = readNumberToken();
+            try {
+                value = new BigDecimal(token).longValueExact();
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid integer: " + token);
+            }
+        } else if (negative) {
+            value = -value;
+        }
+
+        if (quoted) expect('"');
+
+        if (value < min || value > max) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                String.format("integer out of range (value=%s, min=%s, max=%s)", value, min, max)
+            );
+        }
+
+        return value;
+    }
+
+    private ULong parseUInt64() throws UaSerializationException {
+        boolean quoted = peek() == '"';
+        if (quoted) buffer.skipBytes(1);
+
+        String token = readNumberToken();
+
+        if (quoted) expect('"');
+
+        try {
+            return ULong.valueOf(token);
+        } catch (NumberFormatException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid UInt64: " + token);
+        }
+    }
+
+    private double parseDouble() throws UaSerializationException {
+        if (peek() == '"') {
+            String value = parseString();
+            switch (value) {
+                case "NaN":
+                    return Double.NaN;
+                case "Infinity":
+                    return Double.POSITIVE_INFINITY;
+                case "-Infinity":
+                    return Double.NEGATIVE_INFINITY;
+                default:
+                    try {
+                        return Double.parseDouble(value);
+                    } catch (NumberFormatException e) {
+                        throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid number: " + value);
+                    }
+            }
+        } else {
+            String token = readNumberToken();
+            try {
+                return Double.parseDouble(token);
+            } catch (NumberFormatException e) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid number: " + token);
+            }
+        }
+    }
+
+    private DateTime parseDateTime() throws UaSerializationException {
+        String value = parseString();
+
+        try {
+            Instant instant = Instant.parse(value);
+
+            if (instant.getEpochSecond() <= DATE_TIME_MIN_EPOCH_SECOND) {
+                return DateTime.MIN_VALUE;
+            } else {
+                return new DateTime(instant);
+            }
+        } catch (DateTimeParseException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    private UUID parseGuid() throws UaSerializationException {
+        String value = parseString();
+
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    private ByteString parseByteString() throws UaSerializationException {
+        String value = parseString();
+
+        try {
+            return new ByteString(Base64.getDecoder().decode(value));
+        } catch (IllegalArgumentException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    private NodeId parseNodeId() throws UaSerializationException {
+        beginObject();
+        int idType = readIdType();
+        Object identifier = readIdentifier(idType);
+        Object namespace = readNamespace("Namespace");
+        endObject();
+
+        int namespaceIndex;
+
+        if (namespace instanceof String) {
+            UShort index = context.getNamespaceTable().getIndex((String) namespace);
+
+            if (index == null) {
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "namespace not registered: " + namespace);
+            }
+
+            namespaceIndex = index.intValue();
+        } else {
+            namespaceIndex = namespace != null ? (Integer) namespace : 0;
+        }
+
+        switch (idType) {
+            case 1:
+                return new NodeId(namespaceIndex, (String) identifier);
+            case 2:
+                return new NodeId(namespaceIndex, (UUID) identifier);
+            case 3:
+                return new NodeId(namespaceIndex, (ByteString) identifier);
+            default:
+                return new NodeId(namespaceIndex, (UInteger) identifier);
+        }
+    }
+
+    private ExpandedNodeId parseExpandedNodeId() throws UaSerializationException {
+        beginObject();
+        int idType = readIdType();
+        Object identifier = readIdentifier(idType);
+        Object namespace = readNamespace("Namespace");
+        Object serverUri = readNamespace("ServerUri");
+        endObject();
+
+        if (serverUri instanceof String) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "server not registered: " + serverUri);
+        }
+
+        UShort namespaceIndex = namespace instanceof Integer ? ushort((Integer) namespace) : UShort.MIN;
+        String namespaceUri = namespace instanceof String ? (String) namespace : null;
+        UInteger serverIndex = serverUri != null ? uint((Integer) serverUri) : UInteger.MIN;
+
+        return new ExpandedNodeId(namespaceIndex, namespaceUri, identifier, serverIndex);
+    }
+
+    private int readIdType() throws UaSerializationException {
+        Integer idType = readInt32("IdType");
+
+        if (idType == null) {
+            return 0;
+        } else if (idType < 0 || idType > 3) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid IdType: " + idType);
+        } else {
+            return idType;
+        }
+    }
+
+    private Object readIdentifier(int idType) throws UaSerializationException {
+        switch (idType) {
+            case 1: {
+                String id = readString("Id");
+                return id != null ? id : "";
+            }
+            case 2: {
+                UUID id = readGuid("Id");
+                return id != null ? id : new UUID(0L, 0L);
+            }
+            case 3:
+                return readByteString("Id");
+            default: {
+                UInteger id = readUInt32("Id");
+                return id != null ? id : UInteger.MIN;
+            }
+        }
+    }
+
+    /**
+     * Read a namespace or server, which is either an Integer index or a String URI.
+     */
+    @Nullable
+    private Object readNamespace(String field) throws UaSerializationException {
+        if (!seekValue(field)) {
+            return null;
+        } else if (peek() == '"') {
+            return parseString();
+        } else {
+            return (int) parseInteger(0, UInteger.MAX_VALUE);
+        }
+    }
+
+    private StatusCode parseStatusCode() throws UaSerializationException {
+        if (peek() == '{') {
+            beginObject();
+            UInteger code = readUInt32("Code");
+            endObject();
+
+            return code != null ? new StatusCode(code) : StatusCode.GOOD;
+        } else {
+            return new StatusCode(parseInteger(0, UInteger.MAX_VALUE));
+        }
+    }
+
+    private QualifiedName parseQualifiedName() throws UaSerializationException {
+        beginObject();
+        String name = readString("Name");
+        Object namespace = readNamespace("Uri");
+        endObject();
+
+        if (namespace instanceof String) {
+            UShort index = context.getNamespaceTable().getIndex((String) namespace);
+
+            if (index == null) {
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "namespace not registered: " + namespace);
+            }
+
+            return new QualifiedName(index, name);
+        } else {
+            return new QualifiedName(namespace != null ? (Integer) namespace : 0, name);
+        }
+    }
+
+    private LocalizedText parseLocalizedText() throws UaSerializationException {
+        if (peek() == '"') {
+            return new LocalizedText(parseString());
+        } else {
+            beginObject();
+            String locale = readString("Locale");
+            String text = readString("Text");
+            endObject();
+
+            return new LocalizedText(locale, text);
+        }
+    }
+
+    private ExtensionObject parseExtensionObject() throws UaSerializationException {
+        beginObject();
+        NodeId typeId = readNodeId("TypeId");
+        Integer encoding = readInt32("Encoding");
+
+        if (typeId == null) typeId = NodeId.NULL_VALUE;
+
+        ExtensionObject value;
+
+        if (encoding == null || encoding == 0) {
+            // A JSON body; the TypeId is the DataType id. ExtensionObject only holds binary or XML bodies, so the
+            // body is decoded and then re-encoded using the default binary encoding.
+            Object body = seekValue("Body") ? parseStruct(getGenericCodec(typeId)) : null;
+
+            if (body == null) {
+                value = new ExtensionObject(ByteString.NULL_VALUE, typeId);
+            } else if (body instanceof UaStructure) {
+                value = ExtensionObject.encode(context, (UaStructure) body);
+            } else {
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "cannot re-encode JSON body of type: " + typeId);
+            }
+        } else if (encoding == 1) {
+            value = new ExtensionObject(readByteString("Body"), typeId);
+        } else if (encoding == 2) {
+            value = new ExtensionObject(readXmlElement("Body"), typeId);
+        } else {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "unknown ExtensionObject encoding: " + encoding);
+        }
+
+        endObject();
+
+        return value;
+    }
+
+    private DataValue parseDataValue() throws UaSerializationException {
+        beginObject();
+        Variant value = readVariant("Value");
+        StatusCode status = readStatusCode("Status");
+        DateTime sourceTime = readDateTime("SourceTimestamp");
+        UShort sourcePicoseconds = readUInt16("SourcePicoseconds");
+        DateTime serverTime = readDateTime("ServerTimestamp");
+        UShort serverPicoseconds = readUInt16("ServerPicoseconds");
+        endObject();
+
+        return new DataValue(
+            value,
+            status != null ? status : StatusCode.GOOD,
+            sourceTime != null ? sourceTime : DateTime.MIN_VALUE,
+            sourcePicoseconds,
+            serverTime != null ? serverTime : DateTime.MIN_VALUE,
+            serverPicoseconds
+        );
+    }
+
+    private Variant parseVariant() throws UaSerializationException {
+        beginObject();
+
+        Integer typeId = readInt32("Type");
+
+        if (typeId == null) {
+            endObject();
+            return Variant.NULL_VALUE;
+        }
+
+        if (typeId < 1 || typeId > 25) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "unknown builtin type: " + typeId);
+        }
+
+        Object value = null;
+
+        if (seekValue("Body")) {
+            if (peek() == '[') {
+                Object flatArray = parseFlatArray(typeId);
+
+                Integer[] dimensions = readInt32Array("Dimensions");
+
+                if (dimensions != null && dimensions.length > 1) {
+                    int[] unboxed = new int[dimensions.length];
+                    for (int i = 0; i < dimensions.length; i++) {
+                        unboxed[i] = dimensions[i];
+                    }
+                    value = ArrayUtil.unflatten(flatArray, unboxed);
+                } else {
+                    value = flatArray;
+                }
+            } else {
+                value = parseBuiltinValue(typeId);
+            }
+        }
+
+        endObject();
+
+        return new Variant(value);
+    }
+
+    private Object parseFlatArray(int typeId) throws UaSerializationException {
+        List<Object> values = new ArrayList<>();
+
+        beginArray();
+        while (hasNextElement()) {
+            checkArrayLength(values.size() + 1);
+
+            if (seekValue(null)) {
+                values.add(parseBuiltinValue(typeId));
+            } else {
+                values.add(typeId == 24 ? Variant.NULL_VALUE : null);
+            }
+        }
+        endArray();
+
+        Object array = Array.newInstance(TypeUtil.getBackingClass(typeId), values.size());
+
+        for (int i = 0; i < values.size(); i++) {
+            Array.set(array, i, values.get(i));
+        }
+
+        return array;
+    }
+
+    private Object parseBuiltinValue(int typeId) throws UaSerializationException {
+        switch (typeId) {
+            case 1:
+                return parseBoolean();
+            case 2:
+                return (byte) parseInteger(Byte.MIN_VALUE, Byte.MAX_VALUE);
+            case 3:
+                return ubyte(parseInteger(0, UByte.MAX_VALUE));
+            case 4:
+                return (short) parseInteger(Short.MIN_VALUE, Short.MAX_VALUE);
+            case 5:
+                return ushort((int) parseInteger(0, UShort.MAX_VALUE));
+            case 6:
+                return (int) parseInteger(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            case 7:
+                return uint(parseInteger(0, UInteger.MAX_VALUE));
+            case 8:
+                return parseInteger(Long.MIN_VALUE, Long.MAX_VALUE);
+            case 9:
+                return parseUInt64();
+            case 10:
+                return (float) parseDouble();
+            case 11:
+                return parseDouble();
+            case 12:
+                return parseString();
+            case 13:
+                return parseDateTime();
+            case 14:
+                return parseGuid();
+            case 15:
+                return parseByteString();
+            case 16:
+                return new XmlElement(parseString());
+            case 17:
+                return parseNodeId();
+            case 18:
+                return parseExpandedNodeId();
+            case 19:
+                return parseStatusCode();
+            case 20:
+                return parseQualifiedName();
+            case 21:
+                return parseLocalizedText();
+            case 22:
+                return parseExtensionObject();
+            case 23:
+                return parseDataValue();
+            case 24:
+                return parseVariant();
+            case 25:
+                return parseDiagnosticInfo();
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "unknown builtin type: " + typeId);
+        }
+    }
+
+    private DiagnosticInfo parseDiagnosticInfo() throws UaSerializationException {
+        beginObject();
+        Integer symbolicId = readInt32("SymbolicId");
+        Integer namespaceUri = readInt32("NamespaceUri");
+        Integer locale = readInt32("Locale");
+        Integer localizedText = readInt32("LocalizedText");
+        String additionalInfo = readString("AdditionalInfo");
+        StatusCode innerStatusCode = readStatusCode("InnerStatusCode");
+        DiagnosticInfo innerDiagnosticInfo = readDiagnosticInfo("InnerDiagnosticInfo");
+        endObject();
+
+        return new DiagnosticInfo(
+            namespaceUri != null ? namespaceUri : -1,
+            symbolicId != null ? symbolicId : -1,
+            locale != null ? locale : -1,
+            localizedText != null ? localizedText : -1,
+            additionalInfo,
+            innerStatusCode,
+            innerDiagnosticInfo
+        );
+    }
+
+    private <T extends Enum<?> & UaEnumeration> T parseEnum(Class<T> enumType) throws UaSerializationException {
+        int value;
+
+        if (peek() == '"') {
+            // the non-reversible form, "<name>_<value>"
+            String s = parseString();
+            try {
+                value = Integer.parseInt(s.substring(s.lastIndexOf('_') + 1));
+            } catch (NumberFormatException e) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid enumeration: " + s);
+            }
+        } else {
+            value = (int) parseInteger(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+
+        try {
+            Method m = enumType.getDeclaredMethod("from", int.class);
+            Object o = m.invoke(null, value);
+            return enumType.cast(o);
+        } catch (ClassCastException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, e);
+        }
+    }
+
+    private Object parseStruct(GenericDataTypeCodec<?> codec) throws UaSerializationException {
+        beginObject();
+        Object value = codec.decode(context, this);
+        endObject();
+
+        return value;
+    }
+
+    private NodeId toNodeId(ExpandedNodeId xni) throws UaSerializationException {
+        return xni.toNodeId(context.getNamespaceTable())
+            .orElseThrow(() -> new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "namespace not registered: " + xni.getNamespaceUri()
+            ));
+    }
+
+    private DataTypeCodec getCodec(NodeId dataTypeId) throws UaSerializationException {
+        DataTypeCodec codec = context.getDataTypeManager()
+            .getCodec(OpcUaDefaultBinaryEncoding.ENCODING_NAME, dataTypeId);
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "no codec registered: " + dataTypeId
+            );
+        }
+
+        return codec;
+    }
+
+    private GenericDataTypeCodec<?> getGenericCodec(NodeId dataTypeId) throws UaSerializationException {
+        GenericDataTypeCodec<?> codec = GenericDataTypeCodec.unwrap(getCodec(dataTypeId));
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "no generic codec registered: " + dataTypeId
+            );
+        }
+
+        return codec;
+    }
+
+    private void checkArrayLength(int length) throws UaSerializationException {
+        if (length > context.getEncodingLimits().getMaxMessageSize()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingLimitsExceeded,
+                String.format(
+                    "array length exceeds max message size (length=%s, max=%s)",
+                    length, context.getEncodingLimits().getMaxMessageSize())
+            );
+        }
+    }
+
+    /**
+     * Position the decoder at the value of {@code field}, or at the next element if an array is being read.
+     *
+     * @param field the name of the object member to find.
+     * @return {@code true} if there is a non-null value to parse, {@code false} if the member is missing or null.
+     */
+    private boolean seekValue(String field) throws UaSerializationException {
+        if (depth > 0) {
+            if (objectScope[depth]) {
+                if (!seekMember(field)) return false;
+            } else {
+                skipWhitespace();
+                if (nonEmpty[depth]) expect(',');
+                nonEmpty[depth] = true;
+            }
+        }
+
+        skipWhitespace();
+
+        if (peek() == 'n') {
+            expectLiteral("null");
+            return false;
+        } else {
+            return true;
+        }
+    }
+
+    /**
+     * Find the member named {@code field} at or after the current position in the current object, skipping members
+     * ahead of it. The position is left unchanged if it isn't found.
+     */
+    private boolean seekMember(String field) throws UaSerializationException {
+        int mark = buffer.readerIndex();
+        boolean first = !nonEmpty[depth];
+
+        while (hasNextMember(first)) {
+            if (readMemberName(field)) {
+                nonEmpty[depth] = true;
+                return true;
+            }
+
+            skipValue();
+            first = false;
+        }
+
+        buffer.readerIndex(mark);
+        return false;
+    }
+
+    private boolean hasNextMember(boolean first) throws UaSerializationException {
+        skipWhitespace();
+
+        if (peek() == '}') {
+            return false;
+        } else {
+            if (!first) expect(',');
+            return true;
+        }
+    }
+
+    /**
+     * Read a member name and the following ':'.
+     *
+     * @return {@code true} if the member name is {@code field}.
+     */
+    private boolean readMemberName(String field) throws UaSerializationException {
+        skipWhitespace();
+        expect('"');
+
+        int start = buffer.readerIndex();
+        int end = buffer.forEachByte(b -> b != '"' && b != '\\');
+
+        boolean matches;
+
+        if (end == -1) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "unterminated string");
+        } else if (buffer.getByte(end) == '"') {
+            // no escapes; compare the raw bytes, which for the ASCII names used by OPC UA types avoids decoding
+            matches = rawEquals(start, end - start, field);
+            buffer.readerIndex(end + 1);
+        } else {
+            buffer.readerIndex(start - 1);
+            matches = parseString().equals(field);
+        }
+
+        expect(':');
+
+        return matches;
+    }
+
+    private boolean rawEquals(int index, int length, String field) {
+        if (field == null) return false;
+
+        for (int i = 0; i < field.length(); i++) {
+            if (field.charAt(i) >= 0x80) {
+                return buffer.toString(index, length, StandardCharsets.UTF_8).equals(field);
+            }
+        }
+
+        if (field.length() != length) return false;
+
+        for (int i = 0; i < length; i++) {
+            if (buffer.getByte(index + i) != field.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void beginObject() throws UaSerializationException {
+        expect('{');
+        push(true);
+    }
+
+    /**
+     * Skip any members that haven't been read and consume the closing '}'.
+     */
+    private void endObject() throws UaSerializationException {
+        boolean first = !nonEmpty[depth];
+
+        while (hasNextMember(first)) {
+            skipWhitespace();
+            skipString();
+            expect(':');
+            skipValue();
+            first = false;
+        }
+
+        expect('}');
+        depth--;
+    }
+
+    private void beginArray() throws UaSerializationException {
+        expect('[');
+        push(false);
+    }
+
+    private boolean hasNextElement() {
+        skipWhitespace();
+
+        return peek() != ']';
+    }
+
+    private void endArray() throws UaSerializationException {
+        expect(']');
+        depth--;
+    }
+
+    private void push(boolean object) throws UaSerializationException {
+        if (depth >= context.getEncodingLimits().getMaxRecursionDepth()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingLimitsExceeded,
+                "max recursion depth exceeded: " + context.getEncodingLimits().getMaxRecursionDepth()
+            );
+        }
+
+        if (++depth == objectScope.length) {
+            objectScope = Arrays.copyOf(objectScope, depth * 2);
+            nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+        }
+
+        objectScope[depth] = object;
+        nonEmpty[depth] = false;
+    }
+
+    /**
+     * Parse a JSON string, which must be the next token.
+     */
+    private String parseString() throws UaSerializationException {
+        expect('"');
+
+        int start = buffer.readerIndex();
+        int end = buffer.forEachByte(b -> b != '"' && b != '\\');
+
+        if (end == -1) {
+            throw new UaSerializationException(StatusCodes.Bad_DecodingError, "unterminated string");
+        }
+
+        if (buffer.getByte(end) == '"') {
+            String value = buffer.toString(start, end - start, StandardCharsets.UTF_8);
+            buffer.readerIndex(end + 1);
+            return value;
+        }
+
+        // the string contains escapes; decode it a run at a time
+        StringBuilder sb = new StringBuilder();
+
+        while (true) {
+            end = buffer.forEachByte(buffer.readerIndex(), buffer.readableBytes(), b -> b != '"' && b != '\\');
+
+            if (end == -1) {
+                throw new UaSerializationException(StatusCodes.Bad_DecodingError, "unterminated string");
+            }
+
+            sb.append(buffer.toString(buffer.readerIndex(), end - buffer.readerIndex(), StandardCharsets.UTF_8));
+            buffer.readerIndex(end + 1);
+
+            if (buffer.getByte(end) == '"') {
+                return sb.toString();
+            }
+
+            byte escaped = buffer.readByte();
+
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    sb.append((char) escaped);
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u': {
+                    String hex = buffer.toString(buffer.readerIndex(), 4, StandardCharsets.US_ASCII);
+                    try {
+                        sb.append((char) Integer.parseInt(hex, 16));
+                    } catch (NumberFormatException e) {
+                        throw new UaSerializationException(StatusCodes.Bad_DecodingError, "invalid escape: \\u" + hex);
+                    }
+                    buffer.skipBytes(4);
+                    break;
+                }
+                default:
+                    throw new UaSerializationException(
+                        StatusCodes.Bad_DecodingError,
+                        "invalid escape: \\" + (char) escaped);
+            }
+        }
+    }
+
+    private void skipString() throws UaSerializationException {
+        expect('"');
+
+        while (true) {
+            byte b = buffer.readByte();
+
+            if (b == '\\') {
+                buffer.skipBytes(1);
+            } else if (b == '"') {
+                return;
+            }
+        }
+    }
+
+    private void skipValue() throws UaSerializationException {
+        skipWhitespace();
+
+        int b = peek();
+
+        if (b == '"') {
+            skipString();
+        } else if (b == '{' || b == '[') {
+            buffer.skipBytes(1);
+
+            int nesting = 1;
+
+            while (nesting > 0) {
+                b = buffer.getByte(buffer.readerIndex());
+
+                if (b == '"') {
+                    skipString();
+                } else {
+                    buffer.skipBytes(1);
+
+                    if (b == '{' || b == '[') {
+                        nesting++;
+                    } else if (b == '}' || b == ']') {
+                        nesting--;
+                    }
+                }
+            }
+        } else {
+            readNumberToken();
+        }
+    }
+
+    /**
+     * Read a number or literal token, up to the next delimiter.
+     */
+    private String readNumberToken() throws UaSerializationException {
+        int start = buffer.readerIndex();
+
+        while (buffer.isReadable() && isNumberContinuation()) {
+            buffer.skipBytes(1);
+        }
+
+        if (buffer.readerIndex() == start) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "unexpected character at offset " + start);
+        }
+
+        return buffer.toString(start, buffer.readerIndex() - start, StandardCharsets.US_ASCII);
+    }
+
+    private boolean isNumberContinuation() {
+        if (!buffer.isReadable()) return false;
+
+        int b = buffer.getByte(buffer.readerIndex());
+
+        return b != ',' && b != '}' && b != ']' && b != '"' && b != ':' && !isWhitespace(b);
+    }
+
+    private void expectLiteral(String literal) throws UaSerializationException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (!buffer.isReadable() || buffer.readByte() != literal.charAt(i)) {
+                throw new UaSerializationException(
+                    StatusCodes.Bad_DecodingError,
+                    "expected '" + literal + "' at offset " + (buffer.readerIndex() - i - 1));
+            }
+        }
+    }
+
+    private void expect(char c) throws UaSerializationException {
+        skipWhitespace();
+
+        if (!buffer.isReadable() || buffer.readByte() != c) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                "expected '" + c + "' at offset " + (buffer.readerIndex() - 1));
+        }
+    }
+
+    private int peek() {
+        skipWhitespace();
+
+        return buffer.isReadable() ? buffer.getByte(buffer.readerIndex()) : -1;
+    }
+
+    private void skipWhitespace() {
+        while (buffer.isReadable() && isWhitespace(buffer.getByte(buffer.readerIndex()))) {
+            buffer.skipBytes(1);
+        }
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+}
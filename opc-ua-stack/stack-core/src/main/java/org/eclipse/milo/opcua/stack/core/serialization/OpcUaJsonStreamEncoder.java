@@ -0,0 +1,1182 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import io.netty.buffer.ByteBuf;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.DataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.serialization.codecs.GenericDataTypeCodec;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDefaultBinaryEncoding;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.IdType;
+import org.eclipse.milo.opcua.stack.core.util.ArrayUtil;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Writes the OPC UA JSON encoding (Part 6, section 5.4) directly to a {@link ByteBuf} as UTF-8, without building an
+ * intermediate document.
+ * <p>
+ * Both forms of the encoding are supported:
+ * <ul>
+ *     <li>the reversible form, which can be decoded again by {@link OpcUaJsonStreamDecoder}.</li>
+ *     <li>the non-reversible form, intended for consumers that don't know the OPC UA type system; namespace and
+ *     server indices are replaced by URIs, Variants are written as their bare value, LocalizedTexts as their text,
+ *     and so on.</li>
+ * </ul>
+ * <p>
+ * Structure fields with a {@code null} value are omitted. Structures are encoded using the
+ * {@link GenericDataTypeCodec} registered for the default binary encoding of their DataType.
+ */
+public class OpcUaJsonStreamEncoder implements UaEncoder {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_INSTANT;
+
+    private static final String DATE_TIME_MIN = "0001-01-01T00:00:00Z";
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Scratch space for formatting integers; long enough for {@link Long#MIN_VALUE}.
+     */
+    private final byte[] digits = new byte[20];
+
+    /**
+     * {@code objectScope[depth]} is {@code true} if the value being written at {@code depth} is an object member,
+     * {@code false} if it's an array element. Depth 0 is the top level.
+     */
+    private boolean[] objectScope = new boolean[16];
+
+    /**
+     * {@code nonEmpty[depth]} is {@code true} once the object or array at {@code depth} has a member or element.
+     */
+    private boolean[] nonEmpty = new boolean[16];
+
+    private int depth = 0;
+
+    private ByteBuf buffer;
+
+    private final SerializationContext context;
+    private final boolean reversible;
+
+    /**
+     * Create an encoder that writes the reversible form of the JSON encoding.
+     *
+     * @param context the {@link SerializationContext}.
+     */
+    public OpcUaJsonStreamEncoder(SerializationContext context) {
+        this(context, true);
+    }
+
+    /**
+     * @param context    the {@link SerializationContext}.
+     * @param reversible {@code true} to write the reversible form, {@code false} to write the non-reversible form.
+     */
+    public OpcUaJsonStreamEncoder(SerializationContext context, boolean reversible) {
+        this.context = context;
+        this.reversible = reversible;
+    }
+
+    public OpcUaJsonStreamEncoder setBuffer(ByteBuf buffer) {
+        this.buffer = buffer;
+        this.depth = 0;
+        return this;
+    }
+
+    public boolean isReversible() {
+        return reversible;
+    }
+
+    @Override
+    public void writeBoolean(String field, Boolean value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeAscii(value ? "true" : "false");
+        }
+    }
+
+    @Override
+    public void writeSByte(String field, Byte value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeLongValue(value);
+        }
+    }
+
+    @Override
+    public void writeInt16(String field, Short value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeLongValue(value);
+        }
+    }
+
+    @Override
+    public void writeInt32(String field, Integer value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeLongValue(value);
+        }
+    }
+
+    @Override
+    public void writeInt64(String field, Long value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeInt64Value(value);
+        }
+    }
+
+    @Override
+    public void writeByte(String field, UByte value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeLongValue(value.intValue());
+        }
+    }
+
+    @Override
+    public void writeUInt16(String field, UShort value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeLongValue(value.intValue());
+        }
+    }
+
+    @Override
+    public void writeUInt32(String field, UInteger value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeLongValue(value.longValue());
+        }
+    }
+
+    @Override
+    public void writeUInt64(String field, ULong value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            // 64-bit integers are written as strings; JSON numbers are doubles to most consumers.
+            writeFieldName(field);
+            buffer.writeByte('"');
+            writeAscii(value.toString());
+            buffer.writeByte('"');
+        }
+    }
+
+    @Override
+    public void writeFloat(String field, Float value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeDoubleValue(value, Float.toString(value));
+        }
+    }
+
+    @Override
+    public void writeDouble(String field, Double value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeDoubleValue(value, Double.toString(value));
+        }
+    }
+
+    @Override
+    public void writeString(String field, String value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeStringValue(value);
+        }
+    }
+
+    @Override
+    public void writeDateTime(String field, DateTime value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            buffer.writeByte('"');
+            if (value.getUtcTime() <= 0L) {
+                writeAscii(DATE_TIME_MIN);
+            } else {
+                writeAscii(DATE_TIME_FORMATTER.format(value.getJavaInstant()));
+            }
+            buffer.writeByte('"');
+        }
+    }
+
+    @Override
+    public void writeGuid(String field, UUID value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            buffer.writeByte('"');
+            writeAscii(value.toString());
+            buffer.writeByte('"');
+        }
+    }
+
+    @Override
+    public void writeByteString(String field, ByteString value) throws UaSerializationException {
+        if (value == null || value.isNull()) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            buffer.writeByte('"');
+            buffer.writeBytes(Base64.getEncoder().encode(value.bytes()));
+            buffer.writeByte('"');
+        }
+    }
+
+    @Override
+    public void writeXmlElement(String field, XmlElement value) throws UaSerializationException {
+        if (value == null || value.isNull()) {
+            writeNull(field);
+        } else {
+            writeFieldName(field);
+            writeStringValue(value.getFragment());
+        }
+    }
+
+    @Override
+    public void writeNodeId(String field, NodeId value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginObject(field);
+            writeIdentifier(value.getType(), value.getIdentifier());
+            writeNamespace(value.getNamespaceIndex().intValue(), null);
+            endObject();
+        }
+    }
+
+    @Override
+    public void writeExpandedNodeId(String field, ExpandedNodeId value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginObject(field);
+            writeIdentifier(value.getType(), value.getIdentifier());
+            writeNamespace(value.getNamespaceIndex().intValue(), value.getNamespaceUri());
+
+            long serverIndex = value.getServerIndex().longValue();
+            if (serverIndex != 0L) {
+                writeFieldName("ServerUri");
+                writeLongValue(serverIndex);
+            }
+            endObject();
+        }
+    }
+
+    @Override
+    public void writeStatusCode(String field, StatusCode value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else if (reversible) {
+            writeFieldName(field);
+            writeLongValue(value.getValue());
+        } else {
+            beginObject(field);
+            writeFieldName("Code");
+            writeLongValue(value.getValue());
+            String[] symbol = StatusCodes.lookup(value.getValue()).orElse(null);
+            if (symbol != null) {
+                writeString("Symbol", symbol[0]);
+            }
+            endObject();
+        }
+    }
+
+    @Override
+    public void writeQualifiedName(String field, QualifiedName value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginObject(field);
+            writeString("Name", value.getName());
+            writeNamespace(value.getNamespaceIndex().intValue(), null, "Uri");
+            endObject();
+        }
+    }
+
+    @Override
+    public void writeLocalizedText(String field, LocalizedText value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else if (reversible) {
+            beginObject(field);
+            writeString("Locale", value.getLocale());
+            writeString("Text", value.getText());
+            endObject();
+        } else {
+            writeString(field, value.getText());
+        }
+    }
+
+    @Override
+    public void writeExtensionObject(String field, ExtensionObject value) throws UaSerializationException {
+        if (value == null || value.getBody() == null) {
+            writeNull(field);
+            return;
+        }
+
+        if (!reversible) {
+            GenericDataTypeCodec<Object> codec = genericCodec(
+                context.getDataTypeManager().getCodec(value.getEncodingId())
+            );
+
+            if (codec != null) {
+                writeStruct(field, value.decode(context), codec);
+                return;
+            }
+        }
+
+        beginObject(field);
+        writeNodeId("TypeId", value.getEncodingId());
+
+        switch (value.getBodyType()) {
+            case ByteString:
+                writeFieldName("Encoding");
+                writeLongValue(1);
+                writeByteString("Body", (ByteString) value.getBody());
+                break;
+            case XmlElement:
+                writeFieldName("Encoding");
+                writeLongValue(2);
+                writeXmlElement("Body", (XmlElement) value.getBody());
+                break;
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_EncodingError,
+                    "unknown body type: " + value.getBodyType());
+        }
+
+        endObject();
+    }
+
+    @Override
+    public void writeDataValue(String field, DataValue value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+            return;
+        }
+
+        beginObject(field);
+
+        if (value.getValue() != null && value.getValue().isNotNull()) {
+            writeVariant("Value", value.getValue());
+        }
+        if (value.getStatusCode() != null && value.getStatusCode().getValue() != 0L) {
+            writeStatusCode("Status", value.getStatusCode());
+        }
+        if (DataValue.isEncodedUtcTime(value.getSourceUtcTime())) {
+            writeDateTime("SourceTimestamp", value.getSourceTime());
+        }
+        if (value.getSourcePicosecondsValue() != 0) {
+            writeFieldName("SourcePicoseconds");
+            writeLongValue(value.getSourcePicosecondsValue());
+        }
+        if (DataValue.isEncodedUtcTime(value.getServerUtcTime())) {
+            writeDateTime("ServerTimestamp", value.getServerTime());
+        }
+        if (value.getServerPicosecondsValue() != 0) {
+            writeFieldName("ServerPicoseconds");
+            writeLongValue(value.getServerPicosecondsValue());
+        }
+
+        endObject();
+    }
+
+    @Override
+    public void writeVariant(String field, Variant variant) throws UaSerializationException {
+        Object value = variant != null ? variant.getValue() : null;
+
+        if (value == null) {
+            writeNull(field);
+            return;
+        }
+
+        VariantEncodingDispatch.Entry entry = VariantEncodingDispatch.get(value.getClass());
+
+        if (entry.typeId == -1) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "not a built-in type: " + entry.elementClass);
+        }
+
+        if (reversible) {
+            beginObject(field);
+            writeFieldName("Type");
+            writeLongValue(entry.typeId);
+
+            if (entry.dimensions == 0) {
+                writeBuiltinValue("Body", entry.typeId, value);
+            } else if (entry.dimensions == 1) {
+                writeFlatArray("Body", entry.typeId, value);
+            } else {
+                writeFlatArray("Body", entry.typeId, ArrayUtil.flatten(value));
+
+                beginArray("Dimensions");
+                for (int dimension : ArrayUtil.getDimensions(value)) {
+                    writeFieldName(null);
+                    writeLongValue(dimension);
+                }
+                endArray();
+            }
+
+            endObject();
+        } else {
+            if (entry.dimensions == 0) {
+                writeBuiltinValue(field, entry.typeId, value);
+            } else {
+                writeNestedArray(field, entry.typeId, value);
+            }
+        }
+    }
+
+    @Override
+    public void writeDiagnosticInfo(String field, DiagnosticInfo value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+            return;
+        }
+
+        beginObject(field);
+
+        if (value.getSymbolicId() != -1) writeInt32("SymbolicId", value.getSymbolicId());
+        if (value.getNamespaceUri() != -1) writeInt32("NamespaceUri", value.getNamespaceUri());
+        if (value.getLocale() != -1) writeInt32("Locale", value.getLocale());
+        if (value.getLocalizedText() != -1) writeInt32("LocalizedText", value.getLocalizedText());
+        writeString("AdditionalInfo", value.getAdditionalInfo());
+        writeStatusCode("InnerStatusCode", value.getInnerStatusCode());
+        writeDiagnosticInfo("InnerDiagnosticInfo", value.getInnerDiagnosticInfo());
+
+        endObject();
+    }
+
+    /**
+     * Write {@code message} as an ExtensionObject with a JSON body, i.e. an object with the message's DataType id as
+     * its "TypeId" and the message structure as its "Body".
+     */
+    @Override
+    public void writeMessage(String field, UaMessage message) throws UaSerializationException {
+        NodeId dataTypeId = toNodeId(message.getTypeId());
+
+        beginObject(field);
+        writeNodeId("TypeId", dataTypeId);
+        writeStruct("Body", message, dataTypeId);
+        endObject();
+    }
+
+    @Override
+    public void writeEnum(String field, UaEnumeration value) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else if (reversible || !(value instanceof Enum)) {
+            writeFieldName(field);
+            writeLongValue(value.getValue());
+        } else {
+            writeString(field, ((Enum<?>) value).name() + "_" + value.getValue());
+        }
+    }
+
+    @Override
+    public void writeStruct(String field, Object value, NodeId dataTypeId) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            writeStruct(field, value, getCodec(dataTypeId));
+        }
+    }
+
+    @Override
+    public void writeStruct(String field, Object value, ExpandedNodeId dataTypeId) throws UaSerializationException {
+        writeStruct(field, value, toNodeId(dataTypeId));
+    }
+
+    @Override
+    public void writeStruct(String field, Object value, DataTypeCodec codec) throws UaSerializationException {
+        GenericDataTypeCodec<Object> genericCodec = genericCodec(codec);
+
+        if (genericCodec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                new IllegalArgumentException("codec: " + codec)
+            );
+        }
+
+        if (value == null) {
+            writeNull(field);
+        } else {
+            beginObject(field);
+            try {
+                genericCodec.encode(context, this, value);
+            } catch (ClassCastException e) {
+                throw new UaSerializationException(StatusCodes.Bad_EncodingError, e);
+            }
+            endObject();
+        }
+    }
+
+    @Override
+    public void writeBooleanArray(String field, Boolean[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeBoolean);
+    }
+
+    @Override
+    public void writeSByteArray(String field, Byte[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeSByte);
+    }
+
+    @Override
+    public void writeInt16Array(String field, Short[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeInt16);
+    }
+
+    @Override
+    public void writeInt32Array(String field, Integer[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeInt32);
+    }
+
+    @Override
+    public void writeInt64Array(String field, Long[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeInt64);
+    }
+
+    @Override
+    public void writeByteArray(String field, UByte[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeByte);
+    }
+
+    @Override
+    public void writeUInt16Array(String field, UShort[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeUInt16);
+    }
+
+    @Override
+    public void writeUInt32Array(String field, UInteger[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeUInt32);
+    }
+
+    @Override
+    public void writeUInt64Array(String field, ULong[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeUInt64);
+    }
+
+    @Override
+    public void writeFloatArray(String field, Float[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeFloat);
+    }
+
+    @Override
+    public void writeDoubleArray(String field, Double[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDouble);
+    }
+
+    @Override
+    public void writeStringArray(String field, String[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeString);
+    }
+
+    @Override
+    public void writeDateTimeArray(String field, DateTime[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDateTime);
+    }
+
+    @Override
+    public void writeGuidArray(String field, UUID[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeGuid);
+    }
+
+    @Override
+    public void writeByteStringArray(String field, ByteString[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeByteString);
+    }
+
+    @Override
+    public void writeXmlElementArray(String field, XmlElement[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeXmlElement);
+    }
+
+    @Override
+    public void writeNodeIdArray(String field, NodeId[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeNodeId);
+    }
+
+    @Override
+    public void writeExpandedNodeIdArray(String field, ExpandedNodeId[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeExpandedNodeId);
+    }
+
+    @Override
+    public void writeStatusCodeArray(String field, StatusCode[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeStatusCode);
+    }
+
+    @Override
+    public void writeQualifiedNameArray(String field, QualifiedName[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeQualifiedName);
+    }
+
+    @Override
+    public void writeLocalizedTextArray(String field, LocalizedText[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeLocalizedText);
+    }
+
+    @Override
+    public void writeExtensionObjectArray(String field, ExtensionObject[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeExtensionObject);
+    }
+
+    @Override
+    public void writeDataValueArray(String field, DataValue[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDataValue);
+    }
+
+    @Override
+    public void writeVariantArray(String field, Variant[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeVariant);
+    }
+
+    @Override
+    public void writeDiagnosticInfoArray(String field, DiagnosticInfo[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeDiagnosticInfo);
+    }
+
+    @Override
+    public void writeEnumArray(String field, UaEnumeration[] value) throws UaSerializationException {
+        writeArray(field, value, this::writeEnum);
+    }
+
+    @Override
+    public void writeStructArray(String field, Object[] value, NodeId dataTypeId) throws UaSerializationException {
+        if (value == null) {
+            writeNull(field);
+        } else {
+            DataTypeCodec codec = getCodec(dataTypeId);
+
+            writeArray(field, value, (f, v) -> writeStruct(f, v, codec));
+        }
+    }
+
+    @Override
+    public void writeStructArray(
+        String field,
+        Object[] value,
+        ExpandedNodeId dataTypeId
+    ) throws UaSerializationException {
+
+        writeStructArray(field, value, toNodeId(dataTypeId));
+    }
+
+    @Override
+    public <T> void writeArray(
+        String field, T[] values, BiConsumer<String, T> encoder) throws UaSerializationException {
+
+        if (values == null) {
+            writeNull(field);
+        } else {
+            beginArray(field);
+            for (T t : values) {
+                encoder.accept(field, t);
+            }
+            endArray();
+        }
+    }
+
+    private void writeBuiltinValue(String field, int typeId, Object value) throws UaSerializationException {
+        switch (typeId) {
+            case 1:
+                writeBoolean(field, (Boolean) value);
+                break;
+            case 2:
+                writeSByte(field, (Byte) value);
+                break;
+            case 3:
+                writeByte(field, (UByte) value);
+                break;
+            case 4:
+                writeInt16(field, (Short) value);
+                break;
+            case 5:
+                writeUInt16(field, (UShort) value);
+                break;
+            case 6:
+                if (value instanceof UaEnumeration) {
+                    writeInt32(field, ((UaEnumeration) value).getValue());
+                } else {
+                    writeInt32(field, (Integer) value);
+                }
+                break;
+            case 7:
+                writeUInt32(field, (UInteger) value);
+                break;
+            case 8:
+                writeInt64(field, (Long) value);
+                break;
+            case 9:
+                writeUInt64(field, (ULong) value);
+                break;
+            case 10:
+                writeFloat(field, (Float) value);
+                break;
+            case 11:
+                writeDouble(field, (Double) value);
+                break;
+            case 12:
+                writeString(field, (String) value);
+                break;
+            case 13:
+                writeDateTime(field, (DateTime) value);
+                break;
+            case 14:
+                writeGuid(field, (UUID) value);
+                break;
+            case 15:
+                writeByteString(field, (ByteString) value);
+                break;
+            case 16:
+                writeXmlElement(field, (XmlElement) value);
+                break;
+            case 17:
+                writeNodeId(field, (NodeId) value);
+                break;
+            case 18:
+                writeExpandedNodeId(field, (ExpandedNodeId) value);
+                break;
+            case 19:
+                writeStatusCode(field, (StatusCode) value);
+                break;
+            case 20:
+                writeQualifiedName(field, (QualifiedName) value);
+                break;
+            case 21:
+                writeLocalizedText(field, (LocalizedText) value);
+                break;
+            case 22:
+                if (value instanceof UaStructure) {
+                    writeStructure(field, (UaStructure) value);
+                } else {
+                    writeExtensionObject(field, (ExtensionObject) value);
+                }
+                break;
+            case 23:
+                writeDataValue(field, (DataValue) value);
+                break;
+            case 24:
+                writeVariant(field, (Variant) value);
+                break;
+            case 25:
+                writeDiagnosticInfo(field, (DiagnosticInfo) value);
+                break;
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_EncodingError,
+                    "unknown builtin type: " + typeId);
+        }
+    }
+
+    /**
+     * Write a {@link UaStructure} found in a {@link Variant} as an ExtensionObject with a JSON body.
+     */
+    private void writeStructure(String field, UaStructure value) throws UaSerializationException {
+        NodeId dataTypeId = toNodeId(value.getTypeId());
+
+        if (reversible) {
+            beginObject(field);
+            writeNodeId("TypeId", dataTypeId);
+            writeStruct("Body", value, dataTypeId);
+            endObject();
+        } else {
+            writeStruct(field, value, dataTypeId);
+        }
+    }
+
+    /**
+     * Write the elements of a one-dimensional array, which may be an array of primitives, as a JSON array.
+     */
+    private void writeFlatArray(String field, int typeId, Object array) throws UaSerializationException {
+        beginArray(field);
+
+        if (array instanceof Object[]) {
+            for (Object element : (Object[]) array) {
+                writeBuiltinValue(null, typeId, element);
+            }
+        } else if (array instanceof int[]) {
+            for (int element : (int[]) array) {
+                writeFieldName(null);
+                writeLongValue(element);
+            }
+        } else if (array instanceof double[]) {
+            for (double element : (double[]) array) {
+                writeFieldName(null);
+                writeDoubleValue(element, Double.toString(element));
+            }
+        } else if (array instanceof float[]) {
+            for (float element : (float[]) array) {
+                writeFieldName(null);
+                writeDoubleValue(element, Float.toString(element));
+            }
+        } else if (array instanceof long[]) {
+            for (long element : (long[]) array) {
+                writeFieldName(null);
+                writeInt64Value(element);
+            }
+        } else if (array instanceof short[]) {
+            for (short element : (short[]) array) {
+                writeFieldName(null);
+                writeLongValue(element);
+            }
+        } else if (array instanceof byte[]) {
+            for (byte element : (byte[]) array) {
+                writeFieldName(null);
+                writeLongValue(element);
+            }
+        } else if (array instanceof boolean[]) {
+            for (boolean element : (boolean[]) array) {
+                writeFieldName(null);
+                writeAscii(element ? "true" : "false");
+            }
+        } else {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "not an array: " + array.getClass());
+        }
+
+        endArray();
+    }
+
+    /**
+     * Write a multi-dimensional array as nested JSON arrays, as the non-reversible form requires.
+     */
+    private void writeNestedArray(String field, int typeId, Object array) throws UaSerializationException {
+        Class<?> componentType = array.getClass().getComponentType();
+
+        if (componentType != null && componentType.isArray()) {
+            beginArray(field);
+            for (int i = 0; i < Array.getLength(array); i++) {
+                writeNestedArray(null, typeId, Array.get(array, i));
+            }
+            endArray();
+        } else {
+            writeFlatArray(field, typeId, array);
+        }
+    }
+
+    private void writeIdentifier(IdType type, Object identifier) throws UaSerializationException {
+        if (type != IdType.Numeric) {
+            writeFieldName("IdType");
+            writeLongValue(type.getValue());
+        }
+
+        switch (type) {
+            case Numeric:
+                writeUInt32("Id", (UInteger) identifier);
+                break;
+            case String:
+                writeString("Id", (String) identifier);
+                break;
+            case Guid:
+                writeGuid("Id", (UUID) identifier);
+                break;
+            case Opaque:
+                writeByteString("Id", (ByteString) identifier);
+                break;
+            default:
+                throw new UaSerializationException(
+                    StatusCodes.Bad_EncodingError,
+                    "unknown IdType: " + type);
+        }
+    }
+
+    private void writeNamespace(int namespaceIndex, @Nullable String namespaceUri) {
+        writeNamespace(namespaceIndex, namespaceUri, "Namespace");
+    }
+
+    /**
+     * Write a namespace as its index, or, if {@code namespaceUri} is given or the non-reversible form is being
+     * written, as its URI. Namespace 0 is omitted, and namespace 1 is always written as an index.
+     */
+    private void writeNamespace(int namespaceIndex, @Nullable String namespaceUri, String field) {
+        if (namespaceUri == null && !reversible && namespaceIndex > 1) {
+            namespaceUri = context.getNamespaceTable().getUri(namespaceIndex);
+        }
+
+        if (namespaceUri != null && !namespaceUri.isEmpty()) {
+            writeString(field, namespaceUri);
+        } else if (namespaceIndex != 0) {
+            writeFieldName(field);
+            writeLongValue(namespaceIndex);
+        }
+    }
+
+    private NodeId toNodeId(ExpandedNodeId xni) throws UaSerializationException {
+        return xni.toNodeId(context.getNamespaceTable())
+            .orElseThrow(() -> new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "namespace not registered: " + xni.getNamespaceUri()
+            ));
+    }
+
+    private DataTypeCodec getCodec(NodeId dataTypeId) throws UaSerializationException {
+        DataTypeCodec codec = context.getDataTypeManager()
+            .getCodec(OpcUaDefaultBinaryEncoding.ENCODING_NAME, dataTypeId);
+
+        if (codec == null) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingError,
+                "no codec registered: " + dataTypeId
+            );
+        }
+
+        return codec;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static GenericDataTypeCodec<Object> genericCodec(@Nullable DataTypeCodec codec) {
+        return (GenericDataTypeCodec<Object>) GenericDataTypeCodec.unwrap(codec);
+    }
+
+    private void beginObject(String field) throws UaSerializationException {
+        writeFieldName(field);
+        buffer.writeByte('{');
+        push(true);
+    }
+
+    private void endObject() {
+        depth--;
+        buffer.writeByte('}');
+    }
+
+    private void beginArray(String field) throws UaSerializationException {
+        writeFieldName(field);
+        buffer.writeByte('[');
+        push(false);
+    }
+
+    private void endArray() {
+        depth--;
+        buffer.writeByte(']');
+    }
+
+    private void push(boolean object) throws UaSerializationException {
+        if (depth >= context.getEncodingLimits().getMaxRecursionDepth()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingLimitsExceeded,
+                "max recursion depth exceeded: " + context.getEncodingLimits().getMaxRecursionDepth()
+            );
+        }
+
+        if (++depth == objectScope.length) {
+            objectScope = Arrays.copyOf(objectScope, depth * 2);
+            nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+        }
+
+        objectScope[depth] = object;
+        nonEmpty[depth] = false;
+    }
+
+    /**
+     * Write whatever precedes a value: a separator if it isn't the first value in its object or array, and its
+     * member name if it's in an object.
+     */
+    private void writeFieldName(String field) {
+        if (depth == 0) return;
+
+        if (nonEmpty[depth]) {
+            buffer.writeByte(',');
+        } else {
+            nonEmpty[depth] = true;
+        }
+
+        if (objectScope[depth]) {
+            writeStringValue(field);
+            buffer.writeByte(':');
+        }
+    }
+
+    /**
+     * Write a null value; object members are omitted entirely.
+     */
+    private void writeNull(String field) {
+        if (depth > 0 && objectScope[depth]) return;
+
+        writeFieldName(field);
+        writeAscii("null");
+    }
+
+    private void writeAscii(String value) {
+        buffer.writeCharSequence(value, StandardCharsets.US_ASCII);
+    }
+
+    private void writeLongValue(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+
+        if (value < 0) {
+            buffer.writeByte('-');
+            value = -value;
+        }
+
+        int i = digits.length;
+        while (value >= 10) {
+            digits[--i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        digits[--i] = (byte) ('0' + value);
+
+        buffer.writeBytes(digits, i, digits.length - i);
+    }
+
+    private void writeInt64Value(long value) {
+        buffer.writeByte('"');
+        writeLongValue(value);
+        buffer.writeByte('"');
+    }
+
+    /**
+     * Write a Float or Double; NaN and the infinities have no JSON representation and are written as strings.
+     */
+    private void writeDoubleValue(double value, String formatted) {
+        if (Double.isNaN(value)) {
+            writeAscii("\"NaN\"");
+        } else if (value == Double.POSITIVE_INFINITY) {
+            writeAscii("\"Infinity\"");
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            writeAscii("\"-Infinity\"");
+        } else {
+            writeAscii(formatted);
+        }
+    }
+
+    /**
+     * Write {@code value} as a quoted, escaped JSON string, encoding it to UTF-8 as it goes.
+     */
+    private void writeStringValue(String value) {
+        int length = value.length();
+
+        buffer.ensureWritable(length + 2);
+        buffer.writeByte('"');
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    buffer.writeByte('\\');
+                    buffer.writeByte(c);
+                } else if (c >= 0x20) {
+                    buffer.writeByte(c);
+                } else {
+                    writeControlCharacter(c);
+                }
+            } else if (c < 0x800) {
+                buffer.writeByte(0xC0 | (c >> 6));
+                buffer.writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) &&
+                i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.writeByte(0xF0 | (codePoint >> 18));
+                buffer.writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+                buffer.writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+                buffer.writeByte(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogate; replaced the same way String::getBytes would
+                buffer.writeByte('?');
+            } else {
+                buffer.writeByte(0xE0 | (c >> 12));
+                buffer.writeByte(0x80 | ((c >> 6) & 0x3F));
+                buffer.writeByte(0x80 | (c & 0x3F));
+            }
+        }
+
+        buffer.writeByte('"');
+    }
+
+    private void writeControlCharacter(char c) {
+        buffer.writeByte('\\');
+
+        switch (c) {
+            case '\b':
+                buffer.writeByte('b');
+                break;
+            case '\f':
+                buffer.writeByte('f');
+                break;
+            case '\n':
+                buffer.writeByte('n');
+                break;
+            case '\r':
+                buffer.writeByte('r');
+                break;
+            case '\t':
+                buffer.writeByte('t');
+                break;
+            default:
+                buffer.writeByte('u');
+                buffer.writeByte('0');
+                buffer.writeByte('0');
+                buffer.writeByte(HEX_DIGITS[c >> 4]);
+                buffer.writeByte(HEX_DIGITS[c & 0xF]);
+                break;
+        }
+    }
+
+}
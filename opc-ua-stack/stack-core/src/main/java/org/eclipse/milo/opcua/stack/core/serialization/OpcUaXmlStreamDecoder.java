@@ -14,6 +14,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
@@ -30,6 +31,7 @@ import javax.xml.bind.DatatypeConverter;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
@@ -72,7 +74,25 @@ import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.
 
 public class OpcUaXmlStreamDecoder implements UaDecoder {
 
-    private final DocumentBuilder builder;
+    /**
+     * {@link DocumentBuilder}s and {@link Transformer}s are expensive to create and not thread safe, so one of each
+     * is kept per thread and reset before each use instead of creating one per decoder or per value.
+     */
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(() -> {
+        try {
+            return SecureXmlUtil.SHARED_DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new UaRuntimeException(StatusCodes.Bad_InternalError, e);
+        }
+    });
+
+    private static final ThreadLocal<Transformer> TRANSFORMER = ThreadLocal.withInitial(() -> {
+        try {
+            return SecureXmlUtil.SHARED_TRANSFORMER_FACTORY.newTransformer();
+        } catch (TransformerConfigurationException e) {
+            throw new UaRuntimeException(StatusCodes.Bad_InternalError, e);
+        }
+    });
 
     private Document document;
     private Node currentNode;
@@ -81,12 +101,6 @@ public class OpcUaXmlStreamDecoder implements UaDecoder {
 
     public OpcUaXmlStreamDecoder(SerializationContext context) {
         this.context = context;
-
-        try {
-            builder = SecureXmlUtil.SHARED_DOCUMENT_BUILDER_FACTORY.newDocumentBuilder();
-        } catch (ParserConfigurationException e) {
-            throw new UaRuntimeException(StatusCodes.Bad_InternalError, e);
-        }
     }
 
     public OpcUaXmlStreamDecoder setInput(Document document) {
@@ -101,9 +115,31 @@ public class OpcUaXmlStreamDecoder implements UaDecoder {
     }
 
     public OpcUaXmlStreamDecoder setInput(InputStream inputStream) throws IOException, SAXException {
+        DocumentBuilder builder = DOCUMENT_BUILDER.get();
+        builder.reset();
+
         return setInput(builder.parse(inputStream));
     }
 
+    /**
+     * Decode a Variant value from its XML encoding, e.g. the contents of the Value element of a Variable node.
+     * <p>
+     * The scalar, LocalizedText, ExtensionObject, and ListOf shapes used by the namespace 0 values are parsed
+     * directly from {@code xml}; anything else is parsed into a DOM and decoded by {@link #readVariantValue()}.
+     *
+     * @param xml the XML-encoded value.
+     * @return the decoded value.
+     */
+    public Object decodeVariantValue(String xml) throws IOException, SAXException {
+        Object value = FastXmlValueParser.parse(xml);
+
+        if (value != FastXmlValueParser.UNSUPPORTED) {
+            return value;
+        } else {
+            return setInput(new StringReader(xml)).readVariantValue();
+        }
+    }
+
     private boolean currentNode(String field) throws UaSerializationException {
         if (currentNode == null) {
             throw new UaSerializationException(
@@ -1271,7 +1307,8 @@ public class OpcUaXmlStreamDecoder implements UaDecoder {
         try {
             StringWriter sw = new StringWriter();
 
-            Transformer transformer = SecureXmlUtil.SHARED_TRANSFORMER_FACTORY.newTransformer();
+            Transformer transformer = TRANSFORMER.get();
+            transformer.reset();
             transformer.setOutputProperty("omit-xml-declaration", "yes");
             transformer.transform(new DOMSource(node), new StreamResult(sw));
 
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bulk little-endian reads and writes of one-dimensional primitive arrays, used by the binary encoder and decoder to
+ * avoid boxing each element of large numeric arrays.
+ */
+final class PrimitiveArrays {
+
+    private PrimitiveArrays() {}
+
+    /**
+     * Write the elements of {@code array}, which must be a one-dimensional primitive array, to {@code buffer}.
+     * <p>
+     * Booleans are written as one byte each, {@code 0} or {@code 1}; all other types are written in their
+     * little-endian binary encoding.
+     *
+     * @param buffer the {@link ByteBuf} to write to.
+     * @param array  the primitive array to write.
+     */
+    static void write(ByteBuf buffer, Object array) {
+        if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            ByteBuffer bb = writableView(buffer, (long) values.length * 8);
+            if (bb != null) {
+                bb.asDoubleBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + bb.remaining());
+            } else {
+                for (double v : values) buffer.writeDoubleLE(v);
+            }
+        } else if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            ByteBuffer bb = writableView(buffer, (long) values.length * 4);
+            if (bb != null) {
+                bb.asFloatBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + bb.remaining());
+            } else {
+                for (float v : values) buffer.writeFloatLE(v);
+            }
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            ByteBuffer bb = writableView(buffer, (long) values.length * 8);
+            if (bb != null) {
+                bb.asLongBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + bb.remaining());
+            } else {
+                for (long v : values) buffer.writeLongLE(v);
+            }
+        } else if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            ByteBuffer bb = writableView(buffer, (long) values.length * 4);
+            if (bb != null) {
+                bb.asIntBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + bb.remaining());
+            } else {
+                for (int v : values) buffer.writeIntLE(v);
+            }
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            ByteBuffer bb = writableView(buffer, (long) values.length * 2);
+            if (bb != null) {
+                bb.asShortBuffer().put(values);
+                buffer.writerIndex(buffer.writerIndex() + bb.remaining());
+            } else {
+                for (short v : values) buffer.writeShortLE(v);
+            }
+        } else if (array instanceof byte[]) {
+            buffer.writeBytes((byte[]) array);
+        } else if (array instanceof boolean[]) {
+            boolean[] values = (boolean[]) array;
+            buffer.ensureWritable(values.length);
+            for (boolean v : values) buffer.writeByte(v ? 1 : 0);
+        } else {
+            throw new IllegalArgumentException("not a primitive array: " + array.getClass());
+        }
+    }
+
+    /**
+     * Read {@code length} elements of the built-in type identified by {@code typeId} from {@code buffer} into a new
+     * primitive array.
+     *
+     * @param buffer the {@link ByteBuf} to read from.
+     * @param typeId the id of the built-in type of the elements.
+     * @param length the number of elements to read.
+     * @return a primitive array of {@code length} elements, or {@code null} if {@code typeId} isn't backed by a
+     *     primitive type.
+     * @throws UaSerializationException if {@code buffer} has fewer readable bytes than {@code length} elements
+     *                                  occupy.
+     */
+    @Nullable
+    static Object read(ByteBuf buffer, int typeId, int length) throws UaSerializationException {
+        int elementSize = getElementSize(typeId);
+
+        if (elementSize == 0) {
+            return null;
+        }
+
+        // checked in long arithmetic, and before allocating, so a bogus length can't overflow or allocate a huge array
+        if ((long) length * elementSize > buffer.readableBytes()) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_DecodingError,
+                String.format(
+                    "array length exceeds readable bytes (length=%s, elementSize=%s, readable=%s)",
+                    length, elementSize, buffer.readableBytes())
+            );
+        }
+
+        switch (typeId) {
+            case 1: {
+                boolean[] values = new boolean[length];
+                for (int i = 0; i < length; i++) values[i] = buffer.readBoolean();
+                return values;
+            }
+            case 2: {
+                byte[] values = new byte[length];
+                buffer.readBytes(values);
+                return values;
+            }
+            case 4: {
+                short[] values = new short[length];
+                ByteBuffer bb = readableView(buffer, (long) length * 2);
+                if (bb != null) {
+                    bb.asShortBuffer().get(values);
+                    buffer.skipBytes(bb.remaining());
+                } else {
+                    for (int i = 0; i < length; i++) values[i] = buffer.readShortLE();
+                }
+                return values;
+            }
+            case 6: {
+                int[] values = new int[length];
+                ByteBuffer bb = readableView(buffer, (long) length * 4);
+                if (bb != null) {
+                    bb.asIntBuffer().get(values);
+                    buffer.skipBytes(bb.remaining());
+                } else {
+                    for (int i = 0; i < length; i++) values[i] = buffer.readIntLE();
+                }
+                return values;
+            }
+            case 8: {
+                long[] values = new long[length];
+                ByteBuffer bb = readableView(buffer, (long) length * 8);
+                if (bb != null) {
+                    bb.asLongBuffer().get(values);
+                    buffer.skipBytes(bb.remaining());
+                } else {
+                    for (int i = 0; i < length; i++) values[i] = buffer.readLongLE();
+                }
+                return values;
+            }
+            case 10: {
+                float[] values = new float[length];
+                ByteBuffer bb = readableView(buffer, (long) length * 4);
+                if (bb != null) {
+                    bb.asFloatBuffer().get(values);
+                    buffer.skipBytes(bb.remaining());
+                } else {
+                    for (int i = 0; i < length; i++) values[i] = buffer.readFloatLE();
+                }
+                return values;
+            }
+            case 11: {
+                double[] values = new double[length];
+                ByteBuffer bb = readableView(buffer, (long) length * 8);
+                if (bb != null) {
+                    bb.asDoubleBuffer().get(values);
+                    buffer.skipBytes(bb.remaining());
+                } else {
+                    for (int i = 0; i < length; i++) values[i] = buffer.readDoubleLE();
+                }
+                return values;
+            }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param typeId the id of a built-in type.
+     * @return the encoded size, in bytes, of the built-in type identified by {@code typeId} if it's read into a
+     *     primitive array, or {@code 0} if it isn't.
+     */
+    private static int getElementSize(int typeId) {
+        switch (typeId) {
+            case 1:
+            case 2:
+                return 1;
+            case 4:
+                return 2;
+            case 6:
+            case 10:
+                return 4;
+            case 8:
+            case 11:
+                return 8;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Get a little-endian view of the next {@code length} writable bytes of {@code buffer}.
+     * <p>
+     * {@link ByteBuf#nioBuffer(int, int)} may return a copy for buffers made of several components, so a view is
+     * only returned when writes to it are guaranteed to land in {@code buffer}.
+     */
+    @Nullable
+    private static ByteBuffer writableView(ByteBuf buffer, long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new UaSerializationException(
+                StatusCodes.Bad_EncodingLimitsExceeded,
+                "encoded array length exceeds max buffer size: " + length
+            );
+        }
+
+        buffer.ensureWritable((int) length);
+
+        if (buffer instanceof CompositeByteBuf || buffer.nioBufferCount() != 1) {
+            return null;
+        }
+
+        return buffer.nioBuffer(buffer.writerIndex(), (int) length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Get a little-endian view of the next {@code length} readable bytes of {@code buffer}, which must be at most
+     * {@link ByteBuf#readableBytes()}.
+     */
+    @Nullable
+    private static ByteBuffer readableView(ByteBuf buffer, long length) {
+        if (buffer.nioBufferCount() != 1) {
+            return null;
+        }
+
+        return buffer.nioBuffer(buffer.readerIndex(), (int) length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+}
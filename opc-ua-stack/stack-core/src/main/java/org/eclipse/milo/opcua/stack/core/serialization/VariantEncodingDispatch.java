@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.util.UUID;
+
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DiagnosticInfo;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UByte;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UShort;
+import org.eclipse.milo.opcua.stack.core.util.TypeUtil;
+
+/**
+ * Resolves, once per runtime class, how a {@link Variant} value of that class is written by
+ * {@link OpcUaBinaryStreamEncoder}: its builtin type id, its array dimensionality, and a writer for its elements.
+ * <p>
+ * Results are cached in a {@link ClassValue}, so {@code writeVariant} no longer repeats the structure, enumeration,
+ * and builtin type lookups for every value.
+ */
+final class VariantEncodingDispatch {
+
+    private static final ClassValue<Entry> ENTRIES = new ClassValue<Entry>() {
+        @Override
+        protected Entry computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private VariantEncodingDispatch() {}
+
+    /**
+     * Get the {@link Entry} for values of class {@code type}.
+     *
+     * @param type the runtime class of a {@link Variant} value.
+     * @return the {@link Entry} for values of class {@code type}.
+     */
+    static Entry get(Class<?> type) {
+        return ENTRIES.get(type);
+    }
+
+    private static Entry resolve(Class<?> type) {
+        int dimensions = 0;
+        Class<?> elementClass = type;
+
+        while (elementClass.isArray()) {
+            dimensions++;
+            elementClass = elementClass.getComponentType();
+        }
+
+        int typeId;
+        ValueWriter writer;
+
+        if (UaStructure.class.isAssignableFrom(elementClass)) {
+            typeId = TypeUtil.getBuiltinTypeId(ExtensionObject.class);
+            writer = (encoder, value) -> encoder.writeStructureAsExtensionObject((UaStructure) value);
+        } else if (UaEnumeration.class.isAssignableFrom(elementClass)) {
+            typeId = TypeUtil.getBuiltinTypeId(Integer.class);
+            writer = (encoder, value) -> encoder.writeInt32(((UaEnumeration) value).getValue());
+        } else {
+            typeId = TypeUtil.getBuiltinTypeId(elementClass);
+            writer = builtinWriter(typeId);
+        }
+
+        boolean primitiveArray = dimensions == 1 && elementClass.isPrimitive();
+
+        return new Entry(elementClass, typeId, dimensions, primitiveArray, writer);
+    }
+
+    private static ValueWriter builtinWriter(int typeId) {
+        switch (typeId) {
+            case 1:
+                return (encoder, value) -> encoder.writeBoolean(null, (Boolean) value);
+            case 2:
+                return (encoder, value) -> encoder.writeSByte((Byte) value);
+            case 3:
+                return (encoder, value) -> encoder.writeByte((UByte) value);
+            case 4:
+                return (encoder, value) -> encoder.writeInt16((Short) value);
+            case 5:
+                return (encoder, value) -> encoder.writeUInt16((UShort) value);
+            case 6:
+                return (encoder, value) -> encoder.writeInt32((Integer) value);
+            case 7:
+                return (encoder, value) -> encoder.writeUInt32((UInteger) value);
+            case 8:
+                return (encoder, value) -> encoder.writeInt64((Long) value);
+            case 9:
+                return (encoder, value) -> encoder.writeUInt64((ULong) value);
+            case 10:
+                return (encoder, value) -> encoder.writeFloat((Float) value);
+            case 11:
+                return (encoder, value) -> encoder.writeDouble((Double) value);
+            case 12:
+                return (encoder, value) -> encoder.writeString((String) value);
+            case 13:
+                return (encoder, value) -> encoder.writeDateTime((DateTime) value);
+            case 14:
+                return (encoder, value) -> encoder.writeGuid((UUID) value);
+            case 15:
+                return (encoder, value) -> encoder.writeByteString((ByteString) value);
+            case 16:
+                return (encoder, value) -> encoder.writeXmlElement((XmlElement) value);
+            case 17:
+                return (encoder, value) -> encoder.writeNodeId((NodeId) value);
+            case 18:
+                return (encoder, value) -> encoder.writeExpandedNodeId((ExpandedNodeId) value);
+            case 19:
+                return (encoder, value) -> encoder.writeStatusCode((StatusCode) value);
+            case 20:
+                return (encoder, value) -> encoder.writeQualifiedName((QualifiedName) value);
+            case 21:
+                return (encoder, value) -> encoder.writeLocalizedText((LocalizedText) value);
+            case 22:
+                return (encoder, value) -> encoder.writeExtensionObject((ExtensionObject) value);
+            case 23:
+                return (encoder, value) -> encoder.writeDataValue((DataValue) value);
+            case 24:
+                return (encoder, value) -> encoder.writeVariant((Variant) value);
+            case 25:
+                return (encoder, value) -> encoder.writeDiagnosticInfo((DiagnosticInfo) value);
+            default:
+                return (encoder, value) -> {
+                    throw new UaSerializationException(
+                        StatusCodes.Bad_EncodingError,
+                        "unknown builtin type: " + typeId);
+                };
+        }
+    }
+
+    @FunctionalInterface
+    interface ValueWriter {
+
+        void write(OpcUaBinaryStreamEncoder encoder, Object value) throws UaSerializationException;
+
+    }
+
+    static final class Entry {
+
+        /**
+         * The class of the value, or of the array elements if the value is an array.
+         */
+        final Class<?> elementClass;
+
+        /**
+         * The builtin type id the value is encoded as, or -1 if it's not a builtin type.
+         */
+        final int typeId;
+
+        /**
+         * The number of array dimensions, or 0 if the value is a scalar.
+         */
+        final int dimensions;
+
+        /**
+         * {@code true} if the value is a one-dimensional primitive array.
+         */
+        final boolean primitiveArray;
+
+        /**
+         * Writes a scalar value, or a single element of an array value.
+         */
+        final ValueWriter writer;
+
+        Entry(Class<?> elementClass, int typeId, int dimensions, boolean primitiveArray, ValueWriter writer) {
+            this.elementClass = elementClass;
+            this.typeId = typeId;
+            this.dimensions = dimensions;
+            this.primitiveArray = primitiveArray;
+            this.writer = writer;
+        }
+
+    }
+
+}
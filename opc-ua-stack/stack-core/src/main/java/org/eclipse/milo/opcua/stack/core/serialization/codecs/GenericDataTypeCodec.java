@@ -18,6 +18,7 @@ import org.eclipse.milo.opcua.stack.core.serialization.OpcUaXmlStreamEncoder;
 import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
 import org.eclipse.milo.opcua.stack.core.serialization.UaDecoder;
 import org.eclipse.milo.opcua.stack.core.serialization.UaEncoder;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class GenericDataTypeCodec<T> implements DataTypeCodec<T, UaDecoder, UaEncoder> {
 
@@ -29,6 +30,30 @@ public abstract class GenericDataTypeCodec<T> implements DataTypeCodec<T, UaDeco
         return new GenericXmlDataTypeCodec<>(this);
     }
 
+    /**
+     * Get the {@link GenericDataTypeCodec} backing {@code codec}, i.e. {@code codec} itself or the codec it adapts if
+     * it was obtained from {@link #asBinaryCodec()} or {@link #asXmlCodec()}.
+     * <p>
+     * Encodings other than binary and XML have no codecs of their own registered with the
+     * {@link org.eclipse.milo.opcua.stack.core.types.DataTypeManager}, so they look up the binary codec and use this
+     * to get at the encoding-agnostic implementation.
+     *
+     * @param codec the {@link DataTypeCodec} to unwrap.
+     * @return the {@link GenericDataTypeCodec} backing {@code codec}, or {@code null} if it isn't backed by one.
+     */
+    @Nullable
+    public static GenericDataTypeCodec<?> unwrap(@Nullable DataTypeCodec<?, ?, ?> codec) {
+        if (codec instanceof GenericDataTypeCodec) {
+            return (GenericDataTypeCodec<?>) codec;
+        } else if (codec instanceof GenericBinaryDataTypeCodec) {
+            return ((GenericBinaryDataTypeCodec<?>) codec).codec;
+        } else if (codec instanceof GenericXmlDataTypeCodec) {
+            return ((GenericXmlDataTypeCodec<?>) codec).codec;
+        } else {
+            return null;
+        }
+    }
+
     private static class GenericBinaryDataTypeCodec<T> implements OpcUaBinaryDataTypeCodec<T> {
 
         private final GenericDataTypeCodec<T> codec;
@@ -21,14 +21,28 @@ import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+
 public final class DataValue {
 
+    /**
+     * The UTC time that stands for a {@code null} timestamp, as opposed to {@link DateTime#MIN_VALUE}, in
+     * {@link #DataValue(Variant, StatusCode, long, int, long, int)}, {@link #getSourceUtcTime()} and
+     * {@link #getServerUtcTime()}.
+     */
+    public static final long NULL_UTC_TIME = Long.MIN_VALUE;
+
+    /**
+     * The picoseconds held in place of {@code null} picoseconds.
+     */
+    private static final int NULL_PICOSECONDS = -1;
+
     private final Variant value;
     private final StatusCode status;
-    private final DateTime sourceTime;
-    private final UShort sourcePicoseconds;
-    private final DateTime serverTime;
-    private final UShort serverPicoseconds;
+    private final long sourceTime;
+    private final int sourcePicoseconds;
+    private final long serverTime;
+    private final int serverPicoseconds;
 
     public DataValue(long statusCode) {
         this(new StatusCode(statusCode));
@@ -43,7 +57,7 @@ public final class DataValue {
     }
 
     public DataValue(Variant value, StatusCode status) {
-        this(value, status, DateTime.now());
+        this(value, status, DateTime.nowUtcTime());
     }
 
     public DataValue(Variant value, StatusCode status, @Nullable DateTime time) {
@@ -54,6 +68,10 @@ public final class DataValue {
         this(value, status, sourceTime, null, serverTime, null);
     }
 
+    private DataValue(Variant value, StatusCode status, long time) {
+        this(value, status, time, NULL_PICOSECONDS, time, NULL_PICOSECONDS);
+    }
+
     public DataValue(@NotNull Variant value,
                      @Nullable StatusCode status,
                      @Nullable DateTime sourceTime,
@@ -61,12 +79,45 @@ public final class DataValue {
                      @Nullable DateTime serverTime,
                      @Nullable UShort serverPicoseconds) {
 
+        this(
+            value,
+            status,
+            sourceTime != null ? sourceTime.getUtcTime() : NULL_UTC_TIME,
+            sourcePicoseconds != null ? sourcePicoseconds.intValue() : NULL_PICOSECONDS,
+            serverTime != null ? serverTime.getUtcTime() : NULL_UTC_TIME,
+            serverPicoseconds != null ? serverPicoseconds.intValue() : NULL_PICOSECONDS
+        );
+    }
+
+    /**
+     * Create a {@link DataValue} with timestamps held in {@code long}s rather than {@link DateTime}s.
+     * <p>
+     * A timestamp of {@link #NULL_UTC_TIME} is {@code null}; a timestamp of 0 is {@link DateTime#MIN_VALUE}. Both are
+     * omitted when encoded.
+     *
+     * @param value             the value {@link Variant}.
+     * @param status            the {@link StatusCode}.
+     * @param sourceTime        the source timestamp, as 100 nanosecond intervals since UTC epoch, or
+     *                          {@link #NULL_UTC_TIME} if there is none.
+     * @param sourcePicoseconds the source picoseconds, an unsigned 16-bit value, or -1 if there are none.
+     * @param serverTime        the server timestamp, as 100 nanosecond intervals since UTC epoch, or
+     *                          {@link #NULL_UTC_TIME} if there is none.
+     * @param serverPicoseconds the server picoseconds, an unsigned 16-bit value, or -1 if there are none.
+     * @see DateTime#nowUtcTime()
+     */
+    public DataValue(@NotNull Variant value,
+                     @Nullable StatusCode status,
+                     long sourceTime,
+                     int sourcePicoseconds,
+                     long serverTime,
+                     int serverPicoseconds) {
+
         this.value = value;
         this.status = status;
         this.sourceTime = sourceTime;
-        this.sourcePicoseconds = sourcePicoseconds;
+        this.sourcePicoseconds = sourcePicoseconds >= 0 ? sourcePicoseconds : NULL_PICOSECONDS;
         this.serverTime = serverTime;
-        this.serverPicoseconds = serverPicoseconds;
+        this.serverPicoseconds = serverPicoseconds >= 0 ? serverPicoseconds : NULL_PICOSECONDS;
     }
 
     public Variant getValue() {
@@ -80,34 +131,64 @@ public final class DataValue {
 
     @Nullable
     public DateTime getSourceTime() {
+        return toDateTime(sourceTime);
+    }
+
+    /**
+     * @return the source timestamp as 100 nanosecond intervals since UTC epoch, or {@link #NULL_UTC_TIME} if there is
+     * none, without allocating a {@link DateTime}.
+     */
+    public long getSourceUtcTime() {
         return sourceTime;
     }
 
     @Nullable
     public UShort getSourcePicoseconds() {
-        return sourcePicoseconds;
+        return sourcePicoseconds != NULL_PICOSECONDS ? ushort(sourcePicoseconds) : null;
+    }
+
+    /**
+     * @return the source picoseconds, or 0 if there are none, without boxing them in a {@link UShort}.
+     */
+    public int getSourcePicosecondsValue() {
+        return sourcePicoseconds != NULL_PICOSECONDS ? sourcePicoseconds : 0;
     }
 
     @Nullable
     public DateTime getServerTime() {
+        return toDateTime(serverTime);
+    }
+
+    /**
+     * @return the server timestamp as 100 nanosecond intervals since UTC epoch, or {@link #NULL_UTC_TIME} if there is
+     * none, without allocating a {@link DateTime}.
+     */
+    public long getServerUtcTime() {
         return serverTime;
     }
 
     @Nullable
     public UShort getServerPicoseconds() {
-        return serverPicoseconds;
+        return serverPicoseconds != NULL_PICOSECONDS ? ushort(serverPicoseconds) : null;
+    }
+
+    /**
+     * @return the server picoseconds, or 0 if there are none, without boxing them in a {@link UShort}.
+     */
+    public int getServerPicosecondsValue() {
+        return serverPicoseconds != NULL_PICOSECONDS ? serverPicoseconds : 0;
     }
 
     public DataValue withStatus(StatusCode status) {
-        return new DataValue(value, status, sourceTime, serverTime);
+        return new DataValue(value, status, sourceTime, NULL_PICOSECONDS, serverTime, NULL_PICOSECONDS);
     }
 
     public DataValue withSourceTime(@Nullable DateTime sourceTime) {
-        return new DataValue(value, status, sourceTime, serverTime);
+        return new DataValue(value, status, sourceTime, getServerTime());
     }
 
     public DataValue withServerTime(@Nullable DateTime serverTime) {
-        return new DataValue(value, status, sourceTime, serverTime);
+        return new DataValue(value, status, getSourceTime(), serverTime);
     }
 
     @Override
@@ -117,16 +198,16 @@ public final class DataValue {
         helper.add("value", value);
         helper.add("status", status);
 
-        if (sourceTime != null) {
-            helper.add("sourceTime", sourceTime);
+        if (sourceTime != NULL_UTC_TIME) {
+            helper.add("sourceTime", getSourceTime());
         }
-        if (sourcePicoseconds != null) {
+        if (sourcePicoseconds != NULL_PICOSECONDS) {
             helper.add("sourcePicoseconds", sourcePicoseconds);
         }
-        if (serverTime != null) {
-            helper.add("serverTime", serverTime);
+        if (serverTime != NULL_UTC_TIME) {
+            helper.add("serverTime", getServerTime());
         }
-        if (serverPicoseconds != null) {
+        if (serverPicoseconds != NULL_PICOSECONDS) {
             helper.add("serverPicoseconds", serverPicoseconds);
         }
 
@@ -140,15 +221,21 @@ public final class DataValue {
         DataValue dataValue = (DataValue) o;
         return Objects.equals(value, dataValue.value) &&
             Objects.equals(status, dataValue.status) &&
-            Objects.equals(sourceTime, dataValue.sourceTime) &&
-            Objects.equals(sourcePicoseconds, dataValue.sourcePicoseconds) &&
-            Objects.equals(serverTime, dataValue.serverTime) &&
-            Objects.equals(serverPicoseconds, dataValue.serverPicoseconds);
+            sourceTime == dataValue.sourceTime &&
+            sourcePicoseconds == dataValue.sourcePicoseconds &&
+            serverTime == dataValue.serverTime &&
+            serverPicoseconds == dataValue.serverPicoseconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, status, sourceTime, sourcePicoseconds, serverTime, serverPicoseconds);
+        int result = Objects.hashCode(value);
+        result = 31 * result + Objects.hashCode(status);
+        result = 31 * result + Long.hashCode(sourceTime);
+        result = 31 * result + sourcePicoseconds;
+        result = 31 * result + Long.hashCode(serverTime);
+        result = 31 * result + serverPicoseconds;
+        return result;
     }
 
     public DataValue.Builder copy() {
@@ -181,8 +268,10 @@ public final class DataValue {
         return new DataValue(
             from.value,
             from.status,
-            includeSource ? from.sourceTime : null,
-            includeServer ? DateTime.now() : null
+            includeSource ? from.sourceTime : NULL_UTC_TIME,
+            NULL_PICOSECONDS,
+            includeServer ? DateTime.nowUtcTime() : NULL_UTC_TIME,
+            NULL_PICOSECONDS
         );
     }
 
@@ -201,8 +290,10 @@ public final class DataValue {
         return new DataValue(
             from.value,
             from.status,
-            null,
-            includeServer ? DateTime.now() : null
+            NULL_UTC_TIME,
+            NULL_PICOSECONDS,
+            includeServer ? DateTime.nowUtcTime() : NULL_UTC_TIME,
+            NULL_PICOSECONDS
         );
     }
 
@@ -216,6 +307,26 @@ public final class DataValue {
         return new DataValue(v, null, null, null);
     }
 
+    /**
+     * @param utcTime a timestamp from {@link #getSourceUtcTime()} or {@link #getServerUtcTime()}.
+     * @return {@code true} if {@code utcTime} is neither {@link #NULL_UTC_TIME} nor {@link DateTime#MIN_VALUE}, i.e.
+     * it is a timestamp that gets encoded.
+     */
+    public static boolean isEncodedUtcTime(long utcTime) {
+        return utcTime != NULL_UTC_TIME && utcTime != 0L;
+    }
+
+    @Nullable
+    private static DateTime toDateTime(long utcTime) {
+        if (utcTime == NULL_UTC_TIME) {
+            return null;
+        } else if (utcTime == 0L) {
+            return DateTime.MIN_VALUE;
+        } else {
+            return new DateTime(utcTime);
+        }
+    }
+
     public static class Builder {
 
         public Variant value = Variant.NULL_VALUE;
@@ -230,10 +341,10 @@ public final class DataValue {
         public Builder(DataValue other) {
             this.value = other.value;
             this.status = other.status;
-            this.sourceTime = other.sourceTime;
-            this.sourcePicoseconds = other.sourcePicoseconds;
-            this.serverTime = other.serverTime;
-            this.serverPicoseconds = other.serverPicoseconds;
+            this.sourceTime = other.getSourceTime();
+            this.sourcePicoseconds = other.getSourcePicoseconds();
+            this.serverTime = other.getServerTime();
+            this.serverPicoseconds = other.getServerPicoseconds();
         }
 
         public Builder setValue(Variant value) {
@@ -46,7 +46,7 @@ public final class DateTime {
     }
 
     public DateTime(Instant instant) {
-        this(javaToUtc(instant.toEpochMilli()) + (instant.getNano() % 1_000_000) / 100);
+        this(instantToUtc(instant));
     }
 
     /**
@@ -112,10 +112,21 @@ public final class DateTime {
      * @return a {@link DateTime} initialized to now.
      */
     public static DateTime now() {
+        return new DateTime(nowUtcTime());
+    }
+
+    /**
+     * Get the current time as 100 nanosecond intervals since UTC epoch, without allocating a {@link DateTime}.
+     * <p>
+     * The precision depends on the value of {@link #USE_NANOS}.
+     *
+     * @return the current time as 100 nanosecond intervals since UTC epoch.
+     */
+    public static long nowUtcTime() {
         if (USE_NANOS) {
-            return nowNanos();
+            return instantToUtc(Instant.now());
         } else {
-            return nowMillis();
+            return javaToUtc(System.currentTimeMillis());
         }
     }
 
@@ -137,6 +148,10 @@ public final class DateTime {
         return (javaTime * 10_000) + EPOCH_DELTA;
     }
 
+    private static long instantToUtc(Instant instant) {
+        return javaToUtc(instant.toEpochMilli()) + (instant.getNano() % 1_000_000) / 100;
+    }
+
     private static long utcToJava(long utcTime) {
         return (utcTime - EPOCH_DELTA) / 10_000;
     }
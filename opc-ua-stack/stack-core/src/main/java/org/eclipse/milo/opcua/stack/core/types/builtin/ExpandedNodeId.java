@@ -45,6 +45,11 @@ public final class ExpandedNodeId {
     private final String namespaceUri;
     private final UInteger serverIndex;
 
+    /**
+     * The hash code, computed on first use. Zero until then, or if the computed hash code is zero.
+     */
+    private int hash;
+
     public ExpandedNodeId(
         UShort namespaceIndex,
         String namespaceUri,
@@ -500,7 +505,14 @@ public final class ExpandedNodeId {
 
     @Override
     public int hashCode() {
-        return Objects.hash(namespaceIndex, identifier, namespaceUri, serverIndex);
+        int result = hash;
+
+        if (result == 0) {
+            result = Objects.hash(namespaceIndex, identifier, namespaceUri, serverIndex);
+            hash = result;
+        }
+
+        return result;
     }
 
     @Override
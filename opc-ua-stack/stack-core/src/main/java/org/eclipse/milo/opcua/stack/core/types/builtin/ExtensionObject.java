@@ -23,6 +23,14 @@ import org.eclipse.milo.opcua.stack.core.util.Lazy;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * An encoded structure value.
+ * <p>
+ * The encoded body is kept as-is and is what gets written when the ExtensionObject is encoded, so values that are only
+ * passed through are never decoded. The body is decoded on the first call to one of the {@code decode} methods and
+ * the decoded value is kept; ExtensionObjects created by encoding a value keep that value instead of decoding it
+ * again.
+ */
 public final class ExtensionObject {
 
     public enum BodyType {
@@ -32,6 +40,12 @@ public final class ExtensionObject {
 
     private final Lazy<Object> decoded = new Lazy<>();
 
+    /**
+     * The result of the last {@link #transcode(SerializationContext, NodeId, DataTypeEncoding)} to another encoding,
+     * kept so that a value read repeatedly in another encoding is only re-encoded once.
+     */
+    private volatile ExtensionObject transcoded;
+
     private final BodyType bodyType;
 
     private final Object body;
@@ -55,6 +69,14 @@ public final class ExtensionObject {
         @NotNull Object body,
         @NotNull NodeId encodingId) {
 
+        this(body, encodingId, null);
+    }
+
+    private ExtensionObject(
+        @NotNull Object body,
+        @NotNull NodeId encodingId,
+        @Nullable Object decodedValue) {
+
         this.body = body;
         this.encodingId = encodingId;
 
@@ -65,6 +87,10 @@ public final class ExtensionObject {
         } else {
             throw new IllegalArgumentException("body: " + body);
         }
+
+        if (decodedValue != null) {
+            decoded.getOrCompute(() -> decodedValue);
+        }
     }
 
     public Object getBody() {
@@ -123,6 +149,12 @@ public final class ExtensionObject {
         if (this.encodingId.equals(newEncodingId)) {
             return this;
         } else {
+            ExtensionObject last = transcoded;
+
+            if (last != null && last.encodingId.equals(newEncodingId)) {
+                return last;
+            }
+
             // The "fast" path: body is a encoded in Default Binary or Default XML.
             // No need to look up the DataTypeEncoding.
             Object struct = decodeOrNull(context);
@@ -130,7 +162,10 @@ public final class ExtensionObject {
             if (struct != null) {
                 Object encoded = newEncoding.encode(context, struct, newEncodingId);
 
-                return new ExtensionObject(encoded, newEncodingId);
+                ExtensionObject xo = new ExtensionObject(encoded, newEncodingId, struct);
+                transcoded = xo;
+
+                return xo;
             } else {
                 // TODO look up current DataTypeEncoding via this.encodingId, try decoding again using that.
                 return this;
@@ -216,7 +251,7 @@ public final class ExtensionObject {
 
         Object body = encoding.encode(context, object, encodingId);
 
-        return new ExtensionObject(body, encodingId);
+        return new ExtensionObject(body, encodingId, object);
     }
 
     public static ExtensionObject encode(
@@ -228,7 +263,7 @@ public final class ExtensionObject {
 
         Object body = encoding.encode(context, object, encodingId);
 
-        return new ExtensionObject(body, encodingId);
+        return new ExtensionObject(body, encodingId, object);
     }
 
     @Override
@@ -43,6 +43,11 @@ public final class NodeId {
     private final UShort namespaceIndex;
     private final Object identifier;
 
+    /**
+     * The hash code, computed on first use. Zero until then, or if the computed hash code is zero.
+     */
+    private int hash;
+
     /**
      * @param namespaceIndex the index for a namespace URI. An index of 0 is used for OPC UA defined NodeIds.
      * @param identifier     the identifier for a node in the address space of an OPC UA Server.
@@ -368,8 +373,14 @@ public final class NodeId {
 
     @Override
     public int hashCode() {
-        int result = namespaceIndex.hashCode();
-        result = 31 * result + identifier.hashCode();
+        int result = hash;
+
+        if (result == 0) {
+            result = namespaceIndex.hashCode();
+            result = 31 * result + identifier.hashCode();
+            hash = result;
+        }
+
         return result;
     }
 
@@ -29,6 +29,11 @@ public final class QualifiedName {
     private final UShort namespaceIndex;
     private final String name;
 
+    /**
+     * The hash code, computed on first use. Zero until then, or if the computed hash code is zero.
+     */
+    private int hash;
+
     /**
      * The name part of the QualifiedName is restricted to 512 characters.
      *
@@ -124,8 +129,14 @@ public final class QualifiedName {
 
     @Override
     public int hashCode() {
-        int result = namespaceIndex.hashCode();
-        result = 31 * result + (name != null ? name.hashCode() : 0);
+        int result = hash;
+
+        if (result == 0) {
+            result = namespaceIndex.hashCode();
+            result = 31 * result + (name != null ? name.hashCode() : 0);
+            hash = result;
+        }
+
         return result;
     }
 
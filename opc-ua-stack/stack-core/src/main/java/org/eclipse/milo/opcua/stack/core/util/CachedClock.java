@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A coarse clock that reads the system clock once per tick of a fixed resolution, so that reading the time is a
+ * volatile read instead of a call to the system clock.
+ * <p>
+ * Times read from a {@link CachedClock} lag the system clock by up to its resolution. A clock is owned by whoever
+ * creates it, e.g. a server that stamps its values with it, and is not shared through {@link DateTime}.
+ * <p>
+ * Once closed, a {@link CachedClock} reads the system clock on every call.
+ */
+public final class CachedClock implements AutoCloseable {
+
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private static final AtomicLongFieldUpdater<CachedClock> UTC_TIME_UPDATER =
+        AtomicLongFieldUpdater.newUpdater(CachedClock.class, "utcTime");
+
+    private volatile long utcTime;
+
+    private final long resolution;
+    private final TimeUnit unit;
+    private final ScheduledFuture<?> future;
+
+    /**
+     * Create a {@link CachedClock} updated on the shared {@link Stack#sharedScheduledExecutor()}.
+     *
+     * @param resolution the interval between reads of the system clock.
+     * @param unit       the {@link TimeUnit} of {@code resolution}.
+     */
+    public CachedClock(long resolution, TimeUnit unit) {
+        this(resolution, unit, Stack.sharedScheduledExecutor());
+    }
+
+    /**
+     * Create a {@link CachedClock} updated on {@code executor}.
+     *
+     * @param resolution the interval between reads of the system clock.
+     * @param unit       the {@link TimeUnit} of {@code resolution}.
+     * @param executor   the {@link ScheduledExecutorService} to read the system clock on.
+     */
+    public CachedClock(long resolution, TimeUnit unit, ScheduledExecutorService executor) {
+        checkArgument(resolution > 0, "resolution must be > 0");
+
+        this.resolution = resolution;
+        this.unit = unit;
+
+        utcTime = DateTime.nowUtcTime();
+
+        future = executor.scheduleAtFixedRate(this::update, resolution, resolution, unit);
+    }
+
+    /**
+     * @return the time of the last tick as 100 nanosecond intervals since UTC epoch.
+     */
+    public long getUtcTime() {
+        long time = utcTime;
+
+        return time != CLOSED ? time : DateTime.nowUtcTime();
+    }
+
+    /**
+     * @return a {@link DateTime} of the time of the last tick.
+     */
+    public DateTime now() {
+        return new DateTime(getUtcTime());
+    }
+
+    /**
+     * @return the interval between reads of the system clock, in {@link #getUnit()}.
+     */
+    public long getResolution() {
+        return resolution;
+    }
+
+    /**
+     * @return the {@link TimeUnit} of {@link #getResolution()}.
+     */
+    public TimeUnit getUnit() {
+        return unit;
+    }
+
+    /**
+     * Stop reading the system clock once per tick.
+     */
+    @Override
+    public void close() {
+        future.cancel(false);
+
+        utcTime = CLOSED;
+    }
+
+    private void update() {
+        long time = utcTime;
+
+        if (time != CLOSED) {
+            // don't overwrite CLOSED if close() races with a tick
+            UTC_TIME_UPDATER.compareAndSet(this, time, DateTime.nowUtcTime());
+        }
+    }
+
+}
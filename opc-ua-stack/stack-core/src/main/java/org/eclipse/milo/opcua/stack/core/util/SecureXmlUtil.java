@@ -12,6 +12,7 @@ package org.eclipse.milo.opcua.stack.core.util;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
 import javax.xml.transform.TransformerFactory;
 
 import org.slf4j.LoggerFactory;
@@ -30,6 +31,11 @@ public class SecureXmlUtil {
      */
     public static final TransformerFactory SHARED_TRANSFORMER_FACTORY = TransformerFactory.newInstance();
 
+    /**
+     * A shared {@link XMLInputFactory} that has been configured securely to prevent XXE attacks.
+     */
+    public static final XMLInputFactory SHARED_XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+
     static {
         SHARED_DOCUMENT_BUILDER_FACTORY.setCoalescing(true);
         SHARED_DOCUMENT_BUILDER_FACTORY.setNamespaceAware(true);
@@ -48,6 +54,11 @@ public class SecureXmlUtil {
 
         trySetAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
         trySetAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
+
+        SHARED_XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+        SHARED_XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        SHARED_XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        SHARED_XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
     }
 
     private static void trySetFeature(String feature, boolean value) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access to virtual threads (JDK 21+) without requiring them at compile time.
+ * <p>
+ * The stack is built for Java 8, so the virtual thread APIs are looked up reflectively. On runtimes without them
+ * {@link #isSupported()} returns {@code false} and {@link #newVirtualThreadExecutor(String)} throws.
+ */
+public final class VirtualThreads {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            // Preview APIs on JDK 19/20 exist but throw unless enabled; make sure they actually work.
+            ofVirtual.invoke(null);
+        } catch (Throwable t) {
+            LOGGER.debug("Virtual threads not supported: {}", t.toString());
+
+            ofVirtual = null;
+        }
+
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {}
+
+    /**
+     * @return {@code true} if the current runtime supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Create an {@link ExecutorService} that starts a new virtual thread for each task.
+     *
+     * @param name the prefix of the names given to threads created by this executor.
+     * @return an {@link ExecutorService} that starts a new virtual thread for each task.
+     * @throws UnsupportedOperationException if the current runtime does not support virtual threads.
+     */
+    public static ExecutorService newVirtualThreadExecutor(String name) {
+        ThreadFactory threadFactory = newVirtualThreadFactory(name);
+
+        if (threadFactory == null) {
+            throw new UnsupportedOperationException("virtual threads not supported");
+        }
+
+        try {
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("virtual threads not supported", e);
+        }
+    }
+
+    /**
+     * Create a {@link ThreadFactory} that creates virtual threads.
+     *
+     * @param name the prefix of the names given to threads created by this factory.
+     * @return a {@link ThreadFactory} that creates virtual threads, or {@code null} if the current runtime does not
+     *     support virtual threads.
+     */
+    @Nullable
+    public static ThreadFactory newVirtualThreadFactory(String name) {
+        if (!isSupported()) return null;
+
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, name, 0L);
+
+            return (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Failed to create virtual thread factory", e);
+
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.channel;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.DefaultEventExecutor;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class FlushCoalescerTest {
+
+    @Test
+    public void testWritesInSameTurnAreFlushedTogether() throws Exception {
+        // EmbeddedChannel runs pending tasks after every outbound operation, which would run the scheduled flush
+        // between writes, so the coalescer is driven from a real event loop instead.
+        DefaultEventExecutor executor = new DefaultEventExecutor();
+
+        try {
+            AtomicInteger flushes = new AtomicInteger();
+
+            EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+                @Override
+                public void flush(ChannelHandlerContext ctx) {
+                    flushes.incrementAndGet();
+                    ctx.flush();
+                }
+            });
+
+            channel.pipeline().addLast(executor, "coalesced", new ChannelInboundHandlerAdapter());
+
+            ChannelHandlerContext ctx = channel.pipeline().context("coalesced");
+
+            FlushCoalescer coalescer = new FlushCoalescer(ctx, 0L, Long.MAX_VALUE);
+
+            int pendingAtEndOfTurn = executor.submit(() -> {
+                coalescer.write(Unpooled.wrappedBuffer(new byte[]{1}));
+                coalescer.write(Unpooled.wrappedBuffer(new byte[]{2}));
+                coalescer.write(Unpooled.wrappedBuffer(new byte[]{3}));
+
+                return channel.outboundMessages().size();
+            }).get(5, TimeUnit.SECONDS);
+
+            assertEquals(pendingAtEndOfTurn, 0);
+
+            // the flush scheduled by the first write runs before this task
+            executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+
+            assertEquals(channel.outboundMessages().size(), 3);
+            assertEquals(flushes.get(), 1);
+
+            channel.finishAndReleaseAll();
+        } finally {
+            executor.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testWritesFlushedWhenMaxPendingBytesExceeded() {
+        AtomicReference<ChannelHandlerContext> ctxRef = new AtomicReference<>();
+        EmbeddedChannel channel = newChannel(ctxRef);
+
+        FlushCoalescer coalescer = new FlushCoalescer(ctxRef.get(), 0L, 2L);
+
+        coalescer.write(Unpooled.wrappedBuffer(new byte[]{1}));
+        assertTrue(channel.outboundMessages().isEmpty());
+
+        coalescer.write(Unpooled.wrappedBuffer(new byte[]{2}));
+        assertEquals(channel.outboundMessages().size(), 2);
+
+        channel.finishAndReleaseAll();
+    }
+
+    private static EmbeddedChannel newChannel(AtomicReference<ChannelHandlerContext> ctxRef) {
+        return new EmbeddedChannel(new ChannelInboundHandlerAdapter() {
+            @Override
+            public void handlerAdded(ChannelHandlerContext ctx) {
+                ctxRef.set(ctx);
+            }
+        });
+    }
+
+}
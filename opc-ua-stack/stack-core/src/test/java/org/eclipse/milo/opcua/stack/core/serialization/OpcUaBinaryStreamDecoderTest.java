@@ -13,8 +13,11 @@ package org.eclipse.milo.opcua.stack.core.serialization;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 
 public class OpcUaBinaryStreamDecoderTest {
@@ -79,4 +82,35 @@ public class OpcUaBinaryStreamDecoderTest {
         );
     }
 
+    @Test
+    public void testNodeIdInterning() {
+        NodeId[] nodeIds = new NodeId[]{
+            new NodeId(0, 85),
+            new NodeId(1, 1000),
+            new NodeId(1000, 100000),
+            new NodeId(2, "Temperature")
+        };
+
+        ByteBuf buffer = Unpooled.buffer();
+        OpcUaBinaryStreamEncoder encoder = new OpcUaBinaryStreamEncoder(new TestSerializationContext())
+            .setBuffer(buffer);
+
+        for (NodeId nodeId : nodeIds) {
+            encoder.writeNodeId(nodeId);
+            encoder.writeNodeId(nodeId);
+        }
+
+        OpcUaBinaryStreamDecoder decoder = new OpcUaBinaryStreamDecoder(new TestSerializationContext())
+            .setBuffer(buffer)
+            .setNodeIdInterningEnabled(true);
+
+        for (NodeId nodeId : nodeIds) {
+            NodeId first = decoder.readNodeId();
+            NodeId second = decoder.readNodeId();
+
+            assertEquals(first, nodeId);
+            assertSame(second, first);
+        }
+    }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.serialization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ByteString;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DataValue;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.builtin.QualifiedName;
+import org.eclipse.milo.opcua.stack.core.types.builtin.StatusCode;
+import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
+import org.eclipse.milo.opcua.stack.core.types.builtin.XmlElement;
+import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.ULong;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ubyte;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
+import static org.testng.Assert.assertEquals;
+
+public class OpcUaJsonStreamEncoderTest {
+
+    private final SerializationContext context = new TestSerializationContext();
+
+    @DataProvider
+    public Object[][] getVariants() {
+        return new Object[][]{
+            {new Variant(true)},
+            {new Variant((byte) -1)},
+            {new Variant(ubyte(255))},
+            {new Variant((short) -2)},
+            {new Variant(ushort(65535))},
+            {new Variant(Integer.MIN_VALUE)},
+            {new Variant(uint(4294967295L))},
+            {new Variant(Long.MIN_VALUE)},
+            {new Variant(ULong.MAX)},
+            {new Variant(3.5f)},
+            {new Variant(Double.NaN)},
+            {new Variant(Double.NEGATIVE_INFINITY)},
+            {new Variant("quote \" backslash \\ newline \n control \u0001 unicode é中😀")},
+            {new Variant(new DateTime(132000000000000001L))},
+            {new Variant(UUID.randomUUID())},
+            {new Variant(ByteString.of(new byte[]{1, 2, 3}))},
+            {new Variant(new XmlElement("<a>b</a>"))},
+            {new Variant(new NodeId(0, 85))},
+            {new Variant(new NodeId(2, "foo"))},
+            {new Variant(new NodeId(1, UUID.randomUUID()))},
+            {new Variant(new ExpandedNodeId(ushort(0), "urn:test", uint(1), uint(2)))},
+            {new Variant(StatusCode.BAD)},
+            {new Variant(new QualifiedName(1, "qn"))},
+            {new Variant(LocalizedText.english("text"))},
+            {new Variant(new DataValue(new Variant(1.0), StatusCode.UNCERTAIN, new DateTime(132000000000000000L)))},
+            {new Variant(new Integer[]{0, 1, 2, 3})},
+            {new Variant(new Integer[][]{{0, 1}, {2, 3}})},
+            {new Variant(new String[]{"a", null, "c"})},
+            {new Variant(new Variant[]{new Variant(1), new Variant("x")})}
+        };
+    }
+
+    @Test(dataProvider = "getVariants")
+    public void testVariantRoundTrip(Variant variant) {
+        ByteBuf buffer = Unpooled.buffer();
+
+        new OpcUaJsonStreamEncoder(context).setBuffer(buffer).writeVariant(null, variant);
+        Variant decoded = new OpcUaJsonStreamDecoder(context).setBuffer(buffer).readVariant(null);
+
+        assertEquals(decoded, variant);
+    }
+
+    @Test
+    public void testMessageRoundTrip() {
+        DateTime now = DateTime.now();
+
+        ReadResponse response = new ReadResponse(
+            new ResponseHeader(now, uint(1), StatusCode.GOOD, null, new String[0], null),
+            new DataValue[]{
+                new DataValue(new Variant(42), StatusCode.GOOD, now),
+                new DataValue(new Variant(new double[]{1.0, 2.0}), StatusCode.BAD, now)
+            },
+            null
+        );
+
+        ByteBuf buffer = Unpooled.buffer();
+
+        new OpcUaJsonStreamEncoder(context).setBuffer(buffer).writeMessage(null, response);
+        UaMessage decoded = new OpcUaJsonStreamDecoder(context).setBuffer(buffer).readMessage(null);
+
+        ReadResponse expected = new ReadResponse(
+            response.getResponseHeader(),
+            new DataValue[]{
+                response.getResults()[0],
+                // primitive arrays decode as boxed arrays
+                new DataValue(new Variant(new Double[]{1.0, 2.0}), StatusCode.BAD, now)
+            },
+            null
+        );
+
+        assertEquals(decoded, expected);
+    }
+
+    @Test
+    public void testReversibleForm() {
+        assertEquals(encode(new Variant(42), true), "{\"Type\":6,\"Body\":42}");
+        assertEquals(encode(new Variant(Long.MAX_VALUE), true), "{\"Type\":8,\"Body\":\"9223372036854775807\"}");
+        assertEquals(
+            encode(new Variant(new NodeId(2, "foo")), true),
+            "{\"Type\":17,\"Body\":{\"IdType\":1,\"Id\":\"foo\",\"Namespace\":2}}"
+        );
+        assertEquals(
+            encode(new Variant(LocalizedText.english("hello")), true),
+            "{\"Type\":21,\"Body\":{\"Locale\":\"en\",\"Text\":\"hello\"}}"
+        );
+    }
+
+    @Test
+    public void testNonReversibleForm() {
+        assertEquals(encode(new Variant(42), false), "42");
+        assertEquals(encode(new Variant(new Integer[][]{{0, 1}, {2, 3}}), false), "[[0,1],[2,3]]");
+        assertEquals(encode(new Variant(LocalizedText.english("hello")), false), "\"hello\"");
+        assertEquals(encode(new Variant(StatusCode.GOOD), false), "{\"Code\":0,\"Symbol\":\"Good\"}");
+    }
+
+    private String encode(Variant variant, boolean reversible) {
+        ByteBuf buffer = Unpooled.buffer();
+
+        new OpcUaJsonStreamEncoder(context, reversible).setBuffer(buffer).writeVariant(null, variant);
+
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+
+}
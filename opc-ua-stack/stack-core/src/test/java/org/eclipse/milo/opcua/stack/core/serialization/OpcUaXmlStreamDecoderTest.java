@@ -12,11 +12,16 @@ package org.eclipse.milo.opcua.stack.core.serialization;
 
 import java.io.StringReader;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
 public class OpcUaXmlStreamDecoderTest {
+
+    private static final String TYPES = "xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\"";
+
     @Test
     public void testReadVariantValue() throws Exception {
         String xml =
@@ -35,4 +40,36 @@ public class OpcUaXmlStreamDecoderTest {
         assertNotNull(decoder.readVariantValue());
     }
 
+    @DataProvider
+    public Object[][] getValues() {
+        return new Object[][]{
+            {"<String " + TYPES + ">a &amp; b &lt;c&gt; &#233;</String>"},
+            {"<String " + TYPES + "/>"},
+            {"<UInt32 " + TYPES + ">42</UInt32>"},
+            {"<DateTime " + TYPES + ">2016-04-15T00:00:00Z</DateTime>"},
+            {"<ListOfInt32 " + TYPES + "> <Int32>1</Int32><Int32> -2 </Int32> </ListOfInt32>"},
+            {"<ListOfLocalizedText " + TYPES + "><LocalizedText><Locale>  </Locale><Text>Numeric</Text>" +
+                "</LocalizedText></ListOfLocalizedText>"},
+            {"<ListOfExtensionObject " + TYPES + "><ExtensionObject><TypeId><Identifier>i=7616</Identifier>\n" +
+                "  </TypeId><Body><EnumValueType><Value>0</Value><DisplayName><Locale/><Text>None</Text>\n" +
+                "  </DisplayName></EnumValueType></Body></ExtensionObject></ListOfExtensionObject>"},
+            // not handled by the fast path
+            {"<String " + TYPES + "><![CDATA[x]]></String>"},
+            {"<ListOfExtensionObject " + TYPES + "><ExtensionObject><TypeId><Identifier>i=297</Identifier>" +
+                "</TypeId><Body><Argument><Name>a</Name><ArrayDimensions></ArrayDimensions></Argument></Body>" +
+                "</ExtensionObject></ListOfExtensionObject>"},
+            {"<ListOfQualifiedName " + TYPES + "><QualifiedName><Name>qn</Name></QualifiedName>" +
+                "</ListOfQualifiedName>"}
+        };
+    }
+
+    @Test(dataProvider = "getValues")
+    public void testDecodeVariantValue(String xml) throws Exception {
+        OpcUaXmlStreamDecoder decoder = new OpcUaXmlStreamDecoder(new TestSerializationContext());
+
+        Object expected = decoder.setInput(new StringReader(xml)).readVariantValue();
+
+        assertEquals(decoder.decodeVariantValue(xml), expected);
+    }
+
 }
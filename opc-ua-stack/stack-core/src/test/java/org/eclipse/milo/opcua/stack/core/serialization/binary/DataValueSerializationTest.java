@@ -24,6 +24,8 @@ import org.testng.annotations.Test;
 
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.ushort;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
 
 public class DataValueSerializationTest {
 
@@ -42,6 +44,53 @@ public class DataValueSerializationTest {
         assertEquals(decodedValue, value);
     }
 
+    @Test
+    public void testPicosecondsValue() {
+        DateTime now = DateTime.now();
+        DataValue zero = new DataValue(Variant.NULL_VALUE, StatusCode.GOOD, now, ushort(0), now, ushort(65535));
+        DataValue none = new DataValue(Variant.NULL_VALUE, StatusCode.GOOD, now, now);
+
+        assertEquals(zero.getSourcePicoseconds(), ushort(0));
+        assertEquals(zero.getSourcePicosecondsValue(), 0);
+        assertEquals(zero.getServerPicoseconds(), ushort(65535));
+        assertEquals(zero.getServerPicosecondsValue(), 65535);
+
+        assertNull(none.getSourcePicoseconds());
+        assertNull(none.getServerPicoseconds());
+        assertEquals(none.getSourcePicosecondsValue(), 0);
+        assertEquals(none.getServerPicosecondsValue(), 0);
+        assertNotEquals(zero, none);
+    }
+
+    @Test
+    public void testMinValueTimestampIsNotNull() {
+        DataValue minValue = new DataValue(Variant.NULL_VALUE, StatusCode.GOOD, 0L, -1, 0L, -1);
+        DataValue nullTime = new DataValue(
+            Variant.NULL_VALUE, StatusCode.GOOD, DataValue.NULL_UTC_TIME, -1, DataValue.NULL_UTC_TIME, -1);
+
+        assertEquals(minValue.getSourceTime(), DateTime.MIN_VALUE);
+        assertEquals(minValue.getServerTime(), DateTime.MIN_VALUE);
+        assertNull(nullTime.getSourceTime());
+        assertNull(nullTime.getServerTime());
+        assertEquals(nullTime, new DataValue(Variant.NULL_VALUE, StatusCode.GOOD, null, null));
+        assertNotEquals(minValue, nullTime);
+
+        // neither timestamp is encoded
+        ByteBuf minValueBuffer = BufferUtil.pooledBuffer();
+        encoder.setBuffer(minValueBuffer);
+        encoder.writeDataValue(minValue);
+
+        ByteBuf nullTimeBuffer = BufferUtil.pooledBuffer();
+        encoder.setBuffer(nullTimeBuffer);
+        encoder.writeDataValue(nullTime);
+
+        assertEquals(minValueBuffer, nullTimeBuffer);
+        assertEquals(minValueBuffer.readableBytes(), 1);
+
+        minValueBuffer.release();
+        nullTimeBuffer.release();
+    }
+
     @DataProvider
     public Object[][] getValues() {
         return new Object[][]{
@@ -113,6 +162,15 @@ public class DataValueSerializationTest {
                     StatusCode.BAD,
                     DateTime.now(),
                     DateTime.MIN_VALUE)
+            },
+            {
+                new DataValue(
+                    new Variant(1),
+                    StatusCode.GOOD,
+                    DateTime.now(),
+                    ushort(9999),
+                    DateTime.now(),
+                    ushort(65535))
             }
         };
     }
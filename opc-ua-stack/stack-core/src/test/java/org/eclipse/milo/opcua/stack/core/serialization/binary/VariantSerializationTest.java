@@ -11,13 +11,19 @@
 package org.eclipse.milo.opcua.stack.core.serialization.binary;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
 import org.eclipse.milo.opcua.stack.core.BuiltinDataType;
+import org.eclipse.milo.opcua.stack.core.UaSerializationException;
+import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
 import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamDecoder;
+import org.eclipse.milo.opcua.stack.core.serialization.OpcUaBinaryStreamEncoder;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
 import org.eclipse.milo.opcua.stack.core.serialization.TestSerializationContext;
 import org.eclipse.milo.opcua.stack.core.types.builtin.ExtensionObject;
 import org.eclipse.milo.opcua.stack.core.types.builtin.Variant;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.ServerState;
 import org.eclipse.milo.opcua.stack.core.types.structured.ServiceCounterDataType;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -72,6 +78,18 @@ public class VariantSerializationTest extends BinarySerializationFixture {
         Assert.assertEquals(sc1.getErrorCount(), sc2.getErrorCount());
     }
 
+    @Test
+    public void testVariant_UaEnumerationArray() {
+        Variant v = new Variant(new ServerState[]{ServerState.Running, ServerState.Shutdown});
+        writer.writeVariant(v);
+        Variant decoded = reader.readVariant();
+
+        assertEquals(decoded, new Variant(new Integer[]{
+            ServerState.Running.getValue(),
+            ServerState.Shutdown.getValue()
+        }));
+    }
+
     @DataProvider(name = "PrimitiveArrayVariantProvider")
     public Object[][] getPrimitiveArrayVariants() {
         return new Object[][]{
@@ -98,6 +116,87 @@ public class VariantSerializationTest extends BinarySerializationFixture {
         assertEquals(decoded, expected);
     }
 
+    @DataProvider(name = "PrimitiveArrayDecodingProvider")
+    public Object[][] getPrimitiveArrayDecodingVariants() {
+        return new Object[][]{
+            {new Variant(new boolean[]{true, false, true})},
+            {new Variant(new byte[]{-1, 0, 1})},
+            {new Variant(new short[]{-1, 0, 1})},
+            {new Variant(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE})},
+            {new Variant(new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE})},
+            {new Variant(new float[]{-1.5f, 0f, Float.NaN})},
+            {new Variant(new double[]{-1.5, 0.0, Double.MAX_VALUE})},
+            {new Variant(new double[][]{{0.0, 1.0}, {2.0, 3.0}})}
+        };
+    }
+
+    @Test(dataProvider = "PrimitiveArrayDecodingProvider",
+        description = "Test that primitive arrays round trip unboxed when primitive array decoding is enabled.")
+    public void testPrimitiveArrayDecoding(Variant variant) {
+        reader.setPrimitiveArraysEnabled(true);
+
+        writer.writeVariant(variant);
+        Variant decoded = reader.readVariant();
+
+        assertEquals(decoded.getValue().getClass(), variant.getValue().getClass());
+        assertEquals(decoded, variant);
+    }
+
+    @Test(description = "Test that primitive arrays round trip when written to a composite buffer.")
+    public void testPrimitiveArrayCompositeBuffer() {
+        CompositeByteBuf composite = Unpooled.compositeBuffer();
+        composite.addComponent(true, Unpooled.buffer(4, 4));
+        composite.addComponent(true, Unpooled.buffer(64));
+        composite.writerIndex(0);
+
+        double[] values = new double[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 0.5;
+        }
+
+        new OpcUaBinaryStreamEncoder(new TestSerializationContext())
+            .setBuffer(composite)
+            .writeVariant(new Variant(values));
+
+        Variant decoded = new OpcUaBinaryStreamDecoder(new TestSerializationContext())
+            .setPrimitiveArraysEnabled(true)
+            .setBuffer(composite)
+            .readVariant();
+
+        assertEquals(decoded, new Variant(values));
+    }
+
+    @Test(
+        description = "Test that a primitive array length whose byte length overflows an int is rejected.",
+        expectedExceptions = UaSerializationException.class
+    )
+    public void testPrimitiveArrayByteLengthOverflow() {
+        ByteBuf buffer = Unpooled.buffer();
+
+        // 2^29 doubles occupy 2^32 bytes, which is 0 when computed as an int
+        buffer.writeByte(BuiltinDataType.Double.getTypeId() | (1 << 7));
+        buffer.writeIntLE(1 << 29);
+        buffer.writeDoubleLE(1.0);
+        buffer.writeDoubleLE(2.0);
+
+        SerializationContext context = new TestSerializationContext() {
+            @Override
+            public EncodingLimits getEncodingLimits() {
+                return new EncodingLimits(
+                    EncodingLimits.DEFAULT_MAX_CHUNK_SIZE,
+                    EncodingLimits.DEFAULT_MAX_CHUNK_COUNT,
+                    Integer.MAX_VALUE,
+                    EncodingLimits.DEFAULT_MAX_RECURSION_DEPTH
+                );
+            }
+        };
+
+        new OpcUaBinaryStreamDecoder(context)
+            .setPrimitiveArraysEnabled(true)
+            .setBuffer(buffer)
+            .readVariant();
+    }
+
     @Test(description = "Test that a Variant containing a null array encoded with a negative array size to indicate a null value decodes properly.")
     public void testNullArrayEncodedWithNegativeArraySize() {
         ByteBuf buffer = Unpooled.buffer();
@@ -18,10 +18,15 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.milo.opcua.stack.core.util.CachedClock;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 public class DateTimeTest {
 
@@ -47,4 +52,27 @@ public class DateTimeTest {
         assertEquals(outputZdt.getNano(), 123_456_700);
     }
 
+    @Test
+    public void cachedClock() throws InterruptedException {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+        CachedClock clock = new CachedClock(10, TimeUnit.MILLISECONDS, executor);
+
+        try {
+            long start = clock.getUtcTime();
+            assertTrue(Math.abs(start - DateTime.nowUtcTime()) < TimeUnit.SECONDS.toNanos(1) / 100);
+
+            Thread.sleep(100);
+
+            assertTrue(clock.getUtcTime() > start);
+            assertEquals(clock.getUtcTime(), DateTime.nowUtcTime(), TimeUnit.MILLISECONDS.toNanos(100) / 100);
+        } finally {
+            clock.close();
+            executor.shutdown();
+        }
+
+        // a closed clock reads the system clock
+        assertEquals(clock.getUtcTime(), DateTime.nowUtcTime(), TimeUnit.MILLISECONDS.toNanos(100) / 100);
+    }
+
 }
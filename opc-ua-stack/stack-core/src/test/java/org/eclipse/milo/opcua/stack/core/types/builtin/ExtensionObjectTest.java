@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.types.builtin;
+
+import org.eclipse.milo.opcua.stack.core.Identifiers;
+import org.eclipse.milo.opcua.stack.core.serialization.SerializationContext;
+import org.eclipse.milo.opcua.stack.core.serialization.TestSerializationContext;
+import org.eclipse.milo.opcua.stack.core.types.OpcUaDefaultBinaryEncoding;
+import org.eclipse.milo.opcua.stack.core.types.structured.Argument;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class ExtensionObjectTest {
+
+    private final SerializationContext context = new TestSerializationContext();
+
+    private final Argument argument = new Argument(
+        "argument",
+        Identifiers.Int32,
+        -1,
+        null,
+        LocalizedText.english("description")
+    );
+
+    @Test
+    public void testEncodedValueIsKept() {
+        ExtensionObject xo = ExtensionObject.encode(context, argument);
+
+        assertSame(xo.decode(context), argument);
+    }
+
+    @Test
+    public void testDecodeBody() {
+        ByteString body = (ByteString) ExtensionObject.encode(context, argument).getBody();
+
+        ExtensionObject xo = new ExtensionObject(body, Identifiers.Argument_Encoding_DefaultBinary);
+
+        Object decoded = xo.decode(context);
+
+        assertEquals(decoded, argument);
+        assertSame(xo.decode(context), decoded);
+    }
+
+    @Test
+    public void testTranscodeIsKept() {
+        ExtensionObject xo = new ExtensionObject(
+            new XmlElement(
+                "<Argument xmlns=\"http://opcfoundation.org/UA/2008/02/Types.xsd\">" +
+                    "<Name>argument</Name><DataType><Identifier>i=6</Identifier></DataType>" +
+                    "<ValueRank>-1</ValueRank><ArrayDimensions/>" +
+                    "<Description><Locale>en</Locale><Text>description</Text></Description></Argument>"
+            ),
+            Identifiers.Argument_Encoding_DefaultXml
+        );
+
+        ExtensionObject transcoded = xo.transcode(
+            context,
+            Identifiers.Argument_Encoding_DefaultBinary,
+            OpcUaDefaultBinaryEncoding.getInstance()
+        );
+
+        assertNotSame(transcoded, xo);
+        assertEquals(transcoded.getBodyType(), ExtensionObject.BodyType.ByteString);
+        assertEquals(((Argument) transcoded.decode(context)).getName(), "argument");
+
+        assertSame(
+            xo.transcode(
+                context,
+                Identifiers.Argument_Encoding_DefaultBinary,
+                OpcUaDefaultBinaryEncoding.getInstance()
+            ),
+            transcoded
+        );
+        assertSame(transcoded.decode(context), xo.decode(context));
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.core.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void testNewVirtualThreadExecutor() throws Exception {
+        if (VirtualThreads.isSupported()) {
+            ExecutorService executor = VirtualThreads.newVirtualThreadExecutor("test-virtual-thread-");
+
+            try {
+                CountDownLatch latch = new CountDownLatch(1);
+                AtomicReference<String> threadName = new AtomicReference<>();
+
+                executor.execute(() -> {
+                    threadName.set(Thread.currentThread().getName());
+                    latch.countDown();
+                });
+
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+                assertEquals(threadName.get(), "test-virtual-thread-0");
+            } finally {
+                executor.shutdown();
+            }
+        } else {
+            assertNull(VirtualThreads.newVirtualThreadFactory("test-virtual-thread-"));
+
+            expectThrows(
+                UnsupportedOperationException.class,
+                () -> VirtualThreads.newVirtualThreadExecutor("test-virtual-thread-")
+            );
+        }
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.server;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link ChunkSizePolicy} that picks a chunk size for each client host based on the round-trip time and response
+ * sizes observed on its previous connections.
+ * <p>
+ * Hosts with a round-trip time at or below the LAN threshold are offered a chunk size large enough for most of their
+ * responses to fit in a single chunk, up to the configured maximum. Hosts above the threshold are offered the
+ * configured minimum. Hosts that haven't been seen before are offered the server's default chunk size.
+ */
+public class AdaptiveChunkSizePolicy implements ChunkSizePolicy {
+
+    /**
+     * The default maximum chunk size offered to LAN clients; 1MB.
+     */
+    public static final int DEFAULT_MAX_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * The default round-trip time, in milliseconds, at or below which a client is treated as a LAN client.
+     */
+    public static final long DEFAULT_LAN_ROUND_TRIP_TIME_MS = 2L;
+
+    /**
+     * The fraction of response messages that should fit in a single chunk for LAN clients.
+     */
+    private static final double MESSAGE_SIZE_PERCENTILE = 0.9;
+
+    /**
+     * Room left in a chunk for the secure conversation headers, signature, and padding.
+     */
+    private static final int CHUNK_OVERHEAD = 1024;
+
+    /**
+     * Weight given to a new round-trip time sample in the moving average.
+     */
+    private static final double RTT_ALPHA = 0.25;
+
+    private final Cache<InetAddress, HostStatistics> statistics = CacheBuilder.newBuilder()
+        .maximumSize(1024)
+        .expireAfterAccess(1, TimeUnit.HOURS)
+        .build();
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long lanRoundTripTimeNanos;
+
+    /**
+     * Create an {@link AdaptiveChunkSizePolicy} using the default parameters.
+     *
+     * @see ChunkSizePolicy#MIN_CHUNK_SIZE
+     * @see AdaptiveChunkSizePolicy#DEFAULT_MAX_CHUNK_SIZE
+     * @see AdaptiveChunkSizePolicy#DEFAULT_LAN_ROUND_TRIP_TIME_MS
+     */
+    public AdaptiveChunkSizePolicy() {
+        this(MIN_CHUNK_SIZE, DEFAULT_MAX_CHUNK_SIZE, DEFAULT_LAN_ROUND_TRIP_TIME_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param minChunkSize     the chunk size offered to clients above the LAN round-trip time threshold.
+     * @param maxChunkSize     the largest chunk size offered to LAN clients.
+     * @param lanRoundTripTime the round-trip time at or below which a client is treated as a LAN client.
+     * @param unit             the unit of {@code lanRoundTripTime}.
+     */
+    public AdaptiveChunkSizePolicy(int minChunkSize, int maxChunkSize, long lanRoundTripTime, TimeUnit unit) {
+        Preconditions.checkArgument(minChunkSize >= MIN_CHUNK_SIZE,
+            "minChunkSize must be greater than or equal to " + MIN_CHUNK_SIZE);
+        Preconditions.checkArgument(maxChunkSize >= minChunkSize,
+            "maxChunkSize must be greater than or equal to minChunkSize");
+
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.lanRoundTripTimeNanos = unit.toNanos(lanRoundTripTime);
+    }
+
+    @Override
+    public int getChunkSize(SocketAddress remoteAddress, int defaultChunkSize) {
+        HostStatistics hostStatistics = getStatistics(remoteAddress, false);
+
+        if (hostStatistics == null || hostStatistics.roundTripTimeNanos < 0) {
+            return clamp(defaultChunkSize);
+        }
+
+        if (hostStatistics.roundTripTimeNanos > lanRoundTripTimeNanos) {
+            return minChunkSize;
+        }
+
+        long messageSize = hostStatistics.getMessageSizePercentile(MESSAGE_SIZE_PERCENTILE);
+
+        return clamp(Math.max(defaultChunkSize, messageSize + CHUNK_OVERHEAD));
+    }
+
+    @Override
+    public void onRoundTripTime(SocketAddress remoteAddress, long nanos) {
+        HostStatistics hostStatistics = getStatistics(remoteAddress, true);
+
+        if (hostStatistics != null) {
+            hostStatistics.onRoundTripTime(nanos);
+        }
+    }
+
+    @Override
+    public void onMessageEncoded(SocketAddress remoteAddress, int messageSize) {
+        HostStatistics hostStatistics = getStatistics(remoteAddress, true);
+
+        if (hostStatistics != null) {
+            hostStatistics.onMessageSize(messageSize);
+        }
+    }
+
+    private int clamp(long chunkSize) {
+        return (int) Math.max(minChunkSize, Math.min(maxChunkSize, chunkSize));
+    }
+
+    @Nullable
+    private HostStatistics getStatistics(SocketAddress remoteAddress, boolean create) {
+        if (!(remoteAddress instanceof InetSocketAddress)) return null;
+
+        InetAddress address = ((InetSocketAddress) remoteAddress).getAddress();
+
+        if (address == null) return null;
+
+        if (create) {
+            try {
+                return statistics.get(address, HostStatistics::new);
+            } catch (ExecutionException e) {
+                return null;
+            }
+        } else {
+            return statistics.getIfPresent(address);
+        }
+    }
+
+    private static class HostStatistics {
+
+        /**
+         * Counts of observed message sizes, bucketed by the number of bits needed to represent the size.
+         */
+        private final AtomicLongArray messageSizeCounts = new AtomicLongArray(32);
+
+        private volatile double roundTripTimeNanos = -1;
+
+        synchronized void onRoundTripTime(long nanos) {
+            if (roundTripTimeNanos < 0) {
+                roundTripTimeNanos = nanos;
+            } else {
+                roundTripTimeNanos = RTT_ALPHA * nanos + (1 - RTT_ALPHA) * roundTripTimeNanos;
+            }
+        }
+
+        void onMessageSize(int messageSize) {
+            int bucket = 32 - Integer.numberOfLeadingZeros(Math.max(messageSize, 1));
+
+            messageSizeCounts.incrementAndGet(Math.min(bucket, 31));
+        }
+
+        /**
+         * @return an upper bound on the size of {@code percentile} of the observed messages, or 0 if none have been
+         *     observed.
+         */
+        long getMessageSizePercentile(double percentile) {
+            long total = 0;
+            for (int i = 0; i < messageSizeCounts.length(); i++) {
+                total += messageSizeCounts.get(i);
+            }
+
+            if (total == 0) return 0;
+
+            long threshold = (long) Math.ceil(total * percentile);
+            long count = 0;
+
+            for (int i = 0; i < messageSizeCounts.length(); i++) {
+                count += messageSizeCounts.get(i);
+
+                if (count >= threshold) {
+                    return 1L << i;
+                }
+            }
+
+            return Integer.MAX_VALUE;
+        }
+
+    }
+
+}
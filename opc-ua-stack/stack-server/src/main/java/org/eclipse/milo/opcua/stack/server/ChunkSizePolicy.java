@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.server;
+
+import java.net.SocketAddress;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Chooses the maximum chunk size the server offers when negotiating buffer sizes with a client during Hello /
+ * Acknowledge.
+ * <p>
+ * The chunk size is negotiated once per connection, so a policy can only adapt across connections: it is notified
+ * of observations made on connections from a client and may use them the next time that client connects.
+ *
+ * @see EndpointConfiguration#getChunkSizePolicy()
+ */
+public interface ChunkSizePolicy {
+
+    /**
+     * The minimum buffer size allowed by the UA TCP protocol.
+     */
+    int MIN_CHUNK_SIZE = 8192;
+
+    /**
+     * Get the maximum chunk size to offer a client connecting from {@code remoteAddress}.
+     * <p>
+     * The size actually used is the smaller of this value and the buffer size requested by the client, and is never
+     * less than {@link #MIN_CHUNK_SIZE}.
+     * When a smaller chunk size is used the max chunk count is scaled up to match, so the max message size the client
+     * can send is unchanged.
+     *
+     * @param remoteAddress    the address of the connecting client.
+     * @param defaultChunkSize the max chunk size configured in the server's
+     *                         {@link org.eclipse.milo.opcua.stack.core.channel.EncodingLimits}.
+     * @return the maximum chunk size to offer the client.
+     */
+    int getChunkSize(SocketAddress remoteAddress, int defaultChunkSize);
+
+    /**
+     * Called with the time between sending an Acknowledge to a client and receiving its OpenSecureChannel request.
+     * <p>
+     * Only reported for OpenSecureChannel requests using {@code SecurityPolicy#None}; for other policies the time
+     * includes the client signing and encrypting its request and isn't a measure of network latency.
+     *
+     * @param remoteAddress the address of the client.
+     * @param nanos         the observed round-trip time, in nanoseconds.
+     */
+    default void onRoundTripTime(SocketAddress remoteAddress, long nanos) {}
+
+    /**
+     * Called with the size of each response message encoded for a client, before it is split into chunks.
+     *
+     * @param remoteAddress the address of the client.
+     * @param messageSize   the size of the encoded message, in bytes.
+     */
+    default void onMessageEncoded(SocketAddress remoteAddress, int messageSize) {}
+
+    /**
+     * Create a {@link ChunkSizePolicy} that always offers {@code chunkSize}.
+     *
+     * @param chunkSize the chunk size to offer.
+     * @return a {@link ChunkSizePolicy} that always offers {@code chunkSize}.
+     */
+    static ChunkSizePolicy fixed(int chunkSize) {
+        Preconditions.checkArgument(chunkSize >= MIN_CHUNK_SIZE,
+            "chunkSize must be greater than or equal to " + MIN_CHUNK_SIZE);
+
+        return (remoteAddress, defaultChunkSize) -> chunkSize;
+    }
+
+}
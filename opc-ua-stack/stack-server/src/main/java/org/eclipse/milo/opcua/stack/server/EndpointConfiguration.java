@@ -38,6 +38,7 @@ public class EndpointConfiguration {
     private final SecurityPolicy securityPolicy;
     private final MessageSecurityMode securityMode;
     private final ImmutableList<UserTokenPolicy> tokenPolicies;
+    private final ChunkSizePolicy chunkSizePolicy;
 
     private EndpointConfiguration(
         TransportProfile transportProfile,
@@ -48,7 +49,8 @@ public class EndpointConfiguration {
         Supplier<X509Certificate> certificateSupplier,
         SecurityPolicy securityPolicy,
         MessageSecurityMode securityMode,
-        List<UserTokenPolicy> tokenPolicies) {
+        List<UserTokenPolicy> tokenPolicies,
+        @Nullable ChunkSizePolicy chunkSizePolicy) {
 
         this.transportProfile = transportProfile;
         this.bindAddress = bindAddress;
@@ -59,6 +61,7 @@ public class EndpointConfiguration {
         this.securityPolicy = securityPolicy;
         this.securityMode = securityMode;
         this.tokenPolicies = ImmutableList.copyOf(tokenPolicies);
+        this.chunkSizePolicy = chunkSizePolicy;
     }
 
     public TransportProfile getTransportProfile() {
@@ -98,6 +101,18 @@ public class EndpointConfiguration {
         return tokenPolicies;
     }
 
+    /**
+     * Get the {@link ChunkSizePolicy} used to choose the max chunk size offered to clients connecting to this
+     * endpoint.
+     *
+     * @return the {@link ChunkSizePolicy} for this endpoint, or {@code null} if the max chunk size from the server's
+     *     {@link org.eclipse.milo.opcua.stack.core.channel.EncodingLimits} is used.
+     */
+    @Nullable
+    public ChunkSizePolicy getChunkSizePolicy() {
+        return chunkSizePolicy;
+    }
+
     public String getEndpointUrl() {
         String scheme = transportProfile.getScheme();
         String p = path.isEmpty() || path.startsWith("/") ? path : "/" + path;
@@ -119,7 +134,8 @@ public class EndpointConfiguration {
             Objects.equal(getCertificate(), that.getCertificate()) &&
             securityPolicy == that.securityPolicy &&
             securityMode == that.securityMode &&
-            Objects.equal(tokenPolicies, that.tokenPolicies);
+            Objects.equal(tokenPolicies, that.tokenPolicies) &&
+            Objects.equal(chunkSizePolicy, that.chunkSizePolicy);
     }
 
     @Override
@@ -133,7 +149,8 @@ public class EndpointConfiguration {
             getCertificate(),
             securityPolicy,
             securityMode,
-            tokenPolicies
+            tokenPolicies,
+            chunkSizePolicy
         );
     }
 
@@ -149,6 +166,7 @@ public class EndpointConfiguration {
             .add("securityPolicy", securityPolicy)
             .add("securityMode", securityMode)
             .add("tokenPolicies", tokenPolicies)
+            .add("chunkSizePolicy", chunkSizePolicy)
             .toString();
     }
 
@@ -178,6 +196,7 @@ public class EndpointConfiguration {
         SecurityPolicy securityPolicy = SecurityPolicy.None;
         MessageSecurityMode securityMode = MessageSecurityMode.None;
         List<UserTokenPolicy> tokenPolicies = new ArrayList<>();
+        ChunkSizePolicy chunkSizePolicy = null;
 
         public Builder setTransportProfile(TransportProfile transportProfile) {
             this.transportProfile = transportProfile;
@@ -234,6 +253,11 @@ public class EndpointConfiguration {
             return this;
         }
 
+        public Builder setChunkSizePolicy(@Nullable ChunkSizePolicy chunkSizePolicy) {
+            this.chunkSizePolicy = chunkSizePolicy;
+            return this;
+        }
+
         private Builder addTokenPolicies(List<UserTokenPolicy> tokenPolicies) {
             this.tokenPolicies.addAll(tokenPolicies);
             return this;
@@ -249,7 +273,8 @@ public class EndpointConfiguration {
                 .setCertificate(certificateSupplier)
                 .setSecurityPolicy(securityPolicy)
                 .setSecurityMode(securityMode)
-                .addTokenPolicies(tokenPolicies);
+                .addTokenPolicies(tokenPolicies)
+                .setChunkSizePolicy(chunkSizePolicy);
         }
 
         public EndpointConfiguration build() {
@@ -294,7 +319,8 @@ public class EndpointConfiguration {
                 certificateSupplier,
                 securityPolicy,
                 securityMode,
-                tokenPolicies
+                tokenPolicies,
+                chunkSizePolicy
             );
         }
 
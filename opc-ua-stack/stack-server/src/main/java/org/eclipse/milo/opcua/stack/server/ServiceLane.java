@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.server;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.ImmutableMap;
+import org.eclipse.milo.opcua.stack.core.types.builtin.ExpandedNodeId;
+import org.eclipse.milo.opcua.stack.core.types.structured.ActivateSessionRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.AddNodesRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.AddReferencesRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseNextRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.BrowseRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CallRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CancelRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CloseSessionRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CreateMonitoredItemsRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CreateSessionRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.CreateSubscriptionRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.DeleteMonitoredItemsRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.DeleteNodesRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.DeleteReferencesRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.DeleteSubscriptionsRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.FindServersOnNetworkRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.FindServersRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.GetEndpointsRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryUpdateRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ModifyMonitoredItemsRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ModifySubscriptionRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.QueryFirstRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.QueryNextRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.RegisterNodesRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.RegisterServer2Request;
+import org.eclipse.milo.opcua.stack.core.types.structured.RegisterServerRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.RepublishRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.SetMonitoringModeRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.SetPublishingModeRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.SetTriggeringRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.TransferSubscriptionsRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.TranslateBrowsePathsToNodeIdsRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.UnregisterNodesRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.WriteRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups of services that can be executed on their own executor, so that slow services (e.g. HistoryRead or Call
+ * backed by a slow device) don't delay cheap ones (e.g. Read) or latency sensitive ones (e.g. Publish).
+ *
+ * @see UaStackServerConfig#getServiceLaneExecutors()
+ */
+public enum ServiceLane {
+
+    /**
+     * Session, Subscription, and Discovery services, including Publish.
+     * <p>
+     * These are cheap and latency sensitive; keep-alives and Publish responses depend on them.
+     */
+    SESSION,
+
+    /**
+     * Read and Write.
+     */
+    ATTRIBUTE,
+
+    /**
+     * HistoryRead and HistoryUpdate.
+     */
+    HISTORY,
+
+    /**
+     * Call.
+     */
+    METHOD,
+
+    /**
+     * CreateMonitoredItems, ModifyMonitoredItems, DeleteMonitoredItems, SetMonitoringMode, and SetTriggering.
+     */
+    MONITORED_ITEM,
+
+    /**
+     * Browse, BrowseNext, TranslateBrowsePathsToNodeIds, RegisterNodes, and UnregisterNodes.
+     */
+    VIEW,
+
+    /**
+     * AddNodes, DeleteNodes, AddReferences, and DeleteReferences.
+     */
+    NODE_MANAGEMENT,
+
+    /**
+     * QueryFirst and QueryNext.
+     */
+    QUERY;
+
+    private static final Map<ExpandedNodeId, ServiceLane> LANES_BY_REQUEST_TYPE =
+        ImmutableMap.<ExpandedNodeId, ServiceLane>builder()
+            .put(CreateSessionRequest.TYPE_ID, SESSION)
+            .put(ActivateSessionRequest.TYPE_ID, SESSION)
+            .put(CloseSessionRequest.TYPE_ID, SESSION)
+            .put(CancelRequest.TYPE_ID, SESSION)
+            .put(CreateSubscriptionRequest.TYPE_ID, SESSION)
+            .put(ModifySubscriptionRequest.TYPE_ID, SESSION)
+            .put(DeleteSubscriptionsRequest.TYPE_ID, SESSION)
+            .put(TransferSubscriptionsRequest.TYPE_ID, SESSION)
+            .put(SetPublishingModeRequest.TYPE_ID, SESSION)
+            .put(PublishRequest.TYPE_ID, SESSION)
+            .put(RepublishRequest.TYPE_ID, SESSION)
+            .put(GetEndpointsRequest.TYPE_ID, SESSION)
+            .put(FindServersRequest.TYPE_ID, SESSION)
+            .put(FindServersOnNetworkRequest.TYPE_ID, SESSION)
+            .put(RegisterServerRequest.TYPE_ID, SESSION)
+            .put(RegisterServer2Request.TYPE_ID, SESSION)
+            .put(ReadRequest.TYPE_ID, ATTRIBUTE)
+            .put(WriteRequest.TYPE_ID, ATTRIBUTE)
+            .put(HistoryReadRequest.TYPE_ID, HISTORY)
+            .put(HistoryUpdateRequest.TYPE_ID, HISTORY)
+            .put(CallRequest.TYPE_ID, METHOD)
+            .put(CreateMonitoredItemsRequest.TYPE_ID, MONITORED_ITEM)
+            .put(ModifyMonitoredItemsRequest.TYPE_ID, MONITORED_ITEM)
+            .put(DeleteMonitoredItemsRequest.TYPE_ID, MONITORED_ITEM)
+            .put(SetMonitoringModeRequest.TYPE_ID, MONITORED_ITEM)
+            .put(SetTriggeringRequest.TYPE_ID, MONITORED_ITEM)
+            .put(BrowseRequest.TYPE_ID, VIEW)
+            .put(BrowseNextRequest.TYPE_ID, VIEW)
+            .put(TranslateBrowsePathsToNodeIdsRequest.TYPE_ID, VIEW)
+            .put(RegisterNodesRequest.TYPE_ID, VIEW)
+            .put(UnregisterNodesRequest.TYPE_ID, VIEW)
+            .put(AddNodesRequest.TYPE_ID, NODE_MANAGEMENT)
+            .put(DeleteNodesRequest.TYPE_ID, NODE_MANAGEMENT)
+            .put(AddReferencesRequest.TYPE_ID, NODE_MANAGEMENT)
+            .put(DeleteReferencesRequest.TYPE_ID, NODE_MANAGEMENT)
+            .put(QueryFirstRequest.TYPE_ID, QUERY)
+            .put(QueryNextRequest.TYPE_ID, QUERY)
+            .build();
+
+    /**
+     * Get the {@link ServiceLane} a request belongs to.
+     *
+     * @param requestTypeId the type id of the request.
+     * @return the {@link ServiceLane} the request belongs to, or {@code null} if it's not a known service request.
+     */
+    @Nullable
+    public static ServiceLane of(ExpandedNodeId requestTypeId) {
+        return LANES_BY_REQUEST_TYPE.get(requestTypeId);
+    }
+
+    /**
+     * Create an executor for each {@link ServiceLane} using default sizing.
+     * <p>
+     * Lanes expected to block on backend I/O ({@link #HISTORY}, {@link #METHOD}) get more threads than lanes that are
+     * normally CPU bound. Threads are daemon threads and time out when idle.
+     * <p>
+     * The caller owns the returned executors and is responsible for shutting them down.
+     *
+     * @return a new {@link ExecutorService} for each {@link ServiceLane}.
+     */
+    public static Map<ServiceLane, ExecutorService> createDefaultExecutors() {
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        Map<ServiceLane, ExecutorService> executors = new EnumMap<>(ServiceLane.class);
+
+        for (ServiceLane lane : values()) {
+            int threads;
+
+            switch (lane) {
+                case SESSION:
+                    threads = Math.max(2, processors / 2);
+                    break;
+                case HISTORY:
+                case METHOD:
+                    threads = processors * 4;
+                    break;
+                case ATTRIBUTE:
+                case MONITORED_ITEM:
+                case VIEW:
+                    threads = processors * 2;
+                    break;
+                default:
+                    threads = processors;
+                    break;
+            }
+
+            executors.put(lane, newLaneExecutor(lane, threads));
+        }
+
+        return executors;
+    }
+
+    private static ExecutorService newLaneExecutor(ServiceLane lane, int threads) {
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicLong threadNumber = new AtomicLong(0L);
+
+            @Override
+            public Thread newThread(@NotNull Runnable r) {
+                Thread thread = new Thread(
+                    r,
+                    "milo-service-lane-" + lane.name().toLowerCase() + "-" + threadNumber.getAndIncrement()
+                );
+                thread.setDaemon(true);
+                thread.setUncaughtExceptionHandler(
+                    (t, e) ->
+                        LoggerFactory.getLogger(ServiceLane.class)
+                            .error("Uncaught Exception on {} lane thread!", lane, e)
+                );
+                return thread;
+            }
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            threads, threads,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory
+        );
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.server;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An {@link Executor} for a {@link ServiceLane} that tracks how many submitted tasks are waiting to start.
+ */
+class ServiceLaneExecutor implements Executor {
+
+    private final AtomicInteger queueLength = new AtomicInteger(0);
+
+    private final ServiceLane lane;
+    private final Executor delegate;
+
+    ServiceLaneExecutor(ServiceLane lane, Executor delegate) {
+        this.lane = lane;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(@NotNull Runnable command) {
+        queueLength.incrementAndGet();
+
+        try {
+            delegate.execute(() -> {
+                queueLength.decrementAndGet();
+
+                command.run();
+            });
+        } catch (RejectedExecutionException e) {
+            queueLength.decrementAndGet();
+
+            throw e;
+        }
+    }
+
+    ServiceLane getLane() {
+        return lane;
+    }
+
+    /**
+     * @return the number of tasks submitted to this lane that have not started executing yet.
+     */
+    int getQueueLength() {
+        return queueLength.get();
+    }
+
+}
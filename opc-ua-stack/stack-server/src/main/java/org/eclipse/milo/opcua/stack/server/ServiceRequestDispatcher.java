@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.server;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelId;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.structured.PublishRequest;
+import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches {@link ServiceRequest}s to their {@link Executor} while enforcing the in-flight windows configured by
+ * {@link ServiceRequestLimits}.
+ * <p>
+ * Each {@link ServiceLane} has its own in-flight windows and its own queue per {@link Channel}, so slow services
+ * (e.g. HistoryRead or Call) never hold up requests belonging to another lane, even on the same channel or session.
+ * Requests are dispatched in order only relative to other requests of the same lane on the same channel.
+ * <p>
+ * Requests that can't be dispatched immediately are queued. Within a lane, channels with queued requests are
+ * serviced round-robin, one request at a time, so a single busy channel can't starve the others. When the number of
+ * requests queued for a channel, across all lanes, grows past half of
+ * {@link ServiceRequestLimits#getMaxQueuedPerChannel()} reads on that channel are paused until its queues drain.
+ * <p>
+ * A channel's queues are kept until the channel closes, at which point its queued requests are completed with
+ * {@link StatusCodes#Bad_SecureChannelClosed} and discarded. Queues are keyed by {@link Channel#id()} rather than
+ * by secure channel id because HTTPS requests all share secure channel id 0. Requests received without a
+ * {@link Channel} are queued by secure channel id only for as long as any of them are queued or in-flight.
+ */
+public class ServiceRequestDispatcher {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Channels keyed by {@link ChannelId}, or by secure channel id for requests received without a {@link Channel}.
+     */
+    private final Map<Object, ChannelState> channels = new HashMap<>();
+
+    /**
+     * One {@link Lane} per {@link ServiceLane}, by ordinal, followed by one for requests that don't belong to a
+     * {@link ServiceLane}.
+     */
+    private final Lane[] lanes = new Lane[ServiceLane.values().length + 1];
+
+    private int queued = 0;
+
+    private final ServiceRequestLimits limits;
+
+    public ServiceRequestDispatcher(ServiceRequestLimits limits) {
+        this.limits = limits;
+
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i);
+        }
+    }
+
+    /**
+     * Dispatch {@code task}, which services {@code serviceRequest}, as soon as the configured limits allow.
+     *
+     * @param serviceRequest the {@link ServiceRequest} being dispatched.
+     * @param channel        the {@link Channel} the request was received on, if reads on it can be paused.
+     * @param executor       the {@link Executor} to execute {@code task} on.
+     * @param task           the task that services {@code serviceRequest}.
+     */
+    public void dispatch(
+        ServiceRequest serviceRequest,
+        @Nullable Channel channel,
+        Executor executor,
+        Runnable task
+    ) {
+
+        if (serviceRequest.getRequest() instanceof PublishRequest) {
+            executor.execute(task);
+            return;
+        }
+
+        ServiceLane serviceLane = ServiceLane.of(serviceRequest.getRequest().getTypeId());
+        Lane lane = lanes[serviceLane != null ? serviceLane.ordinal() : lanes.length - 1];
+
+        List<PendingRequest> dispatched = null;
+        ChannelState created = null;
+        boolean rejected = false;
+
+        synchronized (this) {
+            Object key = channel != null ? channel.id() : serviceRequest.getSecureChannelId();
+
+            ChannelState channelState = channels.get(key);
+
+            if (channelState == null) {
+                channelState = new ChannelState(key, channel);
+                channels.put(key, channelState);
+                created = channelState;
+            }
+
+            if (channelState.queued >= limits.getMaxQueuedPerChannel()) {
+                rejected = true;
+            } else {
+                LaneQueue laneQueue = channelState.laneQueues[lane.index];
+
+                if (laneQueue == null) {
+                    laneQueue = new LaneQueue(lane, channelState);
+                    channelState.laneQueues[lane.index] = laneQueue;
+                }
+
+                laneQueue.pending.addLast(new PendingRequest(serviceRequest, executor, task));
+                channelState.queued++;
+                queued++;
+
+                if (!laneQueue.ready && !laneQueue.blocked) {
+                    laneQueue.ready = true;
+                    lane.readyQueues.addLast(laneQueue);
+                }
+
+                if (channelState.queued >= limits.getMaxQueuedPerChannel() / 2) {
+                    channelState.setReadsPaused(true);
+                }
+
+                dispatched = lane.poll();
+            }
+        }
+
+        if (created != null && channel != null) {
+            // Added outside the lock; the listener runs immediately if the channel has already closed.
+            ChannelState closing = created;
+            channel.closeFuture().addListener(f -> onChannelClosed(closing));
+        }
+
+        if (rejected) {
+            rejectedCount.increment();
+
+            logger.debug(
+                "Rejecting {}; too many requests queued for channel {}",
+                serviceRequest, channel != null ? channel : serviceRequest.getSecureChannelId()
+            );
+
+            serviceRequest.setServiceFault(StatusCodes.Bad_TcpServerTooBusy);
+        }
+
+        execute(dispatched);
+    }
+
+    /**
+     * @return the number of requests rejected because a channel's queue was full.
+     */
+    public LongAdder getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return the number of requests currently queued waiting to be dispatched.
+     */
+    public synchronized int getQueuedCount() {
+        return queued;
+    }
+
+    /**
+     * @return the number of requests currently in-flight.
+     */
+    public synchronized int getInFlightCount() {
+        int inFlight = 0;
+        for (Lane lane : lanes) {
+            inFlight += lane.inFlight;
+        }
+        return inFlight;
+    }
+
+    private void onCompleted(LaneQueue laneQueue, @Nullable NodeId sessionKey) {
+        List<PendingRequest> dispatched;
+
+        synchronized (this) {
+            Lane lane = laneQueue.lane;
+            ChannelState channelState = laneQueue.channelState;
+
+            lane.inFlight--;
+            laneQueue.inFlight--;
+            channelState.inFlight--;
+
+            if (sessionKey != null) {
+                lane.sessionInFlight.computeIfPresent(sessionKey, (k, v) -> v > 1 ? v - 1 : null);
+            }
+
+            // Re-check every blocked queue in this lane; completion may have opened the window it was waiting on.
+            for (LaneQueue blocked : lane.blockedQueues) {
+                blocked.blocked = false;
+                blocked.ready = true;
+                lane.readyQueues.addLast(blocked);
+            }
+            lane.blockedQueues.clear();
+
+            // Channels with a Channel are removed when it closes, so only one close listener is ever added per Channel.
+            if (channelState.channel == null && channelState.queued == 0 && channelState.inFlight == 0) {
+                channels.remove(channelState.key, channelState);
+            }
+
+            dispatched = lane.poll();
+        }
+
+        execute(dispatched);
+    }
+
+    private void onChannelClosed(ChannelState channelState) {
+        List<PendingRequest> discarded = new ArrayList<>();
+
+        synchronized (this) {
+            channels.remove(channelState.key, channelState);
+
+            for (LaneQueue laneQueue : channelState.laneQueues) {
+                if (laneQueue == null) continue;
+
+                if (laneQueue.ready) {
+                    laneQueue.lane.readyQueues.remove(laneQueue);
+                    laneQueue.ready = false;
+                }
+                if (laneQueue.blocked) {
+                    laneQueue.lane.blockedQueues.remove(laneQueue);
+                    laneQueue.blocked = false;
+                }
+
+                discarded.addAll(laneQueue.pending);
+                laneQueue.pending.clear();
+            }
+
+            queued -= channelState.queued;
+            channelState.queued = 0;
+        }
+
+        if (!discarded.isEmpty()) {
+            logger.debug(
+                "Discarding {} queued requests for closed channel {}",
+                discarded.size(), channelState.channel
+            );
+        }
+
+        for (PendingRequest pendingRequest : discarded) {
+            pendingRequest.serviceRequest.setServiceFault(StatusCodes.Bad_SecureChannelClosed);
+        }
+    }
+
+    private void execute(@Nullable List<PendingRequest> dispatched) {
+        if (dispatched == null) return;
+
+        for (PendingRequest pendingRequest : dispatched) {
+            LaneQueue laneQueue = pendingRequest.laneQueue;
+            NodeId sessionKey = pendingRequest.sessionKey;
+
+            pendingRequest.serviceRequest.getFuture().whenComplete(
+                (r, ex) -> onCompleted(laneQueue, sessionKey)
+            );
+
+            try {
+                pendingRequest.executor.execute(pendingRequest.task);
+            } catch (Throwable t) {
+                logger.error("Error dispatching {}", pendingRequest.serviceRequest, t);
+
+                pendingRequest.serviceRequest.setServiceFault(StatusCodes.Bad_InternalError);
+            }
+        }
+    }
+
+    /**
+     * The in-flight windows and queues for one {@link ServiceLane}.
+     * <p>
+     * All state is guarded by the lock on the enclosing {@link ServiceRequestDispatcher}.
+     */
+    private class Lane {
+
+        final Map<NodeId, Integer> sessionInFlight = new HashMap<>();
+
+        /**
+         * Queues with requests that are eligible to be serviced, in round-robin order.
+         */
+        final ArrayDeque<LaneQueue> readyQueues = new ArrayDeque<>();
+
+        /**
+         * Queues with requests whose next request is blocked by a channel or session window.
+         */
+        final List<LaneQueue> blockedQueues = new ArrayList<>();
+
+        int inFlight = 0;
+
+        final int index;
+
+        Lane(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Poll queued requests round-robin across channels until this lane's in-flight limit is reached or no
+         * channel has an eligible request.
+         * <p>
+         * Must be called while holding the lock on the enclosing {@link ServiceRequestDispatcher}.
+         *
+         * @return the requests to execute once the lock has been released.
+         */
+        List<PendingRequest> poll() {
+            List<PendingRequest> dispatched = null;
+
+            while (inFlight < limits.getMaxInFlight() && !readyQueues.isEmpty()) {
+                LaneQueue laneQueue = readyQueues.pollFirst();
+                laneQueue.ready = false;
+
+                PendingRequest next = laneQueue.pending.peekFirst();
+
+                if (next == null) {
+                    continue;
+                }
+
+                NodeId sessionKey = next.sessionKey;
+
+                boolean channelWindowOpen = laneQueue.inFlight < limits.getMaxInFlightPerChannel();
+                boolean sessionWindowOpen = sessionKey == null ||
+                    sessionInFlight.getOrDefault(sessionKey, 0) < limits.getMaxInFlightPerSession();
+
+                if (channelWindowOpen && sessionWindowOpen) {
+                    ChannelState channelState = laneQueue.channelState;
+
+                    laneQueue.pending.pollFirst();
+                    channelState.queued--;
+                    queued--;
+
+                    inFlight++;
+                    laneQueue.inFlight++;
+                    channelState.inFlight++;
+
+                    if (sessionKey != null) {
+                        sessionInFlight.merge(sessionKey, 1, Integer::sum);
+                    }
+
+                    next.laneQueue = laneQueue;
+
+                    if (channelState.queued <= limits.getMaxQueuedPerChannel() / 4) {
+                        channelState.setReadsPaused(false);
+                    }
+
+                    if (dispatched == null) {
+                        dispatched = new ArrayList<>();
+                    }
+                    dispatched.add(next);
+
+                    if (!laneQueue.pending.isEmpty()) {
+                        laneQueue.ready = true;
+                        readyQueues.addLast(laneQueue);
+                    }
+                } else {
+                    laneQueue.blocked = true;
+                    blockedQueues.add(laneQueue);
+                }
+            }
+
+            return dispatched;
+        }
+
+    }
+
+    private static class PendingRequest {
+
+        LaneQueue laneQueue;
+
+        final ServiceRequest serviceRequest;
+        final Executor executor;
+        final Runnable task;
+        final NodeId sessionKey;
+
+        PendingRequest(ServiceRequest serviceRequest, Executor executor, Runnable task) {
+            this.serviceRequest = serviceRequest;
+            this.executor = executor;
+            this.task = task;
+
+            NodeId authenticationToken = serviceRequest.getRequest()
+                .getRequestHeader()
+                .getAuthenticationToken();
+
+            this.sessionKey = authenticationToken != null && authenticationToken.isNotNull() ?
+                authenticationToken : null;
+        }
+
+    }
+
+    /**
+     * The requests queued for one channel in one {@link Lane}.
+     */
+    private static class LaneQueue {
+
+        final ArrayDeque<PendingRequest> pending = new ArrayDeque<>();
+
+        int inFlight = 0;
+        boolean ready = false;
+        boolean blocked = false;
+
+        final Lane lane;
+        final ChannelState channelState;
+
+        LaneQueue(Lane lane, ChannelState channelState) {
+            this.lane = lane;
+            this.channelState = channelState;
+        }
+
+    }
+
+    private class ChannelState {
+
+        final LaneQueue[] laneQueues = new LaneQueue[lanes.length];
+
+        int queued = 0;
+        int inFlight = 0;
+        boolean readsPaused = false;
+
+        final Object key;
+        final Channel channel;
+
+        ChannelState(Object key, @Nullable Channel channel) {
+            this.key = key;
+            this.channel = channel;
+        }
+
+        void setReadsPaused(boolean paused) {
+            if (channel != null && readsPaused != paused) {
+                readsPaused = paused;
+
+                channel.config().setAutoRead(!paused);
+            }
+        }
+
+    }
+
+}
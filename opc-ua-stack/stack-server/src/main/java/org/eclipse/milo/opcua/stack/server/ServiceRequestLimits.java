@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.server;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Limits on the number of service requests a server will execute and queue at once.
+ * <p>
+ * A request is in-flight from the time it is dispatched to the server's executor until its response has been
+ * completed. Requests that would exceed an in-flight limit are queued per channel and dispatched round-robin
+ * across channels as capacity becomes available.
+ * <p>
+ * The in-flight limits apply separately to each {@link ServiceLane}, so requests in a lane that is saturated by slow
+ * services don't count against the windows of any other lane. The queue limit applies to each channel as a whole.
+ * <p>
+ * PublishRequests are exempt from these limits because they are held by the server until a notification or
+ * keep-alive is ready and are already bounded per session.
+ */
+public class ServiceRequestLimits {
+
+    /**
+     * A {@link ServiceRequestLimits} that uses the default settings.
+     */
+    public static final ServiceRequestLimits DEFAULT = new ServiceRequestLimits();
+
+    /**
+     * The default maximum number of requests in-flight across all channels.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1024;
+
+    /**
+     * The default maximum number of requests in-flight for a single secure channel.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_PER_CHANNEL = 128;
+
+    /**
+     * The default maximum number of requests in-flight for a single session.
+     */
+    public static final int DEFAULT_MAX_IN_FLIGHT_PER_SESSION = 128;
+
+    /**
+     * The default maximum number of requests that can be queued for a single secure channel before further requests
+     * are rejected with Bad_TcpServerTooBusy.
+     * <p>
+     * Reads on the channel are paused once half this many requests are queued and resumed once the queue has
+     * drained to a quarter of it.
+     */
+    public static final int DEFAULT_MAX_QUEUED_PER_CHANNEL = 4096;
+
+    private final int maxInFlight;
+    private final int maxInFlightPerChannel;
+    private final int maxInFlightPerSession;
+    private final int maxQueuedPerChannel;
+
+    /**
+     * Create a {@link ServiceRequestLimits} using the default parameters.
+     *
+     * @see ServiceRequestLimits#DEFAULT_MAX_IN_FLIGHT
+     * @see ServiceRequestLimits#DEFAULT_MAX_IN_FLIGHT_PER_CHANNEL
+     * @see ServiceRequestLimits#DEFAULT_MAX_IN_FLIGHT_PER_SESSION
+     * @see ServiceRequestLimits#DEFAULT_MAX_QUEUED_PER_CHANNEL
+     */
+    public ServiceRequestLimits() {
+        this(
+            DEFAULT_MAX_IN_FLIGHT,
+            DEFAULT_MAX_IN_FLIGHT_PER_CHANNEL,
+            DEFAULT_MAX_IN_FLIGHT_PER_SESSION,
+            DEFAULT_MAX_QUEUED_PER_CHANNEL
+        );
+    }
+
+    public ServiceRequestLimits(
+        int maxInFlight,
+        int maxInFlightPerChannel,
+        int maxInFlightPerSession,
+        int maxQueuedPerChannel
+    ) {
+
+        Preconditions.checkArgument(maxInFlight > 0, "maxInFlight must be greater than 0");
+        Preconditions.checkArgument(maxInFlightPerChannel > 0, "maxInFlightPerChannel must be greater than 0");
+        Preconditions.checkArgument(maxInFlightPerSession > 0, "maxInFlightPerSession must be greater than 0");
+        Preconditions.checkArgument(maxQueuedPerChannel >= 4, "maxQueuedPerChannel must be greater than or equal to 4");
+
+        this.maxInFlight = maxInFlight;
+        this.maxInFlightPerChannel = maxInFlightPerChannel;
+        this.maxInFlightPerSession = maxInFlightPerSession;
+        this.maxQueuedPerChannel = maxQueuedPerChannel;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getMaxInFlightPerChannel() {
+        return maxInFlightPerChannel;
+    }
+
+    public int getMaxInFlightPerSession() {
+        return maxInFlightPerSession;
+    }
+
+    public int getMaxQueuedPerChannel() {
+        return maxQueuedPerChannel;
+    }
+
+}
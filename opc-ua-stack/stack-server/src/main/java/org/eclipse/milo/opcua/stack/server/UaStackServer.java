@@ -14,10 +14,14 @@ import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
@@ -30,6 +34,7 @@ import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
 import io.netty.channel.Channel;
 import org.eclipse.milo.opcua.stack.core.NamespaceTable;
+import org.eclipse.milo.opcua.stack.core.Stack;
 import org.eclipse.milo.opcua.stack.core.StatusCodes;
 import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.channel.EncodingLimits;
@@ -136,6 +141,8 @@ public class UaStackServer {
 
     private final ServerChannelManager channelManager;
     private final SerializationContext serializationContext;
+    private final ServiceRequestDispatcher serviceRequestDispatcher;
+    private final Map<ServiceLane, ServiceLaneExecutor> serviceLaneExecutors = new EnumMap<>(ServiceLane.class);
 
     private final UaStackServerConfig config;
 
@@ -144,6 +151,21 @@ public class UaStackServer {
 
         channelManager = new ServerChannelManager(this);
 
+        serviceRequestDispatcher = new ServiceRequestDispatcher(config.getServiceRequestLimits());
+
+        for (ServiceLane lane : ServiceLane.values()) {
+            // The SESSION lane falls back to an executor that never queues tasks so that keep-alives and session
+            // maintenance aren't delayed when the configured executor is saturated by slow services.
+            ExecutorService fallback = lane == ServiceLane.SESSION && !config.isVirtualThreadsEnabled() ?
+                Stack.sharedExecutor() :
+                config.getExecutor();
+
+            Executor executor = config.getServiceLaneExecutors()
+                .getOrDefault(lane, fallback);
+
+            serviceLaneExecutors.put(lane, new ServiceLaneExecutor(lane, executor));
+        }
+
         serializationContext = new SerializationContext() {
             @Override
             public EncodingLimits getEncodingLimits() {
@@ -273,7 +295,33 @@ public class UaStackServer {
     }
 
     public void onServiceRequest(String path, ServiceRequest serviceRequest) {
-        config.getExecutor().execute(() -> handleServiceRequest(path, serviceRequest));
+        onServiceRequest(path, null, serviceRequest);
+    }
+
+    /**
+     * Dispatch a {@link ServiceRequest} received on {@code channel} to its handler.
+     * <p>
+     * Dispatch is subject to the configured {@link ServiceRequestLimits}; reads on {@code channel}, if provided, are
+     * paused while too many of its requests are queued. The request is executed on the executor configured for its
+     * {@link ServiceLane}.
+     *
+     * @param path           the endpoint path the request was received on.
+     * @param channel        the {@link Channel} the request was received on, or {@code null} if unknown.
+     * @param serviceRequest the {@link ServiceRequest} to dispatch.
+     */
+    public void onServiceRequest(String path, @Nullable Channel channel, ServiceRequest serviceRequest) {
+        ServiceLane lane = ServiceLane.of(serviceRequest.getRequest().getTypeId());
+
+        Executor executor = lane != null ?
+            serviceLaneExecutors.get(lane) :
+            config.getExecutor();
+
+        serviceRequestDispatcher.dispatch(
+            serviceRequest,
+            channel,
+            executor,
+            () -> handleServiceRequest(path, serviceRequest)
+        );
     }
 
     private void handleServiceRequest(String path, ServiceRequest serviceRequest) {
@@ -439,6 +487,24 @@ public class UaStackServer {
         return securityRejectedRequestCount;
     }
 
+    /**
+     * @return the {@link ServiceRequestDispatcher}, which exposes queued, in-flight, and rejected request counts.
+     */
+    public ServiceRequestDispatcher getServiceRequestDispatcher() {
+        return serviceRequestDispatcher;
+    }
+
+    /**
+     * Get the number of requests belonging to {@code lane} that have been dispatched to its executor but have not
+     * started executing yet.
+     *
+     * @param lane the {@link ServiceLane} to get the queue length of.
+     * @return the number of requests waiting to start executing on {@code lane}'s executor.
+     */
+    public int getServiceLaneQueueLength(ServiceLane lane) {
+        return serviceLaneExecutors.get(lane).getQueueLength();
+    }
+
     public <T extends UaRequestMessage> void addServiceHandler(
         String path,
         ExpandedNodeId dataTypeId,
@@ -12,6 +12,8 @@ package org.eclipse.milo.opcua.stack.server;
 
 import java.security.KeyPair;
 import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -25,6 +27,8 @@ import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
 import org.eclipse.milo.opcua.stack.core.types.structured.ApplicationDescription;
 import org.eclipse.milo.opcua.stack.server.security.ServerCertificateValidator;
 
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+
 public interface UaStackServerConfig {
 
     /**
@@ -116,6 +120,53 @@ public interface UaStackServerConfig {
      */
     ExecutorService getExecutor();
 
+    /**
+     * Get the maximum time, in milliseconds, that an encoded response may be held before the channel it was written
+     * to is flushed.
+     * <p>
+     * A delay of 0 coalesces only the responses written within the same event loop turn.
+     *
+     * @return the maximum time, in milliseconds, that an encoded response may be held before being flushed.
+     */
+    default UInteger getMaxFlushDelay() {
+        return uint(0);
+    }
+
+    /**
+     * @return the {@link ServiceRequestLimits} used to bound the number of requests in-flight and queued.
+     */
+    default ServiceRequestLimits getServiceRequestLimits() {
+        return ServiceRequestLimits.DEFAULT;
+    }
+
+    /**
+     * Get the {@link ExecutorService}s that requests belonging to each {@link ServiceLane} are executed on.
+     * <p>
+     * Requests belonging to a {@link ServiceLane} without an entry in this map are executed on
+     * {@link #getExecutor()}, except for {@link ServiceLane#SESSION} requests, which are executed on
+     * {@link org.eclipse.milo.opcua.stack.core.Stack#sharedExecutor()} unless virtual threads are enabled. Neither
+     * ever queues a task, so session and subscription maintenance can't wait behind slow services.
+     *
+     * @return the {@link ExecutorService}s that requests belonging to each {@link ServiceLane} are executed on.
+     * @see ServiceLane#createDefaultExecutors()
+     */
+    default Map<ServiceLane, ExecutorService> getServiceLaneExecutors() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Get whether service requests are executed on virtual threads.
+     * <p>
+     * This is {@code true} only if virtual threads were enabled, no {@link ExecutorService} was configured, and the
+     * runtime supports virtual threads (JDK 21+). Otherwise the setting is ignored and a warning is logged.
+     *
+     * @return {@code true} if service requests are executed on the shared virtual thread executor.
+     * @see org.eclipse.milo.opcua.stack.core.Stack#sharedVirtualThreadExecutor()
+     */
+    default boolean isVirtualThreadsEnabled() {
+        return false;
+    }
+
     /**
      * @return a new {@link UaStackServerConfigBuilder}.
      */
@@ -148,6 +199,10 @@ public interface UaStackServerConfig {
         builder.setHttpsKeyPair(config.getHttpsKeyPair().orElse(null));
         builder.setHttpsCertificateChain(config.getHttpsCertificateChain().orElse(null));
         builder.setExecutor(config.getExecutor());
+        builder.setMaxFlushDelay(config.getMaxFlushDelay());
+        builder.setServiceRequestLimits(config.getServiceRequestLimits());
+        builder.setServiceLaneExecutors(config.getServiceLaneExecutors());
+        builder.setVirtualThreadsEnabled(config.isVirtualThreadsEnabled());
 
         return builder;
     }
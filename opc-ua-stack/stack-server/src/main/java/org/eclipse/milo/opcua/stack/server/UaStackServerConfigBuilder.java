@@ -12,7 +12,10 @@ package org.eclipse.milo.opcua.stack.server;
 
 import java.security.KeyPair;
 import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -23,8 +26,10 @@ import org.eclipse.milo.opcua.stack.core.security.CertificateManager;
 import org.eclipse.milo.opcua.stack.core.security.TrustListManager;
 import org.eclipse.milo.opcua.stack.core.types.builtin.LocalizedText;
 import org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.UInteger;
+import org.eclipse.milo.opcua.stack.core.util.VirtualThreads;
 import org.eclipse.milo.opcua.stack.server.security.ServerCertificateValidator;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.LoggerFactory;
 
 import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
 
@@ -53,6 +58,14 @@ public class UaStackServerConfigBuilder {
 
     private ExecutorService executor;
 
+    private UInteger maxFlushDelay = uint(0);
+
+    private ServiceRequestLimits serviceRequestLimits = ServiceRequestLimits.DEFAULT;
+
+    private Map<ServiceLane, ExecutorService> serviceLaneExecutors = Collections.emptyMap();
+
+    private boolean virtualThreadsEnabled = false;
+
     public UaStackServerConfigBuilder setEndpoints(Set<EndpointConfiguration> endpointConfigurations) {
         this.endpoints = endpointConfigurations;
         return this;
@@ -124,11 +137,47 @@ public class UaStackServerConfigBuilder {
         return this;
     }
 
+    public UaStackServerConfigBuilder setMaxFlushDelay(UInteger maxFlushDelay) {
+        this.maxFlushDelay = maxFlushDelay;
+        return this;
+    }
+
+    public UaStackServerConfigBuilder setServiceRequestLimits(ServiceRequestLimits serviceRequestLimits) {
+        this.serviceRequestLimits = serviceRequestLimits;
+        return this;
+    }
+
+    public UaStackServerConfigBuilder setServiceLaneExecutors(Map<ServiceLane, ExecutorService> serviceLaneExecutors) {
+        this.serviceLaneExecutors = serviceLaneExecutors;
+        return this;
+    }
+
+    public UaStackServerConfigBuilder setVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        return this;
+    }
+
     public UaStackServerConfig build() {
         if (executor == null) {
-            executor = Stack.sharedExecutor();
+            if (virtualThreadsEnabled && VirtualThreads.isSupported()) {
+                executor = Stack.sharedVirtualThreadExecutor();
+            } else {
+                if (virtualThreadsEnabled) {
+                    LoggerFactory.getLogger(getClass())
+                        .warn("Virtual threads not supported by this runtime; using shared executor.");
+                }
+
+                executor = Stack.sharedExecutor();
+            }
+        } else if (virtualThreadsEnabled && !Stack.isSharedVirtualThreadExecutor(executor)) {
+            LoggerFactory.getLogger(getClass())
+                .warn("Virtual threads enabled but an executor was configured; using configured executor.");
         }
 
+        // Only report virtual threads as enabled if requests actually run on them, so callers that fan work out
+        // onto the executor don't do so on a bounded platform thread pool.
+        boolean virtualThreads = virtualThreadsEnabled && Stack.isSharedVirtualThreadExecutor(executor);
+
         return new UaStackServerConfigImpl(
             endpoints,
             applicationName,
@@ -142,7 +191,13 @@ public class UaStackServerConfigBuilder {
             certificateValidator,
             httpsKeyPair,
             httpsCertificate,
-            executor
+            executor,
+            maxFlushDelay,
+            serviceRequestLimits,
+            serviceLaneExecutors.isEmpty() ?
+                Collections.emptyMap() :
+                Collections.unmodifiableMap(new EnumMap<>(serviceLaneExecutors)),
+            virtualThreads
         );
     }
 
@@ -169,6 +224,11 @@ public class UaStackServerConfigBuilder {
 
         private final ExecutorService executor;
 
+        private final UInteger maxFlushDelay;
+        private final ServiceRequestLimits serviceRequestLimits;
+        private final Map<ServiceLane, ExecutorService> serviceLaneExecutors;
+        private final boolean virtualThreadsEnabled;
+
         UaStackServerConfigImpl(
             Set<EndpointConfiguration> endpointConfigurations,
             LocalizedText applicationName,
@@ -182,7 +242,11 @@ public class UaStackServerConfigBuilder {
             ServerCertificateValidator certificateValidator,
             @Nullable KeyPair httpsKeyPair,
             @Nullable X509Certificate[] httpsCertificate,
-            ExecutorService executor
+            ExecutorService executor,
+            UInteger maxFlushDelay,
+            ServiceRequestLimits serviceRequestLimits,
+            Map<ServiceLane, ExecutorService> serviceLaneExecutors,
+            boolean virtualThreadsEnabled
         ) {
 
             this.endpointConfigurations = endpointConfigurations;
@@ -198,6 +262,10 @@ public class UaStackServerConfigBuilder {
             this.httpsKeyPair = httpsKeyPair;
             this.httpsCertificate = httpsCertificate;
             this.executor = executor;
+            this.maxFlushDelay = maxFlushDelay;
+            this.serviceRequestLimits = serviceRequestLimits;
+            this.serviceLaneExecutors = serviceLaneExecutors;
+            this.virtualThreadsEnabled = virtualThreadsEnabled;
         }
 
         @Override
@@ -265,6 +333,26 @@ public class UaStackServerConfigBuilder {
             return executor;
         }
 
+        @Override
+        public UInteger getMaxFlushDelay() {
+            return maxFlushDelay;
+        }
+
+        @Override
+        public ServiceRequestLimits getServiceRequestLimits() {
+            return serviceRequestLimits;
+        }
+
+        @Override
+        public Map<ServiceLane, ExecutorService> getServiceLaneExecutors() {
+            return serviceLaneExecutors;
+        }
+
+        @Override
+        public boolean isVirtualThreadsEnabled() {
+            return virtualThreadsEnabled;
+        }
+
     }
 
 }
@@ -163,7 +163,7 @@ public class OpcServerHttpRequestHandler extends SimpleChannelInboundHandler<Ful
                 }
             });
 
-            stackServer.onServiceRequest(uri, serviceRequest);
+            stackServer.onServiceRequest(uri, ctx.channel(), serviceRequest);
         } catch (Throwable t) {
             logger.error("Error decoding UaRequestMessage", t);
 
@@ -61,6 +61,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
 import org.eclipse.milo.opcua.stack.core.util.NonceUtil;
+import org.eclipse.milo.opcua.stack.server.ChunkSizePolicy;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -161,6 +162,8 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
                 stackServer.getConfig().getEncodingLimits()
             );
 
+            onRoundTripTime(ctx, header);
+
             if (!headerRef.compareAndSet(null, header)) {
                 if (!header.equals(headerRef.get())) {
                     throw new UaException(StatusCodes.Bad_SecurityChecksFailed,
@@ -285,6 +288,25 @@ public class UascServerAsymmetricHandler extends ByteToMessageDecoder implements
         }
     }
 
+    /**
+     * Report the time between sending the Acknowledge and receiving the first OpenSecureChannel chunk to the
+     * endpoint's {@link ChunkSizePolicy}, if it has one.
+     * <p>
+     * Only reported when the request uses {@link SecurityPolicy#None}; otherwise the time is dominated by the client
+     * signing and encrypting the request, and would classify secured LAN clients as high-latency.
+     */
+    private void onRoundTripTime(ChannelHandlerContext ctx, AsymmetricSecurityHeader header) {
+        Long acknowledgeTime = ctx.channel().attr(UascServerHelloHandler.ACKNOWLEDGE_TIME_KEY).getAndSet(null);
+
+        if (acknowledgeTime != null && SecurityPolicy.None.getUri().equals(header.getSecurityPolicyUri())) {
+            ChunkSizePolicy chunkSizePolicy = ctx.channel().attr(UascServerHelloHandler.CHUNK_SIZE_POLICY_KEY).get();
+
+            if (chunkSizePolicy != null) {
+                chunkSizePolicy.onRoundTripTime(ctx.channel().remoteAddress(), System.nanoTime() - acknowledgeTime);
+            }
+        }
+    }
+
     private void sendOpenSecureChannelResponse(
         ChannelHandlerContext ctx,
         long requestId,
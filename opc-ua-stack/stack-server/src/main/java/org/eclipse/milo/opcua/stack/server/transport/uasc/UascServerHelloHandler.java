@@ -11,11 +11,13 @@
 package org.eclipse.milo.opcua.stack.server.transport.uasc;
 
 import java.io.IOException;
+import java.math.RoundingMode;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
+import com.google.common.math.LongMath;
 import com.google.common.primitives.Ints;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -37,7 +39,10 @@ import org.eclipse.milo.opcua.stack.core.channel.messages.TcpMessageDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.messages.TcpMessageEncoder;
 import org.eclipse.milo.opcua.stack.core.transport.TransportProfile;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
+import org.eclipse.milo.opcua.stack.server.ChunkSizePolicy;
+import org.eclipse.milo.opcua.stack.server.EndpointConfiguration;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +50,13 @@ public class UascServerHelloHandler extends ByteToMessageDecoder implements Head
 
     static final AttributeKey<String> ENDPOINT_URL_KEY = AttributeKey.valueOf("endpoint-url");
 
+    static final AttributeKey<ChunkSizePolicy> CHUNK_SIZE_POLICY_KEY = AttributeKey.valueOf("chunk-size-policy");
+
+    /**
+     * The {@link System#nanoTime()} at which the Acknowledge was sent, used to observe the client's round-trip time.
+     */
+    static final AttributeKey<Long> ACKNOWLEDGE_TIME_KEY = AttributeKey.valueOf("acknowledge-time");
+
     /**
      * Cumulative count of all connection rejections for the lifetime of the server.
      */
@@ -157,15 +169,44 @@ public class UascServerHelloHandler extends ByteToMessageDecoder implements Head
 
         EncodingLimits config = stackServer.getConfig().getEncodingLimits();
 
+        ChunkSizePolicy chunkSizePolicy = getChunkSizePolicy(endpointUrl);
+
+        long maxChunkSize = config.getMaxChunkSize();
+
+        if (chunkSizePolicy != null) {
+            maxChunkSize = Math.max(
+                ChunkSizePolicy.MIN_CHUNK_SIZE,
+                chunkSizePolicy.getChunkSize(ctx.channel().remoteAddress(), config.getMaxChunkSize())
+            );
+
+            ctx.channel().attr(CHUNK_SIZE_POLICY_KEY).set(chunkSizePolicy);
+        }
+
         /* Our receive buffer size is determined by the remote send buffer size. */
-        long localReceiveBufferSize = Math.min(remoteSendBufferSize, config.getMaxChunkSize());
+        long localReceiveBufferSize = Math.min(remoteSendBufferSize, maxChunkSize);
 
         /* Our send buffer size is determined by the remote receive buffer size. */
-        long localSendBufferSize = Math.min(remoteReceiveBufferSize, config.getMaxChunkSize());
+        long localSendBufferSize = Math.min(remoteReceiveBufferSize, maxChunkSize);
 
         /* Max chunk count the remote can send us; not influenced by remote configuration. */
         long localMaxChunkCount = config.getMaxChunkCount();
 
+        if (chunkSizePolicy != null && localMaxChunkCount > 0) {
+            /*
+             * Scale the chunk count with the chunk size chosen by the policy so a smaller chunk size doesn't lower the
+             * max message size the remote can send us.
+             */
+            long defaultReceiveBufferSize = Math.min(remoteSendBufferSize, config.getMaxChunkSize());
+
+            if (localReceiveBufferSize < defaultReceiveBufferSize) {
+                localMaxChunkCount = LongMath.divide(
+                    config.getMaxChunkCount() * defaultReceiveBufferSize,
+                    localReceiveBufferSize,
+                    RoundingMode.CEILING
+                );
+            }
+        }
+
         /* Max message size the remote can send us. Determined by our max chunk count and receive buffer size. */
         long localMaxMessageSize = Math.min(localReceiveBufferSize * localMaxChunkCount, config.getMaxMessageSize());
 
@@ -203,11 +244,36 @@ public class UascServerHelloHandler extends ByteToMessageDecoder implements Head
 
         // Using ctx.executor() is necessary to ensure this handler is removed
         // before the message can be written and another response arrives.
-        ctx.executor().execute(() -> ctx.writeAndFlush(messageBuffer));
+        ctx.executor().execute(() -> {
+            if (chunkSizePolicy != null) {
+                ctx.channel().attr(ACKNOWLEDGE_TIME_KEY).set(System.nanoTime());
+            }
+
+            ctx.writeAndFlush(messageBuffer);
+        });
 
         logger.debug("[remote={}] Sent Acknowledge message.", ctx.channel().remoteAddress());
     }
 
+    /**
+     * Get the {@link ChunkSizePolicy} configured for the endpoint identified by {@code endpointUrl}, if any.
+     * <p>
+     * When several endpoints share the same path the first one with a policy configured wins.
+     */
+    @Nullable
+    private ChunkSizePolicy getChunkSizePolicy(String endpointUrl) {
+        String path = EndpointUtil.getPath(endpointUrl);
+
+        return stackServer.getConfig().getEndpoints()
+            .stream()
+            .filter(endpoint -> endpoint.getTransportProfile() == transportProfile)
+            .filter(endpoint -> Objects.equals(path, EndpointUtil.getPath(endpoint.getEndpointUrl())))
+            .map(EndpointConfiguration::getChunkSizePolicy)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null);
+    }
+
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
         if (cause instanceof IOException) {
@@ -23,6 +23,7 @@ import org.eclipse.milo.opcua.stack.core.UaException;
 import org.eclipse.milo.opcua.stack.core.UaSerializationException;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkDecoder;
 import org.eclipse.milo.opcua.stack.core.channel.ChunkEncoder.EncodedMessage;
+import org.eclipse.milo.opcua.stack.core.channel.FlushCoalescer;
 import org.eclipse.milo.opcua.stack.core.channel.MessageAbortException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageDecodeException;
 import org.eclipse.milo.opcua.stack.core.channel.MessageEncodeException;
@@ -40,6 +41,7 @@ import org.eclipse.milo.opcua.stack.core.types.structured.ResponseHeader;
 import org.eclipse.milo.opcua.stack.core.types.structured.ServiceFault;
 import org.eclipse.milo.opcua.stack.core.util.BufferUtil;
 import org.eclipse.milo.opcua.stack.core.util.EndpointUtil;
+import org.eclipse.milo.opcua.stack.server.ChunkSizePolicy;
 import org.eclipse.milo.opcua.stack.server.UaStackServer;
 import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
 import org.slf4j.Logger;
@@ -53,6 +55,9 @@ public class UascServerSymmetricHandler extends ByteToMessageDecoder implements
 
     private List<ByteBuf> chunkBuffers;
 
+    private FlushCoalescer flushCoalescer;
+    private ChunkSizePolicy chunkSizePolicy;
+
     private final int maxChunkCount;
     private final int maxChunkSize;
 
@@ -75,6 +80,17 @@ public class UascServerSymmetricHandler extends ByteToMessageDecoder implements
         chunkBuffers = new ArrayList<>(maxChunkCount);
     }
 
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        flushCoalescer = new FlushCoalescer(
+            ctx,
+            stackServer.getConfig().getMaxFlushDelay().longValue(),
+            serializationQueue.getParameters().getLocalSendBufferSize()
+        );
+
+        chunkSizePolicy = ctx.channel().attr(UascServerHelloHandler.CHUNK_SIZE_POLICY_KEY).get();
+    }
+
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out) throws Exception {
         if (buffer.readableBytes() >= HEADER_LENGTH) {
@@ -188,7 +204,7 @@ public class UascServerSymmetricHandler extends ByteToMessageDecoder implements
                             }
                         });
 
-                        stackServer.onServiceRequest(path, serviceRequest);
+                        stackServer.onServiceRequest(path, ctx.channel(), serviceRequest);
                     } catch (UaSerializationException e) {
                         logger.error("Error decoding UaRequestMessage", e);
 
@@ -225,6 +241,10 @@ public class UascServerSymmetricHandler extends ByteToMessageDecoder implements
 
                 checkMessageSize(messageBuffer);
 
+                if (chunkSizePolicy != null) {
+                    chunkSizePolicy.onMessageEncoded(ctx.channel().remoteAddress(), messageBuffer.readableBytes());
+                }
+
                 EncodedMessage encodedMessage = chunkEncoder.encodeSymmetric(
                     secureChannel,
                     requestId,
@@ -239,7 +259,7 @@ public class UascServerSymmetricHandler extends ByteToMessageDecoder implements
                     chunkComposite.writerIndex(chunkComposite.writerIndex() + chunk.readableBytes());
                 }
 
-                ctx.writeAndFlush(chunkComposite, ctx.voidPromise());
+                flushCoalescer.write(chunkComposite);
             } catch (MessageEncodeException e) {
                 logger.error("Error encoding {}: {}", response, e.getMessage(), e);
 
@@ -302,7 +322,7 @@ public class UascServerSymmetricHandler extends ByteToMessageDecoder implements
                     chunkComposite.writerIndex(chunkComposite.writerIndex() + chunk.readableBytes());
                 }
 
-                ctx.writeAndFlush(chunkComposite, ctx.voidPromise());
+                flushCoalescer.write(chunkComposite);
             } catch (MessageEncodeException e) {
                 logger.error("Error encoding {}: {}", serviceFault, e.getMessage(), e);
             } catch (UaSerializationException e) {
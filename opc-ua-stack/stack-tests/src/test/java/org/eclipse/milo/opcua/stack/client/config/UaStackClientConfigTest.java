@@ -73,6 +73,7 @@ public class UaStackClientConfigTest extends SecurityFixture {
             .setEventLoop(Stack.sharedEventLoop())
             .setWheelTimer(Stack.sharedWheelTimer())
             .setAcknowledgeTimeout(uint(12345))
+            .setMaxFlushDelay(uint(5))
             .build();
 
         UaStackClientConfig copy = UaStackClientConfig.copy(original).build();
@@ -87,6 +88,7 @@ public class UaStackClientConfigTest extends SecurityFixture {
         assertEquals(copy.getEventLoop(), original.getEventLoop());
         assertEquals(copy.getWheelTimer(), original.getWheelTimer());
         assertEquals(copy.getAcknowledgeTimeout(), original.getAcknowledgeTimeout());
+        assertEquals(copy.getMaxFlushDelay(), original.getMaxFlushDelay());
     }
 
     @Test
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.server;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class AdaptiveChunkSizePolicyTest {
+
+    private static final int DEFAULT_CHUNK_SIZE = 65535;
+
+    private final InetSocketAddress lanClient = new InetSocketAddress("10.0.0.1", 50000);
+    private final InetSocketAddress wanClient = new InetSocketAddress("10.0.0.2", 50000);
+
+    @Test
+    public void testUnknownHostGetsDefault() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy();
+
+        assertEquals(policy.getChunkSize(lanClient, DEFAULT_CHUNK_SIZE), DEFAULT_CHUNK_SIZE);
+    }
+
+    @Test
+    public void testLanHostWithLargeMessages() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy();
+
+        policy.onRoundTripTime(lanClient, TimeUnit.MICROSECONDS.toNanos(200));
+
+        for (int i = 0; i < 100; i++) {
+            policy.onMessageEncoded(lanClient, 500_000);
+        }
+
+        assertEquals(policy.getChunkSize(lanClient, DEFAULT_CHUNK_SIZE), 512 * 1024 + 1024);
+    }
+
+    @Test
+    public void testLanHostChunkSizeIsBoundedByMax() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy();
+
+        policy.onRoundTripTime(lanClient, TimeUnit.MICROSECONDS.toNanos(200));
+        policy.onMessageEncoded(lanClient, 10_000_000);
+
+        assertEquals(
+            policy.getChunkSize(lanClient, DEFAULT_CHUNK_SIZE),
+            AdaptiveChunkSizePolicy.DEFAULT_MAX_CHUNK_SIZE
+        );
+    }
+
+    @Test
+    public void testWanHostGetsMinimum() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy();
+
+        policy.onRoundTripTime(wanClient, TimeUnit.MILLISECONDS.toNanos(80));
+        policy.onMessageEncoded(wanClient, 500_000);
+
+        assertEquals(policy.getChunkSize(wanClient, DEFAULT_CHUNK_SIZE), ChunkSizePolicy.MIN_CHUNK_SIZE);
+    }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.channel.DefaultChannelId;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.eclipse.milo.opcua.stack.core.StatusCodes;
+import org.eclipse.milo.opcua.stack.core.UaException;
+import org.eclipse.milo.opcua.stack.core.types.builtin.DateTime;
+import org.eclipse.milo.opcua.stack.core.types.builtin.NodeId;
+import org.eclipse.milo.opcua.stack.core.types.enumerated.TimestampsToReturn;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.HistoryReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadRequest;
+import org.eclipse.milo.opcua.stack.core.types.structured.ReadResponse;
+import org.eclipse.milo.opcua.stack.core.types.structured.RequestHeader;
+import org.eclipse.milo.opcua.stack.server.services.ServiceRequest;
+import org.testng.annotations.Test;
+
+import static org.eclipse.milo.opcua.stack.core.types.builtin.unsigned.Unsigned.uint;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class ServiceRequestDispatcherTest {
+
+    private final UaStackServer server = new UaStackServer(UaStackServerConfig.builder().build());
+
+    @Test
+    public void testChannelWindowAndRoundRobin() {
+        List<Runnable> executed = new ArrayList<>();
+
+        ServiceRequestDispatcher dispatcher = new ServiceRequestDispatcher(
+            new ServiceRequestLimits(2, 1, 16, 16)
+        );
+
+        List<ServiceRequest> requests = new ArrayList<>();
+        List<String> order = new ArrayList<>();
+
+        for (long channelId : new long[]{1L, 1L, 1L, 2L}) {
+            ServiceRequest request = newServiceRequest(channelId, NodeId.NULL_VALUE);
+            String name = "channel" + channelId + "-" + requests.size();
+            requests.add(request);
+
+            dispatcher.dispatch(request, null, executed::add, () -> order.add(name));
+        }
+
+        // one per channel due to the channel window, bounded overall by maxInFlight
+        assertEquals(executed.size(), 2);
+        assertEquals(dispatcher.getInFlightCount(), 2);
+        assertEquals(dispatcher.getQueuedCount(), 2);
+
+        executed.forEach(Runnable::run);
+        assertEquals(order.get(0), "channel1-0");
+        assertEquals(order.get(1), "channel2-3");
+
+        complete(requests.get(0));
+        assertEquals(executed.size(), 3);
+        assertEquals(dispatcher.getQueuedCount(), 1);
+
+        complete(requests.get(3));
+        complete(requests.get(1));
+        assertEquals(executed.size(), 4);
+        assertEquals(dispatcher.getQueuedCount(), 0);
+    }
+
+    @Test
+    public void testSessionWindow() {
+        List<Runnable> executed = new ArrayList<>();
+
+        ServiceRequestDispatcher dispatcher = new ServiceRequestDispatcher(
+            new ServiceRequestLimits(16, 16, 1, 16)
+        );
+
+        NodeId session = new NodeId(1, "session");
+
+        ServiceRequest r1 = newServiceRequest(1L, session);
+        ServiceRequest r2 = newServiceRequest(2L, session);
+
+        dispatcher.dispatch(r1, null, executed::add, () -> {});
+        dispatcher.dispatch(r2, null, executed::add, () -> {});
+        assertEquals(executed.size(), 1);
+
+        complete(r1);
+        assertEquals(executed.size(), 2);
+    }
+
+    @Test
+    public void testRejectedWhenQueueFull() {
+        ServiceRequestDispatcher dispatcher = new ServiceRequestDispatcher(
+            new ServiceRequestLimits(1, 1, 1, 4)
+        );
+
+        List<ServiceRequest> requests = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++) {
+            ServiceRequest request = newServiceRequest(1L, NodeId.NULL_VALUE);
+            requests.add(request);
+            dispatcher.dispatch(request, null, r -> {}, () -> {});
+        }
+
+        // 1 in-flight, 4 queued, 1 rejected
+        assertEquals(dispatcher.getInFlightCount(), 1);
+        assertEquals(dispatcher.getQueuedCount(), 4);
+        assertEquals(dispatcher.getRejectedCount().sum(), 1L);
+
+        ServiceRequest rejected = requests.get(5);
+        assertTrue(rejected.getFuture().isCompletedExceptionally());
+        rejected.getFuture().whenComplete((r, ex) ->
+            assertEquals(
+                UaException.extractStatusCode(ex).map(s -> s.getValue()).orElse(0L).longValue(),
+                StatusCodes.Bad_TcpServerTooBusy
+            )
+        );
+    }
+
+    @Test
+    public void testQueuedRequestsDiscardedWhenChannelCloses() {
+        List<Runnable> executed = new ArrayList<>();
+
+        ServiceRequestDispatcher dispatcher = new ServiceRequestDispatcher(
+            new ServiceRequestLimits(1, 1, 16, 16)
+        );
+
+        EmbeddedChannel channel = new EmbeddedChannel();
+
+        List<ServiceRequest> requests = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            ServiceRequest request = newServiceRequest(1L, NodeId.NULL_VALUE);
+            requests.add(request);
+            dispatcher.dispatch(request, channel, executed::add, () -> {});
+        }
+
+        assertEquals(dispatcher.getInFlightCount(), 1);
+        assertEquals(dispatcher.getQueuedCount(), 2);
+
+        channel.close();
+
+        assertEquals(dispatcher.getQueuedCount(), 0);
+        assertTrue(requests.get(1).getFuture().isCompletedExceptionally());
+        assertTrue(requests.get(2).getFuture().isCompletedExceptionally());
+        requests.get(1).getFuture().whenComplete((r, ex) ->
+            assertEquals(
+                UaException.extractStatusCode(ex).map(s -> s.getValue()).orElse(0L).longValue(),
+                StatusCodes.Bad_SecureChannelClosed
+            )
+        );
+
+        // the in-flight request still completes normally and nothing else is dispatched
+        complete(requests.get(0));
+        assertEquals(dispatcher.getInFlightCount(), 0);
+        assertEquals(executed.size(), 1);
+
+        // a request racing the close is still dispatched, and its queue is discarded again right away
+        ServiceRequest late = newServiceRequest(1L, NodeId.NULL_VALUE);
+        dispatcher.dispatch(late, channel, executed::add, () -> {});
+        assertEquals(executed.size(), 2);
+        complete(late);
+        assertEquals(dispatcher.getInFlightCount(), 0);
+        assertEquals(dispatcher.getQueuedCount(), 0);
+    }
+
+    @Test
+    public void testHttpsChannelsSharingSecureChannelIdAreQueuedSeparately() {
+        List<Runnable> executed = new ArrayList<>();
+
+        ServiceRequestDispatcher dispatcher = new ServiceRequestDispatcher(
+            new ServiceRequestLimits(16, 1, 16, 4)
+        );
+
+        // every HTTPS request is received with secure channel id 0
+        EmbeddedChannel channel1 = new EmbeddedChannel(DefaultChannelId.newInstance());
+        EmbeddedChannel channel2 = new EmbeddedChannel(DefaultChannelId.newInstance());
+
+        List<ServiceRequest> requests1 = new ArrayList<>();
+        List<ServiceRequest> requests2 = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            ServiceRequest request = newServiceRequest(0L, NodeId.NULL_VALUE);
+            requests1.add(request);
+            dispatcher.dispatch(request, channel1, executed::add, () -> {});
+        }
+
+        ServiceRequest first2 = newServiceRequest(0L, NodeId.NULL_VALUE);
+        ServiceRequest second2 = newServiceRequest(0L, NodeId.NULL_VALUE);
+        requests2.add(first2);
+        requests2.add(second2);
+        dispatcher.dispatch(first2, channel2, executed::add, () -> {});
+        dispatcher.dispatch(second2, channel2, executed::add, () -> {});
+
+        // each channel has its own window and only the backed-up channel has reads paused
+        assertEquals(dispatcher.getInFlightCount(), 2);
+        assertEquals(dispatcher.getQueuedCount(), 3);
+        assertFalse(channel1.config().isAutoRead());
+        assertTrue(channel2.config().isAutoRead());
+
+        channel1.close();
+
+        // only the closed channel's queued requests are discarded
+        assertEquals(dispatcher.getQueuedCount(), 1);
+        assertTrue(requests1.get(1).getFuture().isCompletedExceptionally());
+        assertTrue(requests1.get(2).getFuture().isCompletedExceptionally());
+        assertFalse(second2.getFuture().isDone());
+
+        complete(first2);
+        assertEquals(dispatcher.getQueuedCount(), 0);
+        assertEquals(executed.size(), 3);
+
+        complete(second2);
+        complete(requests1.get(0));
+        assertEquals(dispatcher.getInFlightCount(), 0);
+    }
+
+    @Test
+    public void testSlowHistoryDoesNotDelayRead() {
+        List<Runnable> executed = new ArrayList<>();
+
+        ServiceRequestDispatcher dispatcher = new ServiceRequestDispatcher(
+            new ServiceRequestLimits(1, 1, 1, 16)
+        );
+
+        EmbeddedChannel channel = new EmbeddedChannel();
+        NodeId session = new NodeId(1, "session");
+
+        // the first HistoryRead never completes, filling every History window for the channel and session
+        ServiceRequest history1 = newHistoryReadRequest(1L, session);
+        ServiceRequest history2 = newHistoryReadRequest(1L, session);
+        dispatcher.dispatch(history1, channel, executed::add, () -> {});
+        dispatcher.dispatch(history2, channel, executed::add, () -> {});
+        assertEquals(executed.size(), 1);
+        assertEquals(dispatcher.getQueuedCount(), 1);
+
+        // a Read on the same channel and session is dispatched right away
+        ServiceRequest read = newServiceRequest(1L, session);
+        dispatcher.dispatch(read, channel, executed::add, () -> {});
+        assertEquals(executed.size(), 2);
+        assertEquals(dispatcher.getInFlightCount(), 2);
+        assertEquals(dispatcher.getQueuedCount(), 1);
+
+        // completing the Read doesn't release the queued HistoryRead; completing the slow one does
+        complete(read);
+        assertEquals(executed.size(), 2);
+
+        history1.setResponse(new HistoryReadResponse(history1.createResponseHeader(), null, null));
+        assertEquals(executed.size(), 3);
+        assertEquals(dispatcher.getQueuedCount(), 0);
+    }
+
+    private void complete(ServiceRequest request) {
+        request.setResponse(new ReadResponse(request.createResponseHeader(), null, null));
+    }
+
+    private ServiceRequest newHistoryReadRequest(long channelId, NodeId authenticationToken) {
+        HistoryReadRequest request = new HistoryReadRequest(
+            newRequestHeader(authenticationToken),
+            null,
+            TimestampsToReturn.Both,
+            false,
+            null
+        );
+
+        return new ServiceRequest(server, request, null, channelId, null, null);
+    }
+
+    private ServiceRequest newServiceRequest(long channelId, NodeId authenticationToken) {
+        ReadRequest request = new ReadRequest(newRequestHeader(authenticationToken), 0.0, TimestampsToReturn.Both, null);
+
+        return new ServiceRequest(server, request, null, channelId, null, null);
+    }
+
+    private static RequestHeader newRequestHeader(NodeId authenticationToken) {
+        return new RequestHeader(
+            authenticationToken,
+            DateTime.now(),
+            uint(0),
+            uint(0),
+            null,
+            uint(0),
+            null
+        );
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2022 the Eclipse Milo Authors
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.milo.opcua.stack.server.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.milo.opcua.stack.core.Stack;
+import org.eclipse.milo.opcua.stack.core.util.VirtualThreads;
+import org.eclipse.milo.opcua.stack.server.UaStackServerConfig;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+
+public class UaStackServerConfigTest {
+
+    @Test
+    public void testVirtualThreadsRequireSharedVirtualThreadExecutor() {
+        UaStackServerConfig config = UaStackServerConfig.builder()
+            .setVirtualThreadsEnabled(true)
+            .build();
+
+        assertEquals(config.isVirtualThreadsEnabled(), VirtualThreads.isSupported());
+        assertEquals(UaStackServerConfig.copy(config).build().isVirtualThreadsEnabled(), VirtualThreads.isSupported());
+
+        assertFalse(UaStackServerConfig.builder().build().isVirtualThreadsEnabled());
+    }
+
+    @Test
+    public void testVirtualThreadsIgnoredWithConfiguredExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            UaStackServerConfig config = UaStackServerConfig.builder()
+                .setVirtualThreadsEnabled(true)
+                .setExecutor(executor)
+                .build();
+
+            assertSame(config.getExecutor(), executor);
+            assertFalse(config.isVirtualThreadsEnabled());
+            assertFalse(Stack.isSharedVirtualThreadExecutor(executor));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}